@@ -97,15 +97,61 @@ public type DestinationWeightConfig record {|
     int weight?;
 |};
 
+# Retry policy for HTTP requests.
+#
+# + attempts - Number of retries for a request.
+# + perTryTimeout - Timeout per retry attempt such as `2s` or `500ms`. Cannot exceed the timeout of the route.
+# + retryOn - Comma separated conditions to retry on such as `5xx,connect-failure,refused-stream`.
+public type HTTPRetryConfig record {|
+    int attempts;
+    string perTryTimeout?;
+    string retryOn?;
+|};
+
+# Configuration to abort requests with an error status.
+#
+# + percent - Percentage of requests to abort.
+# + httpStatus - HTTP status code returned for aborted requests.
+public type AbortConfig record {|
+    int percent?;
+    int httpStatus;
+|};
+
+# Configuration to delay requests before forwarding them.
+#
+# + percent - Percentage of requests to delay.
+# + fixedDelay - Delay before forwarding a request such as `5s` or `500ms`.
+public type DelayConfig record {|
+    int percent?;
+    string fixedDelay;
+|};
+
+# Faults injected to HTTP requests to test the resiliency of the clients.
+#
+# + abort - Abort requests with an error status.
+# + delay - Delay requests before forwarding them.
+public type HTTPFaultInjectionConfig record {|
+    AbortConfig 'abort?;
+    DelayConfig delay?;
+|};
+
 # Configurations for conditions and actions for routing HTTP.
 #
 # + route - Route destination.
 # + timeout - Timeout for requests in seconds.
 # + appendHeaders - Additional header to add before forwarding/directing.
+# + retries - Retry policy for requests.
+# + mirror - Destination to mirror the traffic to.
+# + mirrorPercent - Percentage of the traffic mirrored. Requires a `mirror`.
+# + fault - Faults injected to the requests.
 public type HTTPRouteConfig record {|
     DestinationWeightConfig[] route?;
     int 'timeout?;
     map<string> appendHeaders?;
+    HTTPRetryConfig 'retries?;
+    DestinationConfig mirror?;
+    int mirrorPercent?;
+    HTTPFaultInjectionConfig fault?;
 |};
 
 # Virtual service configuration for @istio:VirtualService annotation.
@@ -127,3 +173,102 @@ public type VirtualServiceConfig record {|
 
 # @istio:VirtualService annotation to generate istio virtual service.
 public const annotation VirtualServiceConfig VirtualService on source service, source listener;
+
+# Connection pool settings for the connections to an upstream host.
+#
+# + maxConnections - Maximum number of HTTP1/TCP connections to a destination host.
+# + connectTimeout - TCP connection timeout in seconds.
+# + http1MaxPendingRequests - Maximum number of pending HTTP requests to a destination.
+# + http2MaxRequests - Maximum number of requests to a backend.
+# + maxRequestsPerConnection - Maximum number of requests per connection to a backend. Setting this to `1` disables keep alive.
+# + maxRetries - Maximum number of retries that can be outstanding to all hosts in a cluster at a given time.
+# + idleTimeout - Idle timeout for upstream connection pool connections in seconds.
+public type ConnectionPoolConfig record {|
+    int maxConnections?;
+    int connectTimeout?;
+    int http1MaxPendingRequests?;
+    int http2MaxRequests?;
+    int maxRequestsPerConnection?;
+    int maxRetries?;
+    int idleTimeout?;
+|};
+
+# Outlier detection configuration to eject unhealthy hosts from the load balancing pool.
+#
+# + consecutiveErrors - Number of errors before a host is ejected from the connection pool.
+# + interval - Time interval between ejection sweep analysis in seconds.
+# + baseEjectionTime - Minimum ejection duration in seconds.
+# + maxEjectionPercent - Maximum percentage of hosts in the load balancing pool that can be ejected.
+# + minHealthPercent - Outlier detection is enabled as long as the percentage of healthy hosts is above this value.
+public type OutlierDetectionConfig record {|
+    int consecutiveErrors?;
+    int interval?;
+    int baseEjectionTime?;
+    int maxEjectionPercent?;
+    int minHealthPercent?;
+|};
+
+# Standard load balancing algorithms. `"LEAST_REQUEST"` is generated as `"LEAST_CONN"`.
+public type SimpleLoadBalancer "ROUND_ROBIN"|"LEAST_CONN"|"LEAST_REQUEST"|"RANDOM"|"PASSTHROUGH";
+
+# Consistent hash based load balancing to provide soft session affinity. Either `httpHeaderName` or `useSourceIp` should be set.
+#
+# + httpHeaderName - Hash based on a specific HTTP header.
+# + useSourceIp - Hash based on the source IP address.
+# + minimumRingSize - Minimum number of virtual nodes to use for the hash ring.
+public type ConsistentHashConfig record {|
+    string httpHeaderName?;
+    boolean useSourceIp?;
+    int minimumRingSize?;
+|};
+
+# Load balancing policy configuration. Either `simple` or `consistentHash` should be set.
+#
+# + simple - Standard load balancing algorithm.
+# + consistentHash - Consistent hash based load balancing.
+public type LoadBalancerConfig record {|
+    SimpleLoadBalancer simple?;
+    ConsistentHashConfig consistentHash?;
+|};
+
+# Traffic policy configuration of a destination.
+#
+# + connectionPool - Connection pool settings.
+# + outlierDetection - Outlier detection settings.
+# + loadBalancer - Load balancing policy.
+public type TrafficPolicyConfig record {|
+    ConnectionPoolConfig connectionPool?;
+    OutlierDetectionConfig outlierDetection?;
+    LoadBalancerConfig loadBalancer?;
+|};
+
+# Subset of a service which can be referred by the subset of a virtual service destination.
+#
+# + name - Name of the subset.
+# + labels - Labels of the pods of the subset.
+# + trafficPolicy - Traffic policy of the subset. Overrides the traffic policy of the destination rule.
+public type SubsetConfig record {|
+    string name;
+    map<string> labels;
+    TrafficPolicyConfig trafficPolicy?;
+|};
+
+# Destination rule configuration for @istio:DestinationRule annotation.
+#
+# + name - Name of the resource
+# + labels - Map of labels for the resource
+# + annotations - Map of annotations for resource
+# + host - Name of the service the rule applies to. Default is the name of the kubernetes service.
+# + trafficPolicy - Traffic policy of the service.
+# + subsets - Subsets of the service.
+public type DestinationRuleConfig record {|
+    string name?;
+    map<string> labels?;
+    map<string> annotations?;
+    string host?;
+    TrafficPolicyConfig trafficPolicy?;
+    SubsetConfig[] subsets?;
+|};
+
+# @istio:DestinationRule annotation to generate istio destination rule.
+public const annotation DestinationRuleConfig DestinationRule on source service, source listener;
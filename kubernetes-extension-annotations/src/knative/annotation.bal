@@ -110,15 +110,36 @@ public const string IMAGE_PULL_POLICY_NEVER = "Never";
 # Image pull policy type field for kubernetes deployment and jobs.
 public type ImagePullPolicy IMAGE_PULL_POLICY_IF_NOT_PRESENT|IMAGE_PULL_POLICY_ALWAYS|IMAGE_PULL_POLICY_NEVER;
 
+# HTTP GET request of a probe.
+#
+# + path - Path to request. (e.g `"/health"`)
+# + port - Port to request. Default is the port of the probe
+# + scheme - Scheme to use for the request. Default is `"HTTP"`
+# + headers - Headers of the request
+public type HttpGetConfiguration record {|
+    string path;
+    int port?;
+    "HTTP"|"HTTPS" scheme?;
+    map<string> headers?;
+|};
+
 # Probing configuration.
 #
 # + port - Port to check for tcp connection
 # + initialDelayInSeconds - Initial delay for pobing in seconds
 # + periodSeconds - Interval between probes in seconds
+# + timeoutSeconds - Timeout of a probe in seconds
+# + successThreshold - Consecutive successes for the probe to be considered successful after having failed
+# + failureThreshold - Consecutive failures for the probe to be considered failed
+# + httpGet - Probe with an HTTP GET request instead of a tcp connection
 public type ProbeConfiguration record {|
     int port?;
     int initialDelayInSeconds?;
     int periodSeconds?;
+    int timeoutSeconds?;
+    int successThreshold?;
+    int failureThreshold?;
+    HttpGetConfiguration httpGet?;
 |};
 
 public const string EXISTS_OPERATION = "Exists";
@@ -149,6 +170,47 @@ public type PodTolerationConfiguration record {|
     int tolerationSeconds = 0;
 |};
 
+# AppCDS archive configuration of an image. The application is run while the image is built to record the classes
+# loaded at startup into an archive which is mapped by the command of the image
+#
+# + trainingTimeoutSeconds - Maximum time in seconds to wait for the application to start during a training run
+public type AppCdsConfig record {|
+    int trainingTimeoutSeconds = 30;
+|};
+
+# Docker build cache configuration of an image. The image is not built or pushed again when the jars, copied files,
+# base image and Dockerfile of the image are unchanged since the previous build
+#
+# + contentHashTag - Also tag (and push) the image with the first 12 characters of the content hash of its inputs
+public type DockerBuildCacheConfig record {|
+    boolean contentHashTag = false;
+|};
+
+public const string AUTOSCALING_METRIC_CONCURRENCY = "concurrency";
+public const string AUTOSCALING_METRIC_RPS = "rps";
+
+# Types of autoscaling metrics.
+public type AutoscalingMetric AUTOSCALING_METRIC_CONCURRENCY|AUTOSCALING_METRIC_RPS;
+
+# Knative autoscaling configuration of the revisions of a service.
+#
+# + target - Target number of concurrent requests or requests per second of an instance
+# + minScale - Minimum number of instances. Use `0` to allow scaling to zero
+# + maxScale - Maximum number of instances. Use `0` for no limit
+# + metric - Metric to scale on. Default is `"concurrency"`
+# + window - Time window the metric is averaged over. ( e.g `"60s"`) Must be between `"6s"` and `"1h"`
+# + panicWindowPercentage - Panic window as a percentage of the window. Must be between `1` and `100`
+# + scaleToZeroPodRetentionPeriod - Minimum time the last instance is kept after scaling to zero is decided. ( e.g `"1m5s"`)
+public type AutoscalingConfig record {|
+    int target?;
+    int minScale?;
+    int maxScale?;
+    AutoscalingMetric metric?;
+    string window?;
+    int panicWindowPercentage?;
+    string scaleToZeroPodRetentionPeriod?;
+|};
+
 # Knative service configuration.
 #
 # + dockerHost - Docker host IP and docker PORT. ( e.g minikube IP and docker PORT)
@@ -180,6 +242,10 @@ public type PodTolerationConfiguration record {|
 # + containerConcurrency - concurent request handle by one container instance
 # + timeoutSeconds - max time the instance is allowed for responding to a request
 # + port - containerPort value for Knative service
+# + appCds - Train an AppCDS archive while building the image to reduce the cold start time of the service
+# + buildCache - Skip building and pushing the image when its inputs are unchanged since the previous build
+# + daemonless - Build the image as an OCI image layout without a docker daemon
+# + autoscaling - Autoscaling configuration of the revisions of the service
 public type ServiceConfiguration record{|
         *Metadata;
         string dockerHost?;
@@ -206,7 +272,10 @@ public type ServiceConfiguration record{|
         int containerConcurrency = 100;
         int timeoutSeconds = 60;
         int port = 8080;
-
+        AppCdsConfig appCds?;
+        DockerBuildCacheConfig buildCache?;
+        boolean daemonless = false;
+        AutoscalingConfig autoscaling?;
 |};
 public const annotation ServiceConfiguration Service on source service, source function, source listener;
 
@@ -115,15 +115,90 @@ public type BuildExtension record {|
     OpenShiftBuildConfigConfiguration openshift?;
 |};
 
+# HTTP GET request of a probe.
+#
+# + path - Path to request. (e.g `"/health"`).
+# + port - Port to request. Default is the port of the probe.
+# + scheme - Scheme to use for the request. Default is `"HTTP"`.
+# + headers - Headers of the request.
+public type HttpGetConfiguration record {|
+    string path;
+    int port?;
+    "HTTP"|"HTTPS" scheme?;
+    map<string> headers?;
+|};
+
 # Probing configuration.
 #
 # + port - Port to check for tcp connection.
 # + initialDelaySeconds - Initial delay for pobing in seconds.
 # + periodSeconds - Interval between probes in seconds.
+# + timeoutSeconds - Timeout of a probe in seconds.
+# + successThreshold - Consecutive successes for the probe to be considered successful after having failed. Must be
+# `1` for liveness and startup probes.
+# + failureThreshold - Consecutive failures for the probe to be considered failed.
+# + httpGet - Probe with an HTTP GET request instead of a tcp connection.
 public type ProbeConfiguration record {|
     int port?;
     int initialDelaySeconds?;
     int periodSeconds?;
+    int timeoutSeconds?;
+    int successThreshold?;
+    int failureThreshold?;
+    HttpGetConfiguration httpGet?;
+|};
+
+# Compute resources of a container. Values are kubernetes quantities.
+#
+# + cpu - CPU in cores or millicores. (e.g `"500m"`).
+# + memory - Memory in bytes or with a binary suffix. (e.g `"256Mi"`).
+# + ephemeralStorage - Local ephemeral storage. (e.g `"1Gi"`).
+public type ResourceQuantities record {|
+    string cpu?;
+    string memory?;
+    string ephemeralStorage?;
+|};
+
+# Compute resource requirements of a container.
+#
+# + requests - Resources reserved for the container. Requests cannot exceed the limits.
+# + limits - Maximum resources the container can use. If only the limits are set, the requests are set to the limits.
+public type ResourceRequirements record {|
+    ResourceQuantities requests?;
+    ResourceQuantities limits?;
+|};
+
+# Garbage collector of the JVM.
+public type GarbageCollector "G1"|"Z"|"Parallel"|"Serial";
+
+# JVM configuration of a container. The options are set as the `JAVA_TOOL_OPTIONS` environment variable of the
+# container.
+#
+# + maxRAMPercentage - Maximum heap size as a percentage of the memory limit of the container. (e.g `75`).
+# + initialRAMPercentage - Initial heap size as a percentage of the memory limit of the container.
+# + gc - Garbage collector. `"Z"` is experimental in Java 11 and requires a base image with Java 11 or later.
+# + activeProcessorCount - Number of processors the JVM uses to size its thread pools. Cannot exceed the cpu limit.
+public type JvmConfiguration record {|
+    int maxRAMPercentage?;
+    int initialRAMPercentage?;
+    GarbageCollector gc?;
+    int activeProcessorCount?;
+|};
+
+# AppCDS archive configuration of an image. The application is run while the image is built to record the classes
+# loaded at startup into an archive which is mapped by the command of the image.
+#
+# + trainingTimeoutSeconds - Maximum time in seconds to wait for the application to start during a training run.
+public type AppCdsConfig record {|
+    int trainingTimeoutSeconds = 30;
+|};
+
+# Docker build cache configuration of an image. The image is not built or pushed again when the jars, copied files,
+# base image and Dockerfile of the image are unchanged since the previous build.
+#
+# + contentHashTag - Also tag (and push) the image with the first 12 characters of the content hash of its inputs.
+public type DockerBuildCacheConfig record {|
+    boolean contentHashTag = false;
 |};
 
 # Type of operations between key and value of a toleration.
@@ -147,6 +222,132 @@ public type PodTolerationConfiguration record {|
     int tolerationSeconds = 0;
 |};
 
+# Readiness check of the services a deployment depends on. `"dns"` waits until the service name resolves, `"tcp"` until
+# the service port accepts connections and `"http"` until an HTTP GET to the service port succeeds.
+public type DependencyWaitMode "dns"|"tcp"|"http";
+
+# Configuration of the init container which waits for the services a deployment depends on. All the services are
+# checked concurrently.
+#
+# + mode - Readiness check of the services. Default is `"tcp"`.
+# + path - Path of the HTTP GET in `"http"` mode. May contain only letters, digits and `._~%/?=&+,;:@-`. Default is
+# `"/"`.
+# + initialBackoffSeconds - Delay before the first retry. The delay is doubled on each retry. Default is `1`.
+# + maxBackoffSeconds - Maximum delay between retries. Default is `10`.
+# + timeoutSeconds - Time to wait for the services before the init container fails. Default is `0`, which waits
+# without a limit.
+# + image - Image of the init container. Requires `sh`, `nslookup`, `nc` and `wget`. Default is `"busybox:1.31"`.
+public type DependencyWaitConfig record {|
+    DependencyWaitMode mode?;
+    string path?;
+    int initialBackoffSeconds?;
+    int maxBackoffSeconds?;
+    int timeoutSeconds?;
+    string image?;
+|};
+
+# Graceful shutdown configuration of the pods. A pre stop hook delays the SIGTERM of the container until the pod is
+# removed from the endpoints of its services and the load balancers, so that rolling updates do not drop requests.
+#
+# + drainDelaySeconds - Time to wait before the container receives SIGTERM. Default is the time the readiness probe
+# takes to fail, with a minimum of `5`.
+# + terminationGracePeriodSeconds - Time for the pod to terminate before it is killed, including the drain delay.
+# Must be greater than `drainDelaySeconds`. Default is `drainDelaySeconds` plus `30`.
+# + preStopPath - Path of an HTTP GET sent to the container before the drain delay. May contain only letters, digits
+# and `._~%/?=&+,;:@-`. Requires `wget` or `curl` in the image.
+# + preStopPort - Port of the pre stop HTTP GET. Default is the first port of the container.
+public type ShutdownConfig record {|
+    int drainDelaySeconds?;
+    int terminationGracePeriodSeconds?;
+    string preStopPath?;
+    int preStopPort?;
+|};
+
+# Operator between the key and the values of a node selector requirement.
+public type NodeSelectorOperator "In"|"NotIn"|"Exists"|"DoesNotExist"|"Gt"|"Lt";
+
+# Node selector requirement matching the labels of nodes.
+#
+# + key - Label key of the node.
+# + operator - Operator between the key and values.
+# + values - Label values. Must be empty for `"Exists"` and `"DoesNotExist"`.
+public type NodeSelectorRequirement record {|
+    string key;
+    NodeSelectorOperator operator;
+    string[] values = [];
+|};
+
+# Preferred node affinity term.
+#
+# + weight - Weight of the term in the range 1-100.
+# + matchExpressions - Node selector requirements which should all match.
+public type PreferredNodeAffinityTerm record {|
+    int weight;
+    NodeSelectorRequirement[] matchExpressions;
+|};
+
+# Node affinity configuration.
+#
+# + requiredDuringScheduling - Node selector requirements which must all match for the pod to be scheduled on a node.
+# + preferredDuringScheduling - Terms which are preferred when scheduling the pod.
+public type NodeAffinityConfig record {|
+    NodeSelectorRequirement[] requiredDuringScheduling?;
+    PreferredNodeAffinityTerm[] preferredDuringScheduling?;
+|};
+
+# Pod affinity term matching the pods running in a topology domain.
+#
+# + topologyKey - Node label key of the topology domain. (e.g `"kubernetes.io/hostname"`).
+# + matchLabels - Labels of the pods. Default is the selector label of the deployment.
+# + namespaces - Namespaces of the pods. Default is the namespace of the deployment.
+public type PodAffinityTerm record {|
+    string topologyKey;
+    map<string> matchLabels?;
+    string[] namespaces?;
+|};
+
+# Preferred pod affinity term.
+#
+# + weight - Weight of the term in the range 1-100.
+public type WeightedPodAffinityTerm record {|
+    int weight;
+    *PodAffinityTerm;
+|};
+
+# Pod affinity or anti-affinity configuration.
+#
+# + requiredDuringScheduling - Terms which must be satisfied for the pod to be scheduled on a node.
+# + preferredDuringScheduling - Terms which are preferred when scheduling the pod.
+public type PodAffinityConfig record {|
+    PodAffinityTerm[] requiredDuringScheduling?;
+    WeightedPodAffinityTerm[] preferredDuringScheduling?;
+|};
+
+# Affinity configuration of pods.
+#
+# + nodeAffinity - Nodes the pods are scheduled on.
+# + podAffinity - Pods to co-locate the pods with.
+# + podAntiAffinity - Pods to keep the pods away from.
+public type AffinityConfig record {|
+    NodeAffinityConfig nodeAffinity?;
+    PodAffinityConfig podAffinity?;
+    PodAffinityConfig podAntiAffinity?;
+|};
+
+# Topology spread constraint of pods.
+#
+# + maxSkew - Maximum difference of the number of matching pods between topology domains. Default is `1`.
+# + topologyKey - Node label key of the topology domain. (e.g `"topology.kubernetes.io/zone"`).
+# + whenUnsatisfiable - Whether to schedule the pod when the constraint cannot be satisfied. Default is
+# `"ScheduleAnyway"`.
+# + matchLabels - Labels of the pods. Default is the selector label of the deployment.
+public type TopologySpreadConstraintConfig record {|
+    int maxSkew = 1;
+    string topologyKey;
+    "DoNotSchedule"|"ScheduleAnyway" whenUnsatisfiable = "ScheduleAnyway";
+    map<string> matchLabels?;
+|};
+
 # Kubernetes deployment configuration.
 #
 # + dockerHost - Docker host IP and docker PORT. (e.g minikube IP and docker PORT).
@@ -168,18 +369,35 @@ public type PodTolerationConfiguration record {|
 # + replicas - Number of replicas. Default is `1`.
 # + livenessProbe - Enable/Disable liveness probe and configure it. Default is `false`.
 # + readinessProbe - Enable/Disable readiness probe and configure it. Default is `false`.
+# + startupProbe - Enable/Disable startup probe and configure it. The liveness and readiness probes start after the
+# startup probe succeeds. Default is `false`.
 # + imagePullPolicy - Image pull policy. Default is `"IfNotPresent"`.
 # + env - Environment variable map for containers.
+# + resources - CPU, memory and ephemeral storage requests and limits of the container.
+# + jvm - JVM heap, garbage collector and processor configuration. Heap sizes require a memory limit in `resources`.
+# + appCds - Train an AppCDS archive while building the image to reduce the startup time of the container. Requires a
+# base image with Java 11 or later.
+# + buildCache - Skip building and pushing the image when its inputs are unchanged since the previous build.
 # + podAnnotations - Map of annotations for pods.
 # + podTolerations - Toleration for pods.
 # + buildExtension - Docker image build extensions.
 # + dependsOn - Services this deployment depends on.
+# + dependencyWait - Configuration of waiting for the services this deployment depends on.
+# + shutdown - Enable/Disable graceful shutdown of the pods and configure it. Default is `false`.
 # + imagePullSecrets - Image pull secrets.
 # + nodeSelector - Node selector labels.
+# + affinity - Node affinity, pod affinity and pod anti-affinity of pods.
+# + topologySpreadConstraints - Constraints to spread the pods across topology domains such as nodes and zones.
+# + spreadByHostname - Spread the pods across nodes with a `"kubernetes.io/hostname"` topology spread constraint
+# which prefers a maximum skew of 1. Default is `false`.
 # + serviceAccountName - Service Account Name.
 # + projectedVolumeMount - Projected Volume Mount config.
 # + prometheus - Enable Prometheus.
 # + uberJar - Use ballerina uber jar. Default is `false`.
+# + layeredImage - Copy the dependency jars of a thin jar image as Ballerina runtime, third-party and module layers.
+# Default is `false`.
+# + daemonless - Build the image as an OCI image layout without a docker daemon and push it to its registry over HTTP.
+# Default is `false`.
 # + dockerConfigPath - Path to docker configuration.
 public type DeploymentConfiguration record {|
     *Metadata;
@@ -200,18 +418,30 @@ public type DeploymentConfiguration record {|
     int replicas = 1;
     boolean|ProbeConfiguration livenessProbe = false;
     boolean|ProbeConfiguration readinessProbe = false;
+    boolean|ProbeConfiguration startupProbe = false;
     ImagePullPolicy imagePullPolicy = IMAGE_PULL_POLICY_IF_NOT_PRESENT;
     map<string|FieldRef|SecretKeyRef|ResourceFieldRef|ConfigMapKeyRef> env?;
+    ResourceRequirements resources?;
+    JvmConfiguration jvm?;
+    AppCdsConfig appCds?;
+    DockerBuildCacheConfig buildCache?;
     map<string> podAnnotations?;
     PodTolerationConfiguration[] podTolerations?;
     BuildExtension|string buildExtension?;
     string[] dependsOn?;
+    DependencyWaitConfig dependencyWait?;
+    boolean|ShutdownConfig shutdown = false;
     string[] imagePullSecrets?;
     map<string> nodeSelector?;
+    AffinityConfig affinity?;
+    TopologySpreadConstraintConfig[] topologySpreadConstraints?;
+    boolean spreadByHostname = false;
     string serviceAccountName?;
     ProjectedVolumeMount projectedVolumeMount?;
     boolean prometheus = false;
     boolean uberJar = false;
+    boolean layeredImage = false;
+    boolean daemonless = false;
     string dockerConfigPath?;
 |};
 
@@ -309,21 +539,123 @@ public type IngressConfiguration record {|
 # @kubernetes:Ingress annotation to configure ingress yaml.
 public const annotation IngressConfiguration Ingress on source service, source listener;
 
+# Metric of the pods of the deployment, averaged across the pods.
+#
+# + name - Name of the metric. (e.g `"http_requests_per_second"`).
+# + selector - Labels to select the metric.
+# + averageValue - Target value of the metric averaged across the pods. (e.g `"100"`).
+public type PodsMetricConfig record {|
+    string name;
+    map<string> selector?;
+    string averageValue;
+|};
+
+# Metric of a single kubernetes object. Either `value` or `averageValue` is required.
+#
+# + name - Name of the metric.
+# + selector - Labels to select the metric.
+# + objectApiVersion - API version of the object. (e.g `"networking.k8s.io/v1beta1"`).
+# + objectKind - Kind of the object. (e.g `"Ingress"`).
+# + objectName - Name of the object.
+# + value - Target value of the metric.
+# + averageValue - Target value of the metric divided by the number of pods.
+public type ObjectMetricConfig record {|
+    string name;
+    map<string> selector?;
+    string objectApiVersion?;
+    string objectKind;
+    string objectName;
+    string value?;
+    string averageValue?;
+|};
+
+# Metric which is not related to any kubernetes object, such as the depth of a message queue. Either `value` or
+# `averageValue` is required.
+#
+# + name - Name of the metric. (e.g `"queue_messages_ready"`).
+# + selector - Labels to select the metric.
+# + value - Target value of the metric.
+# + averageValue - Target value of the metric divided by the number of pods.
+public type ExternalMetricConfig record {|
+    string name;
+    map<string> selector?;
+    string value?;
+    string averageValue?;
+|};
+
+# Type of a scaling policy.
+public type ScalingPolicyType "Pods"|"Percent";
+
+# Limit of the change in replicas within a period.
+#
+# + policyType - Whether the value is a number of pods or a percentage of the current replicas.
+# + value - Number of pods or percentage.
+# + periodSeconds - Period in seconds for which the policy should hold.
+public type ScalingPolicy record {|
+    ScalingPolicyType policyType;
+    int value;
+    int periodSeconds;
+|};
+
+# Scaling rules in one direction.
+#
+# + stabilizationWindowSeconds - Seconds of past recommendations to consider when scaling, to prevent flapping.
+# + selectPolicy - Policy to use when multiple policies are set. Default is `"Max"`.
+# + policies - Scaling policies.
+public type ScalingRules record {|
+    int stabilizationWindowSeconds?;
+    "Max"|"Min"|"Disabled" selectPolicy?;
+    ScalingPolicy[] policies?;
+|};
+
+# Scaling behavior of the autoscaler. Requires kubernetes 1.18 or later.
+#
+# + scaleUp - Rules for scaling up.
+# + scaleDown - Rules for scaling down.
+public type ScalingBehavior record {|
+    ScalingRules scaleUp?;
+    ScalingRules scaleDown?;
+|};
+
 # Kubernetes Horizontal Pod Autoscaler configuration
 #
 # + minReplicas - Minimum number of replicas.
 # + maxReplicas - Maximum number of replicas.
-# + cpuPercentage - CPU percentage to start scaling. Default is `50`.
+# + cpuPercentage - CPU percentage to start scaling. Default is `50` when no other metric is set.
+# + memoryPercentage - Memory percentage to start scaling. Requires a memory request or limit on the deployment.
+# + podsMetrics - Metrics of the pods, such as requests per second.
+# + objectMetrics - Metrics of kubernetes objects.
+# + externalMetrics - Metrics from outside the cluster, such as the depth of a message queue.
+# + behavior - Scaling behavior such as stabilization windows and scaling policies.
 public type PodAutoscalerConfig record {|
     *Metadata;
     int minReplicas?;
     int maxReplicas?;
-    int cpuPercentage = 50;
+    int cpuPercentage?;
+    int memoryPercentage?;
+    PodsMetricConfig[] podsMetrics?;
+    ObjectMetricConfig[] objectMetrics?;
+    ExternalMetricConfig[] externalMetrics?;
+    ScalingBehavior behavior?;
 |};
 
 # @kubernetes:HPA annotation to configure horizontal pod autoscaler yaml.
 public const annotation PodAutoscalerConfig HPA on source service, source function;
 
+# Kubernetes Pod Disruption Budget configuration. Only one of `minAvailable` and `maxUnavailable` can be set. When
+# neither is set, one pod is allowed to be evicted at a time.
+#
+# + minAvailable - Number or percentage of pods that must remain available during a voluntary disruption.
+# + maxUnavailable - Number or percentage of pods that can be unavailable during a voluntary disruption.
+public type PodDisruptionBudgetConfig record {|
+    *Metadata;
+    int|string minAvailable?;
+    int|string maxUnavailable?;
+|};
+
+# @kubernetes:PodDisruptionBudget annotation to configure pod disruption budget yaml.
+public const annotation PodDisruptionBudgetConfig PodDisruptionBudget on source service, source function;
+
 # Kubernetes secret volume mount.
 #
 # + mountPath - Mount path.
@@ -474,6 +806,11 @@ public type RestartPolicy "OnFailure"|"Always"|"Never";
 # + namespace - Kubernetes namespace to be used on all artifacts.
 # + imagePullPolicy - Image pull policy. Default is `"IfNotPresent"`.
 # + env - Environment varialbes for container.
+# + resources - CPU, memory and ephemeral storage requests and limits of the container.
+# + jvm - JVM heap, garbage collector and processor configuration. Heap sizes require a memory limit in `resources`.
+# + appCds - Train an AppCDS archive while building the image to reduce the startup time of the container. Requires a
+# base image with Java 11 or later.
+# + buildCache - Skip building and pushing the image when its inputs are unchanged since the previous build.
 # + restartPolicy - Restart policy. Default is `"Never"`.
 # + backoffLimit - Backoff limit.
 # + activeDeadlineSeconds - Active deadline seconds. Default is `20`.
@@ -481,6 +818,10 @@ public type RestartPolicy "OnFailure"|"Always"|"Never";
 # + imagePullSecrets - Image pull secrets.
 # + nodeSelector - Node selector labels.
 # + uberJar - Use ballerina uber jar. Default is `true`.
+# + layeredImage - Copy the dependency jars of a thin jar image as Ballerina runtime, third-party and module layers.
+# Default is `false`.
+# + daemonless - Build the image as an OCI image layout without a docker daemon and push it to its registry over HTTP.
+# Default is `false`.
 # + dockerConfigPath - Path to docker configuration.
 public type JobConfig record {|
     *Metadata;
@@ -499,6 +840,10 @@ public type JobConfig record {|
     string namespace?;
     ImagePullPolicy imagePullPolicy = IMAGE_PULL_POLICY_IF_NOT_PRESENT;
     map<string|FieldRef|SecretKeyRef|ResourceFieldRef|ConfigMapKeyRef> env?;
+    ResourceRequirements resources?;
+    JvmConfiguration jvm?;
+    AppCdsConfig appCds?;
+    DockerBuildCacheConfig buildCache?;
     RestartPolicy restartPolicy = RESTART_POLICY_NEVER;
     string backoffLimit?;
     int activeDeadlineSeconds = 20;
@@ -506,6 +851,8 @@ public type JobConfig record {|
     string[] imagePullSecrets?;
     map<string> nodeSelector?;
     boolean uberJar = false;
+    boolean layeredImage = false;
+    boolean daemonless = false;
     string dockerConfigPath?;
 |};
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.benchmarks;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.ArtifactHandler;
+import org.ballerinax.kubernetes.handlers.ConfigMapHandler;
+import org.ballerinax.kubernetes.handlers.DeploymentHandler;
+import org.ballerinax.kubernetes.handlers.SecretHandler;
+import org.ballerinax.kubernetes.handlers.ServiceHandler;
+import org.ballerinax.kubernetes.models.ConfigMapModel;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.SecretModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating the artifacts of a module with the artifact handlers. The data holder of the module is
+ * populated with the given number of services, config maps and secrets. The generated content is buffered in the
+ * artifact sink and discarded, hence the disk is not part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArtifactHandlerBenchmark {
+
+    @Param({"service", "configMap", "secret", "deployment"})
+    private String handler;
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private PrintStream out;
+    private Path outputDir;
+    private KubernetesDataHolder dataHolder;
+    private ArtifactHandler artifactHandler;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Handlers print their progress, which should not end up in the results.
+        out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        outputDir = Files.createTempDirectory("k8s-benchmark-");
+        PackageID module = new PackageID(Names.ANON_ORG, new Name("hello"), Names.DEFAULT_VERSION);
+        KubernetesContext context = KubernetesContext.getInstance();
+        context.addDataHolder(module, outputDir);
+        dataHolder = context.getDataHolder();
+        dataHolder.setK8sArtifactOutputPath(outputDir.resolve("kubernetes"));
+        dataHolder.setDockerArtifactOutputPath(outputDir.resolve("docker"));
+        dataHolder.setUberJarPath(outputDir.resolve("hello.jar"));
+
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello-deployment");
+        deploymentModel.setImage("hello:latest");
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+
+        Set<ConfigMapModel> configMaps = new HashSet<>();
+        Set<SecretModel> secrets = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            ServiceModel serviceModel = new ServiceModel();
+            serviceModel.setName("hello-svc-" + i);
+            serviceModel.setPort(9090 + i);
+            serviceModel.setTargetPort(9090 + i);
+            serviceModel.setProtocol("http");
+            dataHolder.addBListenerToK8sServiceMap("helloEP" + i, serviceModel);
+            deploymentModel.addPort(9090 + i);
+
+            Map<String, String> data = new LinkedHashMap<>();
+            data.put("config-" + i + ".toml", "[hello]\nkey" + i + " = \"value" + i + "\"\n");
+
+            ConfigMapModel configMapModel = new ConfigMapModel();
+            configMapModel.setName("hello-config-map-" + i);
+            configMapModel.setMountPath("/home/ballerina/conf/" + i);
+            configMapModel.setData(data);
+            configMaps.add(configMapModel);
+
+            SecretModel secretModel = new SecretModel();
+            secretModel.setName("hello-secret-" + i);
+            secretModel.setMountPath("/home/ballerina/secrets/" + i);
+            secretModel.setData(data);
+            secrets.add(secretModel);
+        }
+        dataHolder.addConfigMaps(configMaps);
+        dataHolder.addSecrets(secrets);
+
+        switch (handler) {
+            case "service":
+                artifactHandler = new ServiceHandler();
+                break;
+            case "configMap":
+                artifactHandler = new ConfigMapHandler();
+                break;
+            case "secret":
+                artifactHandler = new SecretHandler();
+                break;
+            case "deployment":
+                artifactHandler = new DeploymentHandler();
+                break;
+            default:
+                throw new IllegalArgumentException("unknown handler: " + handler);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        // The deployment handler adds to the docker model, hence every invocation starts with a new one.
+        dataHolder.setDockerModel(new DockerModel());
+        dataHolder.getArtifactSink().buffer();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        dataHolder.getArtifactSink().discard();
+    }
+
+    @TearDown
+    public void tearDown() throws KubernetesPluginException {
+        System.setOut(out);
+        KubernetesUtils.deleteDirectory(outputDir);
+    }
+
+    @Benchmark
+    public void createArtifacts() throws KubernetesPluginException {
+        artifactHandler.createArtifacts();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.benchmarks;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.utils.DependencyValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validating the dependencies between deployments. The dependencies of every deployment are added to an
+ * empty validator in the same way the plugin adds the {@code dependsOn} field of each deployment, and the graph is
+ * validated once.
+ * <ul>
+ * <li>chain: every deployment depends on the next one and the chains are validated from the last deployment.</li>
+ * <li>fanOut: the first deployment depends on all the other deployments, which depend on a shared database.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DependencyValidatorBenchmark {
+
+    @Param({"chain", "fanOut"})
+    private String shape;
+
+    @Param({"10", "100", "250"})
+    private int deployments;
+
+    private Map<String, List<String>> dependencies;
+
+    @Setup
+    public void setUp() {
+        dependencies = new LinkedHashMap<>();
+        for (int i = deployments - 1; i >= 0; i--) {
+            List<String> dependsOn = new ArrayList<>();
+            switch (shape) {
+                case "chain":
+                    if (i + 1 < deployments) {
+                        dependsOn.add("deployment-" + (i + 1));
+                    }
+                    break;
+                case "fanOut":
+                    if (i == 0) {
+                        for (int j = 1; j < deployments; j++) {
+                            dependsOn.add("deployment-" + j);
+                        }
+                    } else {
+                        dependsOn.add("database");
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown shape: " + shape);
+            }
+            dependencies.put("deployment-" + i, dependsOn);
+        }
+    }
+
+    @Benchmark
+    public List<String> validateDependencies() throws KubernetesPluginException {
+        DependencyValidator dependencyValidator = new DependencyValidator();
+        for (Map.Entry<String, List<String>> deployment : dependencies.entrySet()) {
+            dependencyValidator.addDependencies(deployment.getKey(), deployment.getValue());
+        }
+        return dependencyValidator.getDeploymentOrder();
+    }
+}
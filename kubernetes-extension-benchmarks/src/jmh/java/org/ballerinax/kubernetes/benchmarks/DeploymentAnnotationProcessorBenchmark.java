@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.benchmarks;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.tree.ServiceNode;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.processors.DeploymentAnnotationProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures processing a {@code @kubernetes:Deployment} annotation. The annotation is built from synthetic BLang
+ * record literals in the same way the plugin builds the annotations it adds to a module, hence the compiler is not
+ * needed to run the benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeploymentAnnotationProcessorBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int labelCount;
+
+    private BLangAnnotationAttachment attachment;
+    private DeploymentAnnotationProcessor processor;
+
+    @Setup
+    public void setUp() {
+        PackageID module = new PackageID(Names.ANON_ORG, new Name("hello"), Names.DEFAULT_VERSION);
+        KubernetesContext.getInstance().addDataHolder(module, Paths.get("."));
+        processor = new DeploymentAnnotationProcessor();
+
+        BLangRecordLiteral labels = new BLangRecordLiteral();
+        BLangRecordLiteral podAnnotations = new BLangRecordLiteral();
+        for (int i = 0; i < labelCount; i++) {
+            labels.fields.add(createField("app-" + i, createLiteral("hello-" + i)));
+            podAnnotations.fields.add(createField("example.com/key-" + i, createLiteral("value-" + i)));
+        }
+
+        BLangRecordLiteral deployment = new BLangRecordLiteral();
+        deployment.fields.add(createField("name", createLiteral("hello-deployment")));
+        deployment.fields.add(createField("image", createLiteral("example.com/hello/hello:v1.0.0")));
+        deployment.fields.add(createField("replicas", createLiteral("3")));
+        deployment.fields.add(createField("imagePullPolicy", createLiteral("Always")));
+        deployment.fields.add(createField("buildImage", createLiteral("false")));
+        deployment.fields.add(createField("singleYAML", createLiteral("true")));
+        deployment.fields.add(createField("labels", labels));
+        deployment.fields.add(createField("podAnnotations", podAnnotations));
+
+        attachment = new BLangAnnotationAttachment();
+        attachment.expr = deployment;
+    }
+
+    @Benchmark
+    public DeploymentModel processAnnotation() throws KubernetesPluginException {
+        processor.processAnnotation((ServiceNode) null, attachment);
+        return KubernetesContext.getInstance().getDataHolder().getDeploymentModel();
+    }
+
+    private static BLangLiteral createLiteral(String value) {
+        BLangLiteral literal = new BLangLiteral();
+        literal.value = value;
+        literal.type = new BType(TypeTags.STRING, null);
+        return literal;
+    }
+
+    private static BLangRecordLiteral.BLangRecordKeyValueField createField(String key, BLangExpression value) {
+        BLangRecordLiteral.BLangRecordKeyValueField field = new BLangRecordLiteral.BLangRecordKeyValueField();
+        field.key = new BLangRecordLiteral.BLangRecordKey(createLiteral(key));
+        field.valueExpr = value;
+        return field;
+    }
+}
@@ -19,9 +19,18 @@
 package org.ballerinax.kubernetes.test;
 
 import com.github.dockerjava.api.command.InspectImageResponse;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.MetricSpec;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirement;
 import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.ServiceAccountTokenProjection;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.test.utils.DockerTestException;
 import org.ballerinax.kubernetes.test.utils.KubernetesTestUtils;
@@ -31,13 +40,17 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
 import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES_SELECTOR_KEY;
 import static org.ballerinax.kubernetes.test.utils.KubernetesTestUtils.getCommand;
 import static org.ballerinax.kubernetes.test.utils.KubernetesTestUtils.getDockerImage;
 import static org.ballerinax.kubernetes.test.utils.KubernetesTestUtils.getExposedPorts;
@@ -261,6 +274,277 @@ public class DeploymentTest {
         KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
     }
 
+    /**
+     * Build bal file with deployment having container resource requests and limits.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     */
+    @Test
+    public void resourcesTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "resources.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+
+        // Validate deployment yaml
+        File deploymentYAML = KUBERNETES_TARGET_PATH.resolve("resources_deployment.yaml").toFile();
+        Assert.assertTrue(deploymentYAML.exists());
+        Deployment deployment = KubernetesTestUtils.loadYaml(deploymentYAML);
+        ResourceRequirements resources = deployment.getSpec().getTemplate().getSpec().getContainers().get(0)
+                .getResources();
+        Assert.assertNotNull(resources, "Resources missing.");
+        Assert.assertEquals(resources.getRequests().get("cpu"), Quantity.parse("250m"), "Invalid cpu request.");
+        Assert.assertEquals(resources.getRequests().get("memory"), Quantity.parse("256Mi"),
+                "Invalid memory request.");
+        Assert.assertEquals(resources.getLimits().get("cpu"), Quantity.parse("500m"), "Invalid cpu limit.");
+        Assert.assertEquals(resources.getLimits().get("memory"), Quantity.parse("512Mi"), "Invalid memory limit.");
+        Assert.assertEquals(resources.getLimits().get("ephemeral-storage"), Quantity.parse("1Gi"),
+                "Invalid ephemeral storage limit.");
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
+    /**
+     * Build bal file with deployment having jvm heap, garbage collector and processor configuration.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     * @throws DockerTestException       Error when inspecting the docker image.
+     */
+    @Test
+    public void jvmTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "jvm.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+        String jvmOptions = "-XX:MaxRAMPercentage=75.0 -XX:InitialRAMPercentage=25.0 " +
+                "-XX:+UnlockExperimentalVMOptions -XX:+UseZGC -XX:ActiveProcessorCount=2";
+        Assert.assertFalse(getCommand(DOCKER_IMAGE).toString().contains(jvmOptions),
+                "JVM options should only be passed with JAVA_TOOL_OPTIONS.");
+
+        // Validate deployment yaml
+        File deploymentYAML = KUBERNETES_TARGET_PATH.resolve("jvm_deployment.yaml").toFile();
+        Assert.assertTrue(deploymentYAML.exists());
+        Deployment deployment = KubernetesTestUtils.loadYaml(deploymentYAML);
+        List<EnvVar> env = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv();
+        Assert.assertEquals(env.size(), 1);
+        Assert.assertEquals(env.get(0).getName(), "JAVA_TOOL_OPTIONS");
+        Assert.assertEquals(env.get(0).getValue(), jvmOptions);
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
+    /**
+     * Build bal file with deployment having an autoscaler with memory, pods and external metrics and a behavior.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     * @throws DockerTestException       Error when inspecting the docker image.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void hpaMetricsTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "hpa_metrics.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+
+        // Validate hpa yaml
+        File hpaYAML = KUBERNETES_TARGET_PATH.resolve("hpa_metrics_hpa.yaml").toFile();
+        Assert.assertTrue(hpaYAML.exists());
+        HorizontalPodAutoscaler podAutoscaler = KubernetesTestUtils.loadYaml(hpaYAML);
+        Assert.assertEquals(podAutoscaler.getSpec().getMinReplicas().intValue(), 2);
+        Assert.assertEquals(podAutoscaler.getSpec().getMaxReplicas().intValue(), 10);
+        List<MetricSpec> metrics = podAutoscaler.getSpec().getMetrics();
+        Assert.assertEquals(metrics.size(), 3, "CPU metric should not be added when other metrics are set.");
+        Assert.assertEquals(metrics.get(0).getResource().getName(), "memory");
+        Assert.assertEquals(metrics.get(0).getResource().getTarget().getAverageUtilization().intValue(), 80);
+        Assert.assertEquals(metrics.get(1).getType(), "Pods");
+        Assert.assertEquals(metrics.get(1).getPods().getMetric().getName(), "http_requests_per_second");
+        Assert.assertEquals(metrics.get(1).getPods().getTarget().getAverageValue(), Quantity.parse("100"));
+        Assert.assertEquals(metrics.get(2).getType(), "External");
+        Assert.assertEquals(metrics.get(2).getExternal().getMetric().getName(), "queue_messages_ready");
+        Assert.assertEquals(metrics.get(2).getExternal().getMetric().getSelector().getMatchLabels().get("queue"),
+                "orders");
+        Assert.assertEquals(metrics.get(2).getExternal().getTarget().getType(), "AverageValue");
+
+        Map<String, Object> behavior = (Map<String, Object>) podAutoscaler.getSpec().getAdditionalProperties()
+                .get("behavior");
+        Assert.assertNotNull(behavior, "Behavior is missing.");
+        Map<String, Object> scaleDown = (Map<String, Object>) behavior.get("scaleDown");
+        Assert.assertEquals(scaleDown.get("stabilizationWindowSeconds"), 300);
+        Assert.assertEquals(scaleDown.get("selectPolicy"), "Min");
+        Map<String, Object> scaleUp = (Map<String, Object>) behavior.get("scaleUp");
+        Assert.assertEquals(scaleUp.get("stabilizationWindowSeconds"), 0);
+        Assert.assertEquals(((List<Map<String, Object>>) scaleUp.get("policies")).get(0).get("type"), "Percent");
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
+    /**
+     * Build bal file with deployment having a pod disruption budget defaulted from the autoscaler.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     * @throws DockerTestException       Error when inspecting the docker image.
+     */
+    @Test
+    public void podDisruptionBudgetTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "pdb.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+
+        // Validate pod disruption budget yaml
+        File pdbYAML = KUBERNETES_TARGET_PATH.resolve("pdb_pdb.yaml").toFile();
+        Assert.assertTrue(pdbYAML.exists());
+        PodDisruptionBudget podDisruptionBudget = KubernetesTestUtils.loadYaml(pdbYAML);
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getName(), "pdb-pdb");
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMinAvailable().getIntVal().intValue(), 2,
+                "minAvailable should be one less than the minimum replicas of the autoscaler.");
+        Assert.assertNull(podDisruptionBudget.getSpec().getMaxUnavailable());
+        Assert.assertEquals(podDisruptionBudget.getSpec().getSelector().getMatchLabels().get(KUBERNETES_SELECTOR_KEY),
+                "pdb");
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
+    /**
+     * Build bal file with deployment having affinity and spreading the pods across nodes.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     * @throws DockerTestException       Error when inspecting the docker image.
+     */
+    @Test
+    public void affinityTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "affinity.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+
+        // Validate deployment yaml
+        File deploymentYAML = KUBERNETES_TARGET_PATH.resolve("affinity_deployment.yaml").toFile();
+        Assert.assertTrue(deploymentYAML.exists());
+        Deployment deployment = KubernetesTestUtils.loadYaml(deploymentYAML);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        NodeSelectorRequirement nodeRequirement = podSpec.getAffinity().getNodeAffinity()
+                .getRequiredDuringSchedulingIgnoredDuringExecution().getNodeSelectorTerms().get(0)
+                .getMatchExpressions().get(0);
+        Assert.assertEquals(nodeRequirement.getKey(), "kubernetes.io/os");
+        Assert.assertEquals(nodeRequirement.getOperator(), "In");
+        Assert.assertEquals(nodeRequirement.getValues().get(0), "linux");
+        WeightedPodAffinityTerm antiAffinityTerm = podSpec.getAffinity().getPodAntiAffinity()
+                .getPreferredDuringSchedulingIgnoredDuringExecution().get(0);
+        Assert.assertEquals(antiAffinityTerm.getWeight().intValue(), 100);
+        Assert.assertEquals(antiAffinityTerm.getPodAffinityTerm().getTopologyKey(), "topology.kubernetes.io/zone");
+        Assert.assertEquals(antiAffinityTerm.getPodAffinityTerm().getLabelSelector().getMatchLabels()
+                .get(KUBERNETES_SELECTOR_KEY), "affinity");
+        TopologySpreadConstraint spreadConstraint = podSpec.getTopologySpreadConstraints().get(0);
+        Assert.assertEquals(spreadConstraint.getTopologyKey(), "kubernetes.io/hostname");
+        Assert.assertEquals(spreadConstraint.getMaxSkew().intValue(), 1);
+        Assert.assertEquals(spreadConstraint.getWhenUnsatisfiable(), "ScheduleAnyway");
+        Assert.assertEquals(spreadConstraint.getLabelSelector().getMatchLabels().get(KUBERNETES_SELECTOR_KEY),
+                "affinity");
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
+    /**
+     * Build bal file with deployment having a layered thin jar image.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     */
+    @Test
+    public void layeredImageTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "layered_image.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+
+        // Validate the jars are copied as layers followed by the executable jar
+        List<String> copyInstructions = Files.readAllLines(DOCKER_TARGET_PATH.resolve("Dockerfile")).stream()
+                .filter(line -> line.startsWith("COPY ") && line.contains(".jar"))
+                .collect(Collectors.toList());
+        Assert.assertTrue(copyInstructions.size() >= 2 && copyInstructions.size() <= 4);
+        Assert.assertTrue(copyInstructions.get(0).contains("ballerina-"));
+        Assert.assertTrue(copyInstructions.get(copyInstructions.size() - 1).startsWith("COPY layered_image.jar "));
+        for (String copyInstruction : copyInstructions.subList(0, copyInstructions.size() - 1)) {
+            Assert.assertTrue(copyInstruction.endsWith(" /home/ballerina/jars/"));
+        }
+
+        // Validate the files of the customized image have a fixed modification time
+        try (Stream<Path> files = Files.walk(DOCKER_TARGET_PATH)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Assert.assertEquals(Files.getLastModifiedTime(file), KubernetesUtils.ARTIFACT_MODIFICATION_TIME,
+                        file.toString());
+            }
+        }
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
+    /**
+     * Build bal file with deployment having an AppCDS archive trained while building the image.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     */
+    @Test
+    public void appCdsTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "appcds.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+        Assert.assertTrue(DOCKER_TARGET_PATH.resolve("appcds-training.sh").toFile().exists());
+        String dockerfile = new String(Files.readAllBytes(DOCKER_TARGET_PATH.resolve("Dockerfile")));
+        Assert.assertTrue(dockerfile.contains("RUN sh /home/ballerina/appcds-training.sh /home/ballerina/app.jsa 20 "));
+
+        // Validate the archive is mapped in the run command
+        List<String> command = getCommand(DOCKER_IMAGE);
+        Assert.assertTrue(command.get(command.size() - 1)
+                .startsWith("java -XX:SharedArchiveFile=/home/ballerina/app.jsa "));
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
     /**
      * Validate if Dockerfile is created.
      */
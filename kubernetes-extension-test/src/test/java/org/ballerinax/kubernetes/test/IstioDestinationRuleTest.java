@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.test;
+
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRule;
+import me.snowdrop.istio.api.networking.v1alpha3.SimpleLB;
+import me.snowdrop.istio.api.networking.v1alpha3.SimpleLbPolicy;
+import me.snowdrop.istio.api.networking.v1alpha3.VirtualService;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.test.utils.DockerTestException;
+import org.ballerinax.kubernetes.test.utils.KubernetesTestUtils;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
+import static org.ballerinax.kubernetes.test.utils.KubernetesTestUtils.getExposedPorts;
+
+/**
+ * Test cases for generating istio destination rule artifacts.
+ */
+public class IstioDestinationRuleTest {
+
+    private static final Path BAL_DIRECTORY = Paths.get("src", "test", "resources", "istio", "destination-rule");
+    private static final Path DOCKER_TARGET_PATH = BAL_DIRECTORY.resolve(DOCKER);
+    private static final Path KUBERNETES_TARGET_PATH = BAL_DIRECTORY.resolve(KUBERNETES);
+    private static final String DOCKER_IMAGE = "pizza-shop:latest";
+
+    /**
+     * Build bal file with istio destination rule annotation with a traffic policy and a subset.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     */
+    @Test(groups = {"istio"})
+    public void trafficPolicyTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "traffic_policy.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+
+        // Validate destination rule yaml
+        File drFile = KUBERNETES_TARGET_PATH.resolve("traffic_policy_istio_destination_rule.yaml").toFile();
+        Assert.assertTrue(drFile.exists());
+        DestinationRule destinationRule = KubernetesTestUtils.loadYaml(drFile);
+
+        Assert.assertNotNull(destinationRule.getMetadata());
+        Assert.assertEquals(destinationRule.getMetadata().getName(), "helloep-istio-dr",
+                "Invalid destination rule name");
+        Assert.assertEquals(destinationRule.getSpec().getHost(), "hello", "Invalid host value.");
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getTcp()
+                .getMaxConnections().intValue(), 100);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getTcp()
+                .getConnectTimeout().getSeconds().longValue(), 3L);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp()
+                .getHttp2MaxRequests().intValue(), 1000);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp()
+                .getMaxRequestsPerConnection().intValue(), 10);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                .getConsecutiveErrors().intValue(), 5);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                .getInterval().getSeconds().longValue(), 10L);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                .getBaseEjectionTime().getSeconds().longValue(), 30L);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                .getMaxEjectionPercent().intValue(), 50);
+        SimpleLbPolicy lbPolicy =
+                (SimpleLbPolicy) destinationRule.getSpec().getTrafficPolicy().getLoadBalancer().getLbPolicy();
+        Assert.assertEquals(lbPolicy.getSimple(), SimpleLB.LEAST_CONN, "Invalid load balancer");
+
+        Assert.assertEquals(destinationRule.getSpec().getSubsets().size(), 1);
+        Assert.assertEquals(destinationRule.getSpec().getSubsets().get(0).getName(), "v1");
+        Assert.assertEquals(destinationRule.getSpec().getSubsets().get(0).getLabels().get("version"), "v1");
+
+        // Validate virtual service yaml
+        File vsFile = KUBERNETES_TARGET_PATH.resolve("traffic_policy_istio_virtual_service.yaml").toFile();
+        Assert.assertTrue(vsFile.exists());
+        VirtualService virtualService = KubernetesTestUtils.loadYaml(vsFile);
+        Assert.assertEquals(virtualService.getSpec().getHttp().get(0).getRoute().get(0).getDestination().getSubset(),
+                "v1", "Invalid route destination subset");
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
+    /**
+     * Build bal file with a virtual service destination referring a subset which is not in the destination rule.
+     *
+     * @throws IOException          Error when loading the generated yaml.
+     * @throws InterruptedException Error when compiling the ballerina file.
+     */
+    @Test(groups = {"istio"})
+    public void undefinedSubsetTest() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "undefined_subset.bal"), 1);
+    }
+
+    /**
+     * Validate if Dockerfile is created.
+     */
+    public void validateDockerfile() {
+        File dockerFile = DOCKER_TARGET_PATH.resolve("Dockerfile").toFile();
+        Assert.assertTrue(dockerFile.exists());
+    }
+
+    /**
+     * Validate contents of the Dockerfile.
+     */
+    public void validateDockerImage() throws DockerTestException, InterruptedException {
+        List<String> ports = getExposedPorts(DOCKER_IMAGE);
+        Assert.assertEquals(ports.size(), 1);
+        Assert.assertEquals(ports.get(0), "9090/tcp");
+    }
+}
@@ -319,7 +319,7 @@ public class IstioVirtualServiceTest {
      * @throws InterruptedException      Error when compiling the ballerina file.
      * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
      */
-    @Test(groups = {"istio"}, enabled = false, description = "disabled as its not supported yet.")
+    @Test(groups = {"istio"})
     public void httpRetryTest() throws IOException, InterruptedException, KubernetesPluginException,
             DockerTestException {
         Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "http_retry.bal"), 0);
@@ -355,6 +355,7 @@ public class IstioVirtualServiceTest {
         Map<String, Object> retries = (Map<String, Object>) http.get(0).get("retries");
         Assert.assertEquals(retries.get("attempts"), 3, "Invalid number of retry attempts");
         Assert.assertEquals(retries.get("perTryTimeout"), "2s", "Invalid number of retry timeout try");
+        Assert.assertEquals(retries.get("retryOn"), "5xx,connect-failure", "Invalid retry conditions");
         
         KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
         KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
@@ -368,7 +369,7 @@ public class IstioVirtualServiceTest {
      * @throws InterruptedException      Error when compiling the ballerina file.
      * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
      */
-    @Test(groups = {"istio"}, enabled = false, description = "disabled as its not supported yet.")
+    @Test(groups = {"istio"})
     public void httpFaultInjectionTest() throws IOException, InterruptedException, KubernetesPluginException,
             DockerTestException {
         Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "http_fault_injection.bal"), 0);
@@ -402,8 +403,48 @@ public class IstioVirtualServiceTest {
         Assert.assertEquals(destination1.get("subset"), "v1", "Invalid route destination subset");
         
         Map<String, Map<String, Object>> fault = (Map<String, Map<String, Object>>) http.get(0).get("fault");
-        Assert.assertEquals(fault.get("abort").get("percent"), 10, "Invalid fault abort percent");
+        Map<String, Object> abortPercentage = (Map<String, Object>) fault.get("abort").get("percentage");
+        Assert.assertEquals(abortPercentage.get("value"), 10.0, "Invalid fault abort percent");
         Assert.assertEquals(fault.get("abort").get("httpStatus"), 400, "Invalid fault abort http status code");
+        Map<String, Object> delayPercentage = (Map<String, Object>) fault.get("delay").get("percentage");
+        Assert.assertEquals(delayPercentage.get("value"), 50.0, "Invalid fault delay percent");
+        Assert.assertEquals(fault.get("delay").get("fixedDelay"), "1.500s", "Invalid fault fixed delay");
+        
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+    
+    /**
+     * Build bal file with istio virtual service annotation with traffic mirroring.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     */
+    @Test(groups = {"istio"})
+    public void httpMirrorTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "http_mirror.bal"), 0);
+        
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+        
+        // Validate virtual service yaml
+        File vsFile = KUBERNETES_TARGET_PATH.resolve("http_mirror_istio_virtual_service.yaml").toFile();
+        Assert.assertTrue(vsFile.exists());
+        Yaml yamlProcessor = new Yaml();
+        Map<String, Object> virtualSvc = (Map<String, Object>) yamlProcessor.load(FileUtils.readFileToString(vsFile));
+        Map<String, Object> spec = (Map<String, Object>) virtualSvc.get("spec");
+        List<Map<String, Object>> http = (List<Map<String, Object>>) spec.get("http");
+        Assert.assertEquals(http.size(), 1, "Invalid number of http items");
+        
+        Map<String, Object> mirror = (Map<String, Object>) http.get(0).get("mirror");
+        Assert.assertEquals(mirror.get("host"), "ratings.staging.svc.cluster.local", "Invalid mirror host");
+        Assert.assertEquals(mirror.get("subset"), "v2", "Invalid mirror subset");
+        Map<String, Object> mirrorPercentage = (Map<String, Object>) http.get(0).get("mirrorPercentage");
+        Assert.assertEquals(mirrorPercentage.get("value"), 25.0, "Invalid mirror percentage");
         
         KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
         KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
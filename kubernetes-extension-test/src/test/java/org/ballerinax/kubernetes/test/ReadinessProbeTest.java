@@ -19,6 +19,7 @@
 package org.ballerinax.kubernetes.test;
 
 import com.github.dockerjava.api.command.InspectImageResponse;
+import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.test.utils.DockerTestException;
@@ -200,6 +201,49 @@ public class ReadinessProbeTest {
         KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
     }
 
+    /**
+     * Build bal file with deployment having http get readiness and startup probes.
+     *
+     * @throws IOException               Error when loading the generated yaml.
+     * @throws InterruptedException      Error when compiling the ballerina file.
+     * @throws KubernetesPluginException Error when deleting the generated artifacts folder.
+     */
+    @Test
+    public void httpGetTest() throws IOException, InterruptedException, KubernetesPluginException,
+            DockerTestException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(BAL_DIRECTORY, "http_get.bal"), 0);
+
+        // Check if docker image exists and correct
+        validateDockerfile();
+        validateDockerImage();
+
+        // Validate deployment yaml
+        File deploymentYAML = KUBERNETES_TARGET_PATH.resolve("http_get_deployment.yaml").toFile();
+        Assert.assertTrue(deploymentYAML.exists());
+        Deployment deployment = KubernetesTestUtils.loadYaml(deploymentYAML);
+        Probe readinessProbe = deployment.getSpec().getTemplate().getSpec().getContainers().get(0)
+                .getReadinessProbe();
+        Assert.assertNotNull(readinessProbe, "Readiness probe is missing.");
+        Assert.assertNull(readinessProbe.getTcpSocket());
+        Assert.assertEquals(readinessProbe.getHttpGet().getPath(), "/helloWorld/sayHello");
+        Assert.assertEquals(readinessProbe.getHttpGet().getPort().getIntVal().intValue(), 9090);
+        Assert.assertEquals(readinessProbe.getHttpGet().getHttpHeaders().get(0).getName(), "X-Probe");
+        Assert.assertEquals(readinessProbe.getHttpGet().getHttpHeaders().get(0).getValue(), "readiness");
+        Assert.assertEquals(readinessProbe.getTimeoutSeconds().intValue(), 2);
+        Assert.assertEquals(readinessProbe.getFailureThreshold().intValue(), 3);
+
+        Probe startupProbe = deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getStartupProbe();
+        Assert.assertNotNull(startupProbe, "Startup probe is missing.");
+        Assert.assertEquals(startupProbe.getHttpGet().getPath(), "/helloWorld/sayHello");
+        Assert.assertEquals(startupProbe.getHttpGet().getPort().getIntVal().intValue(), 9090);
+        Assert.assertEquals(startupProbe.getPeriodSeconds().intValue(), 2);
+        Assert.assertEquals(startupProbe.getFailureThreshold().intValue(), 60);
+
+        KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
+        KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
+        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+    }
+
     /**
      * Validate if Dockerfile is created.
      */
@@ -37,6 +37,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
 import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE;
@@ -78,6 +79,12 @@ public class Sample18Test extends SampleTest {
         Assert.assertEquals(this.knativeService.getSpec().getTemplate().getSpec().getContainerConcurrency().longValue(),
                 100);
         Assert.assertEquals(this.knativeService.getSpec().getTemplate().getSpec().getContainers().size(), 1);
+        Map<String, String> templateAnnotations = this.knativeService.getSpec().getTemplate().getMetadata()
+                .getAnnotations();
+        Assert.assertEquals(templateAnnotations.get("autoscaling.knative.dev/minScale"), "1");
+        Assert.assertEquals(templateAnnotations.get("autoscaling.knative.dev/maxScale"), "5");
+        Assert.assertEquals(templateAnnotations.get("autoscaling.knative.dev/target"), "50");
+        Assert.assertFalse(templateAnnotations.containsKey("autoscaling.knative.dev/metric"));
         
         Container container = this.knativeService.getSpec().getTemplate().getSpec().getContainers().get(0);
         Assert.assertEquals(container.getImage(), DOCKER_IMAGE);
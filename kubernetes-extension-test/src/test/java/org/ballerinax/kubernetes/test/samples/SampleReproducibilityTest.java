@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.test.samples;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.test.utils.KubernetesTestUtils;
+import org.ballerinax.kubernetes.utils.ArtifactManifest;
+import org.ballerinax.kubernetes.utils.DockerBuildCache;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ARTIFACT_GENERATION_THREADS;
+import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
+import static org.ballerinax.kubernetes.KubernetesConstants.GENERATION_REPORT_DIRECTORY;
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
+import static org.ballerinax.kubernetes.test.samples.SampleTest.SAMPLE_DIR;
+
+/**
+ * Test cases which build each sample three times, the last time generating the artifacts concurrently, and check that
+ * the generated artifacts are identical.
+ */
+public class SampleReproducibilityTest {
+    private static final String CONCURRENT_GENERATION_THREADS = "4";
+
+    @DataProvider(name = "samples")
+    public Object[][] samples() {
+        return new Object[][]{
+                {"sample1", "hello_world_k8s.bal", new String[]{"hello_world_k8s:latest"}},
+                {"sample2", "hello_world_k8s_config.bal", new String[]{"hello_world_k8s_config:latest"}},
+                {"sample3", "foodstore.bal", new String[]{"foodstore:latest"}},
+                {"sample4", "hello_world_ssl_k8s.bal", new String[]{"hello_world_ssl_k8s:latest"}},
+                {"sample5", "pizzashack.bal", new String[]{"ballerina.com/pizzashack:2.1.0"}},
+                {"sample7", "hello_world_secret_mount_k8s.bal", new String[]{"hello_world_secret_mount_k8s:latest"}},
+                {"sample8", "hello_world_config_map_k8s.bal", new String[]{"hello_world_config_map_k8s:latest"}},
+                {"sample9", "hello_world_persistence_volume_k8s.bal",
+                        new String[]{"hello_world_persistence_volume_k8s:latest"}},
+                {"sample10", null, new String[]{"john-burger-0.0.1:latest", "john-pizza-0.0.1:latest"}},
+                {"sample11", "hello_world_job.bal", new String[]{"hello_world_job:latest"}},
+                {"sample12", "hello_world_copy_file.bal", new String[]{"hello_world_copy_file:latest"}},
+                {"sample14", "hello_world_k8s_namespace.bal", new String[]{"hello_world_k8s_namespace:latest"}},
+                {"sample15", "hello_world_k8s_rq.bal", new String[]{"hello_world_k8s_rq:latest"}},
+                {"sample16", null, new String[]{"gogo-airline_reservation-1.0.0:latest",
+                        "gogo-hotel_reservation-1.0.0:latest", "gogo-car_rental-1.0.0:latest",
+                        "gogo-travel_agency-1.0.0:latest"}},
+                {"sample17", "hello_world_oc.bal", new String[0]},
+                {"sample18", "hello_world_knative.bal", new String[]{"hello_world_knative:latest"}},
+                {"sample19", "hello_world_knative_config_map.bal",
+                        new String[]{"hello_world_knative_config_map:latest"}}
+        };
+    }
+
+    @Test(dataProvider = "samples")
+    public void testReproducibleArtifacts(String sample, String fileName, String[] dockerImages)
+            throws IOException, InterruptedException, KubernetesPluginException {
+        Path sourceDir = SAMPLE_DIR.resolve(sample);
+        Path outputDir = null == fileName ? sourceDir.resolve("target") : sourceDir;
+        Path kubernetesTargetPath = outputDir.resolve(KUBERNETES);
+        Path dockerTargetPath = outputDir.resolve(DOCKER);
+        try {
+            compile(sourceDir, fileName, new HashMap<>());
+            Map<String, String> firstBuild = hashArtifacts(outputDir);
+            Assert.assertFalse(firstBuild.isEmpty());
+            KubernetesUtils.deleteDirectory(kubernetesTargetPath);
+            KubernetesUtils.deleteDirectory(dockerTargetPath);
+
+            compile(sourceDir, fileName, new HashMap<>());
+            Assert.assertEquals(hashArtifacts(outputDir), firstBuild);
+            assertArtifactModificationTimes(dockerTargetPath);
+            KubernetesUtils.deleteDirectory(kubernetesTargetPath);
+            KubernetesUtils.deleteDirectory(dockerTargetPath);
+
+            Map<String, String> concurrentGeneration = new HashMap<>();
+            concurrentGeneration.put(ARTIFACT_GENERATION_THREADS, CONCURRENT_GENERATION_THREADS);
+            compile(sourceDir, fileName, concurrentGeneration);
+            Assert.assertEquals(hashArtifacts(outputDir), firstBuild);
+            assertArtifactModificationTimes(dockerTargetPath);
+        } finally {
+            KubernetesUtils.deleteDirectory(kubernetesTargetPath);
+            KubernetesUtils.deleteDirectory(dockerTargetPath);
+            KubernetesUtils.deleteDirectory(outputDir.resolve(GENERATION_REPORT_DIRECTORY));
+            for (String dockerImage : dockerImages) {
+                KubernetesTestUtils.deleteDockerImage(dockerImage);
+            }
+        }
+    }
+
+    private static void compile(Path sourceDir, String fileName, Map<String, String> envVar)
+            throws IOException, InterruptedException {
+        if (null == fileName) {
+            Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(sourceDir, true, envVar), 0);
+        } else {
+            Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(sourceDir, fileName, envVar), 0);
+        }
+    }
+
+    private void assertArtifactModificationTimes(Path dockerTargetPath) throws IOException {
+        if (!Files.exists(dockerTargetPath)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dockerTargetPath)) {
+            for (Path file : files.filter(this::isReproducible).collect(Collectors.toList())) {
+                Assert.assertEquals(Files.getLastModifiedTime(file), KubernetesUtils.ARTIFACT_MODIFICATION_TIME,
+                        file.toString());
+            }
+        }
+    }
+
+    /**
+     * Hash the generated kubernetes and docker artifacts of a sample.
+     *
+     * @param outputDir Directory containing the kubernetes and docker output directories.
+     * @return SHA-256 hash of each artifact by its path relative to the output directory.
+     * @throws IOException If the artifacts cannot be read.
+     */
+    private Map<String, String> hashArtifacts(Path outputDir) throws IOException {
+        Map<String, String> hashes = new TreeMap<>();
+        for (String directory : new String[]{KUBERNETES, DOCKER}) {
+            Path artifactDir = outputDir.resolve(directory);
+            if (!Files.exists(artifactDir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(artifactDir)) {
+                for (Path file : files.filter(Files::isRegularFile).filter(this::isReproducible)
+                        .collect(Collectors.toList())) {
+                    hashes.put(outputDir.relativize(file).toString(), hash(file));
+                }
+            }
+        }
+        return hashes;
+    }
+
+    private static String hash(Path file) throws IOException {
+        try {
+            StringBuilder hash = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file))) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Check if an artifact is expected to be identical across builds. The executable jars are created by the compiler
+     * and the build cache and manifest record the previous build.
+     *
+     * @param file The artifact.
+     * @return true if the artifact is reproducible.
+     */
+    private boolean isReproducible(Path file) {
+        String fileName = file.getFileName().toString();
+        return !fileName.endsWith(".jar") && !fileName.endsWith(DockerBuildCache.CACHE_FILE_SUFFIX) &&
+                !ArtifactManifest.MANIFEST_FILE_NAME.equals(fileName);
+    }
+}
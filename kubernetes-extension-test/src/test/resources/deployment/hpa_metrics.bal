@@ -0,0 +1,86 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/kubernetes;
+
+@kubernetes:Deployment {
+    image: "pizza-shop:latest",
+    singleYAML: false,
+    prometheus: true,
+    resources: {
+        requests: {
+            cpu: "250m",
+            memory: "256Mi"
+        }
+    }
+}
+@kubernetes:Service {}
+listener http:Listener helloEP = new(9090);
+
+@kubernetes:HPA {
+    minReplicas: 2,
+    maxReplicas: 10,
+    memoryPercentage: 80,
+    podsMetrics: [
+        {
+            name: "http_requests_per_second",
+            averageValue: "100"
+        }
+    ],
+    externalMetrics: [
+        {
+            name: "queue_messages_ready",
+            selector: {
+                queue: "orders"
+            },
+            averageValue: "30"
+        }
+    ],
+    behavior: {
+        scaleUp: {
+            stabilizationWindowSeconds: 0,
+            policies: [
+                {
+                    policyType: "Percent",
+                    value: 100,
+                    periodSeconds: 15
+                }
+            ]
+        },
+        scaleDown: {
+            stabilizationWindowSeconds: 300,
+            selectPolicy: "Min",
+            policies: [
+                {
+                    policyType: "Pods",
+                    value: 1,
+                    periodSeconds: 60
+                }
+            ]
+        }
+    }
+}
+@http:ServiceConfig {
+    basePath: "/helloWorld"
+}
+service helloWorld on helloEP {
+    resource function sayHello(http:Caller outboundEP, http:Request request) {
+        http:Response response = new;
+        response.setTextPayload("Hello, World from service helloWorld ! \n");
+        checkpanic outboundEP->respond(response);
+    }
+}
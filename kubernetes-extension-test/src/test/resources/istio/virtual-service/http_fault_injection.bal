@@ -37,6 +37,10 @@ import ballerina/istio;
                 'abort: {
                     percent: 10,
                     httpStatus: 400
+                },
+                delay: {
+                    percent: 50,
+                    fixedDelay: "1500ms"
                 }
             }
         }
@@ -35,7 +35,8 @@ import ballerina/istio;
             ],
             'retries: {
                 attempts: 3,
-                perTryTimeout: "2s"
+                perTryTimeout: "2s",
+                retryOn: "5xx,connect-failure"
             }
         }
     ]
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serializing resources with {@link SerializationUtils} against the shared {@link ArtifactSerializer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArtifactSerializerBenchmark {
+
+    @Param({"deployment", "service", "configMap"})
+    private String kind;
+
+    private HasMetadata resource;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("app", "hello");
+        switch (kind) {
+            case "deployment":
+                resource = new DeploymentBuilder()
+                        .withNewMetadata().withName("hello-deployment").withLabels(labels).endMetadata()
+                        .withNewSpec()
+                        .withReplicas(3)
+                        .withNewSelector().withMatchLabels(labels).endSelector()
+                        .withNewTemplate()
+                        .withNewMetadata().withLabels(labels).endMetadata()
+                        .withNewSpec()
+                        .addNewContainer()
+                        .withName("hello-deployment")
+                        .withImage("hello:latest")
+                        .withImagePullPolicy("IfNotPresent")
+                        .addNewPort().withContainerPort(9090).withProtocol("TCP").endPort()
+                        .addNewEnv().withName("CONFIG_FILE").withValue("/home/ballerina/conf/ballerina.conf")
+                        .endEnv()
+                        .withNewReadinessProbe()
+                        .withNewTcpSocket().withNewPort(9090).endTcpSocket()
+                        .withInitialDelaySeconds(10).withPeriodSeconds(5)
+                        .endReadinessProbe()
+                        .endContainer()
+                        .endSpec()
+                        .endTemplate()
+                        .endSpec()
+                        .build();
+                break;
+            case "service":
+                resource = new ServiceBuilder()
+                        .withNewMetadata().withName("hello-svc").withLabels(labels).endMetadata()
+                        .withNewSpec()
+                        .addNewPort().withName("http-hello-svc").withPort(9090).withProtocol("TCP")
+                        .withTargetPort(new IntOrString(9090)).endPort()
+                        .withSelector(labels)
+                        .withType("ClusterIP")
+                        .endSpec()
+                        .build();
+                break;
+            case "configMap":
+                Map<String, String> data = new LinkedHashMap<>();
+                for (int i = 0; i < 10; i++) {
+                    data.put("config-" + i + ".toml", "[hello]\nkey" + i + " = \"value" + i + "\"\n");
+                }
+                resource = new ConfigMapBuilder()
+                        .withNewMetadata().withName("hello-config-map").endMetadata()
+                        .withData(data)
+                        .build();
+                break;
+            default:
+                throw new IllegalArgumentException("unknown resource kind: " + kind);
+        }
+    }
+
+    @Benchmark
+    public String serializationUtils() throws IOException {
+        return SerializationUtils.dumpWithoutRuntimeStateAsYaml(resource);
+    }
+
+    @Benchmark
+    public String artifactSerializer() throws IOException {
+        return ArtifactSerializer.toYaml(resource);
+    }
+
+    @Benchmark
+    public StringBuilder artifactSerializerStreaming() throws IOException {
+        StringBuilder buffer = new StringBuilder(1024);
+        ArtifactSerializer.writeYaml(new StringBuilderWriter(buffer), resource);
+        return buffer;
+    }
+}
@@ -19,6 +19,7 @@
 package org.ballerinax.kubernetes;
 
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.ArtifactHandlerExecutor;
 import org.ballerinax.kubernetes.handlers.ConfigMapHandler;
 import org.ballerinax.kubernetes.handlers.DeploymentHandler;
 import org.ballerinax.kubernetes.handlers.DockerHandler;
@@ -27,10 +28,12 @@ import org.ballerinax.kubernetes.handlers.HelmChartHandler;
 import org.ballerinax.kubernetes.handlers.IngressHandler;
 import org.ballerinax.kubernetes.handlers.JobHandler;
 import org.ballerinax.kubernetes.handlers.PersistentVolumeClaimHandler;
+import org.ballerinax.kubernetes.handlers.PodDisruptionBudgetHandler;
 import org.ballerinax.kubernetes.handlers.ResourceQuotaHandler;
 import org.ballerinax.kubernetes.handlers.SecretHandler;
 import org.ballerinax.kubernetes.handlers.ServiceHandler;
 import org.ballerinax.kubernetes.handlers.istio.IstioGatewayHandler;
+import org.ballerinax.kubernetes.handlers.istio.IstioDestinationRuleHandler;
 import org.ballerinax.kubernetes.handlers.istio.IstioVirtualServiceHandler;
 import org.ballerinax.kubernetes.handlers.openshift.OpenShiftBuildConfigHandler;
 import org.ballerinax.kubernetes.handlers.openshift.OpenShiftImageStreamHandler;
@@ -38,23 +41,29 @@ import org.ballerinax.kubernetes.handlers.openshift.OpenShiftRouteHandler;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.ballerinax.kubernetes.utils.GenerationReport;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.ARTIFACT_GENERATION_THREADS;
 import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_LATEST_TAG;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.printInstruction;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printWarning;
 
 /**
  * Generate and write artifacts to files.
  */
 public class ArtifactManager {
-    private static final Map<String, String> instructions = new LinkedHashMap<>();
+    private static final Map<String, String> instructions = Collections.synchronizedMap(new LinkedHashMap<>());
     private static final PrintStream OUT = System.out;
     private KubernetesDataHolder kubernetesDataHolder;
 
@@ -67,38 +76,91 @@ public class ArtifactManager {
      *
      * @throws KubernetesPluginException if an error occurs while generating artifacts
      */
-    void   createArtifacts() throws KubernetesPluginException {
+    void createArtifacts() throws KubernetesPluginException {
         // add default kubernetes instructions.
         setDefaultKubernetesInstructions();
         OUT.println("\nGenerating artifacts...");
+        GenerationReport report = kubernetesDataHolder.getGenerationReport();
+        ArtifactSink artifactSink = kubernetesDataHolder.getArtifactSink();
+        ArtifactHandlerExecutor executor = new ArtifactHandlerExecutor(report, artifactSink);
         if (kubernetesDataHolder.getJobModel() != null) {
-            new JobHandler().createArtifacts();
-            new DockerHandler().createArtifacts();
+            executor.addHandler("job", new JobHandler())
+                    .addHandler("docker", new DockerHandler(), "job");
         } else {
-            new ServiceHandler().createArtifacts();
-            new IngressHandler().createArtifacts();
-            new SecretHandler().createArtifacts();
-            new PersistentVolumeClaimHandler().createArtifacts();
-            new ResourceQuotaHandler().createArtifacts();
-            new ConfigMapHandler().createArtifacts();
-            new DeploymentHandler().createArtifacts();
-            new HPAHandler().createArtifacts();
-            new DockerHandler().createArtifacts();
-            new HelmChartHandler().createArtifacts();
-            new IstioGatewayHandler().createArtifacts();
-            new IstioVirtualServiceHandler().createArtifacts();
-            if (kubernetesDataHolder.getOpenShiftBuildExtensionModel() != null ||
-                kubernetesDataHolder.getOpenShiftRouteModels().size() > 0) {
+            // Service and config handlers update the deployment model, hence they should complete before the
+            // deployment is generated. Helm chart is created from the generated yaml files.
+            executor.addHandler("service", new ServiceHandler())
+                    .addHandler("ingress", new IngressHandler(), "service")
+                    .addHandler("secret", new SecretHandler())
+                    .addHandler("volumeClaim", new PersistentVolumeClaimHandler())
+                    .addHandler("resourceQuota", new ResourceQuotaHandler())
+                    .addHandler("configMap", new ConfigMapHandler(), "secret")
+                    .addHandler("deployment", new DeploymentHandler(), "service", "secret", "configMap")
+                    .addHandler("hpa", new HPAHandler(), "deployment")
+                    .addHandler("podDisruptionBudget", new PodDisruptionBudgetHandler(), "deployment", "hpa")
+                    .addHandler("docker", new DockerHandler(), "deployment")
+                    .addHandler("istioGateway", new IstioGatewayHandler())
+                    .addHandler("istioDestinationRule", new IstioDestinationRuleHandler())
+                    .addHandler("istioVirtualService", new IstioVirtualServiceHandler(), "istioGateway",
+                            "istioDestinationRule")
+                    .addHandler("helm", new HelmChartHandler(), "service", "ingress", "secret", "volumeClaim",
+                            "resourceQuota", "configMap", "deployment", "hpa", "podDisruptionBudget", "istioGateway",
+                            "istioVirtualService", "istioDestinationRule");
+        }
+        // Artifacts are written to the files once all the handlers have completed.
+        artifactSink.buffer();
+        try {
+            int threads = getArtifactGenerationThreads();
+            if (threads > 1) {
+                executor.executeConcurrently(threads);
+            } else {
+                executor.executeSequentially();
+            }
+
+            if (kubernetesDataHolder.getJobModel() == null &&
+                    (kubernetesDataHolder.getOpenShiftBuildExtensionModel() != null ||
+                            kubernetesDataHolder.getOpenShiftRouteModels().size() > 0)) {
                 // Clean all instructions
                 instructions.clear();
-                new OpenShiftBuildConfigHandler().createArtifacts();
-                new OpenShiftImageStreamHandler().createArtifacts();
-                new OpenShiftRouteHandler().createArtifacts();
+                new ArtifactHandlerExecutor(report)
+                        .addHandler("openShiftBuildConfig", new OpenShiftBuildConfigHandler())
+                        .addHandler("openShiftImageStream", new OpenShiftImageStreamHandler())
+                        .addHandler("openShiftRoute", new OpenShiftRouteHandler())
+                        .executeSequentially();
             }
+            GenerationReport.PhaseTimer timer = report.startPhase(GenerationReport.WRITE_PHASE);
+            try {
+                artifactSink.flush();
+            } finally {
+                timer.stop();
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while writing kubernetes artifacts: " + e.getMessage(), e);
+        } finally {
+            artifactSink.discard();
         }
         
         printInstructions();
     }
+
+    /**
+     * Get the number of threads used to run the artifact handlers. The handlers run sequentially unless the
+     * {@value KubernetesConstants#ARTIFACT_GENERATION_THREADS} environment variable is set to more than 1.
+     *
+     * @return Number of threads.
+     */
+    private int getArtifactGenerationThreads() {
+        String threads = System.getenv(ARTIFACT_GENERATION_THREADS);
+        if (!isBlank(threads)) {
+            try {
+                return Math.max(1, Integer.parseInt(threads.trim()));
+            } catch (NumberFormatException e) {
+                printWarning("invalid value '" + threads + "' for " + ARTIFACT_GENERATION_THREADS +
+                        ". generating the artifacts sequentially.");
+            }
+        }
+        return 1;
+    }
     
     private void printInstructions() {
         printInstruction("");
@@ -28,7 +28,9 @@ import org.ballerinax.kubernetes.handlers.knative.KnativeServiceHandler;
 import org.ballerinax.kubernetes.models.knative.KnativeContext;
 import org.ballerinax.kubernetes.models.knative.KnativeDataHolder;
 import org.ballerinax.kubernetes.models.knative.ServiceModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
 
+import java.io.IOException;
 import java.io.PrintStream;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
@@ -58,12 +60,22 @@ public class KnativeArtifactManager {
      */
     void createArtifacts() throws KubernetesPluginException {
         OUT.println("\nGenerating Knative artifacts...");
-        new KnativeContainerHandler().createArtifacts();
-        new KnativeSecretHandler().createArtifacts();
-        new KnativeResourceQuotaHandler().createArtifacts();
-        new KnativeConfigMapHandler().createArtifacts();
-        new KnativeServiceHandler().createArtifacts();
-        new KnativeDockerHandler().createArtifacts();
+        // Artifacts are written to the files once all the handlers have completed.
+        ArtifactSink artifactSink = knativeDataHolder.getArtifactSink();
+        artifactSink.buffer();
+        try {
+            new KnativeContainerHandler().createArtifacts();
+            new KnativeSecretHandler().createArtifacts();
+            new KnativeResourceQuotaHandler().createArtifacts();
+            new KnativeConfigMapHandler().createArtifacts();
+            new KnativeServiceHandler().createArtifacts();
+            new KnativeDockerHandler().createArtifacts();
+            artifactSink.flush();
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while writing knative artifacts: " + e.getMessage(), e);
+        } finally {
+            artifactSink.discard();
+        }
         printInstructions();
     }
 
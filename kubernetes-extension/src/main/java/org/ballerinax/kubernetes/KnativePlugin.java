@@ -46,8 +46,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
@@ -189,36 +187,29 @@ public class KnativePlugin extends AbstractCompilerPlugin {
         }
     }
 
+    /**
+     * Validate the dependencies between the services of all the modules.
+     *
+     * @throws KubernetesPluginException If a dependency cannot be resolved or the dependencies contain a cycle.
+     */
     private void validateDeploymentDependencies() throws KubernetesPluginException {
         KnativeContext context = KnativeContext.getInstance();
-        Map<PackageID, KnativeDataHolder> packageToDataHolderMap = context.getPackageIDtoDataHolderMap();
         DependencyValidator dependencyValidator = new DependencyValidator();
-        for (KnativeDataHolder dataHolder : packageToDataHolderMap.values()) {
-            //add other dependent deployments
-            List<String> dependencies = new ArrayList<>();
-            //add the current deployment as 0th element
+        for (KnativeDataHolder dataHolder : context.getPackageIDtoDataHolderMap().values()) {
             String currentDeployment = dataHolder.getServiceModel().getName();
             if (currentDeployment == null) {
-                return;
+                // Module without a service.
+                continue;
             }
-            dependencies.add(currentDeployment);
-            Set<String> dependsOn = dataHolder.getServiceModel().getDependsOn();
-            for (String listenerName : dependsOn) {
+            List<String> dependencies = new ArrayList<>();
+            for (String listenerName : dataHolder.getServiceModel().getDependsOn()) {
                 String dependentDeployment = context.getDeploymentNameFromListener(listenerName);
-                if (dependentDeployment == null) {
-                    return;
-                }
-                if (!dependentDeployment.equals(currentDeployment)) {
+                if (dependentDeployment != null) {
                     dependencies.add(dependentDeployment);
-                } else {
-                    // Listener is in the same package.
-                    throw new KubernetesPluginException("@kubernetes:Deployment{} contains cyclic dependencies");
                 }
             }
-            String[] array = dependencies.toArray(new String[0]);
-            if (!dependencyValidator.validateDependency(array)) {
-                throw new KubernetesPluginException("@kubernetes:Deployment{} contains cyclic dependencies");
-            }
+            dependencyValidator.addDependencies(currentDeployment, dependencies);
         }
+        dependencyValidator.getDeploymentOrder();
     }
 }
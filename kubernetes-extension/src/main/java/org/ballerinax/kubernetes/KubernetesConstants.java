@@ -23,12 +23,21 @@ package org.ballerinax.kubernetes;
  */
 public class KubernetesConstants {
     public static final String ENABLE_DEBUG_LOGS = "BAL_KUBERNETES_DEBUG";
+    public static final String ARTIFACT_GENERATION_THREADS = "BAL_KUBERNETES_THREADS";
+    public static final String INCREMENTAL_GENERATION = "BAL_KUBERNETES_INCREMENTAL";
+    public static final String GENERATION_REPORT_SUMMARY = "BAL_KUBERNETES_REPORT_SUMMARY";
+    public static final String DOCKER_BUILD_PARALLELISM = "BAL_KUBERNETES_DOCKER_BUILD_PARALLELISM";
+    public static final String GENERATION_REPORT_DIRECTORY = "kubernetes-report";
+    public static final String GENERATION_REPORT_FILE_NAME = "generation-report.json";
     public static final String KUBERNETES = "kubernetes";
     public static final String OPENSHIFT = "openshift";
     public static final String KNATIVE = "knative";
     public static final String MAIN_FUNCTION_NAME = "main";
     public static final String KUBERNETES_SVC_PROTOCOL = "TCP";
     public static final String KUBERNETES_SELECTOR_KEY = "app";
+    public static final String KUBERNETES_HOSTNAME_TOPOLOGY_KEY = "kubernetes.io/hostname";
+    public static final String SCHEDULE_ANYWAY = "ScheduleAnyway";
+    public static final String DEPENDENCY_WAIT_CONTAINER_NAME = "wait-for-dependencies";
     public static final String INGRESS_POSTFIX = "-ingress";
     public static final String ANONYMOUS_POSTFIX = "-anonymous";
     public static final String INGRESS_FILE_POSTFIX = "_ingress";
@@ -42,6 +51,7 @@ public class KubernetesConstants {
     public static final String DEPLOYMENT_POSTFIX = "-deployment";
     public static final String JOB_POSTFIX = "-job";
     public static final String HPA_POSTFIX = "-hpa";
+    public static final String PDB_POSTFIX = "-pdb";
     public static final String DEPLOYMENT_FILE_POSTFIX = "_deployment";
     public static final String JOB_FILE_POSTFIX = "_job";
     public static final String SVC_FILE_POSTFIX = "_svc";
@@ -51,11 +61,13 @@ public class KubernetesConstants {
     public static final String RESOURCE_QUOTA_FILE_POSTFIX = "_resource_quota";
     public static final String ISTIO_GATEWAY_FILE_POSTFIX = "_istio_gateway";
     public static final String ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX = "_istio_virtual_service";
+    public static final String ISTIO_DESTINATION_RULE_FILE_POSTFIX = "_istio_destination_rule";
     public static final String OPENSHIFT_BUILD_CONFIG_FILE_POSTFIX = "_openshift_bc";
     public static final String OPENSHIFT_IMAGE_STREAM_TAG_FILE_POSTFIX = "_openshift_is";
     public static final String OPENSHIFT_ROUTE_FILE_POSTFIX = "_openshift_route";
     public static final String KNATIVE_SVC_FILE_POSTFIX = "_knative_svc";
     public static final String HPA_FILE_POSTFIX = "_hpa";
+    public static final String PDB_FILE_POSTFIX = "_pdb";
     public static final String YAML = ".yaml";
     public static final String DOCKER_LATEST_TAG = ":latest";
     public static final String BALLERINA_HOME = "/home/ballerina";
@@ -78,12 +90,19 @@ public class KubernetesConstants {
     public static final String ISTIO_GATEWAY_SELECTOR = "istio";
     public static final String ISTIO_GATEWAY_POSTFIX = "-istio-gw";
     public static final String ISTIO_VIRTUAL_SERVICE_POSTFIX = "-istio-vs";
+    public static final String ISTIO_DESTINATION_RULE_POSTFIX = "-istio-dr";
     public static final String OPENSHIFT_BUILD_CONFIG_POSTFIX = "-openshift-bc";
     public static final String OPENSHIFT_ROUTE_POSTFIX = "-openshift-route";
     public static final String KNATIVE_SVC_POSTFIX = "-knative-svc";
+    public static final String KNATIVE_AUTOSCALING_PREFIX = "autoscaling.knative.dev/";
+    public static final String KNATIVE_CONCURRENCY_METRIC = "concurrency";
+    public static final String KNATIVE_RPS_METRIC = "rps";
     public static final String VOLUME_DEFINE = "-volume";
     public static final String PROMETHEUS_CMD = "CMD java -jar ${APP} --b7a.observability.enabled=true " +
             "--b7a.observability.metrics.prometheus.port=";
+    public static final String JAVA_TOOL_OPTIONS = "JAVA_TOOL_OPTIONS";
+    public static final long JVM_MIN_NON_HEAP_MEMORY = 64 * 1024 * 1024;
+    public static final int JVM_MIN_ZGC_JAVA_VERSION = 11;
 
     /**
      * Restart policy enum.
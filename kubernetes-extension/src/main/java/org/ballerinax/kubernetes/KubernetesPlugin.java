@@ -19,6 +19,7 @@
 package org.ballerinax.kubernetes;
 
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.compiler.plugins.AbstractCompilerPlugin;
 import org.ballerinalang.compiler.plugins.SupportedAnnotationPackages;
@@ -38,7 +39,10 @@ import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.processors.AnnotationProcessorFactory;
 import org.ballerinax.kubernetes.processors.ServiceAnnotationProcessor;
+import org.ballerinax.kubernetes.utils.ArtifactManifest;
 import org.ballerinax.kubernetes.utils.DependencyValidator;
+import org.ballerinax.kubernetes.utils.DockerImageBuildQueue;
+import org.ballerinax.kubernetes.utils.GenerationReport;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,24 +57,34 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangTypeInit;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.compiler.JarResolver.JAR_RESOLVER_KEY;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER;
+import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_BUILD_PARALLELISM;
+import static org.ballerinax.kubernetes.KubernetesConstants.GENERATION_REPORT_DIRECTORY;
+import static org.ballerinax.kubernetes.KubernetesConstants.GENERATION_REPORT_FILE_NAME;
+import static org.ballerinax.kubernetes.KubernetesConstants.GENERATION_REPORT_SUMMARY;
+import static org.ballerinax.kubernetes.KubernetesConstants.INCREMENTAL_GENERATION;
 import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.createAnnotation;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.printError;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printInfo;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printInstruction;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printWarning;
 
 /**
  * Compiler plugin to generate kubernetes artifacts.
@@ -82,6 +96,7 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
     private static final Logger pluginLog = LoggerFactory.getLogger(KubernetesPlugin.class);
     private DiagnosticLog dlog;
     private SourceDirectory sourceDirectory;
+    private Thread dockerImageBuildHook;
 
     @Override
     public void setCompilerContext(CompilerContext context) {
@@ -105,7 +120,7 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
         //Get dependency jar paths
         JarResolver jarResolver = KubernetesContext.getInstance().getCompilerContext().get(JAR_RESOLVER_KEY);
         if (jarResolver != null) {
-            Set<Path> dependencyJarPaths = new HashSet<>(jarResolver.allDependencies(bPackage));
+            Set<Path> dependencyJarPaths = new TreeSet<>(jarResolver.allDependencies(bPackage));
             KubernetesContext.getInstance().getDataHolder(bPackage.packageID).getDockerModel()
                     .addDependencyJarPaths(dependencyJarPaths);
         }
@@ -193,12 +208,15 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
     public void process(ServiceNode serviceNode, List<AnnotationAttachmentNode> annotations) {
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
+            GenerationReport.PhaseTimer timer = startAnnotationPhase(annotationKey);
             try {
                 AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey).processAnnotation
                         (serviceNode, attachmentNode);
             } catch (KubernetesPluginException e) {
                 dlog.logDiagnostic(DiagnosticSeverity.ERROR, KubernetesContext.getInstance().getCurrentPackage(),
                         serviceNode.getPosition(), e.getMessage());
+            } finally {
+                timer.stop();
             }
         }
     }
@@ -212,12 +230,15 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
         }
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
+            GenerationReport.PhaseTimer timer = startAnnotationPhase(annotationKey);
             try {
                 AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey).processAnnotation
                         (variableNode, attachmentNode);
             } catch (KubernetesPluginException e) {
                 dlog.logDiagnostic(DiagnosticSeverity.ERROR, KubernetesContext.getInstance().getCurrentPackage(),
                         variableNode.getPosition(), e.getMessage());
+            } finally {
+                timer.stop();
             }
         }
 
@@ -227,12 +248,15 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
     public void process(FunctionNode functionNode, List<AnnotationAttachmentNode> annotations) {
         for (AnnotationAttachmentNode attachmentNode : annotations) {
             String annotationKey = attachmentNode.getAnnotationName().getValue();
+            GenerationReport.PhaseTimer timer = startAnnotationPhase(annotationKey);
             try {
                 AnnotationProcessorFactory.getAnnotationProcessorInstance(annotationKey).processAnnotation
                         (functionNode, attachmentNode);
             } catch (KubernetesPluginException e) {
                 dlog.logDiagnostic(DiagnosticSeverity.ERROR, KubernetesContext.getInstance().getCurrentPackage(),
                         functionNode.getPosition(), e.getMessage());
+            } finally {
+                timer.stop();
             }
         }
     }
@@ -243,86 +267,320 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
         KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
         dataHolder.setPackageID(moduleID);
         if (dataHolder.isCanProcess()) {
-            executableJarFile = executableJarFile.toAbsolutePath();
-            if (null != executableJarFile.getParent() && Files.exists(executableJarFile.getParent())) {
-                // artifacts location for a single bal file.
-                Path kubernetesOutputPath = executableJarFile.getParent().resolve(KUBERNETES);
-                Path dockerOutputPath = executableJarFile.getParent().resolve(DOCKER);
-                if (null != executableJarFile.getParent().getParent().getParent() &&
-                        Files.exists(executableJarFile.getParent().getParent().getParent())) {
-                    // if executable came from a ballerina project
-                    Path projectRoot = executableJarFile.getParent().getParent().getParent();
-                    if (Files.exists(projectRoot.resolve("Ballerina.toml"))) {
-                        dataHolder.setProject(true);
-                        kubernetesOutputPath = projectRoot.resolve("target")
-                                .resolve(KUBERNETES)
-                                .resolve(extractJarName(executableJarFile));
-                        dockerOutputPath = projectRoot.resolve("target")
-                                .resolve(DOCKER)
-                                .resolve(extractJarName(executableJarFile));
-                    }
+            initDockerImageBuildQueue();
+            try {
+                generateArtifacts(moduleID, executableJarFile, dataHolder);
+            } finally {
+                // The queue is drained after the last module even if generating its artifacts failed.
+                if (KubernetesContext.getInstance().markCodeGenerated(moduleID)) {
+                    awaitDockerImageBuilds();
+                    printDeploymentOrder();
                 }
-                if (!dataHolder.getDockerModel().isUberJar()) {
-                    JarResolver jarResolver =
-                            KubernetesContext.getInstance().getCompilerContext().get(JAR_RESOLVER_KEY);
-                    executableJarFile = jarResolver.moduleJar(moduleID);
+            }
+        }
+    }
+
+    /**
+     * Generate the kubernetes and docker artifacts of a module.
+     *
+     * @param moduleID          The module.
+     * @param executableJarFile Executable jar of the module.
+     * @param dataHolder        Data holder of the module.
+     */
+    private void generateArtifacts(PackageID moduleID, Path executableJarFile, KubernetesDataHolder dataHolder) {
+        executableJarFile = executableJarFile.toAbsolutePath();
+        if (null != executableJarFile.getParent() && Files.exists(executableJarFile.getParent())) {
+            // artifacts location for a single bal file.
+            Path kubernetesOutputPath = executableJarFile.getParent().resolve(KUBERNETES);
+            Path dockerOutputPath = executableJarFile.getParent().resolve(DOCKER);
+            Path reportPath = executableJarFile.getParent().resolve(GENERATION_REPORT_DIRECTORY);
+            if (null != executableJarFile.getParent().getParent().getParent() &&
+                    Files.exists(executableJarFile.getParent().getParent().getParent())) {
+                // if executable came from a ballerina project
+                Path projectRoot = executableJarFile.getParent().getParent().getParent();
+                if (Files.exists(projectRoot.resolve("Ballerina.toml"))) {
+                    dataHolder.setProject(true);
+                    kubernetesOutputPath = projectRoot.resolve("target")
+                            .resolve(KUBERNETES)
+                            .resolve(extractJarName(executableJarFile));
+                    dockerOutputPath = projectRoot.resolve("target")
+                            .resolve(DOCKER)
+                            .resolve(extractJarName(executableJarFile));
+                    reportPath = projectRoot.resolve("target")
+                            .resolve(GENERATION_REPORT_DIRECTORY)
+                            .resolve(extractJarName(executableJarFile));
                 }
-                dataHolder.setUberJarPath(executableJarFile);
-                dataHolder.setK8sArtifactOutputPath(kubernetesOutputPath);
-                dataHolder.setDockerArtifactOutputPath(dockerOutputPath);
-                ArtifactManager artifactManager = new ArtifactManager();
-                try {
+            }
+            if (!dataHolder.getDockerModel().isUberJar()) {
+                JarResolver jarResolver =
+                        KubernetesContext.getInstance().getCompilerContext().get(JAR_RESOLVER_KEY);
+                executableJarFile = jarResolver.moduleJar(moduleID);
+            }
+            dataHolder.setUberJarPath(executableJarFile);
+            dataHolder.setK8sArtifactOutputPath(kubernetesOutputPath);
+            dataHolder.setDockerArtifactOutputPath(dockerOutputPath);
+            ArtifactManager artifactManager = new ArtifactManager();
+            Path stagingPath = null;
+            boolean incremental = isIncrementalGeneration();
+            try {
+                if (incremental) {
+                    stagingPath = createStagingDirectory(kubernetesOutputPath);
+                    dataHolder.setK8sArtifactStagingPath(stagingPath);
+                } else {
                     KubernetesUtils.deleteDirectory(kubernetesOutputPath);
+                }
+                GenerationReport report = dataHolder.getGenerationReport();
+                GenerationReport.PhaseTimer timer = report.startPhase(GenerationReport.MODEL_POPULATION_PHASE);
+                try {
                     artifactManager.populateDeploymentModel();
+                } finally {
+                    timer.stop();
+                }
+                timer = report.startPhase(GenerationReport.DEPENDENCY_VALIDATION_PHASE);
+                try {
                     validateDeploymentDependencies();
-                    artifactManager.createArtifacts();
-                } catch (KubernetesPluginException e) {
-                    String errorMessage = "module [" + moduleID + "] " + e.getMessage();
-                    printError(errorMessage);
-                    pluginLog.error(errorMessage, e);
+                } finally {
+                    timer.stop();
+                }
+                artifactManager.createArtifacts();
+                if (stagingPath != null) {
+                    timer = report.startPhase(GenerationReport.SYNCHRONIZE_PHASE);
+                    try {
+                        int written = ArtifactManifest.synchronize(stagingPath, kubernetesOutputPath,
+                                getPluginVersion());
+                        printDebug("module [" + moduleID + "] " + written + " kubernetes artifact(s) updated.");
+                    } finally {
+                        timer.stop();
+                    }
+                }
+                writeGenerationReport(moduleID, report, reportPath);
+            } catch (KubernetesPluginException e) {
+                String errorMessage = "module [" + moduleID + "] " + e.getMessage();
+                printError(errorMessage);
+                pluginLog.error(errorMessage, e);
+                // In incremental mode the output of the last successful build is kept. Only the staging
+                // directory is removed.
+                if (!incremental) {
                     try {
                         KubernetesUtils.deleteDirectory(kubernetesOutputPath);
                     } catch (KubernetesPluginException ignored) {
                         //ignored
                     }
                 }
-            } else {
-                printError("error in resolving docker generation location.");
-                pluginLog.error("error in resolving docker generation location.");
+            } finally {
+                if (stagingPath != null) {
+                    dataHolder.setK8sArtifactStagingPath(null);
+                    try {
+                        KubernetesUtils.deleteDirectory(stagingPath);
+                    } catch (KubernetesPluginException ignored) {
+                        //ignored
+                    }
+                }
             }
+        } else {
+            printError("error in resolving docker generation location.");
+            pluginLog.error("error in resolving docker generation location.");
         }
     }
 
-    private void validateDeploymentDependencies() throws KubernetesPluginException {
+    /**
+     * Create the queue which builds the docker images of the modules concurrently if
+     * {@value KubernetesConstants#DOCKER_BUILD_PARALLELISM} is set. The value is the maximum number of images built
+     * at a time. Without it the image of each module is built while its artifacts are generated.
+     */
+    private void initDockerImageBuildQueue() {
         KubernetesContext context = KubernetesContext.getInstance();
-        Map<PackageID, KubernetesDataHolder> packageToDataHolderMap = context.getPackageIDtoDataHolderMap();
-        DependencyValidator dependencyValidator = new DependencyValidator();
-        for (KubernetesDataHolder dataHolder : packageToDataHolderMap.values()) {
-            //add other dependent deployments
-            List<String> dependencies = new ArrayList<>();
-            //add the current deployment as 0th element
-            String currentDeployment = dataHolder.getDeploymentModel().getName();
-            if (currentDeployment == null) {
-                return;
+        String parallelism = System.getenv(DOCKER_BUILD_PARALLELISM);
+        if (null != context.getDockerImageBuildQueue() || KubernetesUtils.isBlank(parallelism)) {
+            return;
+        }
+        try {
+            context.setDockerImageBuildQueue(new DockerImageBuildQueue(
+                    Math.max(1, Integer.parseInt(parallelism.trim())), System.out));
+            // The compiler does not generate the remaining modules after a compilation error, hence the queue may not
+            // be drained after the last module. The images are built on daemon threads, which would be dropped when
+            // the JVM exits.
+            dockerImageBuildHook = new Thread(() -> drainDockerImageBuildQueue(), "docker-image-build-hook");
+            Runtime.getRuntime().addShutdownHook(dockerImageBuildHook);
+        } catch (NumberFormatException e) {
+            printWarning("invalid value '" + parallelism + "' for " + DOCKER_BUILD_PARALLELISM +
+                    ". building docker images sequentially.");
+        }
+    }
+
+    /**
+     * Wait for the queued docker images of all the modules to be built and fail the compilation if an image could not
+     * be built or pushed.
+     */
+    private void awaitDockerImageBuilds() {
+        if (null != dockerImageBuildHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(dockerImageBuildHook);
+            } catch (IllegalStateException ignored) {
+                // The JVM is shutting down and the hook drains the queue.
             }
-            dependencies.add(currentDeployment);
-            Set<String> dependsOn = dataHolder.getDeploymentModel().getDependsOn();
-            for (String listenerName : dependsOn) {
-                String dependentDeployment = context.getDeploymentNameFromListener(listenerName);
-                if (dependentDeployment == null) {
-                    return;
+            dockerImageBuildHook = null;
+        }
+        int failedBuilds = drainDockerImageBuildQueue();
+        if (failedBuilds > 0) {
+            throw new BLangCompilerException(failedBuilds + " docker image(s) failed to build or push.");
+        }
+    }
+
+    /**
+     * Wait for the queued docker images to be built, print the errors and the time taken by each image and close the
+     * queue.
+     *
+     * @return Number of images which could not be built or pushed.
+     */
+    private int drainDockerImageBuildQueue() {
+        DockerImageBuildQueue dockerImageBuildQueue = KubernetesContext.getInstance().removeDockerImageBuildQueue();
+        if (null == dockerImageBuildQueue) {
+            return 0;
+        }
+        int failedBuilds = 0;
+        try (DockerImageBuildQueue queue = dockerImageBuildQueue) {
+            List<DockerImageBuildQueue.ImageBuild> imageBuilds = queue.await();
+            for (DockerImageBuildQueue.ImageBuild imageBuild : imageBuilds) {
+                if (null != imageBuild.getError()) {
+                    failedBuilds++;
+                    String errorMessage = "module [" + imageBuild.getModule() + "] " +
+                            imageBuild.getError().getMessage();
+                    printError(errorMessage);
+                    pluginLog.error(errorMessage, imageBuild.getError());
                 }
-                if (!dependentDeployment.equals(currentDeployment)) {
-                    dependencies.add(dependentDeployment);
-                } else {
-                    // Listener is in the same package.
-                    throw new KubernetesPluginException("@kubernetes:Deployment{} contains cyclic dependencies");
+            }
+            if (!imageBuilds.isEmpty()) {
+                printInfo(queue.getSummary(imageBuilds));
+            }
+        } catch (IOException e) {
+            printWarning("unable to close docker client: " + e.getMessage());
+            pluginLog.warn("unable to close docker client", e);
+        }
+        return failedBuilds;
+    }
+
+    /**
+     * Start timing the processing of an annotation in the report of the current module.
+     *
+     * @param annotationKey Name of the annotation.
+     * @return Timer of the annotation phase.
+     */
+    private GenerationReport.PhaseTimer startAnnotationPhase(String annotationKey) {
+        return KubernetesContext.getInstance().getDataHolder().getGenerationReport()
+                .startPhase(GenerationReport.ANNOTATION_PHASE_PREFIX + annotationKey);
+    }
+
+    /**
+     * Write the time taken by each phase to the report file and print a summary if
+     * {@value KubernetesConstants#GENERATION_REPORT_SUMMARY} is set to true. The report is written outside the artifact
+     * output directory as it changes on every build while the artifacts do not.
+     *
+     * @param moduleID   The module.
+     * @param report     Timings of the module.
+     * @param reportPath Directory of the report of the module.
+     */
+    private void writeGenerationReport(PackageID moduleID, GenerationReport report, Path reportPath) {
+        Path reportFile = reportPath.resolve(GENERATION_REPORT_FILE_NAME);
+        try {
+            report.write(reportFile, moduleID.toString(), getPluginVersion());
+        } catch (IOException e) {
+            printWarning("unable to write generation report: " + e.getMessage());
+            pluginLog.warn("unable to write generation report", e);
+        }
+        if (Boolean.parseBoolean(System.getenv(GENERATION_REPORT_SUMMARY))) {
+            printInfo(report.getSummary(moduleID.toString()));
+        }
+    }
+
+    /**
+     * Check whether artifacts should be generated incrementally. When enabled only the artifacts which changed since
+     * the previous build are written to the output directory.
+     *
+     * @return True if {@value KubernetesConstants#INCREMENTAL_GENERATION} is set to true.
+     */
+    private boolean isIncrementalGeneration() {
+        return Boolean.parseBoolean(System.getenv(INCREMENTAL_GENERATION));
+    }
+
+    /**
+     * Create a directory to generate the artifacts before moving them to the output directory. The directory is
+     * created next to the output directory so that the artifacts can be moved atomically.
+     *
+     * @param kubernetesOutputPath Artifact output directory.
+     * @return The staging directory.
+     * @throws KubernetesPluginException If the directory cannot be created.
+     */
+    private Path createStagingDirectory(Path kubernetesOutputPath) throws KubernetesPluginException {
+        try {
+            Path parent = kubernetesOutputPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            return Files.createTempDirectory(parent, "." + kubernetesOutputPath.getFileName() + "-");
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to create staging directory for kubernetes artifacts", e);
+        }
+    }
+
+    private String getPluginVersion() {
+        String version = KubernetesPlugin.class.getPackage().getImplementationVersion();
+        return version == null ? "unknown" : version;
+    }
+
+    /**
+     * Validate the dependencies between the modules and store the order in which the modules should be deployed.
+     * The graph is built from the annotations of all the modules, which are processed before any artifact is
+     * generated, hence it is built once per compilation and the result is reused for the other modules.
+     *
+     * @throws KubernetesPluginException If a dependency cannot be resolved or the dependencies contain a cycle.
+     */
+    private void validateDeploymentDependencies() throws KubernetesPluginException {
+        KubernetesContext context = KubernetesContext.getInstance();
+        if (null == context.getDeploymentOrder() && null == context.getDependencyError()) {
+            try {
+                DependencyValidator dependencyValidator = new DependencyValidator();
+                for (Map.Entry<PackageID, KubernetesDataHolder> dataHolder :
+                        context.getPackageIDtoDataHolderMap().entrySet()) {
+                    if (!dataHolder.getValue().isCanProcess()) {
+                        continue;
+                    }
+                    List<String> dependencies = new ArrayList<>();
+                    for (String listenerName : dataHolder.getValue().getDeploymentModel().getDependsOn()) {
+                        dependencies.add(context.getModuleNameFromListener(listenerName));
+                    }
+                    dependencyValidator.addDependencies(dataHolder.getKey().name.value, dependencies);
                 }
+                context.setDeploymentOrder(dependencyValidator.getDeploymentOrder());
+            } catch (KubernetesPluginException e) {
+                context.setDependencyError(e.getMessage());
             }
-            String[] array = dependencies.toArray(new String[0]);
-            if (!dependencyValidator.validateDependency(array)) {
-                throw new KubernetesPluginException("@kubernetes:Deployment{} contains cyclic dependencies");
+        }
+        if (null != context.getDependencyError()) {
+            throw new KubernetesPluginException(context.getDependencyError());
+        }
+    }
+
+    /**
+     * Print the commands to deploy the modules in the order of their dependencies, if a deployment depends on the
+     * listeners of other modules.
+     */
+    private void printDeploymentOrder() {
+        KubernetesContext context = KubernetesContext.getInstance();
+        List<String> deploymentOrder = context.getDeploymentOrder();
+        boolean hasDependencies = context.getPackageIDtoDataHolderMap().values().stream()
+                .anyMatch(dataHolder -> dataHolder.isCanProcess() &&
+                        !dataHolder.getDeploymentModel().getDependsOn().isEmpty());
+        if (null == deploymentOrder || !hasDependencies) {
+            return;
+        }
+        printInstruction("\tExecute the below commands to deploy the modules in the order of their dependencies: ");
+        for (String moduleName : deploymentOrder) {
+            for (PackageID packageID : context.getPackageIDs(moduleName)) {
+                KubernetesDataHolder dataHolder = context.getDataHolder(packageID);
+                if (dataHolder.isCanProcess() && null != dataHolder.getK8sArtifactOutputPath()) {
+                    printInstruction("\tkubectl apply -f " + dataHolder.getK8sArtifactOutputPath().toAbsolutePath());
+                }
             }
         }
+        printInstruction("");
     }
 }
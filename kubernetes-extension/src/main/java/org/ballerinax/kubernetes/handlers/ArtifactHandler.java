@@ -26,7 +26,7 @@ import java.io.PrintStream;
  * Artifact generator interface.
  */
 public interface ArtifactHandler {
-    PrintStream OUT = System.out;
+    PrintStream OUT = new PrintStream(new ArtifactHandlerOutput(System.out), true);
 
     void createArtifacts() throws KubernetesPluginException;
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.ballerinax.kubernetes.utils.GenerationReport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executes artifact handlers according to the dependencies between them.
+ * <p>
+ * A handler can only depend on handlers which are already added, hence the order of registration is always a valid
+ * execution order and is the order used when running sequentially. When the executor has an artifact sink, the content
+ * written by each handler is ordered by the order of registration, hence the generated files do not depend on the
+ * order in which concurrent handlers complete.
+ */
+public class ArtifactHandlerExecutor {
+    private final Map<String, ArtifactHandler> handlers = new LinkedHashMap<>();
+    private final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+    private final GenerationReport report;
+    private final ArtifactSink artifactSink;
+
+    public ArtifactHandlerExecutor() {
+        this(null);
+    }
+
+    /**
+     * Create an executor which records the time taken by each handler.
+     *
+     * @param report Report to record the time taken by the handlers. Can be null.
+     */
+    public ArtifactHandlerExecutor(GenerationReport report) {
+        this(report, null);
+    }
+
+    /**
+     * Create an executor which records the time taken by each handler and orders the content written by the handlers.
+     *
+     * @param report       Report to record the time taken by the handlers. Can be null.
+     * @param artifactSink Sink the handlers write the artifacts to. Can be null.
+     */
+    public ArtifactHandlerExecutor(GenerationReport report, ArtifactSink artifactSink) {
+        this.report = report;
+        this.artifactSink = artifactSink;
+    }
+
+    /**
+     * Register an artifact handler.
+     *
+     * @param name      Unique name of the handler.
+     * @param handler   The handler.
+     * @param dependsOn Names of the handlers which should complete before this handler.
+     * @return This executor.
+     */
+    public ArtifactHandlerExecutor addHandler(String name, ArtifactHandler handler, String... dependsOn) {
+        if (handlers.containsKey(name)) {
+            throw new IllegalArgumentException("artifact handler '" + name + "' is already added");
+        }
+        for (String dependency : dependsOn) {
+            if (!handlers.containsKey(dependency)) {
+                throw new IllegalArgumentException("artifact handler '" + name + "' depends on unknown handler '" +
+                        dependency + "'");
+            }
+        }
+        handlers.put(name, handler);
+        dependencies.put(name, Arrays.asList(dependsOn));
+        return this;
+    }
+
+    /**
+     * Execute the handlers one after the other in the order they were added.
+     *
+     * @throws KubernetesPluginException If a handler fails.
+     */
+    public void executeSequentially() throws KubernetesPluginException {
+        for (Map.Entry<String, ArtifactHandler> handler : handlers.entrySet()) {
+            execute(handler.getKey(), handler.getValue());
+        }
+    }
+
+    /**
+     * Execute the handlers on a bounded pool. A handler starts once all the handlers it depends on have completed.
+     * Handlers depending on a failed handler are not executed. The output of each handler is printed once it completes.
+     *
+     * @param parallelism Maximum number of handlers running at the same time.
+     * @throws KubernetesPluginException The error of the first failed handler in the order they were added.
+     */
+    public void executeConcurrently(int parallelism) throws KubernetesPluginException {
+        if (parallelism <= 1 || handlers.size() <= 1) {
+            executeSequentially();
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, handlers.size()));
+        try {
+            Map<String, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+            for (Map.Entry<String, ArtifactHandler> handler : handlers.entrySet()) {
+                List<CompletableFuture<Void>> dependentTasks = new ArrayList<>();
+                for (String dependency : dependencies.get(handler.getKey())) {
+                    dependentTasks.add(tasks.get(dependency));
+                }
+                String name = handler.getKey();
+                ArtifactHandler artifactHandler = handler.getValue();
+                CompletableFuture<Void> task = CompletableFuture
+                        .allOf(dependentTasks.toArray(new CompletableFuture<?>[0]))
+                        .thenRunAsync(() -> {
+                            // The output of the handler is printed once it completes.
+                            ArtifactHandlerOutput.startBuffering();
+                            try {
+                                execute(name, artifactHandler);
+                            } catch (KubernetesPluginException e) {
+                                throw new CompletionException(e);
+                            } finally {
+                                ArtifactHandlerOutput.printBuffered(System.out);
+                            }
+                        }, executor);
+                tasks.put(handler.getKey(), task);
+            }
+
+            Throwable failure = null;
+            for (CompletableFuture<Void> task : tasks.values()) {
+                try {
+                    task.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+            if (failure instanceof KubernetesPluginException) {
+                throw (KubernetesPluginException) failure;
+            } else if (failure != null) {
+                throw new KubernetesPluginException("error occurred while generating artifacts: " +
+                        failure.getMessage(), failure);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(String name, ArtifactHandler handler) throws KubernetesPluginException {
+        if (artifactSink == null) {
+            executeTimed(name, handler);
+            return;
+        }
+        artifactSink.setWriteOrder(new ArrayList<>(handlers.keySet()).indexOf(name));
+        try {
+            executeTimed(name, handler);
+        } finally {
+            artifactSink.clearWriteOrder();
+        }
+    }
+
+    private void executeTimed(String name, ArtifactHandler handler) throws KubernetesPluginException {
+        if (report == null) {
+            handler.createArtifacts();
+            return;
+        }
+        GenerationReport.PhaseTimer timer = report.startPhase(GenerationReport.HANDLER_PHASE_PREFIX + name);
+        try {
+            handler.createArtifacts();
+        } finally {
+            timer.stop();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Output of the artifact handlers. The output of a handler running on a thread which buffers its output is kept until
+ * the handler completes, so that the progress lines of handlers running concurrently do not interleave.
+ */
+class ArtifactHandlerOutput extends OutputStream {
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER = new ThreadLocal<>();
+    private final PrintStream out;
+
+    ArtifactHandlerOutput(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Buffer the output written by the current thread.
+     */
+    static void startBuffering() {
+        BUFFER.set(new ByteArrayOutputStream());
+    }
+
+    /**
+     * Print the output buffered by the current thread at once and stop buffering.
+     *
+     * @param out Stream to print the buffered output to.
+     */
+    static void printBuffered(PrintStream out) {
+        ByteArrayOutputStream buffer = BUFFER.get();
+        BUFFER.remove();
+        if (null != buffer && buffer.size() > 0) {
+            synchronized (out) {
+                out.write(buffer.toByteArray(), 0, buffer.size());
+                out.flush();
+            }
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ByteArrayOutputStream buffer = BUFFER.get();
+        if (null != buffer) {
+            buffer.write(b);
+        } else {
+            out.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ByteArrayOutputStream buffer = BUFFER.get();
+        if (null != buffer) {
+            buffer.write(bytes, offset, length);
+        } else {
+            out.write(bytes, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (null == BUFFER.get()) {
+            out.flush();
+        }
+    }
+}
@@ -19,30 +19,41 @@
 package org.ballerinax.kubernetes.handlers;
 
 
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.HTTPGetAction;
+import io.fabric8.kubernetes.api.model.HTTPGetActionBuilder;
+import io.fabric8.kubernetes.api.model.HTTPHeader;
+import io.fabric8.kubernetes.api.model.PodAffinityTerm;
+import io.fabric8.kubernetes.api.model.Lifecycle;
+import io.fabric8.kubernetes.api.model.LifecycleBuilder;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import io.fabric8.kubernetes.api.model.TCPSocketAction;
 import io.fabric8.kubernetes.api.model.TCPSocketActionBuilder;
 import io.fabric8.kubernetes.api.model.Toleration;
 import io.fabric8.kubernetes.api.model.TolerationBuilder;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ConfigMapModel;
+import org.ballerinax.kubernetes.models.DependencyWaitModel;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
@@ -51,6 +62,8 @@ import org.ballerinax.kubernetes.models.PodTolerationModel;
 import org.ballerinax.kubernetes.models.ProbeModel;
 import org.ballerinax.kubernetes.models.SecretModel;
 import org.ballerinax.kubernetes.models.ServiceAccountTokenModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.ShutdownModel;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
@@ -59,21 +72,29 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static org.ballerinax.docker.generator.DockerGenConstants.REGISTRY_SEPARATOR;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.DEPENDENCY_WAIT_CONTAINER_NAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.DEPLOYMENT_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.EXECUTABLE_JAR;
 import static org.ballerinax.kubernetes.KubernetesConstants.OPENSHIFT_BUILD_CONFIG_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.addJvmOptions;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getJvmOptions;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.populateEnvVar;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.validateUrlPath;
 
 /**
  * Generates kubernetes deployment from annotations.
  */
 public class DeploymentHandler extends AbstractArtifactHandler {
+    private static final int DEFAULT_DRAIN_DELAY_SECONDS = 5;
+    private static final int DEFAULT_PROBE_FAILURE_THRESHOLD = 3;
+    private static final int DEFAULT_SHUTDOWN_SECONDS = 30;
 
     private List<ContainerPort> populatePorts(Set<Integer> ports) {
         List<ContainerPort> containerPorts = new ArrayList<>();
@@ -123,23 +144,88 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return volumeMounts;
     }
 
+    /**
+     * Generate an init container which waits for all the services the deployment depends on concurrently.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Init containers.
+     * @throws KubernetesPluginException If a dependent listener is not annotated with a service.
+     */
     private List<Container> generateInitContainer(DeploymentModel deploymentModel) throws KubernetesPluginException {
         List<Container> initContainers = new ArrayList<>();
-        for (String dependsOn : deploymentModel.getDependsOn()) {
-            String serviceName = KubernetesContext.getInstance().getServiceName(dependsOn);
-            List<String> commands = new ArrayList<>();
-            commands.add("sh");
-            commands.add("-c");
-            commands.add("until nslookup " + serviceName + "; do echo waiting for " + serviceName + "; sleep 2; done;");
-            initContainers.add(new ContainerBuilder()
-                    .withName("wait-for-" + serviceName)
-                    .withImage("busybox")
-                    .withCommand(commands)
-                    .build());
+        if (deploymentModel.getDependsOn().isEmpty()) {
+            return initContainers;
         }
+        DependencyWaitModel dependencyWait = deploymentModel.getDependencyWait();
+        List<String> commands = new ArrayList<>();
+        commands.add("sh");
+        commands.add("-c");
+        commands.add(generateDependencyWaitScript(dependencyWait,
+                new ArrayList<>(new TreeSet<>(deploymentModel.getDependsOn()))));
+        initContainers.add(new ContainerBuilder()
+                .withName(DEPENDENCY_WAIT_CONTAINER_NAME)
+                .withImage(dependencyWait.getImage())
+                .withCommand(commands)
+                .build());
         return initContainers;
     }
 
+    /**
+     * Generate a shell script which checks each dependency in a background job, retrying with an exponential
+     * backoff, and fails when a dependency is not ready within the timeout.
+     *
+     * @param dependencyWait Dependency wait configuration.
+     * @param dependencies   Listeners the deployment depends on.
+     * @return Shell script.
+     * @throws KubernetesPluginException If a dependent listener is not annotated with a service or the path of the
+     *                                   HTTP check cannot be quoted.
+     */
+    private String generateDependencyWaitScript(DependencyWaitModel dependencyWait, List<String> dependencies)
+            throws KubernetesPluginException {
+        StringBuilder script = new StringBuilder();
+        script.append("check() { ");
+        switch (dependencyWait.getMode()) {
+            case "dns":
+                script.append("nslookup \"$1\" > /dev/null 2>&1; }\n");
+                break;
+            case "http":
+                // The path is put within the double quotes of the script.
+                validateUrlPath("'path' of 'dependencyWait'", dependencyWait.getPath());
+                script.append("wget -q -T 2 -O /dev/null \"$3://$1:$2").append(dependencyWait.getPath())
+                        .append("\"; }\n");
+                break;
+            case "tcp":
+                script.append("nc -z -w 2 \"$1\" \"$2\"; }\n");
+                break;
+            default:
+                throw new KubernetesPluginException("unknown dependency wait mode found: " +
+                        dependencyWait.getMode());
+        }
+        script.append("wait_for() {\n")
+                .append("  delay=").append(dependencyWait.getInitialBackoffSeconds()).append("\n")
+                .append("  until check \"$1\" \"$2\" \"$3\"; do\n");
+        if (dependencyWait.getTimeoutSeconds() > 0) {
+            script.append("    if [ $(date +%s) -ge $deadline ]; then echo \"timed out waiting for $1\"; exit 1; fi\n");
+        }
+        script.append("    echo \"waiting for $1\"; sleep $delay\n")
+                .append("    delay=$((delay * 2)); if [ $delay -gt ").append(dependencyWait.getMaxBackoffSeconds())
+                .append(" ]; then delay=").append(dependencyWait.getMaxBackoffSeconds()).append("; fi\n")
+                .append("  done\n")
+                .append("  echo \"$1 is ready\"\n")
+                .append("}\n");
+        if (dependencyWait.getTimeoutSeconds() > 0) {
+            script.append("deadline=$(($(date +%s) + ").append(dependencyWait.getTimeoutSeconds()).append("))\n");
+        }
+        for (String dependsOn : dependencies) {
+            ServiceModel serviceModel = KubernetesContext.getInstance().getService(dependsOn);
+            String scheme = "https".equals(serviceModel.getProtocol()) ? "https" : "http";
+            script.append("wait_for ").append(serviceModel.getName()).append(" ").append(serviceModel.getPort())
+                    .append(" ").append(scheme).append(" & pids=\"$pids $!\"\n");
+        }
+        script.append("for pid in $pids; do wait $pid || exit 1; done\n");
+        return script.toString();
+    }
+
     private Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts)
             throws KubernetesPluginException {
         String dockerRegistry = deploymentModel.getRegistry();
@@ -180,9 +266,12 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withImagePullPolicy(deploymentModel.getImagePullPolicy())
                 .withPorts(containerPorts)
                 .withEnv(populateEnvVar(deploymentModel.getEnv()))
+                .withResources(deploymentModel.getResources())
                 .withVolumeMounts(populateVolumeMounts(deploymentModel))
                 .withLivenessProbe(generateProbe(deploymentModel.getLivenessProbe()))
                 .withReadinessProbe(generateProbe(deploymentModel.getReadinessProbe()))
+                .withStartupProbe(generateProbe(deploymentModel.getStartupProbe()))
+                .withLifecycle(generateLifecycle(deploymentModel.getShutdown()))
                 .build();
     }
 
@@ -247,14 +336,33 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         if (null == probeModel) {
             return null;
         }
-        TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
-                .withNewPort(probeModel.getPort())
-                .build();
-        return new ProbeBuilder()
+        ProbeBuilder probeBuilder = new ProbeBuilder()
                 .withInitialDelaySeconds(probeModel.getInitialDelaySeconds())
                 .withPeriodSeconds(probeModel.getPeriodSeconds())
-                .withTcpSocket(tcpSocketAction)
+                .withTimeoutSeconds(getPositiveValue(probeModel.getTimeoutSeconds()))
+                .withSuccessThreshold(getPositiveValue(probeModel.getSuccessThreshold()))
+                .withFailureThreshold(getPositiveValue(probeModel.getFailureThreshold()));
+        if (null == probeModel.getPath()) {
+            TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
+                    .withNewPort(probeModel.getPort())
+                    .build();
+            return probeBuilder.withTcpSocket(tcpSocketAction).build();
+        }
+        List<HTTPHeader> httpHeaders = new ArrayList<>();
+        if (null != probeModel.getHttpHeaders()) {
+            probeModel.getHttpHeaders().forEach((name, value) -> httpHeaders.add(new HTTPHeader(name, value)));
+        }
+        HTTPGetAction httpGetAction = new HTTPGetActionBuilder()
+                .withPath(probeModel.getPath())
+                .withNewPort(probeModel.getPort())
+                .withScheme(probeModel.getScheme())
+                .withHttpHeaders(httpHeaders.isEmpty() ? null : httpHeaders)
                 .build();
+        return probeBuilder.withHttpGet(httpGetAction).build();
+    }
+
+    private Integer getPositiveValue(int value) {
+        return value > 0 ? value : null;
     }
 
     private List<Toleration> populatePodTolerations(List<PodTolerationModel> podTolerationModels) {
@@ -278,6 +386,61 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return tolerations;
     }
 
+    /**
+     * Select the pods of the deployment in the pod affinity terms which do not select any pods.
+     *
+     * @param affinity Affinity of the pods.
+     * @return Affinity with the label selectors.
+     */
+    private Affinity populateAffinity(Affinity affinity) {
+        if (null == affinity) {
+            return null;
+        }
+        if (null != affinity.getPodAffinity()) {
+            populatePodAffinityTerms(affinity.getPodAffinity().getRequiredDuringSchedulingIgnoredDuringExecution(),
+                    affinity.getPodAffinity().getPreferredDuringSchedulingIgnoredDuringExecution());
+        }
+        if (null != affinity.getPodAntiAffinity()) {
+            populatePodAffinityTerms(
+                    affinity.getPodAntiAffinity().getRequiredDuringSchedulingIgnoredDuringExecution(),
+                    affinity.getPodAntiAffinity().getPreferredDuringSchedulingIgnoredDuringExecution());
+        }
+        return affinity;
+    }
+
+    private void populatePodAffinityTerms(List<PodAffinityTerm> requiredTerms,
+                                          List<WeightedPodAffinityTerm> preferredTerms) {
+        List<PodAffinityTerm> terms = new ArrayList<>(requiredTerms);
+        for (WeightedPodAffinityTerm preferredTerm : preferredTerms) {
+            terms.add(preferredTerm.getPodAffinityTerm());
+        }
+        for (PodAffinityTerm term : terms) {
+            if (null == term.getLabelSelector()) {
+                term.setLabelSelector(getSelector());
+            }
+        }
+    }
+
+    private List<TopologySpreadConstraint> populateTopologySpreadConstraints(
+            List<TopologySpreadConstraint> topologySpreadConstraints) {
+        if (topologySpreadConstraints.isEmpty()) {
+            return null;
+        }
+        for (TopologySpreadConstraint topologySpreadConstraint : topologySpreadConstraints) {
+            if (null == topologySpreadConstraint.getLabelSelector()) {
+                topologySpreadConstraint.setLabelSelector(getSelector());
+            }
+        }
+        return topologySpreadConstraints;
+    }
+
+    private LabelSelector getSelector() {
+        return new LabelSelectorBuilder()
+                .addToMatchLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY,
+                        extractJarName(dataHolder.getUberJarPath()))
+                .build();
+    }
+
     private List<LocalObjectReference> getImagePullSecrets(DeploymentModel deploymentModel) {
         List<LocalObjectReference> imagePullSecrets = new ArrayList<>();
         for (String imagePullSecret : deploymentModel.getImagePullSecrets()) {
@@ -286,6 +449,78 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return imagePullSecrets;
     }
 
+    /**
+     * Set the defaults of the graceful shutdown of the pods. The drain delay defaults to the time the readiness probe
+     * takes to fail, so that the pod is removed from the endpoints of its services and the load balancers before the
+     * container receives SIGTERM. The grace period leaves the container time to finish the in-flight requests after
+     * the drain delay.
+     *
+     * @param deploymentModel Deployment model.
+     * @throws KubernetesPluginException If the grace period is shorter than the drain delay or the port of the pre
+     *                                   stop request cannot be detected.
+     */
+    private void resolveShutdown(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        ShutdownModel shutdownModel = deploymentModel.getShutdown();
+        if (shutdownModel.getDrainDelaySeconds() == -1) {
+            int drainDelaySeconds = DEFAULT_DRAIN_DELAY_SECONDS;
+            ProbeModel readinessProbe = deploymentModel.getReadinessProbe();
+            if (null != readinessProbe) {
+                int failureThreshold = readinessProbe.getFailureThreshold() == -1 ?
+                        DEFAULT_PROBE_FAILURE_THRESHOLD : readinessProbe.getFailureThreshold();
+                drainDelaySeconds = Math.max(drainDelaySeconds, readinessProbe.getPeriodSeconds() * failureThreshold);
+            }
+            shutdownModel.setDrainDelaySeconds(drainDelaySeconds);
+        }
+        if (shutdownModel.getTerminationGracePeriodSeconds() == -1) {
+            shutdownModel.setTerminationGracePeriodSeconds(shutdownModel.getDrainDelaySeconds() +
+                    DEFAULT_SHUTDOWN_SECONDS);
+        } else if (shutdownModel.getTerminationGracePeriodSeconds() <= shutdownModel.getDrainDelaySeconds()) {
+            throw new KubernetesPluginException("'terminationGracePeriodSeconds' of 'shutdown' should be greater " +
+                    "than 'drainDelaySeconds' as the container is killed before it receives SIGTERM otherwise");
+        }
+        if (null != shutdownModel.getPreStopPath() && shutdownModel.getPreStopPort() == 0) {
+            if (deploymentModel.getPorts().size() == 0) {
+                throw new KubernetesPluginException("unable to detect port for pre stop request. " +
+                        "missing @kubernetes:Service annotation on listener.");
+            }
+            shutdownModel.setPreStopPort(deploymentModel.getPorts().iterator().next());
+        }
+    }
+
+    /**
+     * Generate a pre stop hook which calls the pre stop path of the container, if any, and waits for the drain delay.
+     *
+     * @param shutdownModel Shutdown model.
+     * @return Lifecycle of the container or null if graceful shutdown is disabled.
+     */
+    private Lifecycle generateLifecycle(ShutdownModel shutdownModel) {
+        if (null == shutdownModel) {
+            return null;
+        }
+        List<String> command = new ArrayList<>();
+        if (null == shutdownModel.getPreStopPath()) {
+            command.add("sleep");
+            command.add(String.valueOf(shutdownModel.getDrainDelaySeconds()));
+        } else {
+            String url = "\"http://localhost:" + shutdownModel.getPreStopPort() + shutdownModel.getPreStopPath() + "\"";
+            command.add("sh");
+            command.add("-c");
+            command.add("wget -q -T 2 -O /dev/null " + url + " || curl -s -m 2 -o /dev/null " + url + "; sleep " +
+                    shutdownModel.getDrainDelaySeconds());
+        }
+        return new LifecycleBuilder()
+                .withNewPreStop()
+                .withNewExec()
+                .withCommand(command)
+                .endExec()
+                .endPreStop()
+                .build();
+    }
+
+    private Long getTerminationGracePeriodSeconds(ShutdownModel shutdownModel) {
+        return null == shutdownModel ? null : (long) shutdownModel.getTerminationGracePeriodSeconds();
+    }
+
     /**
      * Generate kubernetes deployment definition from annotation.
      *
@@ -318,20 +553,23 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .endMetadata()
                 .withNewSpec()
                 .withServiceAccountName(deploymentModel.getServiceAccountName())
+                .withTerminationGracePeriodSeconds(getTerminationGracePeriodSeconds(deploymentModel.getShutdown()))
                 .withContainers(container)
                 .withImagePullSecrets(getImagePullSecrets(deploymentModel))
                 .withInitContainers(generateInitContainer(deploymentModel))
                 .withVolumes(populateVolume(deploymentModel))
                 .withTolerations(populatePodTolerations(deploymentModel.getPodTolerations()))
                 .withNodeSelector(deploymentModel.getNodeSelector())
+                .withAffinity(populateAffinity(deploymentModel.getAffinity()))
+                .withTopologySpreadConstraints(populateTopologySpreadConstraints(
+                        deploymentModel.getTopologySpreadConstraints()))
                 .endSpec()
                 .endTemplate()
                 .endSpec()
                 .build();
 
         try {
-            String deploymentContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(deployment);
-            KubernetesUtils.writeToFile(deploymentContent, DEPLOYMENT_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(deployment, DEPLOYMENT_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for deployment: " + deploymentModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -363,6 +601,26 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 }
                 deploymentModel.getReadinessProbe().setPort(deploymentModel.getPorts().iterator().next());
             }
+
+            if (null != deploymentModel.getStartupProbe() && deploymentModel.getStartupProbe().getPort() == 0) {
+                //set first port as startup port
+                if (deploymentModel.getPorts().size() == 0) {
+                    throw new KubernetesPluginException("unable to detect port for startup probe. " +
+                            "missing @kubernetes:Service annotation on listener.");
+                }
+                deploymentModel.getStartupProbe().setPort(deploymentModel.getPorts().iterator().next());
+            }
+            if (null != deploymentModel.getShutdown()) {
+                resolveShutdown(deploymentModel);
+            }
+            if (null != deploymentModel.getJvm()) {
+                // JAVA_TOOL_OPTIONS is read by the JVM itself, hence it also applies to user defined cmds.
+                String jvmOptions = getJvmOptions(deploymentModel.getJvm(), deploymentModel.getResources(),
+                        deploymentModel.getBaseImage());
+                if (!isBlank(jvmOptions)) {
+                    deploymentModel.setEnv(addJvmOptions(deploymentModel.getEnv(), jvmOptions));
+                }
+            }
             generate(deploymentModel);
             OUT.println();
             OUT.print("\t@kubernetes:Deployment \t\t\t - complete 1/1");
@@ -405,6 +663,10 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         dockerModel.setJarFileName(extractJarName(this.dataHolder.getUberJarPath()) + EXECUTABLE_JAR);
         dockerModel.setPorts(deploymentModel.getPorts());
         dockerModel.setUberJar(deploymentModel.isUberJar());
+        dataHolder.setLayeredImage(deploymentModel.isLayeredImage());
+        dataHolder.setAppCds(deploymentModel.getAppCds());
+        dataHolder.setBuildCache(deploymentModel.getBuildCache());
+        dataHolder.setDaemonless(deploymentModel.isDaemonless());
         dockerModel.setService(true);
         dockerModel.setDockerHost(deploymentModel.getDockerHost());
         dockerModel.setDockerCertPath(deploymentModel.getDockerCertPath());
@@ -15,27 +15,48 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.ballerinax.kubernetes.handlers;
 
-import org.ballerinax.docker.generator.DockerArtifactHandler;
-import org.ballerinax.docker.generator.exceptions.DockerGenException;
+import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.utils.DockerArtifactCustomizer;
+import org.ballerinax.kubernetes.utils.DockerImageBuildQueue;
+import org.ballerinax.kubernetes.utils.DockerImageLayers;
+
+import java.nio.file.Paths;
 
 /**
  * Wrapper handler for creating docker artifacts.
  */
 public class DockerHandler extends AbstractArtifactHandler {
+    private static final String LOG_APPENDER = "\t@kubernetes:Docker \t\t\t";
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
-        try {
-            // Generate docker artifacts
-            DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(dataHolder.getDockerModel());
-            OUT.println();
-            dockerArtifactHandler.createArtifacts(OUT, "\t@kubernetes:Docker \t\t\t", dataHolder.getUberJarPath(),
+        DockerModel dockerModel = dataHolder.getDockerModel();
+        DockerArtifactCustomizer dockerArtifactCustomizer = new DockerArtifactCustomizer(dockerModel, LOG_APPENDER);
+        if (dataHolder.isLayeredImage()) {
+            String ballerinaHome = System.getProperty("ballerina.home");
+            DockerImageLayers layers = new DockerImageLayers(null == ballerinaHome ? null :
+                    Paths.get(ballerinaHome), dataHolder.getSourceRoot());
+            layers.addAll(dockerModel.getDependencyJarPaths());
+            dockerArtifactCustomizer.setLayers(layers);
+        }
+        dockerArtifactCustomizer.setAppCds(dataHolder.getAppCds());
+        dockerArtifactCustomizer.setBuildCache(dataHolder.getBuildCache());
+        dockerArtifactCustomizer.setDaemonless(dataHolder.isDaemonless());
+        OUT.println();
+        DockerImageBuildQueue dockerImageBuildQueue = KubernetesContext.getInstance().getDockerImageBuildQueue();
+        if (null != dockerImageBuildQueue && dockerModel.isBuildImage()) {
+            // The image is built along with the images of the other modules once the artifacts are generated.
+            dockerArtifactCustomizer.generateArtifacts(OUT, dataHolder.getUberJarPath(),
+                    dataHolder.getDockerArtifactOutputPath());
+            dockerImageBuildQueue.submit(dataHolder.getPackageID().toString(), dockerArtifactCustomizer,
                     dataHolder.getDockerArtifactOutputPath());
-        } catch (DockerGenException e) {
-            throw new KubernetesPluginException(e.getMessage(), e);
+            return;
         }
+        dockerArtifactCustomizer.createArtifacts(OUT, dataHolder.getUberJarPath(),
+                dataHolder.getDockerArtifactOutputPath());
     }
 }
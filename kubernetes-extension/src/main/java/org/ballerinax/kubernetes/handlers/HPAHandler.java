@@ -24,14 +24,19 @@ import io.fabric8.kubernetes.api.model.MetricSpec;
 import io.fabric8.kubernetes.api.model.MetricSpecBuilder;
 import io.fabric8.kubernetes.api.model.MetricTarget;
 import io.fabric8.kubernetes.api.model.MetricTargetBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.ScalingRulesModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.HPA_FILE_POSTFIX;
@@ -43,6 +48,7 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
  * Generates kubernetes Horizontal Pod Autoscaler from annotations.
  */
 public class HPAHandler extends AbstractArtifactHandler {
+    private static final int DEFAULT_CPU_PERCENTAGE = 50;
 
     private void generate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
         HorizontalPodAutoscaler horizontalPodAutoscaler = new HorizontalPodAutoscalerBuilder()
@@ -54,21 +60,39 @@ public class HPAHandler extends AbstractArtifactHandler {
                 .withNewSpec()
                 .withMaxReplicas(podAutoscalerModel.getMaxReplicas())
                 .withMinReplicas(podAutoscalerModel.getMinReplicas())
-                .withMetrics(generateTargetCPUUtilizationPercentage(podAutoscalerModel.getCpuPercentage()))
+                .withMetrics(generateMetrics(podAutoscalerModel))
                 .withNewScaleTargetRef("apps/v1", "Deployment", podAutoscalerModel.getDeployment())
                 .endSpec()
                 .build();
+        if (null != podAutoscalerModel.getScaleUp() || null != podAutoscalerModel.getScaleDown()) {
+            // The kubernetes model does not include the behavior of autoscaling/v2beta2 added in kubernetes 1.18.
+            horizontalPodAutoscaler.getSpec().setAdditionalProperty("behavior", generateBehavior(podAutoscalerModel));
+        }
         try {
-            String serviceContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(horizontalPodAutoscaler);
-            KubernetesUtils.writeToFile(serviceContent, HPA_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(horizontalPodAutoscaler, HPA_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for autoscaler: " + podAutoscalerModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
         }
     }
     
-    private MetricSpec generateTargetCPUUtilizationPercentage(int percentage) {
-        MetricTarget cpuMetricTarget = new MetricTargetBuilder()
+    private List<MetricSpec> generateMetrics(PodAutoscalerModel podAutoscalerModel) {
+        List<MetricSpec> metrics = new ArrayList<>();
+        if (podAutoscalerModel.getCpuPercentage() > 0) {
+            metrics.add(generateTargetUtilizationPercentage("cpu", podAutoscalerModel.getCpuPercentage()));
+        }
+        if (podAutoscalerModel.getMemoryPercentage() > 0) {
+            metrics.add(generateTargetUtilizationPercentage("memory", podAutoscalerModel.getMemoryPercentage()));
+        }
+        metrics.addAll(podAutoscalerModel.getMetrics());
+        if (metrics.isEmpty()) {
+            metrics.add(generateTargetUtilizationPercentage("cpu", DEFAULT_CPU_PERCENTAGE));
+        }
+        return metrics;
+    }
+
+    private MetricSpec generateTargetUtilizationPercentage(String resource, int percentage) {
+        MetricTarget metricTarget = new MetricTargetBuilder()
                 .withType("Utilization")
                 .withAverageUtilization(percentage)
                 .build();
@@ -76,12 +100,45 @@ public class HPAHandler extends AbstractArtifactHandler {
         return new MetricSpecBuilder()
                 .withType("Resource")
                 .withNewResource()
-                .withName("cpu")
-                .withTarget(cpuMetricTarget)
+                .withName(resource)
+                .withTarget(metricTarget)
                 .endResource()
                 .build();
     }
 
+    private Map<String, Object> generateBehavior(PodAutoscalerModel podAutoscalerModel) {
+        Map<String, Object> behavior = new LinkedHashMap<>();
+        if (null != podAutoscalerModel.getScaleUp()) {
+            behavior.put("scaleUp", generateScalingRules(podAutoscalerModel.getScaleUp()));
+        }
+        if (null != podAutoscalerModel.getScaleDown()) {
+            behavior.put("scaleDown", generateScalingRules(podAutoscalerModel.getScaleDown()));
+        }
+        return behavior;
+    }
+
+    private Map<String, Object> generateScalingRules(ScalingRulesModel scalingRulesModel) {
+        Map<String, Object> scalingRules = new LinkedHashMap<>();
+        if (scalingRulesModel.getStabilizationWindowSeconds() >= 0) {
+            scalingRules.put("stabilizationWindowSeconds", scalingRulesModel.getStabilizationWindowSeconds());
+        }
+        if (null != scalingRulesModel.getSelectPolicy()) {
+            scalingRules.put("selectPolicy", scalingRulesModel.getSelectPolicy());
+        }
+        if (!scalingRulesModel.getPolicies().isEmpty()) {
+            List<Map<String, Object>> policies = new ArrayList<>();
+            for (ScalingRulesModel.ScalingPolicyModel policyModel : scalingRulesModel.getPolicies()) {
+                Map<String, Object> policy = new LinkedHashMap<>();
+                policy.put("type", policyModel.getType());
+                policy.put("value", policyModel.getValue());
+                policy.put("periodSeconds", policyModel.getPeriodSeconds());
+                policies.add(policy);
+            }
+            scalingRules.put("policies", policies);
+        }
+        return scalingRules;
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
@@ -101,8 +158,19 @@ public class HPAHandler extends AbstractArtifactHandler {
         if (podAutoscalerModel.getName() == null || podAutoscalerModel.getName().length() == 0) {
             podAutoscalerModel.setName(getValidName(balxFileName) + HPA_POSTFIX);
         }
+        if (podAutoscalerModel.getMemoryPercentage() > 0 && !hasMemoryRequest(deploymentModel)) {
+            throw new KubernetesPluginException("memory utilization of @kubernetes:HPA{} requires a memory request " +
+                    "or limit in the 'resources' of @kubernetes:Deployment{}");
+        }
         generate(podAutoscalerModel);
         OUT.println();
         OUT.print("\t@kubernetes:HPA \t\t\t - complete 1/1");
     }
+
+    private boolean hasMemoryRequest(DeploymentModel deploymentModel) {
+        ResourceRequirements resources = deploymentModel.getResources();
+        // The request defaults to the limit when only the limit is set.
+        return null != resources && ((null != resources.getRequests() && resources.getRequests().containsKey("memory"))
+                || (null != resources.getLimits() && resources.getLimits().containsKey("memory")));
+    }
 }
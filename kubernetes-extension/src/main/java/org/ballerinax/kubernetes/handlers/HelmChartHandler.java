@@ -19,14 +19,12 @@ package org.ballerinax.kubernetes.handlers;
 
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
-import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.DumperOptions.FlowStyle;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.File;
-import java.io.FileWriter;
-import java.io.FilenameFilter;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
@@ -55,31 +53,33 @@ public class HelmChartHandler extends AbstractArtifactHandler {
     public void createArtifacts() throws KubernetesPluginException {
         DeploymentModel model = this.dataHolder.getDeploymentModel();
         OUT.println();
-        Path helmBaseOutputDir = this.dataHolder.getK8sArtifactOutputPath();
+        Path helmBaseOutputDir = this.dataHolder.getK8sArtifactStagingPath();
         if (helmBaseOutputDir.endsWith("target" + File.separator + "kubernetes" + File.separator)) {
             helmBaseOutputDir = helmBaseOutputDir.resolve(extractJarName(this.dataHolder.getUberJarPath()));
         }
         helmBaseOutputDir = helmBaseOutputDir.resolve(model.getName());
-        String helmTemplatesOutputDir = helmBaseOutputDir + File.separator + HELM_CHART_TEMPLATES;
-        // Create the Helm templates directory
-        new File(helmTemplatesOutputDir).mkdirs();
         // Create the helm template files using the generated Kubernetes artifacts
-        this.copyKubernetesArtifactsToHelmTemplates(helmTemplatesOutputDir);
+        this.copyKubernetesArtifactsToHelmTemplates(helmBaseOutputDir.resolve(HELM_CHART_TEMPLATES));
         // Create the Chart.yaml
         this.generateChartYAML(helmBaseOutputDir);
         OUT.print("\t@kubernetes:Helm \t\t\t - complete 1/1");
     }
     
-    private void copyKubernetesArtifactsToHelmTemplates(String helmTemplatesOutputDir) 
+    private void copyKubernetesArtifactsToHelmTemplates(Path helmTemplatesOutputDir)
             throws KubernetesPluginException {
-        File dir = this.dataHolder.getK8sArtifactOutputPath().toFile();
-        File[] yamlFiles = dir.listFiles(new KubernetesArtifactsFileFilter());
-        if (yamlFiles == null) {
-            throw new KubernetesPluginException("kuberenetes artifacts not available to generate Helm templates");
-        }
-        for (File yamlFile : yamlFiles) {
-            KubernetesUtils.copyFileOrDirectory(yamlFile.getAbsolutePath(),
-                    helmTemplatesOutputDir + File.separator + yamlFile.getName());
+        ArtifactSink artifactSink = this.dataHolder.getArtifactSink();
+        try {
+            Map<String, String> artifacts = artifactSink.getArtifacts(this.dataHolder.getK8sArtifactStagingPath());
+            if (artifacts.isEmpty()) {
+                throw new KubernetesPluginException("kuberenetes artifacts not available to generate Helm templates");
+            }
+            for (Map.Entry<String, String> artifact : artifacts.entrySet()) {
+                if (artifact.getKey().toLowerCase(Locale.getDefault()).endsWith(YAML)) {
+                    artifactSink.write(helmTemplatesOutputDir.resolve(artifact.getKey()), artifact.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error in generating the Helm templates: " + e.getMessage(), e);
         }
     }
 
@@ -94,23 +94,12 @@ public class HelmChartHandler extends AbstractArtifactHandler {
         values.put(HELM_DESCRIPTION, "Helm chart for " + model.getName());
         values.put(HELM_NAME, model.getName());
         values.put(HELM_VERSION, model.getVersion() == null ? HELM_VERSION_DEFAULT : model.getVersion());
-        try (FileWriter writer = new FileWriter(helmBaseOutputDir.resolve(HELM_CHART_YAML_FILE_NAME).toString())) {
-            yaml.dump(values, writer);
+        try {
+            this.dataHolder.getArtifactSink().write(helmBaseOutputDir.resolve(HELM_CHART_YAML_FILE_NAME),
+                    yaml.dump(values));
         } catch (IOException e) {
             throw new KubernetesPluginException("error in generating the Helm chart: " + e.getMessage(), e);
         }
     }
-    
-    /**
-     * This class represents a {@link FilenameFilter} implementation to filter out Kubernetes artifacts.
-     */
-    private static class KubernetesArtifactsFileFilter implements FilenameFilter {
-        
-        @Override
-        public boolean accept(File dir, String name) {
-            return name.toLowerCase(Locale.getDefault()).endsWith(YAML);
-        }
-        
-    }
-    
+
 }
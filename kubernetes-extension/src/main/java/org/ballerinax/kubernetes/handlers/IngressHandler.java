@@ -26,7 +26,6 @@ import io.fabric8.kubernetes.api.model.extensions.IngressBackendBuilder;
 import io.fabric8.kubernetes.api.model.extensions.IngressBuilder;
 import io.fabric8.kubernetes.api.model.extensions.IngressTLS;
 import io.fabric8.kubernetes.api.model.extensions.IngressTLSBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.IngressModel;
@@ -36,7 +35,7 @@ import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -80,7 +79,7 @@ public class IngressHandler extends AbstractArtifactHandler {
         }
 
         //generate annotationMap
-        Map<String, String> annotationMap = new HashMap<>();
+        Map<String, String> annotationMap = new LinkedHashMap<>();
         annotationMap.put("kubernetes.io/ingress.class", ingressModel.getIngressClass());
         if (NGINX.equals(ingressModel.getIngressClass())) {
             annotationMap.put("nginx.ingress.kubernetes.io/ssl-passthrough", String.valueOf(ingressModel.isEnableTLS
@@ -113,10 +112,8 @@ public class IngressHandler extends AbstractArtifactHandler {
                 .endRule()
                 .endSpec()
                 .build();
-        String ingressYAML;
         try {
-            ingressYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(ingress);
-            KubernetesUtils.writeToFile(ingressYAML, INGRESS_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(ingress, INGRESS_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for ingress: " + ingressModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
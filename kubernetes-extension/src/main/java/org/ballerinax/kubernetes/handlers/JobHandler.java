@@ -23,7 +23,6 @@ import io.fabric8.kubernetes.api.model.batch.CronJob;
 import io.fabric8.kubernetes.api.model.batch.CronJobBuilder;
 import io.fabric8.kubernetes.api.model.batch.Job;
 import io.fabric8.kubernetes.api.model.batch.JobBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
@@ -43,6 +42,8 @@ import static org.ballerinax.kubernetes.KubernetesConstants.EXECUTABLE_JAR;
 import static org.ballerinax.kubernetes.KubernetesConstants.JOB_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.JOB_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.addJvmOptions;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getJvmOptions;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.populateEnvVar;
@@ -55,13 +56,11 @@ public class JobHandler extends AbstractArtifactHandler {
 
     private void generate(JobModel jobModel) throws KubernetesPluginException {
         try {
-            String jobContent;
             if (isBlank(jobModel.getSchedule())) {
-                jobContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(getJob(jobModel));
+                KubernetesUtils.writeToFile(getJob(jobModel), JOB_FILE_POSTFIX + YAML);
             } else {
-                jobContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(getCronJob(jobModel));
+                KubernetesUtils.writeToFile(getCronJob(jobModel), JOB_FILE_POSTFIX + YAML);
             }
-            KubernetesUtils.writeToFile(jobContent, JOB_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for job " + jobModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -76,6 +75,7 @@ public class JobHandler extends AbstractArtifactHandler {
                 .withImage(jobModel.getImage())
                 .withImagePullPolicy(jobModel.getImagePullPolicy())
                 .withEnv(populateEnvVar(jobModel.getEnv()))
+                .withResources(jobModel.getResources())
                 .build();
     }
 
@@ -135,6 +135,14 @@ public class JobHandler extends AbstractArtifactHandler {
                 jobModel.setImage(balxFileName + DOCKER_LATEST_TAG);
             }
             jobModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+            if (null != jobModel.getJvm()) {
+                // JAVA_TOOL_OPTIONS is read by the JVM itself, hence it also applies to user defined cmds.
+                String jvmOptions = getJvmOptions(jobModel.getJvm(), jobModel.getResources(),
+                        jobModel.getBaseImage());
+                if (!isBlank(jvmOptions)) {
+                    jobModel.setEnv(addJvmOptions(jobModel.getEnv(), jvmOptions));
+                }
+            }
             generate(jobModel);
             //generate dockerfile and docker image
             dataHolder.setDockerModel(getDockerModel(jobModel));
@@ -167,6 +175,10 @@ public class JobHandler extends AbstractArtifactHandler {
         dockerModel.setPkgId(dataHolder.getPackageID());
         dockerModel.setCopyFiles(jobModel.getCopyFiles());
         dockerModel.setUberJar(jobModel.isUberJar());
+        dataHolder.setLayeredImage(jobModel.isLayeredImage());
+        dataHolder.setAppCds(jobModel.getAppCds());
+        dataHolder.setBuildCache(jobModel.getBuildCache());
+        dataHolder.setDaemonless(jobModel.isDaemonless());
         dockerModel.setDockerConfig(jobModel.getDockerConfigPath());
         return dockerModel;
     }
@@ -22,14 +22,13 @@ import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.QuantityBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.VOLUME_CLAIM_FILE_POSTFIX;
@@ -46,7 +45,7 @@ public class PersistentVolumeClaimHandler extends AbstractArtifactHandler {
                 .withFormat(volumeClaimModel.getVolumeClaimSizeFormat())
                 .build();
         
-        Map<String, Quantity> requests = new HashMap<>();
+        Map<String, Quantity> requests = new LinkedHashMap<>();
         requests.put("storage", quantity);
         PersistentVolumeClaim claim = new PersistentVolumeClaimBuilder()
                 .withNewMetadata()
@@ -62,8 +61,7 @@ public class PersistentVolumeClaimHandler extends AbstractArtifactHandler {
                 .endSpec()
                 .build();
         try {
-            String claimContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(claim);
-            KubernetesUtils.writeToFile(claimContent,
+            KubernetesUtils.writeToFile(claim,
                     VOLUME_CLAIM_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for volume claim: " + volumeClaimModel.getName();
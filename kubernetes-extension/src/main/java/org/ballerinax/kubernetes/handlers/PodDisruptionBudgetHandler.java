@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudgetBuilder;
+import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.PodDisruptionBudgetModel;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.PDB_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.PDB_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+
+/**
+ * Generates kubernetes Pod Disruption Budget from annotations.
+ */
+public class PodDisruptionBudgetHandler extends AbstractArtifactHandler {
+    private static final String PERCENTAGE_PATTERN = "(100|[1-9]?[0-9])%";
+
+    private void generate(PodDisruptionBudgetModel podDisruptionBudgetModel, String selector)
+            throws KubernetesPluginException {
+        Map<String, String> selectorLabels = new LinkedHashMap<>();
+        selectorLabels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        PodDisruptionBudget podDisruptionBudget = new PodDisruptionBudgetBuilder()
+                .withNewMetadata()
+                .withName(podDisruptionBudgetModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(podDisruptionBudgetModel.getLabels())
+                .withAnnotations(podDisruptionBudgetModel.getAnnotations())
+                .endMetadata()
+                .withNewSpec()
+                .withMinAvailable(podDisruptionBudgetModel.getMinAvailable())
+                .withMaxUnavailable(podDisruptionBudgetModel.getMaxUnavailable())
+                .withNewSelector()
+                .withMatchLabels(selectorLabels)
+                .endSelector()
+                .endSpec()
+                .build();
+        try {
+            KubernetesUtils.writeToFile(podDisruptionBudget, PDB_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for pod disruption budget: " +
+                                  podDisruptionBudgetModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        PodDisruptionBudgetModel podDisruptionBudgetModel = dataHolder.getPodDisruptionBudgetModel();
+        if (podDisruptionBudgetModel == null) {
+            return;
+        }
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        String balxFileName = extractJarName(dataHolder.getUberJarPath());
+        podDisruptionBudgetModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+        if (podDisruptionBudgetModel.getName() == null || podDisruptionBudgetModel.getName().length() == 0) {
+            podDisruptionBudgetModel.setName(getValidName(balxFileName) + PDB_POSTFIX);
+        }
+        int replicas = getMinimumReplicas(deploymentModel);
+        IntOrString minAvailable = podDisruptionBudgetModel.getMinAvailable();
+        IntOrString maxUnavailable = podDisruptionBudgetModel.getMaxUnavailable();
+        if (null != minAvailable && null != maxUnavailable) {
+            throw new KubernetesPluginException("only one of 'minAvailable' or 'maxUnavailable' can be set in " +
+                    "@kubernetes:PodDisruptionBudget{}");
+        } else if (null == minAvailable && null == maxUnavailable) {
+            // Allow a single pod to be evicted at a time so that a drain never takes all the replicas at once.
+            if (replicas > 1) {
+                podDisruptionBudgetModel.setMinAvailable(new IntOrString(replicas - 1));
+            } else {
+                podDisruptionBudgetModel.setMaxUnavailable(new IntOrString(1));
+            }
+        } else if (null != minAvailable) {
+            validate(minAvailable, "minAvailable");
+            if (null != minAvailable.getIntVal() && minAvailable.getIntVal() >= replicas) {
+                throw new KubernetesPluginException("'minAvailable' of @kubernetes:PodDisruptionBudget{} should be " +
+                        "less than the minimum number of replicas: " + replicas + ", otherwise no pod can be evicted");
+            }
+        } else {
+            validate(maxUnavailable, "maxUnavailable");
+            if (null != maxUnavailable.getIntVal() && maxUnavailable.getIntVal() < 1) {
+                throw new KubernetesPluginException("'maxUnavailable' of @kubernetes:PodDisruptionBudget{} should " +
+                        "be at least 1, otherwise no pod can be evicted");
+            }
+        }
+        generate(podDisruptionBudgetModel, balxFileName);
+        OUT.println();
+        OUT.print("\t@kubernetes:PodDisruptionBudget \t - complete 1/1");
+    }
+
+    /**
+     * Get the minimum number of replicas of the deployment. The lower bound of the autoscaler takes precedence over
+     * the replicas of the deployment.
+     *
+     * @param deploymentModel Deployment model.
+     * @return Minimum number of replicas.
+     */
+    private int getMinimumReplicas(DeploymentModel deploymentModel) {
+        PodAutoscalerModel podAutoscalerModel = deploymentModel.getPodAutoscalerModel();
+        if (null != podAutoscalerModel && podAutoscalerModel.getMinReplicas() > 0) {
+            return podAutoscalerModel.getMinReplicas();
+        }
+        return deploymentModel.getReplicas();
+    }
+
+    private void validate(IntOrString value, String field) throws KubernetesPluginException {
+        if (null != value.getStrVal() && !value.getStrVal().matches(PERCENTAGE_PATTERN)) {
+            throw new KubernetesPluginException("'" + field + "' of @kubernetes:PodDisruptionBudget{} should be a " +
+                    "number of pods or a percentage such as \"50%\": " + value.getStrVal());
+        }
+    }
+}
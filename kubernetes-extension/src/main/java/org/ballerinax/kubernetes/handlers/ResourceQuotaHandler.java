@@ -22,7 +22,6 @@ import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.QuantityBuilder;
 import io.fabric8.kubernetes.api.model.ResourceQuota;
 import io.fabric8.kubernetes.api.model.ResourceQuotaBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ResourceQuotaModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
@@ -60,8 +59,7 @@ public class ResourceQuotaHandler extends AbstractArtifactHandler {
                 .build();
         
         try {
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(resourceQuota);
-            KubernetesUtils.writeToFile(resourceQuotaContent, RESOURCE_QUOTA_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(resourceQuota, RESOURCE_QUOTA_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for resource quotas: " +
                                   resourceQuotaModel.getName();
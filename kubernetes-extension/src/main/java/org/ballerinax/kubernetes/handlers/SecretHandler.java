@@ -20,7 +20,6 @@ package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.EnvVarValueModel;
@@ -50,8 +49,7 @@ public class SecretHandler extends AbstractArtifactHandler {
                 .withData(secretModel.getData())
                 .build();
         try {
-            String secretContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(secret);
-            KubernetesUtils.writeToFile(secretContent, SECRET_FILE_POSTFIX +
+            KubernetesUtils.writeToFile(secret, SECRET_FILE_POSTFIX +
                     YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for secret: " + secretModel.getName();
@@ -21,7 +21,6 @@ package org.ballerinax.kubernetes.handlers;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
 import io.fabric8.kubernetes.api.model.ServicePortBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
@@ -74,8 +73,7 @@ public class ServiceHandler extends AbstractArtifactHandler {
                 .endSpec()
                 .build();
         try {
-            String serviceYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(service);
-            KubernetesUtils.writeToFile(serviceYAML, SVC_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(service, SVC_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for service: " + serviceModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -135,8 +133,7 @@ public class ServiceHandler extends AbstractArtifactHandler {
                 .endSpec()
                 .build();
         try {
-            String serviceYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(service);
-            KubernetesUtils.writeToFile(serviceYAML, "_prometheus" + SVC_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(service, "_prometheus" + SVC_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for prometheus service: " + serviceModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
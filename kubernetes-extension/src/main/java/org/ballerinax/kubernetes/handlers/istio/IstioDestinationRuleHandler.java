@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers.istio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import me.snowdrop.istio.api.Duration;
+import me.snowdrop.istio.api.DurationBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.ConnectionPoolSettings;
+import me.snowdrop.istio.api.networking.v1alpha3.ConsistentHashLB;
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRule;
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRuleBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRuleSpec;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPSettings;
+import me.snowdrop.istio.api.networking.v1alpha3.HttpHeaderNameHashKey;
+import me.snowdrop.istio.api.networking.v1alpha3.LoadBalancerSettings;
+import me.snowdrop.istio.api.networking.v1alpha3.OutlierDetection;
+import me.snowdrop.istio.api.networking.v1alpha3.OutlierDetectionBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.SimpleLB;
+import me.snowdrop.istio.api.networking.v1alpha3.SimpleLbPolicy;
+import me.snowdrop.istio.api.networking.v1alpha3.Subset;
+import me.snowdrop.istio.api.networking.v1alpha3.TCPSettings;
+import me.snowdrop.istio.api.networking.v1alpha3.TrafficPolicy;
+import me.snowdrop.istio.api.networking.v1alpha3.UseSourceIpHashKey;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.istio.IstioConnectionPool;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
+import org.ballerinax.kubernetes.models.istio.IstioLoadBalancer;
+import org.ballerinax.kubernetes.models.istio.IstioOutlierDetection;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
+import org.ballerinax.kubernetes.models.istio.IstioTrafficPolicy;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_DESTINATION_RULE_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+
+/**
+ * Generates istio destination rule artifacts.
+ */
+public class IstioDestinationRuleHandler extends AbstractArtifactHandler {
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Map<String, IstioDestinationRuleModel> drModels = dataHolder.getIstioDestinationRuleModels();
+        int size = drModels.size();
+        if (size > 0) {
+            OUT.println();
+        }
+
+        int count = 0;
+        for (Map.Entry<String, IstioDestinationRuleModel> drModel : drModels.entrySet()) {
+            count++;
+            if (null == drModel.getValue().getHost()) {
+                ServiceModel serviceModel = dataHolder.getServiceModel(drModel.getKey());
+                if (null == serviceModel) {
+                    throw new KubernetesPluginException("unable to resolve the host of '" +
+                                                        drModel.getValue().getName() + "' destination rule. Add " +
+                                                        "@kubernetes:Service{} annotation to your listener or " +
+                                                        "service, else explicitly state the host.");
+                }
+                drModel.getValue().setHost(serviceModel.getName());
+            }
+
+            generate(drModel.getValue());
+            OUT.print("\t@istio:DestinationRule \t\t\t - complete " + count + "/" + size + "\r");
+        }
+    }
+
+    /**
+     * Generate artifact for istio destination rule model.
+     *
+     * @param drModel The destination rule model.
+     * @throws KubernetesPluginException Error when writing artifact files.
+     */
+    private void generate(IstioDestinationRuleModel drModel) throws KubernetesPluginException {
+        try {
+            // The builders copy the load balancer settings and drop the policies they do not know of, hence the
+            // spec is created without the builders.
+            DestinationRuleSpec spec = new DestinationRuleSpec();
+            spec.setHost(drModel.getHost());
+            spec.setTrafficPolicy(populateTrafficPolicy(drModel.getTrafficPolicy()));
+            spec.setSubsets(populateSubsets(drModel.getSubsets()));
+            DestinationRule destinationRule = new DestinationRuleBuilder()
+                    .withNewMetadata()
+                    .withName(drModel.getName())
+                    .withNamespace(dataHolder.getNamespace())
+                    .withLabels(drModel.getLabels())
+                    .withAnnotations(drModel.getAnnotations())
+                    .endMetadata()
+                    .build();
+            destinationRule.setSpec(spec);
+
+            KubernetesUtils.writeToFile(destinationRule, ISTIO_DESTINATION_RULE_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for istio destination rule: " + drModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Parse subset models to subsets.
+     *
+     * @param subsetModels The subset models.
+     * @return A list of subsets. Null if there are no subsets.
+     */
+    private List<Subset> populateSubsets(List<IstioSubset> subsetModels) {
+        if (null == subsetModels || subsetModels.size() == 0) {
+            return null;
+        }
+
+        List<Subset> subsets = new LinkedList<>();
+        for (IstioSubset subsetModel : subsetModels) {
+            subsets.add(new Subset(subsetModel.getLabels(), subsetModel.getName(),
+                    populateTrafficPolicy(subsetModel.getTrafficPolicy())));
+        }
+        return subsets;
+    }
+
+    /**
+     * Parse a traffic policy model to a traffic policy.
+     *
+     * @param trafficPolicyModel The traffic policy model.
+     * @return The traffic policy. Null if the model is null.
+     */
+    private TrafficPolicy populateTrafficPolicy(IstioTrafficPolicy trafficPolicyModel) {
+        if (null == trafficPolicyModel) {
+            return null;
+        }
+
+        TrafficPolicy trafficPolicy = new TrafficPolicy();
+        trafficPolicy.setConnectionPool(populateConnectionPool(trafficPolicyModel.getConnectionPool()));
+        trafficPolicy.setOutlierDetection(populateOutlierDetection(trafficPolicyModel.getOutlierDetection()));
+        trafficPolicy.setLoadBalancer(populateLoadBalancer(trafficPolicyModel.getLoadBalancer()));
+        return trafficPolicy;
+    }
+
+    private ConnectionPoolSettings populateConnectionPool(IstioConnectionPool connectionPoolModel) {
+        if (null == connectionPoolModel) {
+            return null;
+        }
+
+        TCPSettings tcpSettings = null;
+        if (-1 != connectionPoolModel.getMaxConnections() || -1 != connectionPoolModel.getConnectTimeout()) {
+            tcpSettings = new TCPSettings();
+            tcpSettings.setMaxConnections(getValue(connectionPoolModel.getMaxConnections()));
+            tcpSettings.setConnectTimeout(getDuration(connectionPoolModel.getConnectTimeout()));
+        }
+
+        HTTPSettings httpSettings = null;
+        if (-1 != connectionPoolModel.getHttp1MaxPendingRequests() || -1 != connectionPoolModel.getHttp2MaxRequests()
+                || -1 != connectionPoolModel.getMaxRequestsPerConnection() || -1 != connectionPoolModel.getMaxRetries()
+                || -1 != connectionPoolModel.getIdleTimeout()) {
+            httpSettings = new HTTPSettings();
+            httpSettings.setHttp1MaxPendingRequests(getValue(connectionPoolModel.getHttp1MaxPendingRequests()));
+            httpSettings.setHttp2MaxRequests(getValue(connectionPoolModel.getHttp2MaxRequests()));
+            httpSettings.setMaxRequestsPerConnection(getValue(connectionPoolModel.getMaxRequestsPerConnection()));
+            httpSettings.setMaxRetries(getValue(connectionPoolModel.getMaxRetries()));
+            httpSettings.setIdleTimeout(getDuration(connectionPoolModel.getIdleTimeout()));
+        }
+
+        return new ConnectionPoolSettings(httpSettings, tcpSettings);
+    }
+
+    private OutlierDetection populateOutlierDetection(IstioOutlierDetection outlierDetectionModel) {
+        if (null == outlierDetectionModel) {
+            return null;
+        }
+
+        return new OutlierDetectionBuilder()
+                .withConsecutiveErrors(getValue(outlierDetectionModel.getConsecutiveErrors()))
+                .withInterval(getDuration(outlierDetectionModel.getInterval()))
+                .withBaseEjectionTime(getDuration(outlierDetectionModel.getBaseEjectionTime()))
+                .withMaxEjectionPercent(getValue(outlierDetectionModel.getMaxEjectionPercent()))
+                .withMinHealthPercent(getValue(outlierDetectionModel.getMinHealthPercent()))
+                .build();
+    }
+
+    private LoadBalancerSettings populateLoadBalancer(IstioLoadBalancer loadBalancerModel) {
+        if (null == loadBalancerModel) {
+            return null;
+        }
+
+        if (null != loadBalancerModel.getSimple()) {
+            return new LoadBalancerSettings(new SimpleLbPolicy(SimpleLB.valueOf(loadBalancerModel.getSimple())));
+        }
+
+        if (null != loadBalancerModel.getHttpHeaderName() || loadBalancerModel.isUseSourceIp()) {
+            ConsistentHashLB.HashKey hashKey = null != loadBalancerModel.getHttpHeaderName() ?
+                    new HttpHeaderNameHashKey(loadBalancerModel.getHttpHeaderName()) :
+                    new UseSourceIpHashKey(true);
+            return new LoadBalancerSettings(new ConsistentHashLbPolicy(
+                    new ConsistentHashLB(hashKey, getValue(loadBalancerModel.getMinimumRingSize()))));
+        }
+        return null;
+    }
+
+    private Integer getValue(int value) {
+        return -1 == value ? null : value;
+    }
+
+    private Duration getDuration(long seconds) {
+        return -1 == seconds ? null : new DurationBuilder().withSeconds(seconds).build();
+    }
+
+    /**
+     * Consistent hash load balancer policy. The consistent hash of the istio model is not a load balancer policy,
+     * hence it cannot be set to the load balancer settings.
+     */
+    public static class ConsistentHashLbPolicy implements LoadBalancerSettings.LbPolicy {
+        private static final long serialVersionUID = 1L;
+        private final ConsistentHashLB consistentHash;
+
+        ConsistentHashLbPolicy(ConsistentHashLB consistentHash) {
+            this.consistentHash = consistentHash;
+        }
+
+        @JsonProperty("consistentHash")
+        public ConsistentHashLB getConsistentHash() {
+            return consistentHash;
+        }
+    }
+}
@@ -18,7 +18,6 @@
 
 package org.ballerinax.kubernetes.handlers.istio;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import me.snowdrop.istio.api.networking.v1alpha3.Gateway;
 import me.snowdrop.istio.api.networking.v1alpha3.GatewayBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.Server;
@@ -134,8 +133,7 @@ public class IstioGatewayHandler extends AbstractArtifactHandler {
                     .endSpec()
                     .build();
             
-            String gatewayContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(gateway);
-            KubernetesUtils.writeToFile(gatewayContent, ISTIO_GATEWAY_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(gateway, ISTIO_GATEWAY_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for istio gateway: " + gatewayModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -18,15 +18,26 @@
 
 package org.ballerinax.kubernetes.handlers.istio;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import me.snowdrop.istio.api.Duration;
 import me.snowdrop.istio.api.DurationBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.Abort;
+import me.snowdrop.istio.api.networking.v1alpha3.Delay;
 import me.snowdrop.istio.api.networking.v1alpha3.Destination;
 import me.snowdrop.istio.api.networking.v1alpha3.DestinationBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.FixedDelayHttpDelayType;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPFaultInjection;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPRetry;
 import me.snowdrop.istio.api.networking.v1alpha3.HTTPRoute;
 import me.snowdrop.istio.api.networking.v1alpha3.HTTPRouteBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.HTTPRouteDestination;
 import me.snowdrop.istio.api.networking.v1alpha3.HTTPRouteDestinationBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.HttpStatusErrorType;
+import me.snowdrop.istio.api.networking.v1alpha3.Percent;
 import me.snowdrop.istio.api.networking.v1alpha3.PortSelectorBuilder;
 import me.snowdrop.istio.api.networking.v1alpha3.VirtualService;
 import me.snowdrop.istio.api.networking.v1alpha3.VirtualServiceBuilder;
@@ -35,19 +46,25 @@ import org.ballerinax.kubernetes.handlers.AbstractArtifactHandler;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.ServiceModel;
 import org.ballerinax.kubernetes.models.istio.IstioDestination;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
 import org.ballerinax.kubernetes.models.istio.IstioDestinationWeight;
 import org.ballerinax.kubernetes.models.istio.IstioGatewayModel;
+import org.ballerinax.kubernetes.models.istio.IstioHttpFaultInjection;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRetry;
 import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
 import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getDurationMillis;
 
 /**
  * Generates istio virtual service artifacts.
@@ -110,12 +127,12 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
                     .withNewSpec()
                     .withHosts(vsModel.getHosts())
                     .withGateways(vsModel.getGateways())
-                    .withHttp(populateHttp(serviceName, vsModel.getHttp()))
                     .endSpec()
                     .build();
+            // The builders copy http routes to their own types, dropping the mirror percentage.
+            virtualService.getSpec().setHttp(populateHttp(serviceName, vsModel.getHttp()));
     
-            String gatewayContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(virtualService);
-            KubernetesUtils.writeToFile(gatewayContent, ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(virtualService, ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for istio virtual service: " + vsModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -128,8 +145,10 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
      * @param serviceName The name of the service where to route to.
      * @param httpRouteModels        The list of http routes.
      * @return A list of yaml maps.
+     * @throws KubernetesPluginException When a subset of a destination cannot be resolved.
      */
-    private List<HTTPRoute> populateHttp(String serviceName, List<IstioHttpRoute> httpRouteModels) {
+    private List<HTTPRoute> populateHttp(String serviceName, List<IstioHttpRoute> httpRouteModels)
+            throws KubernetesPluginException {
         if (null == httpRouteModels) {
             httpRouteModels = new LinkedList<>();
         }
@@ -153,6 +172,19 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
                     .withTimeout(timoutDuration)
                     .withAppendHeaders(httpRouteModel.getAppendHeaders())
                     .build();
+
+            if (-1 != httpRouteModel.getMirrorPercent()) {
+                httpRoute = new MirroredHTTPRoute(httpRoute, httpRouteModel.getMirrorPercent());
+            }
+            if (null != httpRouteModel.getRetries()) {
+                httpRoute.setRetries(populateRetries(httpRouteModel.getRetries()));
+            }
+            if (null != httpRouteModel.getMirror()) {
+                httpRoute.setMirror(populateDestination(serviceName, httpRouteModel.getMirror()));
+            }
+            if (null != httpRouteModel.getFault()) {
+                httpRoute.setFault(populateFault(httpRouteModel.getFault()));
+            }
     
             httpRoutes.add(httpRoute);
         }
@@ -160,14 +192,76 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
         return httpRoutes;
     }
     
+    /**
+     * Parse a retry policy to a yaml map.
+     *
+     * @param retryModel The retry policy.
+     * @return The http retry.
+     * @throws KubernetesPluginException When the per try timeout is invalid.
+     */
+    private HTTPRetry populateRetries(IstioHttpRetry retryModel) throws KubernetesPluginException {
+        HTTPRetry retry = new HTTPRetry();
+        if (-1 != retryModel.getAttempts()) {
+            retry.setAttempts(retryModel.getAttempts());
+        }
+        if (null != retryModel.getPerTryTimeout()) {
+            retry.setPerTryTimeout(getDuration("perTryTimeout", retryModel.getPerTryTimeout()));
+        }
+        retry.setRetryOn(retryModel.getRetryOn());
+        return retry;
+    }
+
+    /**
+     * Parse a fault injection to a yaml map.
+     *
+     * @param faultModel The fault injection.
+     * @return The http fault injection.
+     * @throws KubernetesPluginException When the fixed delay is invalid.
+     */
+    private HTTPFaultInjection populateFault(IstioHttpFaultInjection faultModel) throws KubernetesPluginException {
+        HTTPFaultInjection fault = new HTTPFaultInjection();
+        IstioHttpFaultInjection.Abort abortModel = faultModel.getAbort();
+        if (null != abortModel) {
+            Abort abort = new Abort();
+            abort.setErrorType(new HttpStatusErrorType(abortModel.getHttpStatus()));
+            if (-1 != abortModel.getPercent()) {
+                abort.setPercentage(new Percent((double) abortModel.getPercent()));
+            }
+            fault.setAbort(abort);
+        }
+        IstioHttpFaultInjection.Delay delayModel = faultModel.getDelay();
+        if (null != delayModel) {
+            Delay delay = new Delay();
+            delay.setHttpDelayType(new FixedDelayHttpDelayType(getDuration("fixedDelay",
+                    delayModel.getFixedDelay())));
+            if (-1 != delayModel.getPercent()) {
+                delay.setPercentage(new Percent((double) delayModel.getPercent()));
+            }
+            fault.setDelay(delay);
+        }
+        return fault;
+    }
+
+    private Duration getDuration(String field, String duration) throws KubernetesPluginException {
+        long millis = getDurationMillis(field, duration);
+        if (millis % 1000 != 0) {
+            return new FractionalDuration(millis);
+        }
+        return new DurationBuilder()
+                .withSeconds(millis / 1000)
+                .build();
+    }
+
     /**
      * Parse an route list to a yaml map.
      *
      * @param serviceName The name of the service.
      * @param routeModels       The list of destination weights
      * @return A list of yaml maps.
+     * @throws KubernetesPluginException When a subset of a destination cannot be resolved.
      */
-    private List<HTTPRouteDestination> populateRouteList(String serviceName, List<IstioDestinationWeight> routeModels) {
+    private List<HTTPRouteDestination> populateRouteList(String serviceName, List<IstioDestinationWeight> routeModels)
+            throws KubernetesPluginException {
         if (routeModels == null) {
             routeModels = new LinkedList<>();
         }
@@ -195,8 +289,10 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
      * @param serviceName The name of the service which is routed to.
      * @param destination The destination object.
      * @return A yaml map.
+     * @throws KubernetesPluginException When the subset of the destination cannot be resolved.
      */
-    private Destination populateDestination(String serviceName, IstioDestination destination) {
+    private Destination populateDestination(String serviceName, IstioDestination destination)
+            throws KubernetesPluginException {
         if (null == destination) {
             destination = new IstioDestination();
         }
@@ -209,6 +305,8 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
         if (-1 == destination.getPort()) {
             destination.setPort(serviceModel.getPort());
         }
+
+        validateSubset(destination);
         
         return new DestinationBuilder()
                 .withHost(destination.getHost())
@@ -218,4 +316,105 @@ public class IstioVirtualServiceHandler extends AbstractArtifactHandler {
                     .build())
                 .build();
     }
+
+    /**
+     * Validate that the subset of a destination is defined in the generated destination rules of its host. Subsets of
+     * hosts without a generated destination rule are not validated as their rules can be defined elsewhere.
+     *
+     * @param destination The destination.
+     * @throws KubernetesPluginException When the destination rules of the host do not define the subset.
+     */
+    private void validateSubset(IstioDestination destination) throws KubernetesPluginException {
+        if (null == destination.getSubset()) {
+            return;
+        }
+
+        List<String> drNames = new LinkedList<>();
+        for (IstioDestinationRuleModel drModel : dataHolder.getIstioDestinationRuleModels().values()) {
+            if (!isSameHost(drModel.getHost(), destination.getHost())) {
+                continue;
+            }
+            if (null != drModel.getSubsets()) {
+                for (IstioSubset subset : drModel.getSubsets()) {
+                    if (destination.getSubset().equals(subset.getName())) {
+                        return;
+                    }
+                }
+            }
+            drNames.add(drModel.getName());
+        }
+
+        if (drNames.size() > 0) {
+            throw new KubernetesPluginException("unable to resolve subset '" + destination.getSubset() + "' of " +
+                                                "destination '" + destination.getHost() + "'. Add the subset to " +
+                                                "the destination rule: " + String.join(", ", drNames));
+        }
+    }
+
+    /**
+     * Check if two hosts are the same. A short name of a service matches the fully qualified name of the service.
+     *
+     * @param host      The host.
+     * @param otherHost The other host.
+     * @return True if the hosts are the same.
+     */
+    private boolean isSameHost(String host, String otherHost) {
+        if (null == host || null == otherHost) {
+            return false;
+        }
+        if (host.equals(otherHost)) {
+            return true;
+        }
+        if (host.contains(".") && otherHost.contains(".")) {
+            return false;
+        }
+        return host.split("\\.")[0].equals(otherHost.split("\\.")[0]);
+    }
+
+    /**
+     * Http route with the percentage of the traffic mirrored, which is not a field of the istio model.
+     */
+    public static class MirroredHTTPRoute extends HTTPRoute {
+        private static final long serialVersionUID = 1L;
+        private final Percent mirrorPercentage;
+
+        MirroredHTTPRoute(HTTPRoute httpRoute, int mirrorPercent) {
+            super(httpRoute.getAppendHeaders(), httpRoute.getAppendRequestHeaders(),
+                    httpRoute.getAppendResponseHeaders(), httpRoute.getCorsPolicy(), httpRoute.getFault(),
+                    httpRoute.getHeaders(), httpRoute.getMatch(), httpRoute.getMirror(), httpRoute.getRedirect(),
+                    httpRoute.getRemoveRequestHeaders(), httpRoute.getRemoveResponseHeaders(),
+                    httpRoute.getRetries(), httpRoute.getRewrite(), httpRoute.getRoute(), httpRoute.getTimeout(),
+                    httpRoute.getWebsocketUpgrade());
+            this.mirrorPercentage = new Percent((double) mirrorPercent);
+        }
+
+        @JsonProperty("mirrorPercentage")
+        public Percent getMirrorPercentage() {
+            return mirrorPercentage;
+        }
+    }
+
+    /**
+     * Duration with milliseconds, which are dropped by the serializer of the istio model.
+     */
+    @JsonSerialize(using = FractionalDuration.Serializer.class)
+    public static class FractionalDuration extends Duration {
+        private static final long serialVersionUID = 1L;
+
+        FractionalDuration(long millis) {
+            super((int) (millis % 1000) * 1_000_000, millis / 1000);
+        }
+
+        /**
+         * Serializes the duration in seconds with a fraction such as "0.250s".
+         */
+        public static class Serializer extends JsonSerializer<FractionalDuration> {
+            @Override
+            public void serialize(FractionalDuration duration, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeString(String.format(Locale.ROOT, "%d.%03ds", duration.getSeconds(),
+                        duration.getNanos() / 1_000_000));
+            }
+        }
+    }
 }
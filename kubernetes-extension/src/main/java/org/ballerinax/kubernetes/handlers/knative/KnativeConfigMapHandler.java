@@ -20,7 +20,6 @@ package org.ballerinax.kubernetes.handlers.knative;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.ConfigMapModel;
 import org.ballerinax.kubernetes.models.knative.EnvVarValueModel;
@@ -49,8 +48,7 @@ public class KnativeConfigMapHandler extends KnativeAbstractArtifactHandler {
                 .withData(configMapModel.getData())
                 .build();
         try {
-            String configMapContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(configMap);
-            KnativeUtils.writeToFile(configMapContent, CONFIG_MAP_FILE_POSTFIX + YAML);
+            KnativeUtils.writeToFile(configMap, CONFIG_MAP_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "Error while parsing yaml file for config map: " + configMapModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -15,28 +15,26 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.ballerinax.kubernetes.handlers.knative;
 
-import org.ballerinax.docker.generator.DockerArtifactHandler;
-import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.utils.DockerArtifactCustomizer;
 
 /**
  * Wrapper handler for creating docker artifacts.
  */
 public class KnativeDockerHandler extends KnativeAbstractArtifactHandler {
+    private static final String LOG_APPENDER = "\t@knative:Docker \t\t\t";
 
     @Override
     public void createArtifacts() throws KubernetesPluginException {
-        try {
-            // Generate docker artifacts
-            DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(knativeDataHolder.getDockerModel());
-            OUT.println();
-            dockerArtifactHandler.createArtifacts(OUT, "\t@knative:Docker \t\t\t", knativeDataHolder.getUberJarPath(),
-                    knativeDataHolder.getDockerArtifactOutputPath());
-        } catch (DockerGenException e) {
-            throw new KubernetesPluginException(e.getMessage(), e);
-        }
+        OUT.println();
+        DockerArtifactCustomizer dockerArtifactCustomizer =
+                new DockerArtifactCustomizer(knativeDataHolder.getDockerModel(), LOG_APPENDER);
+        dockerArtifactCustomizer.setAppCds(knativeDataHolder.getAppCds());
+        dockerArtifactCustomizer.setBuildCache(knativeDataHolder.getBuildCache());
+        dockerArtifactCustomizer.setDaemonless(knativeDataHolder.isDaemonless());
+        dockerArtifactCustomizer.createArtifacts(OUT, knativeDataHolder.getUberJarPath(),
+                knativeDataHolder.getDockerArtifactOutputPath());
     }
 }
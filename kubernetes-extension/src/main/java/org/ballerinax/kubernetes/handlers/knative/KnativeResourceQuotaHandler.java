@@ -22,7 +22,6 @@ import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.QuantityBuilder;
 import io.fabric8.kubernetes.api.model.ResourceQuota;
 import io.fabric8.kubernetes.api.model.ResourceQuotaBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.ResourceQuotaModel;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
@@ -54,8 +53,7 @@ public class KnativeResourceQuotaHandler extends KnativeAbstractArtifactHandler
                 .endSpec()
                 .build();
         try {
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(resourceQuota);
-            KnativeUtils.writeToFile(resourceQuotaContent, RESOURCE_QUOTA_FILE_POSTFIX + YAML);
+            KnativeUtils.writeToFile(resourceQuota, RESOURCE_QUOTA_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for resource quotas: " +
                     resourceQuotaModel.getName();
@@ -20,7 +20,6 @@ package org.ballerinax.kubernetes.handlers.knative;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.knative.SecretModel;
 import org.ballerinax.kubernetes.utils.KnativeUtils;
@@ -45,8 +44,7 @@ public class KnativeSecretHandler extends KnativeAbstractArtifactHandler {
                 .withData(secretModel.getData())
                 .build();
         try {
-            String secretContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(secret);
-            KnativeUtils.writeToFile(secretContent, SECRET_FILE_POSTFIX + YAML);
+            KnativeUtils.writeToFile(secret, SECRET_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for secret: " + secretModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -24,6 +24,9 @@ import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.HTTPGetAction;
+import io.fabric8.kubernetes.api.model.HTTPGetActionBuilder;
+import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import io.fabric8.kubernetes.api.model.TCPSocketAction;
@@ -32,11 +35,11 @@ import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.knative.AutoscalingModel;
 import org.ballerinax.kubernetes.models.knative.ConfigMapModel;
 import org.ballerinax.kubernetes.models.knative.KnativeContext;
 import org.ballerinax.kubernetes.models.knative.ProbeModel;
@@ -46,12 +49,15 @@ import org.ballerinax.kubernetes.utils.KnativeUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.ballerinax.docker.generator.DockerGenConstants.REGISTRY_SEPARATOR;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
 import static org.ballerinax.kubernetes.KubernetesConstants.EXECUTABLE_JAR;
+import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_AUTOSCALING_PREFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_SVC_FILE_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.VOLUME_DEFINE;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
@@ -156,14 +162,75 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
         if (null == probeModel) {
             return null;
         }
-        TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
-                .withNewPort(probeModel.getPort())
-                .build();
-        return new ProbeBuilder()
+        ProbeBuilder probeBuilder = new ProbeBuilder()
                 .withInitialDelaySeconds(probeModel.getInitialDelaySeconds())
                 .withPeriodSeconds(probeModel.getPeriodSeconds())
-                .withTcpSocket(tcpSocketAction)
+                .withTimeoutSeconds(getPositiveValue(probeModel.getTimeoutSeconds()))
+                .withSuccessThreshold(getPositiveValue(probeModel.getSuccessThreshold()))
+                .withFailureThreshold(getPositiveValue(probeModel.getFailureThreshold()));
+        if (null == probeModel.getPath()) {
+            TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
+                    .withNewPort(probeModel.getPort())
+                    .build();
+            return probeBuilder.withTcpSocket(tcpSocketAction).build();
+        }
+        List<HTTPHeader> httpHeaders = new ArrayList<>();
+        if (null != probeModel.getHttpHeaders()) {
+            probeModel.getHttpHeaders().forEach((name, value) -> httpHeaders.add(new HTTPHeader(name, value)));
+        }
+        HTTPGetAction httpGetAction = new HTTPGetActionBuilder()
+                .withPath(probeModel.getPath())
+                .withNewPort(probeModel.getPort())
+                .withScheme(probeModel.getScheme())
+                .withHttpHeaders(httpHeaders.isEmpty() ? null : httpHeaders)
                 .build();
+        return probeBuilder.withHttpGet(httpGetAction).build();
+    }
+
+    /**
+     * Get the annotations of the revision template with the pod annotations and the autoscaling annotations.
+     *
+     * @param serviceModel Service model.
+     * @return Annotations of the revision template. Null if there are no annotations.
+     */
+    private Map<String, String> getTemplateAnnotations(ServiceModel serviceModel) {
+        Map<String, String> annotations = new LinkedHashMap<>();
+        if (null != serviceModel.getPodAnnotations()) {
+            annotations.putAll(serviceModel.getPodAnnotations());
+        }
+        AutoscalingModel autoscalingModel = serviceModel.getAutoscaling();
+        if (null != autoscalingModel) {
+            if (autoscalingModel.getTarget() > 0) {
+                annotations.put(KNATIVE_AUTOSCALING_PREFIX + "target", String.valueOf(autoscalingModel.getTarget()));
+            }
+            if (autoscalingModel.getMinScale() >= 0) {
+                annotations.put(KNATIVE_AUTOSCALING_PREFIX + "minScale",
+                        String.valueOf(autoscalingModel.getMinScale()));
+            }
+            if (autoscalingModel.getMaxScale() >= 0) {
+                annotations.put(KNATIVE_AUTOSCALING_PREFIX + "maxScale",
+                        String.valueOf(autoscalingModel.getMaxScale()));
+            }
+            if (null != autoscalingModel.getMetric()) {
+                annotations.put(KNATIVE_AUTOSCALING_PREFIX + "metric", autoscalingModel.getMetric());
+            }
+            if (null != autoscalingModel.getWindow()) {
+                annotations.put(KNATIVE_AUTOSCALING_PREFIX + "window", autoscalingModel.getWindow());
+            }
+            if (autoscalingModel.getPanicWindowPercentage() > 0) {
+                annotations.put(KNATIVE_AUTOSCALING_PREFIX + "panicWindowPercentage",
+                        String.valueOf(autoscalingModel.getPanicWindowPercentage()));
+            }
+            if (null != autoscalingModel.getScaleToZeroPodRetentionPeriod()) {
+                annotations.put(KNATIVE_AUTOSCALING_PREFIX + "scaleToZeroPodRetentionPeriod",
+                        autoscalingModel.getScaleToZeroPodRetentionPeriod());
+            }
+        }
+        return annotations.isEmpty() ? null : annotations;
+    }
+
+    private Integer getPositiveValue(int value) {
+        return value > 0 ? value : null;
     }
 
     /**
@@ -187,6 +254,9 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
                 .endMetadata()
                 .withNewSpec()
                 .withNewTemplate()
+                .withNewMetadata()
+                .withAnnotations(getTemplateAnnotations(serviceModel))
+                .endMetadata()
                 .withNewSpec()
                 .withContainerConcurrency((long) serviceModel.getContainerConcurrency())
                 .withTimeoutSeconds((long) serviceModel.getTimeoutSeconds())
@@ -199,8 +269,7 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
                 .build();
 
         try {
-            String knativeSvcContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(knativeSvc);
-            KnativeUtils.writeToFile(knativeSvcContent, KNATIVE_SVC_FILE_POSTFIX + YAML);
+            KnativeUtils.writeToFile(knativeSvc, KNATIVE_SVC_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating yaml file for deployment: " + serviceModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -261,6 +330,9 @@ public class KnativeServiceHandler extends KnativeAbstractArtifactHandler {
         dockerModel.setBuildImage(serviceModel.isBuildImage());
         dockerModel.addCommandArg(serviceModel.getCommandArgs());
         dockerModel.setCopyFiles(serviceModel.getCopyFiles());
+        knativeDataHolder.setAppCds(serviceModel.getAppCds());
+        knativeDataHolder.setBuildCache(serviceModel.getBuildCache());
+        knativeDataHolder.setDaemonless(serviceModel.isDaemonless());
         return dockerModel;
     }
 }
@@ -18,7 +18,6 @@
 
 package org.ballerinax.kubernetes.handlers.openshift;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import io.fabric8.openshift.api.model.BuildConfig;
 import io.fabric8.openshift.api.model.BuildConfigBuilder;
 import org.ballerinax.kubernetes.ArtifactManager;
@@ -99,9 +98,8 @@ public class OpenShiftBuildConfigHandler extends AbstractArtifactHandler {
                     .endSpec()
                     .build();
             
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(bc);
-            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT),
-                    resourceQuotaContent, OPENSHIFT_BUILD_CONFIG_FILE_POSTFIX + YAML);
+            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactStagingPath().resolve(OPENSHIFT),
+                    bc, OPENSHIFT_BUILD_CONFIG_FILE_POSTFIX + YAML);
             
             // Modify instructions
         } catch (IOException e) {
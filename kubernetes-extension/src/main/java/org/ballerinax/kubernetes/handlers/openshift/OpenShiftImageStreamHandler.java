@@ -18,7 +18,6 @@
 
 package org.ballerinax.kubernetes.handlers.openshift;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import io.fabric8.openshift.api.model.ImageStream;
 import io.fabric8.openshift.api.model.ImageStreamBuilder;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
@@ -66,8 +65,7 @@ public class OpenShiftImageStreamHandler extends AbstractArtifactHandler {
                     .endMetadata()
                     .build();
             
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(is);
-            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT), resourceQuotaContent,
+            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactStagingPath().resolve(OPENSHIFT), is,
                     OPENSHIFT_IMAGE_STREAM_TAG_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating OpenShift Image Stream yaml file: " +
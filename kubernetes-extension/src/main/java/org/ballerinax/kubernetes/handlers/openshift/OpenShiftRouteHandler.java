@@ -18,7 +18,6 @@
 
 package org.ballerinax.kubernetes.handlers.openshift;
 
-import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteBuilder;
 import org.ballerinax.kubernetes.ArtifactManager;
@@ -103,8 +102,7 @@ public class OpenShiftRouteHandler extends AbstractArtifactHandler {
                     .endSpec()
                     .build();
             
-            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(route);
-            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactOutputPath().resolve(OPENSHIFT), resourceQuotaContent,
+            KubernetesUtils.writeToFile(dataHolder.getK8sArtifactStagingPath().resolve(OPENSHIFT), route,
                     OPENSHIFT_ROUTE_FILE_POSTFIX + YAML);
         } catch (IOException e) {
             String errorMessage = "error while generating OpenShift Route yaml file: " +
@@ -17,6 +17,9 @@
  */
 package org.ballerinax.kubernetes.models;
 
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
 import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -24,8 +27,8 @@ import org.ballerinax.docker.generator.models.CopyFileModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,12 +47,17 @@ public class DeploymentModel extends KubernetesModel {
     private int prometheusPort;
     private ProbeModel livenessProbe;
     private ProbeModel readinessProbe;
+    private ProbeModel startupProbe;
     private String namespace;
     private String imagePullPolicy;
     private String image;
     private boolean buildImage;
     private String baseImage;
     private Map<String, EnvVarValueModel> env;
+    private ResourceRequirements resources;
+    private JvmModel jvm;
+    private AppCdsModel appCds;
+    private DockerBuildCacheModel buildCache;
     private String username;
     private String password;
     private boolean push;
@@ -63,6 +71,8 @@ public class DeploymentModel extends KubernetesModel {
     private Set<PersistentVolumeClaimModel> volumeClaimModels;
     private Set<CopyFileModel> copyFiles;
     private Set<String> dependsOn;
+    private DependencyWaitModel dependencyWait;
+    private ShutdownModel shutdown;
     private Set<String> imagePullSecrets;
     private String commandArgs;
     private boolean singleYAML;
@@ -71,9 +81,13 @@ public class DeploymentModel extends KubernetesModel {
     private List<PodTolerationModel> podTolerations;
     private DeploymentStrategy strategy;
     private Map<String, String> nodeSelector;
+    private Affinity affinity;
+    private List<TopologySpreadConstraint> topologySpreadConstraints;
     private String serviceAccountName;
     private List<ServiceAccountTokenModel> serviceAccountTokenModel;
     private boolean uberJar;
+    private boolean layeredImage;
+    private boolean daemonless;
     private String dockerConfigPath;
 
     public DeploymentModel() {
@@ -85,22 +99,26 @@ public class DeploymentModel extends KubernetesModel {
         this.push = false;
         this.labels = new LinkedHashMap<>();
         this.nodeSelector = new LinkedHashMap<>();
+        this.topologySpreadConstraints = new ArrayList<>();
         this.env = new LinkedHashMap<>();
         this.imagePullPolicy = KubernetesConstants.ImagePullPolicy.IfNotPresent.name();
-        this.dependsOn = new HashSet<>();
+        this.dependsOn = new LinkedHashSet<>();
+        this.dependencyWait = new DependencyWaitModel();
 
         // Configure Docker Host based on operating system.
-        this.ports = new HashSet<>();
-        this.secretModels = new HashSet<>();
-        this.configMapModels = new HashSet<>();
-        this.volumeClaimModels = new HashSet<>();
-        this.copyFiles = new HashSet<>();
-        this.imagePullSecrets = new HashSet<>();
+        this.ports = new LinkedHashSet<>();
+        this.secretModels = new LinkedHashSet<>();
+        this.configMapModels = new LinkedHashSet<>();
+        this.volumeClaimModels = new LinkedHashSet<>();
+        this.copyFiles = new LinkedHashSet<>();
+        this.imagePullSecrets = new LinkedHashSet<>();
         this.singleYAML = true;
         this.commandArgs = "";
         this.registry = "";
         this.serviceAccountTokenModel = new ArrayList<>();
         this.uberJar = false;
+        this.layeredImage = false;
+        this.daemonless = false;
     }
 
     public Map<String, String> getPodAnnotations() {
@@ -146,6 +164,25 @@ public class DeploymentModel extends KubernetesModel {
         }
     }
 
+    public void setStartupProbe(ProbeModel startupProbe) {
+        this.startupProbe = startupProbe;
+
+        // setting default values, the liveness and readiness probes start once the startup probe succeeds.
+        if (null != this.startupProbe) {
+            if (this.startupProbe.getInitialDelaySeconds() == -1) {
+                this.startupProbe.setInitialDelaySeconds(0);
+            }
+
+            if (this.startupProbe.getPeriodSeconds() == -1) {
+                this.startupProbe.setPeriodSeconds(5);
+            }
+
+            if (this.startupProbe.getFailureThreshold() == -1) {
+                this.startupProbe.setFailureThreshold(30);
+            }
+        }
+    }
+
     public void addPort(int port) {
         this.ports.add(port);
     }
@@ -158,6 +195,10 @@ public class DeploymentModel extends KubernetesModel {
         env.put(key, value);
     }
 
+    public void addTopologySpreadConstraint(TopologySpreadConstraint topologySpreadConstraint) {
+        this.topologySpreadConstraints.add(topologySpreadConstraint);
+    }
+
     @Override
     public String toString() {
         return "DeploymentModel{" +
@@ -17,7 +17,7 @@
  */
 package org.ballerinax.kubernetes.models;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.NGINX;
 
@@ -38,7 +38,7 @@ public class IngressModel extends KubernetesModel {
         this.path = "/";
         this.enableTLS = false;
         this.ingressClass = NGINX;
-        this.labels = new HashMap<>();
+        this.labels = new LinkedHashMap<>();
     }
     
     public String getHostname() {
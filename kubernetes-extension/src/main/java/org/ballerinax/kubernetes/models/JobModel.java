@@ -18,14 +18,14 @@
 
 package org.ballerinax.kubernetes.models;
 
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.ballerinax.docker.generator.models.CopyFileModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -43,6 +43,10 @@ public class JobModel extends KubernetesModel {
     private int activeDeadlineSeconds;
     private String schedule;
     private Map<String, EnvVarValueModel> env;
+    private ResourceRequirements resources;
+    private JvmModel jvm;
+    private AppCdsModel appCds;
+    private DockerBuildCacheModel buildCache;
     private String imagePullPolicy;
     private String image;
     private boolean buildImage;
@@ -58,24 +62,28 @@ public class JobModel extends KubernetesModel {
     private boolean singleYAML;
     private String registry;
     private boolean uberJar;
+    private boolean layeredImage;
+    private boolean daemonless;
     private String dockerConfigPath;
 
     public JobModel() {
-        this.labels = new HashMap<>();
+        this.labels = new LinkedHashMap<>();
         this.env = new LinkedHashMap<>();
-        this.copyFiles = new HashSet<>();
+        this.copyFiles = new LinkedHashSet<>();
         this.restartPolicy = KubernetesConstants.RestartPolicy.Never.name();
         this.setBaseImage(OPENJDK_11_JRE_SLIM_BASE);
         this.setPush(false);
         this.buildImage = true;
-        this.nodeSelector = new HashMap<>();
-        this.setEnv(new HashMap<>());
+        this.nodeSelector = new LinkedHashMap<>();
+        this.setEnv(new LinkedHashMap<>());
         this.setImagePullPolicy("IfNotPresent");
 
         this.activeDeadlineSeconds = 20;
-        this.imagePullSecrets = new HashSet<>();
+        this.imagePullSecrets = new LinkedHashSet<>();
         this.singleYAML = true;
         this.uberJar = false;
+        this.layeredImage = false;
+        this.daemonless = false;
     }
 
     public void addLabel(String key, String value) {
@@ -20,12 +20,17 @@ package org.ballerinax.kubernetes.models;
 
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.utils.DockerImageBuildQueue;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
 
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 
@@ -35,11 +40,17 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 public class KubernetesContext {
     private static KubernetesContext instance;
     private final Map<PackageID, KubernetesDataHolder> packageIDtoDataHolderMap;
+    private final Map<String, Set<PackageID>> moduleNameToPackageIDsMap;
     private PackageID currentPackage;
     private CompilerContext compilerContext;
+    private List<String> deploymentOrder;
+    private String dependencyError;
+    private final Set<PackageID> codeGeneratedPackages = new LinkedHashSet<>();
+    private DockerImageBuildQueue dockerImageBuildQueue;
 
     private KubernetesContext() {
-        packageIDtoDataHolderMap = new HashMap<>();
+        packageIDtoDataHolderMap = new LinkedHashMap<>();
+        moduleNameToPackageIDsMap = new LinkedHashMap<>();
     }
 
     public static KubernetesContext getInstance() {
@@ -54,6 +65,8 @@ public class KubernetesContext {
     public void addDataHolder(PackageID packageID, Path sourcePath) {
         this.currentPackage = packageID;
         this.packageIDtoDataHolderMap.put(packageID, new KubernetesDataHolder(sourcePath));
+        this.moduleNameToPackageIDsMap.computeIfAbsent(packageID.name.value, name -> new LinkedHashSet<>())
+                .add(packageID);
     }
 
     public void setCurrentPackage(PackageID packageID) {
@@ -73,11 +86,16 @@ public class KubernetesContext {
     }
 
     public String getServiceName(String dependsOn) throws KubernetesPluginException {
+        return getService(dependsOn).getName();
+    }
+
+    public ServiceModel getService(String dependsOn) throws KubernetesPluginException {
         String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
         String listener = dependsOn.substring(dependsOn.indexOf(Names.VERSION_SEPARATOR.value) + 1);
-        for (PackageID packageID : packageIDtoDataHolderMap.keySet()) {
-            if (packageName.equals(packageID.name.value)) {
-                return getDataHolder(packageID).getbListenerToK8sServiceMap().get(listener).getName();
+        for (PackageID packageID : getPackageIDs(packageName)) {
+            ServiceModel serviceModel = getDataHolder(packageID).getbListenerToK8sServiceMap().get(listener);
+            if (null != serviceModel) {
+                return serviceModel;
             }
         }
         throw new KubernetesPluginException("dependent listener " + dependsOn + " is not annotated with " +
@@ -85,18 +103,112 @@ public class KubernetesContext {
     }
 
     public String getDeploymentNameFromListener(String dependsOn) throws KubernetesPluginException {
+        validateDependsOnFormat(dependsOn);
+        String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
+        Set<PackageID> packageIDs = getPackageIDs(packageName);
+        if (!packageIDs.isEmpty()) {
+            return getDataHolder(packageIDs.iterator().next()).getDeploymentModel().getName();
+        }
+        throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
+    }
+
+    /**
+     * Get the module of a listener a deployment depends on. Unlike the deployment name, the module is known once the
+     * annotations of all the modules are processed, hence it can be resolved before the artifacts are generated.
+     *
+     * @param dependsOn Listener in the format module:listener.
+     * @return Name of the module.
+     * @throws KubernetesPluginException If the format is invalid or the listener is not annotated with a service.
+     */
+    public String getModuleNameFromListener(String dependsOn) throws KubernetesPluginException {
+        validateDependsOnFormat(dependsOn);
+        String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
+        if (getPackageIDs(packageName).isEmpty()) {
+            throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
+        }
+        getService(dependsOn);
+        return packageName;
+    }
+
+    private void validateDependsOnFormat(String dependsOn) throws KubernetesPluginException {
         if (isBlank(dependsOn) || !dependsOn.contains(Names.VERSION_SEPARATOR.value) || !(dependsOn.indexOf
                 (Names.VERSION_SEPARATOR.value) > 1)) {
             throw new KubernetesPluginException("@kubernetes:Deployment{} invalid dependsOn format specified " +
                     dependsOn);
         }
-        String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
-        for (PackageID packageID : packageIDtoDataHolderMap.keySet()) {
-            if (packageName.equals(packageID.name.value)) {
-                return getDataHolder(packageID).getDeploymentModel().getName();
+    }
+
+    /**
+     * Get the modules with a name in the order they were added. The listeners of a module are looked up in the
+     * listener map of its data holder, hence resolving a dependsOn entry does not scan the other modules.
+     *
+     * @param packageName Name of the module.
+     * @return Package IDs of the modules.
+     */
+    public Set<PackageID> getPackageIDs(String packageName) {
+        return moduleNameToPackageIDsMap.getOrDefault(packageName, Collections.emptySet());
+    }
+
+    /**
+     * Get the names of the modules in the order they should be deployed. A module comes after the modules whose
+     * listeners its deployment depends on.
+     *
+     * @return Names of the modules or null if the dependencies have not been validated.
+     */
+    public List<String> getDeploymentOrder() {
+        return deploymentOrder;
+    }
+
+    public void setDeploymentOrder(List<String> deploymentOrder) {
+        this.deploymentOrder = deploymentOrder;
+    }
+
+    /**
+     * Get the error found while validating the dependencies between the modules.
+     *
+     * @return Error message or null if the dependencies are valid or have not been validated.
+     */
+    public String getDependencyError() {
+        return dependencyError;
+    }
+
+    public void setDependencyError(String dependencyError) {
+        this.dependencyError = dependencyError;
+    }
+
+    /**
+     * Mark that the artifacts of a module have been generated.
+     *
+     * @param packageID The module.
+     * @return True if the artifacts of all the modules which have kubernetes annotations have been generated.
+     */
+    public boolean markCodeGenerated(PackageID packageID) {
+        codeGeneratedPackages.add(packageID);
+        for (Map.Entry<PackageID, KubernetesDataHolder> dataHolder : packageIDtoDataHolderMap.entrySet()) {
+            if (dataHolder.getValue().isCanProcess() && !codeGeneratedPackages.contains(dataHolder.getKey())) {
+                return false;
             }
         }
-        throw new KubernetesPluginException("dependent listener " + dependsOn + " not found.");
+        return true;
+    }
+
+    public synchronized DockerImageBuildQueue getDockerImageBuildQueue() {
+        return dockerImageBuildQueue;
+    }
+
+    public synchronized void setDockerImageBuildQueue(DockerImageBuildQueue dockerImageBuildQueue) {
+        this.dockerImageBuildQueue = dockerImageBuildQueue;
+    }
+
+    /**
+     * Remove the docker image build queue so that it is drained only once.
+     *
+     * @return The queue or null if there is no queue.
+     */
+    public synchronized DockerImageBuildQueue removeDockerImageBuildQueue() {
+        DockerImageBuildQueue queue = dockerImageBuildQueue;
+        dockerImageBuildQueue = null;
+        return queue;
     }
 
     public CompilerContext getCompilerContext() {
@@ -20,15 +20,17 @@ package org.ballerinax.kubernetes.models;
 
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
 import org.ballerinax.kubernetes.models.istio.IstioGatewayModel;
 import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftRouteModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.ballerinax.kubernetes.utils.GenerationReport;
 
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,6 +42,7 @@ public class KubernetesDataHolder {
     private DeploymentModel deploymentModel;
     private DockerModel dockerModel;
     private PodAutoscalerModel podAutoscalerModel;
+    private PodDisruptionBudgetModel podDisruptionBudgetModel;
     private Map<String, ServiceModel> bListenerToK8sServiceMap;
     private Map<String, Set<SecretModel>> bListenerToSecretMap;
     private Set<SecretModel> secretModelSet;
@@ -49,11 +52,19 @@ public class KubernetesDataHolder {
     private Set<ResourceQuotaModel> resourceQuotaModels;
     private Map<String, IstioGatewayModel> istioGatewayModels;
     private Map<String, IstioVirtualServiceModel> istioVirtualServiceModels;
+    private Map<String, IstioDestinationRuleModel> istioDestinationRuleModels;
     private OpenShiftBuildExtensionModel openShiftBuildExtensionModel;
     private Map<String, OpenShiftRouteModel> openShiftRouteModels;
     private JobModel jobModel;
     private Path uberJarPath;
+    private boolean layeredImage;
+    private AppCdsModel appCds;
+    private DockerBuildCacheModel buildCache;
+    private boolean daemonless;
     private Path k8sArtifactOutputPath;
+    private Path k8sArtifactStagingPath;
+    private ArtifactSink artifactSink;
+    private GenerationReport generationReport;
     private Path dockerArtifactOutputPath;
     private String namespace;
     private Path sourceRoot;
@@ -62,18 +73,21 @@ public class KubernetesDataHolder {
 
     KubernetesDataHolder(Path sourceRoot) {
         this.sourceRoot = sourceRoot;
-        this.bListenerToK8sServiceMap = new HashMap<>();
-        this.bListenerToSecretMap = new HashMap<>();
-        this.secretModelSet = new HashSet<>();
-        this.configMapModelSet = new HashSet<>();
-        this.volumeClaimModelSet = new HashSet<>();
-        this.ingressModelSet = new HashSet<>();
+        this.bListenerToK8sServiceMap = new LinkedHashMap<>();
+        this.bListenerToSecretMap = new LinkedHashMap<>();
+        this.secretModelSet = new LinkedHashSet<>();
+        this.configMapModelSet = new LinkedHashSet<>();
+        this.volumeClaimModelSet = new LinkedHashSet<>();
+        this.ingressModelSet = new LinkedHashSet<>();
         this.deploymentModel = new DeploymentModel();
-        this.resourceQuotaModels = new HashSet<>();
+        this.resourceQuotaModels = new LinkedHashSet<>();
         this.istioGatewayModels = new LinkedHashMap<>();
         this.istioVirtualServiceModels = new LinkedHashMap<>();
+        this.istioDestinationRuleModels = new LinkedHashMap<>();
         this.openShiftRouteModels = new LinkedHashMap<>();
         this.dockerModel = new DockerModel();
+        this.artifactSink = new ArtifactSink();
+        this.generationReport = new GenerationReport();
     }
 
     public Path getSourceRoot() {
@@ -104,6 +118,14 @@ public class KubernetesDataHolder {
         this.podAutoscalerModel = podAutoscalerModel;
     }
 
+    public PodDisruptionBudgetModel getPodDisruptionBudgetModel() {
+        return podDisruptionBudgetModel;
+    }
+
+    public void setPodDisruptionBudgetModel(PodDisruptionBudgetModel podDisruptionBudgetModel) {
+        this.podDisruptionBudgetModel = podDisruptionBudgetModel;
+    }
+
     public Map<String, Set<SecretModel>> getSecretModels() {
         return bListenerToSecretMap;
     }
@@ -188,6 +210,38 @@ public class KubernetesDataHolder {
         this.uberJarPath = uberJarPath;
     }
 
+    public boolean isLayeredImage() {
+        return layeredImage;
+    }
+
+    public void setLayeredImage(boolean layeredImage) {
+        this.layeredImage = layeredImage;
+    }
+
+    public AppCdsModel getAppCds() {
+        return appCds;
+    }
+
+    public void setAppCds(AppCdsModel appCds) {
+        this.appCds = appCds;
+    }
+
+    public DockerBuildCacheModel getBuildCache() {
+        return buildCache;
+    }
+
+    public void setBuildCache(DockerBuildCacheModel buildCache) {
+        this.buildCache = buildCache;
+    }
+
+    public boolean isDaemonless() {
+        return daemonless;
+    }
+
+    public void setDaemonless(boolean daemonless) {
+        this.daemonless = daemonless;
+    }
+
     public Path getK8sArtifactOutputPath() {
         return k8sArtifactOutputPath;
     }
@@ -196,6 +250,28 @@ public class KubernetesDataHolder {
         this.k8sArtifactOutputPath = k8sArtifactOutputPath;
     }
 
+    /**
+     * Get the directory the artifacts are written to while they are being generated. This is the artifact output
+     * path unless the artifacts are generated incrementally.
+     *
+     * @return Path to write the artifacts.
+     */
+    public Path getK8sArtifactStagingPath() {
+        return k8sArtifactStagingPath != null ? k8sArtifactStagingPath : k8sArtifactOutputPath;
+    }
+
+    public void setK8sArtifactStagingPath(Path k8sArtifactStagingPath) {
+        this.k8sArtifactStagingPath = k8sArtifactStagingPath;
+    }
+
+    public ArtifactSink getArtifactSink() {
+        return artifactSink;
+    }
+
+    public GenerationReport getGenerationReport() {
+        return generationReport;
+    }
+
     public Path getDockerArtifactOutputPath() {
         return dockerArtifactOutputPath;
     }
@@ -244,6 +320,18 @@ public class KubernetesDataHolder {
         this.istioVirtualServiceModels.put(serviceName, istioVirtualServiceModel);
     }
 
+    public Map<String, IstioDestinationRuleModel> getIstioDestinationRuleModels() {
+        return istioDestinationRuleModels;
+    }
+
+    public IstioDestinationRuleModel getIstioDestinationRuleModel(String serviceName) {
+        return istioDestinationRuleModels.get(serviceName);
+    }
+
+    public void addIstioDestinationRuleModel(String serviceName, IstioDestinationRuleModel istioDestinationRuleModel) {
+        this.istioDestinationRuleModels.put(serviceName, istioDestinationRuleModel);
+    }
+
     public OpenShiftBuildExtensionModel getOpenShiftBuildExtensionModel() {
         return openShiftBuildExtensionModel;
     }
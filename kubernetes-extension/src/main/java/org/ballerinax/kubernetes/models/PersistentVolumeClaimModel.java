@@ -17,7 +17,7 @@
  */
 package org.ballerinax.kubernetes.models;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Model class to hold kubernetes Persistent Volume Claim.
@@ -31,7 +31,7 @@ public class PersistentVolumeClaimModel extends KubernetesModel {
 
     public PersistentVolumeClaimModel() {
         this.accessMode = "ReadWriteOnce";
-        this.setAnnotations(new HashMap<>());
+        this.setAnnotations(new LinkedHashMap<>());
     }
 
     public String getMountPath() {
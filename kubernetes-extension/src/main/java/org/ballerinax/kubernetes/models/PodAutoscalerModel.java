@@ -18,7 +18,11 @@
 
 package org.ballerinax.kubernetes.models;
 
-import java.util.HashMap;
+import io.fabric8.kubernetes.api.model.MetricSpec;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 /**
  * Kubernetes Pod Autoscaler annotations model class.
@@ -27,11 +31,15 @@ public class PodAutoscalerModel extends KubernetesModel {
     private int minReplicas;
     private int maxReplicas;
     private int cpuPercentage;
+    private int memoryPercentage;
+    private List<MetricSpec> metrics;
+    private ScalingRulesModel scaleUp;
+    private ScalingRulesModel scaleDown;
     private String deployment;
 
     public PodAutoscalerModel() {
-        this.cpuPercentage = 50;
-        labels = new HashMap<>();
+        labels = new LinkedHashMap<>();
+        metrics = new ArrayList<>();
     }
 
     public int getMinReplicas() {
@@ -58,6 +66,42 @@ public class PodAutoscalerModel extends KubernetesModel {
         this.cpuPercentage = cpuPercentage;
     }
 
+    public int getMemoryPercentage() {
+        return memoryPercentage;
+    }
+
+    public void setMemoryPercentage(int memoryPercentage) {
+        this.memoryPercentage = memoryPercentage;
+    }
+
+    public List<MetricSpec> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(List<MetricSpec> metrics) {
+        this.metrics = metrics;
+    }
+
+    public void addMetric(MetricSpec metric) {
+        this.metrics.add(metric);
+    }
+
+    public ScalingRulesModel getScaleUp() {
+        return scaleUp;
+    }
+
+    public void setScaleUp(ScalingRulesModel scaleUp) {
+        this.scaleUp = scaleUp;
+    }
+
+    public ScalingRulesModel getScaleDown() {
+        return scaleDown;
+    }
+
+    public void setScaleDown(ScalingRulesModel scaleDown) {
+        this.scaleDown = scaleDown;
+    }
+
     public String getDeployment() {
         return deployment;
     }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+import io.fabric8.kubernetes.api.model.IntOrString;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Kubernetes Pod Disruption Budget annotations model class.
+ */
+public class PodDisruptionBudgetModel extends KubernetesModel {
+    private IntOrString minAvailable;
+    private IntOrString maxUnavailable;
+
+    public PodDisruptionBudgetModel() {
+        labels = new LinkedHashMap<>();
+    }
+
+    public IntOrString getMinAvailable() {
+        return minAvailable;
+    }
+
+    public void setMinAvailable(IntOrString minAvailable) {
+        this.minAvailable = minAvailable;
+    }
+
+    public IntOrString getMaxUnavailable() {
+        return maxUnavailable;
+    }
+
+    public void setMaxUnavailable(IntOrString maxUnavailable) {
+        this.maxUnavailable = maxUnavailable;
+    }
+
+    public void addLabel(String key, String value) {
+        this.labels.put(key, value);
+    }
+}
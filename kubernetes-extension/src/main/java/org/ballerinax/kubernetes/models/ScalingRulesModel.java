@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scaling rules of a Horizontal Pod Autoscaler in one direction.
+ */
+@Data
+public class ScalingRulesModel {
+    private int stabilizationWindowSeconds = -1;
+    private String selectPolicy;
+    private List<ScalingPolicyModel> policies = new ArrayList<>();
+
+    /**
+     * Limit of the change in replicas within a period.
+     */
+    @Data
+    public static class ScalingPolicyModel {
+        private String type;
+        private int value;
+        private int periodSeconds;
+    }
+}
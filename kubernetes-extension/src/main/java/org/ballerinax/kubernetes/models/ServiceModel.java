@@ -21,7 +21,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.ballerinax.kubernetes.KubernetesConstants;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Kubernetes service annotations model class.
@@ -41,7 +41,7 @@ public class ServiceModel extends KubernetesModel {
 
     public ServiceModel() {
         serviceType = KubernetesConstants.ServiceType.ClusterIP.name();
-        labels = new HashMap<>();
+        labels = new LinkedHashMap<>();
         port = -1;
         targetPort = -1;
         nodePort = -1;
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+/**
+ * Istio traffic policy connection pool model class. Unset values are -1.
+ */
+public class IstioConnectionPool {
+    private int maxConnections = -1;
+    private long connectTimeout = -1;
+    private int http1MaxPendingRequests = -1;
+    private int http2MaxRequests = -1;
+    private int maxRequestsPerConnection = -1;
+    private int maxRetries = -1;
+    private long idleTimeout = -1;
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(long connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getHttp1MaxPendingRequests() {
+        return http1MaxPendingRequests;
+    }
+
+    public void setHttp1MaxPendingRequests(int http1MaxPendingRequests) {
+        this.http1MaxPendingRequests = http1MaxPendingRequests;
+    }
+
+    public int getHttp2MaxRequests() {
+        return http2MaxRequests;
+    }
+
+    public void setHttp2MaxRequests(int http2MaxRequests) {
+        this.http2MaxRequests = http2MaxRequests;
+    }
+
+    public int getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
+    public void setMaxRequestsPerConnection(int maxRequestsPerConnection) {
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
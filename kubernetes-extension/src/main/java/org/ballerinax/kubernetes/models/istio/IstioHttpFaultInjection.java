@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+/**
+ * Istio virtual service annotation's http fault injection model class.
+ */
+public class IstioHttpFaultInjection {
+    private Abort abort;
+    private Delay delay;
+
+    public Abort getAbort() {
+        return abort;
+    }
+
+    public void setAbort(Abort abort) {
+        this.abort = abort;
+    }
+
+    public Delay getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Delay delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * Istio http fault injection abort model class. Unset percentage is -1.
+     */
+    public static class Abort {
+        private int percent = -1;
+        private int httpStatus;
+
+        public int getPercent() {
+            return percent;
+        }
+
+        public void setPercent(int percent) {
+            this.percent = percent;
+        }
+
+        public int getHttpStatus() {
+            return httpStatus;
+        }
+
+        public void setHttpStatus(int httpStatus) {
+            this.httpStatus = httpStatus;
+        }
+    }
+
+    /**
+     * Istio http fault injection delay model class. Unset percentage is -1.
+     */
+    public static class Delay {
+        private int percent = -1;
+        private String fixedDelay;
+
+        public int getPercent() {
+            return percent;
+        }
+
+        public void setPercent(int percent) {
+            this.percent = percent;
+        }
+
+        public String getFixedDelay() {
+            return fixedDelay;
+        }
+
+        public void setFixedDelay(String fixedDelay) {
+            this.fixedDelay = fixedDelay;
+        }
+    }
+}
@@ -31,6 +31,10 @@ public class IstioHttpRoute {
     private List<IstioDestinationWeight> route;
     private long timeout = -1;
     private Map<String, String> appendHeaders = new LinkedHashMap<>();
+    private IstioHttpRetry retries;
+    private IstioDestination mirror;
+    private int mirrorPercent = -1;
+    private IstioHttpFaultInjection fault;
     
     public List<IstioDestinationWeight> getRoute() {
         return route;
@@ -55,4 +59,36 @@ public class IstioHttpRoute {
     public void setAppendHeaders(Map<String, String> appendHeaders) {
         this.appendHeaders = appendHeaders;
     }
+
+    public IstioHttpRetry getRetries() {
+        return retries;
+    }
+
+    public void setRetries(IstioHttpRetry retries) {
+        this.retries = retries;
+    }
+
+    public IstioDestination getMirror() {
+        return mirror;
+    }
+
+    public void setMirror(IstioDestination mirror) {
+        this.mirror = mirror;
+    }
+
+    public int getMirrorPercent() {
+        return mirrorPercent;
+    }
+
+    public void setMirrorPercent(int mirrorPercent) {
+        this.mirrorPercent = mirrorPercent;
+    }
+
+    public IstioHttpFaultInjection getFault() {
+        return fault;
+    }
+
+    public void setFault(IstioHttpFaultInjection fault) {
+        this.fault = fault;
+    }
 }
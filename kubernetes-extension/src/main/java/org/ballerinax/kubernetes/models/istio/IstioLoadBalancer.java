@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+/**
+ * Istio traffic policy load balancer model class. Either a simple policy or a consistent hash is set.
+ */
+public class IstioLoadBalancer {
+    private String simple;
+    private String httpHeaderName;
+    private boolean useSourceIp;
+    private int minimumRingSize = -1;
+
+    public String getSimple() {
+        return simple;
+    }
+
+    public void setSimple(String simple) {
+        this.simple = simple;
+    }
+
+    public String getHttpHeaderName() {
+        return httpHeaderName;
+    }
+
+    public void setHttpHeaderName(String httpHeaderName) {
+        this.httpHeaderName = httpHeaderName;
+    }
+
+    public boolean isUseSourceIp() {
+        return useSourceIp;
+    }
+
+    public void setUseSourceIp(boolean useSourceIp) {
+        this.useSourceIp = useSourceIp;
+    }
+
+    public int getMinimumRingSize() {
+        return minimumRingSize;
+    }
+
+    public void setMinimumRingSize(int minimumRingSize) {
+        this.minimumRingSize = minimumRingSize;
+    }
+}
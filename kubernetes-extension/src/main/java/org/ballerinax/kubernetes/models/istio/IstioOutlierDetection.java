@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+/**
+ * Istio traffic policy outlier detection model class. Unset values are -1.
+ */
+public class IstioOutlierDetection {
+    private int consecutiveErrors = -1;
+    private long interval = -1;
+    private long baseEjectionTime = -1;
+    private int maxEjectionPercent = -1;
+    private int minHealthPercent = -1;
+
+    public int getConsecutiveErrors() {
+        return consecutiveErrors;
+    }
+
+    public void setConsecutiveErrors(int consecutiveErrors) {
+        this.consecutiveErrors = consecutiveErrors;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public void setInterval(long interval) {
+        this.interval = interval;
+    }
+
+    public long getBaseEjectionTime() {
+        return baseEjectionTime;
+    }
+
+    public void setBaseEjectionTime(long baseEjectionTime) {
+        this.baseEjectionTime = baseEjectionTime;
+    }
+
+    public int getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    public void setMaxEjectionPercent(int maxEjectionPercent) {
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    public int getMinHealthPercent() {
+        return minHealthPercent;
+    }
+
+    public void setMinHealthPercent(int minHealthPercent) {
+        this.minHealthPercent = minHealthPercent;
+    }
+}
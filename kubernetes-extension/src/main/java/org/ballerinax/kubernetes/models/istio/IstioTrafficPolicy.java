@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.models.istio;
+
+/**
+ * Istio destination rule traffic policy model class.
+ */
+public class IstioTrafficPolicy {
+    private IstioConnectionPool connectionPool;
+    private IstioOutlierDetection outlierDetection;
+    private IstioLoadBalancer loadBalancer;
+
+    public IstioConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public void setConnectionPool(IstioConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    public IstioOutlierDetection getOutlierDetection() {
+        return outlierDetection;
+    }
+
+    public void setOutlierDetection(IstioOutlierDetection outlierDetection) {
+        this.outlierDetection = outlierDetection;
+    }
+
+    public IstioLoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public void setLoadBalancer(IstioLoadBalancer loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+}
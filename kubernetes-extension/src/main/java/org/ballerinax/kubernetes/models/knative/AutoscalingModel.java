@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.models.knative;
+
+/**
+ * Knative autoscaling annotations model class.
+ */
+public class AutoscalingModel {
+    private int target;
+    private int minScale;
+    private int maxScale;
+    private String metric;
+    private String window;
+    private int panicWindowPercentage;
+    private String scaleToZeroPodRetentionPeriod;
+
+    public AutoscalingModel() {
+        this.minScale = -1;
+        this.maxScale = -1;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public void setTarget(int target) {
+        this.target = target;
+    }
+
+    public int getMinScale() {
+        return minScale;
+    }
+
+    public void setMinScale(int minScale) {
+        this.minScale = minScale;
+    }
+
+    public int getMaxScale() {
+        return maxScale;
+    }
+
+    public void setMaxScale(int maxScale) {
+        this.maxScale = maxScale;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public String getWindow() {
+        return window;
+    }
+
+    public void setWindow(String window) {
+        this.window = window;
+    }
+
+    public int getPanicWindowPercentage() {
+        return panicWindowPercentage;
+    }
+
+    public void setPanicWindowPercentage(int panicWindowPercentage) {
+        this.panicWindowPercentage = panicWindowPercentage;
+    }
+
+    public String getScaleToZeroPodRetentionPeriod() {
+        return scaleToZeroPodRetentionPeriod;
+    }
+
+    public void setScaleToZeroPodRetentionPeriod(String scaleToZeroPodRetentionPeriod) {
+        this.scaleToZeroPodRetentionPeriod = scaleToZeroPodRetentionPeriod;
+    }
+
+    @Override
+    public String toString() {
+        return "AutoscalingModel{" +
+                "target=" + target +
+                ", minScale=" + minScale +
+                ", maxScale=" + maxScale +
+                ", metric='" + metric + '\'' +
+                ", window='" + window + '\'' +
+                ", panicWindowPercentage=" + panicWindowPercentage +
+                ", scaleToZeroPodRetentionPeriod='" + scaleToZeroPodRetentionPeriod + '\'' +
+                '}';
+    }
+}
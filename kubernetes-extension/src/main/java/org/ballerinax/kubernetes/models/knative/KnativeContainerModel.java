@@ -20,7 +20,7 @@ package org.ballerinax.kubernetes.models.knative;
 
 import org.ballerinax.kubernetes.KubernetesConstants;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Model class for knative service spec.
@@ -37,7 +37,7 @@ public class KnativeContainerModel extends KnativeModel {
 
     public KnativeContainerModel() {
         serviceType = KubernetesConstants.ServiceType.ClusterIP.name();
-        labels = new HashMap<>();
+        labels = new LinkedHashMap<>();
         port = -1;
         targetPort = -1;
     }
@@ -23,7 +23,7 @@ import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.wso2.ballerinalang.compiler.util.Names;
 
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.ballerinax.kubernetes.utils.KnativeUtils.isBlank;
@@ -38,7 +38,7 @@ public class KnativeContext {
     private PackageID currentPackage;
 
     private KnativeContext() {
-        packageIDtoDataHolderMap = new HashMap<>();
+        packageIDtoDataHolderMap = new LinkedHashMap<>();
     }
 
     public static KnativeContext getInstance() {
@@ -19,10 +19,13 @@
 package org.ballerinax.kubernetes.models.knative;
 
 import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.models.AppCdsModel;
+import org.ballerinax.kubernetes.models.DockerBuildCacheModel;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
 
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -41,7 +44,11 @@ public class KnativeDataHolder {
     private Set<ConfigMapModel> configMapModelSet;
     private Set<org.ballerinax.kubernetes.models.knative.ResourceQuotaModel> resourceQuotaModels;
     private Path uberJarPath;
+    private AppCdsModel appCds;
+    private DockerBuildCacheModel buildCache;
+    private boolean daemonless;
     private Path k8sArtifactOutputPath;
+    private ArtifactSink artifactSink;
     private Path dockerArtifactOutputPath;
     private String namespace;
     private Path sourceRoot;
@@ -49,13 +56,14 @@ public class KnativeDataHolder {
 
     KnativeDataHolder(Path sourceRoot) {
         this.sourceRoot = sourceRoot;
-        this.bListenerToK8sServiceMap = new HashMap<>();
-        this.bListenerToSecretMap = new HashMap<>();
-        this.secretModelSet = new HashSet<>();
-        this.configMapModelSet = new HashSet<>();
+        this.bListenerToK8sServiceMap = new LinkedHashMap<>();
+        this.bListenerToSecretMap = new LinkedHashMap<>();
+        this.secretModelSet = new LinkedHashSet<>();
+        this.configMapModelSet = new LinkedHashSet<>();
         this.serviceModel = new ServiceModel();
-        this.resourceQuotaModels = new HashSet<>();
+        this.resourceQuotaModels = new LinkedHashSet<>();
         this.dockerModel = new DockerModel();
+        this.artifactSink = new ArtifactSink();
     }
 
     public Path getSourceRoot() {
@@ -148,6 +156,30 @@ public class KnativeDataHolder {
         this.uberJarPath = uberJarPath;
     }
 
+    public AppCdsModel getAppCds() {
+        return appCds;
+    }
+
+    public void setAppCds(AppCdsModel appCds) {
+        this.appCds = appCds;
+    }
+
+    public DockerBuildCacheModel getBuildCache() {
+        return buildCache;
+    }
+
+    public void setBuildCache(DockerBuildCacheModel buildCache) {
+        this.buildCache = buildCache;
+    }
+
+    public boolean isDaemonless() {
+        return daemonless;
+    }
+
+    public void setDaemonless(boolean daemonless) {
+        this.daemonless = daemonless;
+    }
+
     public Path getK8sArtifactOutputPath() {
         return k8sArtifactOutputPath;
     }
@@ -156,6 +188,10 @@ public class KnativeDataHolder {
         this.k8sArtifactOutputPath = k8sArtifactOutputPath;
     }
 
+    public ArtifactSink getArtifactSink() {
+        return artifactSink;
+    }
+
     public Path getDockerArtifactOutputPath() {
         return dockerArtifactOutputPath;
     }
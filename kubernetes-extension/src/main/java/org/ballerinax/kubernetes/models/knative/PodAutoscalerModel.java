@@ -18,7 +18,7 @@
 
 package org.ballerinax.kubernetes.models.knative;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Knative Pod Autoscaler annotations model class.
@@ -30,7 +30,7 @@ public class PodAutoscalerModel extends KnativeModel {
     private String deployment;
 
     public PodAutoscalerModel() {
-        labels = new HashMap<>();
+        labels = new LinkedHashMap<>();
     }
 
     public int getMinReplicas() {
@@ -18,6 +18,8 @@
 
 package org.ballerinax.kubernetes.models.knative;
 
+import java.util.Map;
+
 /**
  * Probe configuration for knative.
  */
@@ -26,6 +28,12 @@ public class ProbeModel {
     private int port;
     private int initialDelaySeconds = -1;
     private int periodSeconds = -1;
+    private int timeoutSeconds = -1;
+    private int successThreshold = -1;
+    private int failureThreshold = -1;
+    private String path;
+    private String scheme;
+    private Map<String, String> httpHeaders;
 
     public int getPort() {
         return port;
@@ -50,4 +58,52 @@ public class ProbeModel {
     public void setPeriodSeconds(int periodSeconds) {
         this.periodSeconds = periodSeconds;
     }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public void setTimeoutSeconds(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public int getSuccessThreshold() {
+        return successThreshold;
+    }
+
+    public void setSuccessThreshold(int successThreshold) {
+        this.successThreshold = successThreshold;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getScheme() {
+        return scheme;
+    }
+
+    public void setScheme(String scheme) {
+        this.scheme = scheme;
+    }
+
+    public Map<String, String> getHttpHeaders() {
+        return httpHeaders;
+    }
+
+    public void setHttpHeaders(Map<String, String> httpHeaders) {
+        this.httpHeaders = httpHeaders;
+    }
 }
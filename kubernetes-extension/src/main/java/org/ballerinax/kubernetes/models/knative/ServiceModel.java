@@ -20,9 +20,11 @@ package org.ballerinax.kubernetes.models.knative;
 
 import org.ballerinax.docker.generator.models.CopyFileModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.models.AppCdsModel;
+import org.ballerinax.kubernetes.models.DockerBuildCacheModel;
 
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -63,6 +65,10 @@ public class ServiceModel extends KnativeModel {
     private List<PodTolerationModel> podTolerations;
     private int containerConcurrency;
     private int timeoutSeconds;
+    private AutoscalingModel autoscaling;
+    private AppCdsModel appCds;
+    private DockerBuildCacheModel buildCache;
+    private boolean daemonless;
 
     public ServiceModel() {
         this.replicas = 1;
@@ -73,18 +79,19 @@ public class ServiceModel extends KnativeModel {
         this.labels = new LinkedHashMap<>();
         this.env = new LinkedHashMap<>();
         this.imagePullPolicy = KubernetesConstants.ImagePullPolicy.IfNotPresent.name();
-        this.dependsOn = new HashSet<>();
+        this.dependsOn = new LinkedHashSet<>();
         // Configure Docker Host based on operating system.
-        this.ports = new HashSet<>();
-        this.secretModels = new HashSet<>();
-        this.configMapModels = new HashSet<>();
-        this.copyFiles = new HashSet<>();
-        this.imagePullSecrets = new HashSet<>();
+        this.ports = new LinkedHashSet<>();
+        this.secretModels = new LinkedHashSet<>();
+        this.configMapModels = new LinkedHashSet<>();
+        this.copyFiles = new LinkedHashSet<>();
+        this.imagePullSecrets = new LinkedHashSet<>();
         this.singleYAML = true;
         this.commandArgs = "";
         this.registry = "";
         this.containerConcurrency = 100;
         this.timeoutSeconds = 60;
+        this.daemonless = false;
     }
 
     public int getPort() {
@@ -361,6 +368,38 @@ public class ServiceModel extends KnativeModel {
         this.timeoutSeconds = timeoutSeconds;
     }
 
+    public AutoscalingModel getAutoscaling() {
+        return autoscaling;
+    }
+
+    public void setAutoscaling(AutoscalingModel autoscaling) {
+        this.autoscaling = autoscaling;
+    }
+
+    public AppCdsModel getAppCds() {
+        return appCds;
+    }
+
+    public void setAppCds(AppCdsModel appCds) {
+        this.appCds = appCds;
+    }
+
+    public DockerBuildCacheModel getBuildCache() {
+        return buildCache;
+    }
+
+    public void setBuildCache(DockerBuildCacheModel buildCache) {
+        this.buildCache = buildCache;
+    }
+
+    public boolean isDaemonless() {
+        return daemonless;
+    }
+
+    public void setDaemonless(boolean daemonless) {
+        this.daemonless = daemonless;
+    }
+
     @Override
     public String toString() {
         return "DeploymentModel{" +
@@ -390,6 +429,7 @@ public class ServiceModel extends KnativeModel {
                 ", registry='" + registry +
                 ", podTolerations=" + podTolerations +
                 ", containerConcurrency" + containerConcurrency +
+                ", autoscaling=" + autoscaling +
                 '}';
     }
 }
@@ -21,6 +21,7 @@ package org.ballerinax.kubernetes.processors;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.processors.istio.IstioGatewayAnnotationProcessor;
+import org.ballerinax.kubernetes.processors.istio.IstioDestinationRuleAnnotationProcessor;
 import org.ballerinax.kubernetes.processors.istio.IstioVirtualServiceAnnotationProcessor;
 import org.ballerinax.kubernetes.processors.openshift.OpenShiftRouteProcessor;
 
@@ -40,6 +41,8 @@ public class AnnotationProcessorFactory {
                 return new IngressAnnotationProcessor();
             case HPA:
                 return new HPAAnnotationProcessor();
+            case PodDisruptionBudget:
+                return new PodDisruptionBudgetAnnotationProcessor();
             case Deployment:
                 return new DeploymentAnnotationProcessor();
             case Secret:
@@ -56,6 +59,8 @@ public class AnnotationProcessorFactory {
                 return new IstioGatewayAnnotationProcessor();
             case VirtualService:
                 return new IstioVirtualServiceAnnotationProcessor();
+            case DestinationRule:
+                return new IstioDestinationRuleAnnotationProcessor();
             case Route:
                 return new OpenShiftRouteProcessor();
             default:
@@ -68,6 +73,7 @@ public class AnnotationProcessorFactory {
         Service,
         Ingress,
         HPA,
+        PodDisruptionBudget,
         Deployment,
         Secret,
         ConfigMap,
@@ -76,6 +82,7 @@ public class AnnotationProcessorFactory {
         ResourceQuota,
         Gateway,
         VirtualService,
+        DestinationRule,
         Route
     }
 }
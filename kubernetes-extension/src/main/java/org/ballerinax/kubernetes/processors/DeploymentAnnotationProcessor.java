@@ -17,7 +17,21 @@
  */
 package org.ballerinax.kubernetes.processors;
 
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
+import io.fabric8.kubernetes.api.model.NodeAffinityBuilder;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirement;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirementBuilder;
+import io.fabric8.kubernetes.api.model.PodAffinityTerm;
+import io.fabric8.kubernetes.api.model.PodAffinityTermBuilder;
+import io.fabric8.kubernetes.api.model.PreferredSchedulingTerm;
+import io.fabric8.kubernetes.api.model.PreferredSchedulingTermBuilder;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTermBuilder;
 import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
 import io.fabric8.kubernetes.api.model.apps.RollingUpdateDeployment;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
@@ -26,9 +40,11 @@ import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DependencyWaitModel;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.PodTolerationModel;
+import org.ballerinax.kubernetes.models.ShutdownModel;
 import org.ballerinax.kubernetes.models.ProbeModel;
 import org.ballerinax.kubernetes.models.ServiceAccountTokenModel;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
@@ -38,25 +54,34 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_CERT_PATH;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_HOST;
+import static org.ballerinax.kubernetes.KubernetesConstants.KUBERNETES_HOSTNAME_TOPOLOGY_KEY;
 import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
+import static org.ballerinax.kubernetes.KubernetesConstants.SCHEDULE_ANYWAY;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.convertRecordFields;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getAppCdsModel;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBuildCacheModel;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBooleanValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getEnvVarMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getExternalFileMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getImagePullSecrets;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getJvmModel;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getList;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getResourceRequirements;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.parseBuildExtension;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.validateUrlPath;
 
 /**
  * Deployment Annotation processor.
@@ -152,12 +177,27 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                 case readinessProbe:
                     deploymentModel.setReadinessProbe(parseProbeConfiguration(keyValue.getValue()));
                     break;
+                case startupProbe:
+                    deploymentModel.setStartupProbe(parseProbeConfiguration(keyValue.getValue()));
+                    break;
                 case imagePullPolicy:
                     deploymentModel.setImagePullPolicy(getStringValue(keyValue.getValue()));
                     break;
                 case env:
                     deploymentModel.setEnv(getEnvVarMap(keyValue.getValue()));
                     break;
+                case resources:
+                    deploymentModel.setResources(getResourceRequirements(keyValue.getValue()));
+                    break;
+                case jvm:
+                    deploymentModel.setJvm(getJvmModel(keyValue.getValue()));
+                    break;
+                case appCds:
+                    deploymentModel.setAppCds(getAppCdsModel(keyValue.getValue()));
+                    break;
+                case buildCache:
+                    deploymentModel.setBuildCache(getBuildCacheModel(keyValue.getValue()));
+                    break;
                 case podAnnotations:
                     deploymentModel.setPodAnnotations(getMap(keyValue.getValue()));
                     break;
@@ -170,6 +210,12 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                 case dependsOn:
                     deploymentModel.setDependsOn(getDependsOn(keyValue));
                     break;
+                case dependencyWait:
+                    deploymentModel.setDependencyWait(parseDependencyWait(keyValue.getValue()));
+                    break;
+                case shutdown:
+                    deploymentModel.setShutdown(parseShutdown(keyValue.getValue()));
+                    break;
                 case imagePullSecrets:
                     deploymentModel.setImagePullSecrets(getImagePullSecrets(keyValue));
                     break;
@@ -179,6 +225,24 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                 case nodeSelector:
                     deploymentModel.setNodeSelector(getMap(keyValue.getValue()));
                     break;
+                case affinity:
+                    deploymentModel.setAffinity(parseAffinity(keyValue.getValue()));
+                    break;
+                case topologySpreadConstraints:
+                    for (BLangExpression constraint : ((BLangListConstructorExpr) keyValue.getValue()).exprs) {
+                        deploymentModel.addTopologySpreadConstraint(parseTopologySpreadConstraint(constraint));
+                    }
+                    break;
+                case spreadByHostname:
+                    if (getBooleanValue(keyValue.getValue())) {
+                        // The label selector is set to the selector of the deployment when generating.
+                        deploymentModel.addTopologySpreadConstraint(new TopologySpreadConstraintBuilder()
+                                .withMaxSkew(1)
+                                .withTopologyKey(KUBERNETES_HOSTNAME_TOPOLOGY_KEY)
+                                .withWhenUnsatisfiable(SCHEDULE_ANYWAY)
+                                .build());
+                    }
+                    break;
                 case serviceAccountName:
                     deploymentModel.setServiceAccountName(getStringValue(keyValue.getValue()));
                     break;
@@ -191,6 +255,12 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                 case uberJar:
                     deploymentModel.setUberJar(getBooleanValue(keyValue.getValue()));
                     break;
+                case layeredImage:
+                    deploymentModel.setLayeredImage(getBooleanValue(keyValue.getValue()));
+                    break;
+                case daemonless:
+                    deploymentModel.setDaemonless(getBooleanValue(keyValue.getValue()));
+                    break;
                 case dockerConfigPath:
                     deploymentModel.setDockerConfigPath(getStringValue(keyValue.getValue()));
                     break;
@@ -327,6 +397,18 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
                         case periodSeconds:
                             probeModel.setPeriodSeconds(getIntValue(probeField.getValue()));
                             break;
+                        case timeoutSeconds:
+                            probeModel.setTimeoutSeconds(getIntValue(probeField.getValue()));
+                            break;
+                        case successThreshold:
+                            probeModel.setSuccessThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case failureThreshold:
+                            probeModel.setFailureThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case httpGet:
+                            parseHttpGetConfiguration(probeModel, probeField.getValue());
+                            break;
                         default:
                             throw new KubernetesPluginException("unknown probe field found: " +
                                     probeField.getKey().toString());
@@ -338,6 +420,361 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
         return null;
     }
 
+    /**
+     * Parse the graceful shutdown configuration of the pods.
+     *
+     * @param shutdownValue Shutdown configuration record or a boolean to use the defaults.
+     * @return Shutdown model or null if graceful shutdown is disabled.
+     * @throws KubernetesPluginException When an unknown field is found or a value is invalid.
+     */
+    private ShutdownModel parseShutdown(BLangExpression shutdownValue) throws KubernetesPluginException {
+        if (!(shutdownValue instanceof BLangRecordLiteral)) {
+            return getBooleanValue(shutdownValue) ? new ShutdownModel() : null;
+        }
+        ShutdownModel shutdownModel = new ShutdownModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField shutdownField :
+                convertRecordFields(((BLangRecordLiteral) shutdownValue).getFields())) {
+            switch (shutdownField.getKey().toString()) {
+                case "drainDelaySeconds":
+                    shutdownModel.setDrainDelaySeconds(getIntValue(shutdownField.getValue()));
+                    if (shutdownModel.getDrainDelaySeconds() < 0) {
+                        throw new KubernetesPluginException("'drainDelaySeconds' of 'shutdown' cannot be negative: " +
+                                shutdownModel.getDrainDelaySeconds());
+                    }
+                    break;
+                case "terminationGracePeriodSeconds":
+                    shutdownModel.setTerminationGracePeriodSeconds(getIntValue(shutdownField.getValue()));
+                    if (shutdownModel.getTerminationGracePeriodSeconds() < 0) {
+                        throw new KubernetesPluginException("'terminationGracePeriodSeconds' of 'shutdown' cannot " +
+                                "be negative: " + shutdownModel.getTerminationGracePeriodSeconds());
+                    }
+                    break;
+                case "preStopPath":
+                    shutdownModel.setPreStopPath(getStringValue(shutdownField.getValue()));
+                    validateUrlPath("'preStopPath' of 'shutdown'", shutdownModel.getPreStopPath());
+                    break;
+                case "preStopPort":
+                    shutdownModel.setPreStopPort(getIntValue(shutdownField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown shutdown field found: " +
+                            shutdownField.getKey().toString());
+            }
+        }
+        return shutdownModel;
+    }
+
+    /**
+     * Parse the configuration of waiting for the dependencies of the deployment.
+     *
+     * @param dependencyWaitValue Dependency wait configuration record.
+     * @return Dependency wait model.
+     * @throws KubernetesPluginException When an unknown field is found or a value is invalid.
+     */
+    private DependencyWaitModel parseDependencyWait(BLangExpression dependencyWaitValue)
+            throws KubernetesPluginException {
+        DependencyWaitModel dependencyWaitModel = new DependencyWaitModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField dependencyWaitField :
+                convertRecordFields(((BLangRecordLiteral) dependencyWaitValue).getFields())) {
+            switch (dependencyWaitField.getKey().toString()) {
+                case "mode":
+                    dependencyWaitModel.setMode(getStringValue(dependencyWaitField.getValue()));
+                    break;
+                case "path":
+                    dependencyWaitModel.setPath(getStringValue(dependencyWaitField.getValue()));
+                    break;
+                case "initialBackoffSeconds":
+                    dependencyWaitModel.setInitialBackoffSeconds(getIntValue(dependencyWaitField.getValue()));
+                    break;
+                case "maxBackoffSeconds":
+                    dependencyWaitModel.setMaxBackoffSeconds(getIntValue(dependencyWaitField.getValue()));
+                    break;
+                case "timeoutSeconds":
+                    dependencyWaitModel.setTimeoutSeconds(getIntValue(dependencyWaitField.getValue()));
+                    break;
+                case "image":
+                    dependencyWaitModel.setImage(getStringValue(dependencyWaitField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown dependency wait field found: " +
+                            dependencyWaitField.getKey().toString());
+            }
+        }
+        if (dependencyWaitModel.getInitialBackoffSeconds() < 1 ||
+                dependencyWaitModel.getMaxBackoffSeconds() < dependencyWaitModel.getInitialBackoffSeconds()) {
+            throw new KubernetesPluginException("'initialBackoffSeconds' of 'dependencyWait' should be at least 1 " +
+                    "and not greater than 'maxBackoffSeconds'");
+        }
+        return dependencyWaitModel;
+    }
+
+    /**
+     * Parse affinity configuration of the pods.
+     *
+     * @param affinityValue Affinity configuration record.
+     * @return Affinity of the pods.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private Affinity parseAffinity(BLangExpression affinityValue) throws KubernetesPluginException {
+        AffinityBuilder affinityBuilder = new AffinityBuilder();
+        for (BLangRecordLiteral.BLangRecordKeyValueField affinityField :
+                convertRecordFields(((BLangRecordLiteral) affinityValue).getFields())) {
+            switch (affinityField.getKey().toString()) {
+                case "nodeAffinity":
+                    affinityBuilder.withNodeAffinity(parseNodeAffinity(affinityField.getValue()));
+                    break;
+                case "podAffinity":
+                    List<PodAffinityTerm> requiredAffinityTerms = new ArrayList<>();
+                    List<WeightedPodAffinityTerm> preferredAffinityTerms = new ArrayList<>();
+                    parsePodAffinity(affinityField.getValue(), requiredAffinityTerms, preferredAffinityTerms);
+                    affinityBuilder.withNewPodAffinity()
+                            .withRequiredDuringSchedulingIgnoredDuringExecution(requiredAffinityTerms)
+                            .withPreferredDuringSchedulingIgnoredDuringExecution(preferredAffinityTerms)
+                            .endPodAffinity();
+                    break;
+                case "podAntiAffinity":
+                    List<PodAffinityTerm> requiredAntiAffinityTerms = new ArrayList<>();
+                    List<WeightedPodAffinityTerm> preferredAntiAffinityTerms = new ArrayList<>();
+                    parsePodAffinity(affinityField.getValue(), requiredAntiAffinityTerms, preferredAntiAffinityTerms);
+                    affinityBuilder.withNewPodAntiAffinity()
+                            .withRequiredDuringSchedulingIgnoredDuringExecution(requiredAntiAffinityTerms)
+                            .withPreferredDuringSchedulingIgnoredDuringExecution(preferredAntiAffinityTerms)
+                            .endPodAntiAffinity();
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown affinity field found: " +
+                            affinityField.getKey().toString());
+            }
+        }
+        return affinityBuilder.build();
+    }
+
+    private NodeAffinity parseNodeAffinity(BLangExpression nodeAffinityValue) throws KubernetesPluginException {
+        NodeAffinityBuilder nodeAffinityBuilder = new NodeAffinityBuilder();
+        for (BLangRecordLiteral.BLangRecordKeyValueField nodeAffinityField :
+                convertRecordFields(((BLangRecordLiteral) nodeAffinityValue).getFields())) {
+            switch (nodeAffinityField.getKey().toString()) {
+                case "requiredDuringScheduling":
+                    nodeAffinityBuilder.withNewRequiredDuringSchedulingIgnoredDuringExecution()
+                            .addNewNodeSelectorTerm()
+                            .withMatchExpressions(parseNodeSelectorRequirements(nodeAffinityField.getValue()))
+                            .endNodeSelectorTerm()
+                            .endRequiredDuringSchedulingIgnoredDuringExecution();
+                    break;
+                case "preferredDuringScheduling":
+                    for (BLangExpression term : ((BLangListConstructorExpr) nodeAffinityField.getValue()).exprs) {
+                        nodeAffinityBuilder.addToPreferredDuringSchedulingIgnoredDuringExecution(
+                                parsePreferredSchedulingTerm(term));
+                    }
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown node affinity field found: " +
+                            nodeAffinityField.getKey().toString());
+            }
+        }
+        return nodeAffinityBuilder.build();
+    }
+
+    private PreferredSchedulingTerm parsePreferredSchedulingTerm(BLangExpression termValue)
+            throws KubernetesPluginException {
+        PreferredSchedulingTermBuilder termBuilder = new PreferredSchedulingTermBuilder();
+        for (BLangRecordLiteral.BLangRecordKeyValueField termField :
+                convertRecordFields(((BLangRecordLiteral) termValue).getFields())) {
+            switch (termField.getKey().toString()) {
+                case "weight":
+                    termBuilder.withWeight(getWeight(termField.getValue()));
+                    break;
+                case "matchExpressions":
+                    termBuilder.withNewPreference()
+                            .withMatchExpressions(parseNodeSelectorRequirements(termField.getValue()))
+                            .endPreference();
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown node affinity term field found: " +
+                            termField.getKey().toString());
+            }
+        }
+        return termBuilder.build();
+    }
+
+    private List<NodeSelectorRequirement> parseNodeSelectorRequirements(BLangExpression requirementValues)
+            throws KubernetesPluginException {
+        List<NodeSelectorRequirement> requirements = new ArrayList<>();
+        for (BLangExpression requirementValue : ((BLangListConstructorExpr) requirementValues).exprs) {
+            NodeSelectorRequirementBuilder requirementBuilder = new NodeSelectorRequirementBuilder();
+            for (BLangRecordLiteral.BLangRecordKeyValueField requirementField :
+                    convertRecordFields(((BLangRecordLiteral) requirementValue).getFields())) {
+                switch (requirementField.getKey().toString()) {
+                    case "key":
+                        requirementBuilder.withKey(getStringValue(requirementField.getValue()));
+                        break;
+                    case "operator":
+                        requirementBuilder.withOperator(getStringValue(requirementField.getValue()));
+                        break;
+                    case "values":
+                        requirementBuilder.withValues(getList(requirementField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown node selector requirement field found: " +
+                                requirementField.getKey().toString());
+                }
+            }
+            requirements.add(requirementBuilder.build());
+        }
+        return requirements;
+    }
+
+    /**
+     * Parse the required and preferred terms of a pod affinity or anti-affinity.
+     *
+     * @param podAffinityValue Pod affinity configuration record.
+     * @param requiredTerms    Required terms to add to.
+     * @param preferredTerms   Preferred terms to add to.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private void parsePodAffinity(BLangExpression podAffinityValue, List<PodAffinityTerm> requiredTerms,
+                                  List<WeightedPodAffinityTerm> preferredTerms) throws KubernetesPluginException {
+        for (BLangRecordLiteral.BLangRecordKeyValueField podAffinityField :
+                convertRecordFields(((BLangRecordLiteral) podAffinityValue).getFields())) {
+            List<BLangExpression> termValues = ((BLangListConstructorExpr) podAffinityField.getValue()).exprs;
+            switch (podAffinityField.getKey().toString()) {
+                case "requiredDuringScheduling":
+                    for (BLangExpression termValue : termValues) {
+                        requiredTerms.add(parsePodAffinityTerm((BLangRecordLiteral) termValue));
+                    }
+                    break;
+                case "preferredDuringScheduling":
+                    for (BLangExpression termValue : termValues) {
+                        WeightedPodAffinityTermBuilder weightedTerm = new WeightedPodAffinityTermBuilder()
+                                .withPodAffinityTerm(parsePodAffinityTerm((BLangRecordLiteral) termValue));
+                        for (BLangRecordLiteral.BLangRecordKeyValueField termField :
+                                convertRecordFields(((BLangRecordLiteral) termValue).getFields())) {
+                            if ("weight".equals(termField.getKey().toString())) {
+                                weightedTerm.withWeight(getWeight(termField.getValue()));
+                            }
+                        }
+                        preferredTerms.add(weightedTerm.build());
+                    }
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown pod affinity field found: " +
+                            podAffinityField.getKey().toString());
+            }
+        }
+    }
+
+    /**
+     * Parse a pod affinity term. A term without labels is completed with the selector of the deployment when
+     * generating.
+     *
+     * @param termValue Pod affinity term record.
+     * @return Pod affinity term.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private PodAffinityTerm parsePodAffinityTerm(BLangRecordLiteral termValue) throws KubernetesPluginException {
+        PodAffinityTermBuilder termBuilder = new PodAffinityTermBuilder();
+        for (BLangRecordLiteral.BLangRecordKeyValueField termField : convertRecordFields(termValue.getFields())) {
+            switch (termField.getKey().toString()) {
+                case "topologyKey":
+                    termBuilder.withTopologyKey(getStringValue(termField.getValue()));
+                    break;
+                case "matchLabels":
+                    termBuilder.withNewLabelSelector()
+                            .withMatchLabels(getMap(termField.getValue()))
+                            .endLabelSelector();
+                    break;
+                case "namespaces":
+                    termBuilder.withNamespaces(getList(termField.getValue()));
+                    break;
+                case "weight":
+                    // Weight of a preferred term is set on the weighted term.
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown pod affinity term field found: " +
+                            termField.getKey().toString());
+            }
+        }
+        return termBuilder.build();
+    }
+
+    private int getWeight(BLangExpression weightValue) throws KubernetesPluginException {
+        int weight = getIntValue(weightValue);
+        if (weight < 1 || weight > 100) {
+            throw new KubernetesPluginException("weight of an affinity term should be in the range 1-100: " + weight);
+        }
+        return weight;
+    }
+
+    /**
+     * Parse a topology spread constraint. A constraint without labels is completed with the selector of the
+     * deployment when generating.
+     *
+     * @param constraintValue Topology spread constraint configuration record.
+     * @return Topology spread constraint.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private TopologySpreadConstraint parseTopologySpreadConstraint(BLangExpression constraintValue)
+            throws KubernetesPluginException {
+        // Default values of the record are not available in the record literal.
+        TopologySpreadConstraintBuilder constraintBuilder = new TopologySpreadConstraintBuilder()
+                .withMaxSkew(1)
+                .withWhenUnsatisfiable(SCHEDULE_ANYWAY);
+        for (BLangRecordLiteral.BLangRecordKeyValueField constraintField :
+                convertRecordFields(((BLangRecordLiteral) constraintValue).getFields())) {
+            switch (constraintField.getKey().toString()) {
+                case "maxSkew":
+                    constraintBuilder.withMaxSkew(getIntValue(constraintField.getValue()));
+                    break;
+                case "topologyKey":
+                    constraintBuilder.withTopologyKey(getStringValue(constraintField.getValue()));
+                    break;
+                case "whenUnsatisfiable":
+                    constraintBuilder.withWhenUnsatisfiable(getStringValue(constraintField.getValue()));
+                    break;
+                case "matchLabels":
+                    constraintBuilder.withNewLabelSelector()
+                            .withMatchLabels(getMap(constraintField.getValue()))
+                            .endLabelSelector();
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown topology spread constraint field found: " +
+                            constraintField.getKey().toString());
+            }
+        }
+        return constraintBuilder.build();
+    }
+
+    /**
+     * Parse http get action of a probe.
+     *
+     * @param probeModel   Probe model.
+     * @param httpGetValue Http get configuration record.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private void parseHttpGetConfiguration(ProbeModel probeModel, BLangExpression httpGetValue)
+            throws KubernetesPluginException {
+        for (BLangRecordLiteral.BLangRecordKeyValueField httpGetField :
+                convertRecordFields(((BLangRecordLiteral) httpGetValue).getFields())) {
+            switch (httpGetField.getKey().toString()) {
+                case "path":
+                    probeModel.setPath(getStringValue(httpGetField.getValue()));
+                    break;
+                case "port":
+                    probeModel.setPort(getIntValue(httpGetField.getValue()));
+                    break;
+                case "scheme":
+                    probeModel.setScheme(getStringValue(httpGetField.getValue()));
+                    break;
+                case "headers":
+                    probeModel.setHttpHeaders(getMap(httpGetField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown probe httpGet field found: " +
+                            httpGetField.getKey().toString());
+            }
+        }
+    }
+
     /**
      * Get Deployment strategy.
      *
@@ -383,7 +820,7 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
     }
 
     private Set<String> getDependsOn(BLangRecordLiteral.BLangRecordKeyValueField keyValue) {
-        Set<String> dependsOnList = new HashSet<>();
+        Set<String> dependsOnList = new LinkedHashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
         for (BLangExpression bLangExpression : configAnnotation) {
             dependsOnList.add(bLangExpression.toString());
@@ -415,26 +852,42 @@ public class DeploymentAnnotationProcessor extends AbstractAnnotationProcessor {
         replicas,
         livenessProbe,
         readinessProbe,
+        startupProbe,
         imagePullPolicy,
         env,
+        resources,
+        jvm,
+        appCds,
+        buildCache,
         podAnnotations,
         podTolerations,
         buildExtension,
         dependsOn,
+        dependencyWait,
+        shutdown,
         imagePullSecrets,
         updateStrategy,
         nodeSelector,
+        affinity,
+        topologySpreadConstraints,
+        spreadByHostname,
         serviceAccountName,
         projectedVolumeMount,
         prometheus,
         uberJar,
+        layeredImage,
+        daemonless,
         dockerConfigPath
     }
 
     private enum ProbeConfiguration {
         port,
         initialDelaySeconds,
-        periodSeconds
+        periodSeconds,
+        timeoutSeconds,
+        successThreshold,
+        failureThreshold,
+        httpGet
     }
 
     private enum PodTolerationConfiguration {
@@ -18,13 +18,23 @@
 
 package org.ballerinax.kubernetes.processors;
 
+import io.fabric8.kubernetes.api.model.CrossVersionObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.MetricIdentifierBuilder;
+import io.fabric8.kubernetes.api.model.MetricSpec;
+import io.fabric8.kubernetes.api.model.MetricSpecBuilder;
+import io.fabric8.kubernetes.api.model.MetricTarget;
+import io.fabric8.kubernetes.api.model.MetricTargetBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.ScalingRulesModel;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
 import java.util.List;
@@ -33,6 +43,7 @@ import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.convertRecordFields;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getQuantity;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 
@@ -40,6 +51,8 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
  * HPA annotation processor.
  */
 public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
+    private static final String VALUE_TARGET = "Value";
+    private static final String AVERAGE_VALUE_TARGET = "AverageValue";
 
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
@@ -84,6 +97,27 @@ public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
                 case maxReplicas:
                     podAutoscalerModel.setMaxReplicas(getIntValue(keyValue.getValue()));
                     break;
+                case memoryPercentage:
+                    podAutoscalerModel.setMemoryPercentage(getIntValue(keyValue.getValue()));
+                    break;
+                case podsMetrics:
+                    for (BLangExpression metric : ((BLangListConstructorExpr) keyValue.getValue()).exprs) {
+                        podAutoscalerModel.addMetric(parsePodsMetric((BLangRecordLiteral) metric));
+                    }
+                    break;
+                case objectMetrics:
+                    for (BLangExpression metric : ((BLangListConstructorExpr) keyValue.getValue()).exprs) {
+                        podAutoscalerModel.addMetric(parseObjectMetric((BLangRecordLiteral) metric));
+                    }
+                    break;
+                case externalMetrics:
+                    for (BLangExpression metric : ((BLangListConstructorExpr) keyValue.getValue()).exprs) {
+                        podAutoscalerModel.addMetric(parseExternalMetric((BLangRecordLiteral) metric));
+                    }
+                    break;
+                case behavior:
+                    parseBehavior(podAutoscalerModel, (BLangRecordLiteral) keyValue.getValue());
+                    break;
                 default:
                     break;
             }
@@ -91,6 +125,215 @@ public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
         KubernetesContext.getInstance().getDataHolder().setPodAutoscalerModel(podAutoscalerModel);
     }
 
+    /**
+     * Parse a metric describing the pods of the deployment, averaged across the pods.
+     *
+     * @param metricValue Pods metric configuration record.
+     * @return Metric spec.
+     * @throws KubernetesPluginException When an unknown field is found or a value is invalid.
+     */
+    private MetricSpec parsePodsMetric(BLangRecordLiteral metricValue) throws KubernetesPluginException {
+        MetricIdentifierBuilder metricIdentifier = new MetricIdentifierBuilder();
+        MetricTargetBuilder metricTarget = new MetricTargetBuilder().withType(AVERAGE_VALUE_TARGET);
+        for (BLangRecordLiteral.BLangRecordKeyValueField metricField : convertRecordFields(metricValue.getFields())) {
+            switch (metricField.getKey().toString()) {
+                case "name":
+                    metricIdentifier.withName(getStringValue(metricField.getValue()));
+                    break;
+                case "selector":
+                    metricIdentifier.withNewSelector().withMatchLabels(getMap(metricField.getValue())).endSelector();
+                    break;
+                case "averageValue":
+                    metricTarget.withAverageValue(getQuantity("averageValue", metricField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown pods metric field found: " +
+                            metricField.getKey().toString());
+            }
+        }
+        return new MetricSpecBuilder()
+                .withType("Pods")
+                .withNewPods()
+                .withMetric(metricIdentifier.build())
+                .withTarget(metricTarget.build())
+                .endPods()
+                .build();
+    }
+
+    /**
+     * Parse a metric describing a single kubernetes object, such as the requests per second of an ingress.
+     *
+     * @param metricValue Object metric configuration record.
+     * @return Metric spec.
+     * @throws KubernetesPluginException When an unknown field is found or a value is invalid.
+     */
+    private MetricSpec parseObjectMetric(BLangRecordLiteral metricValue) throws KubernetesPluginException {
+        MetricIdentifierBuilder metricIdentifier = new MetricIdentifierBuilder();
+        CrossVersionObjectReferenceBuilder describedObject = new CrossVersionObjectReferenceBuilder();
+        MetricTargetBuilder metricTarget = new MetricTargetBuilder();
+        for (BLangRecordLiteral.BLangRecordKeyValueField metricField : convertRecordFields(metricValue.getFields())) {
+            switch (metricField.getKey().toString()) {
+                case "name":
+                    metricIdentifier.withName(getStringValue(metricField.getValue()));
+                    break;
+                case "selector":
+                    metricIdentifier.withNewSelector().withMatchLabels(getMap(metricField.getValue())).endSelector();
+                    break;
+                case "objectApiVersion":
+                    describedObject.withApiVersion(getStringValue(metricField.getValue()));
+                    break;
+                case "objectKind":
+                    describedObject.withKind(getStringValue(metricField.getValue()));
+                    break;
+                case "objectName":
+                    describedObject.withName(getStringValue(metricField.getValue()));
+                    break;
+                case "value":
+                case "averageValue":
+                    setMetricTarget(metricTarget, metricField);
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown object metric field found: " +
+                            metricField.getKey().toString());
+            }
+        }
+        return new MetricSpecBuilder()
+                .withType("Object")
+                .withNewObject()
+                .withDescribedObject(describedObject.build())
+                .withMetric(metricIdentifier.build())
+                .withTarget(getMetricTarget(metricTarget, "object"))
+                .endObject()
+                .build();
+    }
+
+    /**
+     * Parse a metric which is not related to any kubernetes object, such as the depth of a message queue.
+     *
+     * @param metricValue External metric configuration record.
+     * @return Metric spec.
+     * @throws KubernetesPluginException When an unknown field is found or a value is invalid.
+     */
+    private MetricSpec parseExternalMetric(BLangRecordLiteral metricValue) throws KubernetesPluginException {
+        MetricIdentifierBuilder metricIdentifier = new MetricIdentifierBuilder();
+        MetricTargetBuilder metricTarget = new MetricTargetBuilder();
+        for (BLangRecordLiteral.BLangRecordKeyValueField metricField : convertRecordFields(metricValue.getFields())) {
+            switch (metricField.getKey().toString()) {
+                case "name":
+                    metricIdentifier.withName(getStringValue(metricField.getValue()));
+                    break;
+                case "selector":
+                    metricIdentifier.withNewSelector().withMatchLabels(getMap(metricField.getValue())).endSelector();
+                    break;
+                case "value":
+                case "averageValue":
+                    setMetricTarget(metricTarget, metricField);
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown external metric field found: " +
+                            metricField.getKey().toString());
+            }
+        }
+        return new MetricSpecBuilder()
+                .withType("External")
+                .withNewExternal()
+                .withMetric(metricIdentifier.build())
+                .withTarget(getMetricTarget(metricTarget, "external"))
+                .endExternal()
+                .build();
+    }
+
+    private void setMetricTarget(MetricTargetBuilder metricTarget, BLangRecordLiteral.BLangRecordKeyValueField field)
+            throws KubernetesPluginException {
+        String targetField = field.getKey().toString();
+        Quantity quantity = getQuantity(targetField, field.getValue());
+        if ("value".equals(targetField)) {
+            metricTarget.withType(VALUE_TARGET).withValue(quantity);
+        } else {
+            metricTarget.withType(AVERAGE_VALUE_TARGET).withAverageValue(quantity);
+        }
+    }
+
+    private MetricTarget getMetricTarget(MetricTargetBuilder metricTarget, String metricType)
+            throws KubernetesPluginException {
+        MetricTarget target = metricTarget.build();
+        if (null == target.getType() || (null != target.getValue() && null != target.getAverageValue())) {
+            throw new KubernetesPluginException("either 'value' or 'averageValue' is required for an " + metricType +
+                    " metric");
+        }
+        return target;
+    }
+
+    /**
+     * Parse the scaling behavior of the autoscaler.
+     *
+     * @param podAutoscalerModel Pod autoscaler model.
+     * @param behaviorValue      Behavior configuration record.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private void parseBehavior(PodAutoscalerModel podAutoscalerModel, BLangRecordLiteral behaviorValue)
+            throws KubernetesPluginException {
+        for (BLangRecordLiteral.BLangRecordKeyValueField behaviorField :
+                convertRecordFields(behaviorValue.getFields())) {
+            switch (behaviorField.getKey().toString()) {
+                case "scaleUp":
+                    podAutoscalerModel.setScaleUp(parseScalingRules((BLangRecordLiteral) behaviorField.getValue()));
+                    break;
+                case "scaleDown":
+                    podAutoscalerModel.setScaleDown(parseScalingRules((BLangRecordLiteral) behaviorField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown behavior field found: " +
+                            behaviorField.getKey().toString());
+            }
+        }
+    }
+
+    private ScalingRulesModel parseScalingRules(BLangRecordLiteral rulesValue) throws KubernetesPluginException {
+        ScalingRulesModel scalingRulesModel = new ScalingRulesModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField rulesField : convertRecordFields(rulesValue.getFields())) {
+            switch (rulesField.getKey().toString()) {
+                case "stabilizationWindowSeconds":
+                    scalingRulesModel.setStabilizationWindowSeconds(getIntValue(rulesField.getValue()));
+                    break;
+                case "selectPolicy":
+                    scalingRulesModel.setSelectPolicy(getStringValue(rulesField.getValue()));
+                    break;
+                case "policies":
+                    for (BLangExpression policy : ((BLangListConstructorExpr) rulesField.getValue()).exprs) {
+                        scalingRulesModel.getPolicies().add(parseScalingPolicy((BLangRecordLiteral) policy));
+                    }
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown scaling rules field found: " +
+                            rulesField.getKey().toString());
+            }
+        }
+        return scalingRulesModel;
+    }
+
+    private ScalingRulesModel.ScalingPolicyModel parseScalingPolicy(BLangRecordLiteral policyValue)
+            throws KubernetesPluginException {
+        ScalingRulesModel.ScalingPolicyModel scalingPolicyModel = new ScalingRulesModel.ScalingPolicyModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField policyField : convertRecordFields(policyValue.getFields())) {
+            switch (policyField.getKey().toString()) {
+                case "policyType":
+                    scalingPolicyModel.setType(getStringValue(policyField.getValue()));
+                    break;
+                case "value":
+                    scalingPolicyModel.setValue(getIntValue(policyField.getValue()));
+                    break;
+                case "periodSeconds":
+                    scalingPolicyModel.setPeriodSeconds(getIntValue(policyField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown scaling policy field found: " +
+                            policyField.getKey().toString());
+            }
+        }
+        return scalingPolicyModel;
+    }
+
     /**
      * Enum class for pod autoscaler configurations.
      */
@@ -100,6 +343,11 @@ public class HPAAnnotationProcessor extends AbstractAnnotationProcessor {
         annotations,
         minReplicas,
         maxReplicas,
-        cpuPercentage
+        cpuPercentage,
+        memoryPercentage,
+        podsMetrics,
+        objectMetrics,
+        externalMetrics,
+        behavior
     }
 }
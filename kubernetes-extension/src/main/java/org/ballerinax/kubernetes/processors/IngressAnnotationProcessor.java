@@ -38,11 +38,11 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangTypeInit;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.ANONYMOUS_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.BALLERINA_HOME;
@@ -103,7 +103,7 @@ public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
      */
     private Set<SecretModel> processSecureSocketAnnotation(String listenerName, List<BLangRecordLiteral
             .BLangRecordKeyValueField> secureSocketKeyValues) throws KubernetesPluginException {
-        Set<SecretModel> secrets = new HashSet<>();
+        Set<SecretModel> secrets = new LinkedHashSet<>();
         String keyStoreFile = null;
         String trustStoreFile = null;
         for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : secureSocketKeyValues) {
@@ -123,7 +123,7 @@ public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
                 SecretModel secretModel = new SecretModel();
                 secretModel.setName(getValidName(listenerName) + "-secure-socket");
                 secretModel.setMountPath(getMountPath(keyStoreFile));
-                Map<String, String> dataMap = new HashMap<>();
+                Map<String, String> dataMap = new TreeMap<>();
                 dataMap.put(String.valueOf(Paths.get(keyStoreFile).getFileName()), keyStoreContent);
                 dataMap.put(String.valueOf(Paths.get(trustStoreFile).getFileName()), trustStoreContent);
                 secretModel.setData(dataMap);
@@ -136,7 +136,7 @@ public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
             SecretModel secretModel = new SecretModel();
             secretModel.setName(getValidName(listenerName) + "-keystore");
             secretModel.setMountPath(getMountPath(keyStoreFile));
-            Map<String, String> dataMap = new HashMap<>();
+            Map<String, String> dataMap = new TreeMap<>();
             dataMap.put(String.valueOf(Paths.get(keyStoreFile).getFileName()), keyStoreContent);
             secretModel.setData(dataMap);
             secrets.add(secretModel);
@@ -146,7 +146,7 @@ public class IngressAnnotationProcessor extends AbstractAnnotationProcessor {
             SecretModel secretModel = new SecretModel();
             secretModel.setName(getValidName(listenerName) + "-truststore");
             secretModel.setMountPath(getMountPath(trustStoreFile));
-            Map<String, String> dataMap = new HashMap<>();
+            Map<String, String> dataMap = new TreeMap<>();
             dataMap.put(String.valueOf(Paths.get(trustStoreFile).getFileName()), trustStoreContent);
             secretModel.setData(dataMap);
             secrets.add(secretModel);
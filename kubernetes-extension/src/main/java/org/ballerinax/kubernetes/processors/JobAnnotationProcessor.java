@@ -30,12 +30,16 @@ import java.util.List;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_CERT_PATH;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_HOST;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.convertRecordFields;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getAppCdsModel;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBuildCacheModel;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBooleanValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getEnvVarMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getExternalFileMap;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getImagePullSecrets;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getJvmModel;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getResourceRequirements;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
@@ -86,6 +90,18 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
                 case env:
                     jobModel.setEnv(getEnvVarMap(keyValue.getValue()));
                     break;
+                case resources:
+                    jobModel.setResources(getResourceRequirements(keyValue.getValue()));
+                    break;
+                case jvm:
+                    jobModel.setJvm(getJvmModel(keyValue.getValue()));
+                    break;
+                case appCds:
+                    jobModel.setAppCds(getAppCdsModel(keyValue.getValue()));
+                    break;
+                case buildCache:
+                    jobModel.setBuildCache(getBuildCacheModel(keyValue.getValue()));
+                    break;
                 case password:
                     jobModel.setPassword(getStringValue(keyValue.getValue()));
                     break;
@@ -131,6 +147,12 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
                 case uberJar:
                     jobModel.setUberJar(getBooleanValue(keyValue.getValue()));
                     break;
+                case layeredImage:
+                    jobModel.setLayeredImage(getBooleanValue(keyValue.getValue()));
+                    break;
+                case daemonless:
+                    jobModel.setDaemonless(getBooleanValue(keyValue.getValue()));
+                    break;
                 case dockerConfigPath:
                     jobModel.setDockerConfigPath(getStringValue(keyValue.getValue()));
                     break;
@@ -163,6 +185,10 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
         activeDeadlineSeconds,
         schedule,
         env,
+        resources,
+        jvm,
+        appCds,
+        buildCache,
         buildImage,
         dockerHost,
         username,
@@ -180,6 +206,8 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
         registry,
         nodeSelector,
         uberJar,
+        layeredImage,
+        daemonless,
         dockerConfigPath
     }
 }
@@ -30,7 +30,7 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -71,7 +71,7 @@ public class ResourceQuotaAnnotationPreprocessor extends AbstractAnnotationProce
     
     private void processResourceQuotaAnnotation(BLangAnnotationAttachment attachmentNode)
             throws KubernetesPluginException {
-        Set<ResourceQuotaModel> resourceQuotaModels = new HashSet<>();
+        Set<ResourceQuotaModel> resourceQuotaModels = new LinkedHashSet<>();
         List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
                 convertRecordFields(((BLangRecordLiteral) attachmentNode.expr).getFields());
         for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : keyValues) {
@@ -97,7 +97,7 @@ public class ResourceQuotaAnnotationPreprocessor extends AbstractAnnotationProce
                             resourceQuotaModel.setHard(getMap(annotation.getValue()));
                             break;
                         case scopes:
-                            resourceQuotaModel.setScopes(new HashSet<>(getList(annotation.getValue())));
+                            resourceQuotaModel.setScopes(new LinkedHashSet<>(getList(annotation.getValue())));
                             break;
                         default:
                             break;
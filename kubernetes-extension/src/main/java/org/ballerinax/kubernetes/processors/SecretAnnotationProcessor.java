@@ -34,11 +34,11 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.BALLERINA_CONF_FILE_NAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.BALLERINA_CONF_MOUNT_PATH;
@@ -78,7 +78,7 @@ public class SecretAnnotationProcessor extends AbstractAnnotationProcessor {
 
     private void processSecret(IdentifierNode nodeID, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
-        Set<SecretModel> secrets = new HashSet<>();
+        Set<SecretModel> secrets = new LinkedHashSet<>();
         List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
                 convertRecordFields(((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr)
                         .getFields());
@@ -174,7 +174,7 @@ public class SecretAnnotationProcessor extends AbstractAnnotationProcessor {
                     .normalize();
         }
         String content = Base64.encodeBase64String(KubernetesUtils.readFileContent(dataFilePath));
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         dataMap.put(BALLERINA_CONF_FILE_NAME, content);
         secretModel.setData(dataMap);
         secretModel.setBallerinaConf(configFilePath);
@@ -183,7 +183,7 @@ public class SecretAnnotationProcessor extends AbstractAnnotationProcessor {
     }
 
     private Map<String, String> getDataForSecret(List<BLangExpression> data) throws KubernetesPluginException {
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         for (BLangExpression bLangExpression : data) {
             Path dataFilePath = Paths.get(getStringValue(bLangExpression));
             String key = String.valueOf(dataFilePath.getFileName());
@@ -29,7 +29,7 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -82,7 +82,7 @@ public class VolumeClaimAnnotationProcessor extends AbstractAnnotationProcessor
      * @throws KubernetesPluginException When error occurs while parsing the annotations.
      */
     private void processVolumeClaims(AnnotationAttachmentNode attachmentNode) throws KubernetesPluginException {
-        Set<PersistentVolumeClaimModel> volumeClaimModels = new HashSet<>();
+        Set<PersistentVolumeClaimModel> volumeClaimModels = new LinkedHashSet<>();
         List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
             convertRecordFields(((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getFields());
         for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : keyValues) {
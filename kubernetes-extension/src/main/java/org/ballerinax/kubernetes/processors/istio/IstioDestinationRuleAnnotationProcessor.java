@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.processors.istio;
+
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.ServiceNode;
+import org.ballerinalang.model.tree.SimpleVariableNode;
+import org.ballerinalang.model.tree.expressions.ExpressionNode;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.KubernetesContext;
+import org.ballerinax.kubernetes.models.istio.IstioConnectionPool;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
+import org.ballerinax.kubernetes.models.istio.IstioLoadBalancer;
+import org.ballerinax.kubernetes.models.istio.IstioOutlierDetection;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
+import org.ballerinax.kubernetes.models.istio.IstioTrafficPolicy;
+import org.ballerinax.kubernetes.processors.AbstractAnnotationProcessor;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_DESTINATION_RULE_POSTFIX;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.convertRecordFields;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBooleanValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getLongValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getMap;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getStringValue;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getValidName;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+
+/**
+ * Istio destination rule annotation processor.
+ */
+public class IstioDestinationRuleAnnotationProcessor extends AbstractAnnotationProcessor {
+    private static final String LEAST_REQUEST = "LEAST_REQUEST";
+    private static final String LEAST_CONN = "LEAST_CONN";
+
+    @Override
+    public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
+            convertRecordFields(((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getFields());
+
+        IstioDestinationRuleModel drModel = this.processIstioDRAnnotation(keyValues);
+        if (isBlank(drModel.getName())) {
+            drModel.setName(getValidName(serviceNode.getName().getValue()) + ISTIO_DESTINATION_RULE_POSTFIX);
+        }
+
+        KubernetesContext.getInstance().getDataHolder().addIstioDestinationRuleModel(serviceNode.getName().getValue(),
+                drModel);
+    }
+
+    @Override
+    public void processAnnotation(SimpleVariableNode variableNode, AnnotationAttachmentNode attachmentNode)
+            throws KubernetesPluginException {
+        List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
+            convertRecordFields(((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getFields());
+
+        IstioDestinationRuleModel drModel = this.processIstioDRAnnotation(keyValues);
+        if (isBlank(drModel.getName())) {
+            drModel.setName(getValidName(variableNode.getName().getValue()) + ISTIO_DESTINATION_RULE_POSTFIX);
+        }
+
+        KubernetesContext.getInstance().getDataHolder().addIstioDestinationRuleModel(
+                variableNode.getName().getValue(), drModel);
+    }
+
+    /**
+     * Process @istio:DestinationRule annotation.
+     *
+     * @param drFields Fields of the destination rule annotation.
+     * @return The destination rule model.
+     * @throws KubernetesPluginException Unable to process annotations.
+     */
+    private IstioDestinationRuleModel processIstioDRAnnotation(
+            List<BLangRecordLiteral.BLangRecordKeyValueField> drFields) throws KubernetesPluginException {
+        IstioDestinationRuleModel drModel = new IstioDestinationRuleModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField drField : drFields) {
+            switch (DRConfig.valueOf(drField.getKey().toString())) {
+                case name:
+                    drModel.setName(getValidName(getStringValue(drField.getValue())));
+                    break;
+                case labels:
+                    drModel.setLabels(getMap(drField.getValue()));
+                    break;
+                case annotations:
+                    drModel.setAnnotations(getMap(drField.getValue()));
+                    break;
+                case host:
+                    drModel.setHost(getStringValue(drField.getValue()));
+                    break;
+                case trafficPolicy:
+                    drModel.setTrafficPolicy(processTrafficPolicyAnnotation(drField.getValue()));
+                    break;
+                case subsets:
+                    drModel.setSubsets(processSubsetsAnnotation((BLangListConstructorExpr) drField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio destination rule: " +
+                                                        drField.getKey().toString());
+            }
+        }
+        return drModel;
+    }
+
+    /**
+     * Process subsets of the destination rule annotation to models.
+     *
+     * @param subsetArray The list of subsets.
+     * @return A list of istio subset models.
+     * @throws KubernetesPluginException When an unknown field is found or a subset name is duplicated.
+     */
+    private List<IstioSubset> processSubsetsAnnotation(BLangListConstructorExpr subsetArray)
+            throws KubernetesPluginException {
+        List<IstioSubset> subsets = new LinkedList<>();
+        Set<String> subsetNames = new HashSet<>();
+        for (ExpressionNode expression : subsetArray.getExpressions()) {
+            BLangRecordLiteral subsetFields = (BLangRecordLiteral) expression;
+            IstioSubset subset = new IstioSubset();
+            for (BLangRecordLiteral.BLangRecordKeyValueField subsetField :
+                    convertRecordFields(subsetFields.getFields())) {
+                switch (SubsetConfig.valueOf(subsetField.getKey().toString())) {
+                    case name:
+                        subset.setName(getStringValue(subsetField.getValue()));
+                        break;
+                    case labels:
+                        subset.setLabels(getMap(subsetField.getValue()));
+                        break;
+                    case trafficPolicy:
+                        subset.setTrafficPolicy(processTrafficPolicyAnnotation(subsetField.getValue()));
+                        break;
+                    default:
+                        throw new KubernetesPluginException("unknown field found for istio destination rule subset: "
+                                                            + subsetField.getKey().toString());
+                }
+            }
+            if (!subsetNames.add(subset.getName())) {
+                throw new KubernetesPluginException("duplicate subset found for istio destination rule: " +
+                                                    subset.getName());
+            }
+            subsets.add(subset);
+        }
+        return subsets;
+    }
+
+    /**
+     * Process traffic policy of the destination rule annotation to a model.
+     *
+     * @param trafficPolicyValue The traffic policy field.
+     * @return A istio traffic policy model.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private IstioTrafficPolicy processTrafficPolicyAnnotation(BLangExpression trafficPolicyValue)
+            throws KubernetesPluginException {
+        IstioTrafficPolicy trafficPolicy = new IstioTrafficPolicy();
+        for (BLangRecordLiteral.BLangRecordKeyValueField policyField :
+                convertRecordFields(((BLangRecordLiteral) trafficPolicyValue).getFields())) {
+            switch (TrafficPolicyConfig.valueOf(policyField.getKey().toString())) {
+                case connectionPool:
+                    trafficPolicy.setConnectionPool(processConnectionPoolAnnotation(policyField.getValue()));
+                    break;
+                case outlierDetection:
+                    trafficPolicy.setOutlierDetection(processOutlierDetectionAnnotation(policyField.getValue()));
+                    break;
+                case loadBalancer:
+                    trafficPolicy.setLoadBalancer(processLoadBalancerAnnotation(policyField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio traffic policy: " +
+                                                        policyField.getKey().toString());
+            }
+        }
+        return trafficPolicy;
+    }
+
+    /**
+     * Process connection pool of the traffic policy annotation to a model.
+     *
+     * @param connectionPoolValue The connection pool field.
+     * @return A istio connection pool model.
+     * @throws KubernetesPluginException When an unknown field or a negative value is found.
+     */
+    private IstioConnectionPool processConnectionPoolAnnotation(BLangExpression connectionPoolValue)
+            throws KubernetesPluginException {
+        IstioConnectionPool connectionPool = new IstioConnectionPool();
+        for (BLangRecordLiteral.BLangRecordKeyValueField poolField :
+                convertRecordFields(((BLangRecordLiteral) connectionPoolValue).getFields())) {
+            String fieldName = poolField.getKey().toString();
+            switch (ConnectionPoolConfig.valueOf(fieldName)) {
+                case maxConnections:
+                    connectionPool.setMaxConnections(getPositiveIntValue(fieldName, poolField.getValue()));
+                    break;
+                case connectTimeout:
+                    connectionPool.setConnectTimeout(getPositiveLongValue(fieldName, poolField.getValue()));
+                    break;
+                case http1MaxPendingRequests:
+                    connectionPool.setHttp1MaxPendingRequests(getPositiveIntValue(fieldName, poolField.getValue()));
+                    break;
+                case http2MaxRequests:
+                    connectionPool.setHttp2MaxRequests(getPositiveIntValue(fieldName, poolField.getValue()));
+                    break;
+                case maxRequestsPerConnection:
+                    connectionPool.setMaxRequestsPerConnection(getPositiveIntValue(fieldName, poolField.getValue()));
+                    break;
+                case maxRetries:
+                    connectionPool.setMaxRetries(getIntValue(poolField.getValue()));
+                    if (connectionPool.getMaxRetries() < 0) {
+                        throw new KubernetesPluginException("maxRetries of istio connection pool cannot be " +
+                                                            "negative");
+                    }
+                    break;
+                case idleTimeout:
+                    connectionPool.setIdleTimeout(getPositiveLongValue(fieldName, poolField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio connection pool: " +
+                                                        fieldName);
+            }
+        }
+        return connectionPool;
+    }
+
+    /**
+     * Process outlier detection of the traffic policy annotation to a model.
+     *
+     * @param outlierDetectionValue The outlier detection field.
+     * @return A istio outlier detection model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private IstioOutlierDetection processOutlierDetectionAnnotation(BLangExpression outlierDetectionValue)
+            throws KubernetesPluginException {
+        IstioOutlierDetection outlierDetection = new IstioOutlierDetection();
+        for (BLangRecordLiteral.BLangRecordKeyValueField detectionField :
+                convertRecordFields(((BLangRecordLiteral) outlierDetectionValue).getFields())) {
+            String fieldName = detectionField.getKey().toString();
+            switch (OutlierDetectionConfig.valueOf(fieldName)) {
+                case consecutiveErrors:
+                    outlierDetection.setConsecutiveErrors(getPositiveIntValue(fieldName, detectionField.getValue()));
+                    break;
+                case interval:
+                    outlierDetection.setInterval(getPositiveLongValue(fieldName, detectionField.getValue()));
+                    break;
+                case baseEjectionTime:
+                    outlierDetection.setBaseEjectionTime(getPositiveLongValue(fieldName, detectionField.getValue()));
+                    break;
+                case maxEjectionPercent:
+                    outlierDetection.setMaxEjectionPercent(getPercentageValue(fieldName, detectionField.getValue()));
+                    break;
+                case minHealthPercent:
+                    outlierDetection.setMinHealthPercent(getPercentageValue(fieldName, detectionField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio outlier detection: " +
+                                                        fieldName);
+            }
+        }
+        return outlierDetection;
+    }
+
+    /**
+     * Process load balancer of the traffic policy annotation to a model.
+     *
+     * @param loadBalancerValue The load balancer field.
+     * @return A istio load balancer model.
+     * @throws KubernetesPluginException When an unknown field is found or both a simple policy and a consistent hash
+     *                                   are set.
+     */
+    private IstioLoadBalancer processLoadBalancerAnnotation(BLangExpression loadBalancerValue)
+            throws KubernetesPluginException {
+        IstioLoadBalancer loadBalancer = new IstioLoadBalancer();
+        boolean consistentHashFound = false;
+        for (BLangRecordLiteral.BLangRecordKeyValueField lbField :
+                convertRecordFields(((BLangRecordLiteral) loadBalancerValue).getFields())) {
+            switch (LoadBalancerConfig.valueOf(lbField.getKey().toString())) {
+                case simple:
+                    String simple = getStringValue(lbField.getValue());
+                    // LEAST_REQUEST is the newer name of the LEAST_CONN policy.
+                    loadBalancer.setSimple(LEAST_REQUEST.equals(simple) ? LEAST_CONN : simple);
+                    break;
+                case consistentHash:
+                    consistentHashFound = true;
+                    processConsistentHashAnnotation(loadBalancer, lbField.getValue());
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio load balancer: " +
+                                                        lbField.getKey().toString());
+            }
+        }
+        if (consistentHashFound && null != loadBalancer.getSimple()) {
+            throw new KubernetesPluginException("istio load balancer can either have a 'simple' policy or a " +
+                                                "'consistentHash', but not both");
+        }
+        return loadBalancer;
+    }
+
+    /**
+     * Process consistent hash of the load balancer annotation to the load balancer model.
+     *
+     * @param loadBalancer        The load balancer model.
+     * @param consistentHashValue The consistent hash field.
+     * @throws KubernetesPluginException When an unknown field is found or the hash key is not set exactly once.
+     */
+    private void processConsistentHashAnnotation(IstioLoadBalancer loadBalancer, BLangExpression consistentHashValue)
+            throws KubernetesPluginException {
+        for (BLangRecordLiteral.BLangRecordKeyValueField hashField :
+                convertRecordFields(((BLangRecordLiteral) consistentHashValue).getFields())) {
+            String fieldName = hashField.getKey().toString();
+            switch (ConsistentHashConfig.valueOf(fieldName)) {
+                case httpHeaderName:
+                    loadBalancer.setHttpHeaderName(getStringValue(hashField.getValue()));
+                    break;
+                case useSourceIp:
+                    loadBalancer.setUseSourceIp(getBooleanValue(hashField.getValue()));
+                    break;
+                case minimumRingSize:
+                    loadBalancer.setMinimumRingSize(getPositiveIntValue(fieldName, hashField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio consistent hash: " +
+                                                        fieldName);
+            }
+        }
+        if (isBlank(loadBalancer.getHttpHeaderName()) == !loadBalancer.isUseSourceIp()) {
+            throw new KubernetesPluginException("istio consistent hash should either have a 'httpHeaderName' or " +
+                                                "'useSourceIp' enabled");
+        }
+    }
+
+    private int getPositiveIntValue(String fieldName, BLangExpression expr) throws KubernetesPluginException {
+        int value = getIntValue(expr);
+        if (value < 1) {
+            throw new KubernetesPluginException(fieldName + " of istio destination rule should be positive: " + value);
+        }
+        return value;
+    }
+
+    private long getPositiveLongValue(String fieldName, BLangExpression expr) throws KubernetesPluginException {
+        long value = getLongValue(expr);
+        if (value < 1) {
+            throw new KubernetesPluginException(fieldName + " of istio destination rule should be positive: " + value);
+        }
+        return value;
+    }
+
+    private int getPercentageValue(String fieldName, BLangExpression expr) throws KubernetesPluginException {
+        int value = getIntValue(expr);
+        if (value < 0 || value > 100) {
+            throw new KubernetesPluginException(fieldName + " of istio destination rule should be between 0 and " +
+                                                "100: " + value);
+        }
+        return value;
+    }
+
+    private enum ConsistentHashConfig {
+        httpHeaderName,
+        useSourceIp,
+        minimumRingSize
+    }
+
+    private enum LoadBalancerConfig {
+        simple,
+        consistentHash
+    }
+
+    private enum OutlierDetectionConfig {
+        consecutiveErrors,
+        interval,
+        baseEjectionTime,
+        maxEjectionPercent,
+        minHealthPercent
+    }
+
+    private enum ConnectionPoolConfig {
+        maxConnections,
+        connectTimeout,
+        http1MaxPendingRequests,
+        http2MaxRequests,
+        maxRequestsPerConnection,
+        maxRetries,
+        idleTimeout
+    }
+
+    private enum TrafficPolicyConfig {
+        connectionPool,
+        outlierDetection,
+        loadBalancer
+    }
+
+    private enum SubsetConfig {
+        name,
+        labels,
+        trafficPolicy
+    }
+
+    private enum DRConfig {
+        name,
+        labels,
+        annotations,
+        host,
+        trafficPolicy,
+        subsets
+    }
+}
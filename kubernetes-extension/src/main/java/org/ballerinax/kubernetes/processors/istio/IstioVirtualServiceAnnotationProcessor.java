@@ -26,18 +26,25 @@ import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.istio.IstioDestination;
 import org.ballerinax.kubernetes.models.istio.IstioDestinationWeight;
+import org.ballerinax.kubernetes.models.istio.IstioHttpFaultInjection;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRetry;
 import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
 import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
 import org.ballerinax.kubernetes.processors.AbstractAnnotationProcessor;
 import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_VIRTUAL_SERVICE_POSTFIX;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.convertRecordFields;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getDurationMillis;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getIntValue;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getList;
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.getLongValue;
@@ -52,6 +59,10 @@ import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
  * @since 0.985.0
  */
 public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationProcessor {
+    private static final Set<String> RETRY_ON_CONDITIONS = new HashSet<>(Arrays.asList("5xx", "gateway-error",
+            "reset", "connect-failure", "envoy-ratelimited", "retriable-4xx", "refused-stream",
+            "retriable-status-codes", "retriable-headers", "cancelled", "deadline-exceeded", "internal",
+            "resource-exhausted", "unavailable"));
     
     @Override
     public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode)
@@ -164,16 +175,162 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
                     case appendHeaders:
                         httpRoute.setAppendHeaders(getMap(httpField.getValue()));
                         break;
+                    case retries:
+                        httpRoute.setRetries(processRetriesAnnotation((BLangRecordLiteral) httpField.getValue()));
+                        break;
+                    case mirror:
+                        BLangRecordLiteral mirrorFields = (BLangRecordLiteral) httpField.getValue();
+                        httpRoute.setMirror(processDestinationAnnotation(mirrorFields));
+                        break;
+                    case mirrorPercent:
+                        httpRoute.setMirrorPercent(getPercentValue("mirrorPercent", httpField.getValue()));
+                        break;
+                    case fault:
+                        httpRoute.setFault(processFaultAnnotation((BLangRecordLiteral) httpField.getValue()));
+                        break;
                     default:
                         throw new KubernetesPluginException("unknown field found for istio virtual service: " +
                                                             httpField.getKey().toString());
                 }
             }
+            validateHttpRoute(httpRoute);
             httpRoutes.add(httpRoute);
         }
         return httpRoutes;
     }
     
+    /**
+     * Validate the timeouts and the mirror of a http route.
+     *
+     * @param httpRoute The http route.
+     * @throws KubernetesPluginException When the route is invalid.
+     */
+    private void validateHttpRoute(IstioHttpRoute httpRoute) throws KubernetesPluginException {
+        if (-1 != httpRoute.getMirrorPercent() && null == httpRoute.getMirror()) {
+            throw new KubernetesPluginException("'mirrorPercent' of istio virtual service requires a 'mirror'");
+        }
+        IstioHttpRetry retries = httpRoute.getRetries();
+        if (null != retries && null != retries.getPerTryTimeout() && -1 != httpRoute.getTimeout() &&
+                getDurationMillis("perTryTimeout", retries.getPerTryTimeout()) > httpRoute.getTimeout() * 1000) {
+            throw new KubernetesPluginException("'perTryTimeout' of istio virtual service cannot exceed the " +
+                                                "'timeout' of the route: " + retries.getPerTryTimeout());
+        }
+    }
+
+    /**
+     * Process retries of http annotation to a model.
+     *
+     * @param retryFields The retries field.
+     * @return A istio http retry model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private IstioHttpRetry processRetriesAnnotation(BLangRecordLiteral retryFields) throws KubernetesPluginException {
+        IstioHttpRetry retry = new IstioHttpRetry();
+        for (BLangRecordLiteral.BLangRecordKeyValueField retryField : convertRecordFields(retryFields.getFields())) {
+            switch (HttpRetryConfig.valueOf(retryField.getKey().toString())) {
+                case attempts:
+                    retry.setAttempts(getIntValue(retryField.getValue()));
+                    if (retry.getAttempts() < 0) {
+                        throw new KubernetesPluginException("retry attempts of istio virtual service cannot be " +
+                                                            "negative: " + retry.getAttempts());
+                    }
+                    break;
+                case perTryTimeout:
+                    retry.setPerTryTimeout(getStringValue(retryField.getValue()));
+                    if (getDurationMillis("perTryTimeout", retry.getPerTryTimeout()) < 1) {
+                        throw new KubernetesPluginException("perTryTimeout of istio virtual service should be " +
+                                                            "positive: " + retry.getPerTryTimeout());
+                    }
+                    break;
+                case retryOn:
+                    retry.setRetryOn(getStringValue(retryField.getValue()));
+                    for (String condition : retry.getRetryOn().split(",")) {
+                        if (!RETRY_ON_CONDITIONS.contains(condition.trim()) &&
+                                !condition.trim().matches("[1-5][0-9][0-9]")) {
+                            throw new KubernetesPluginException("unknown retryOn condition found for istio virtual " +
+                                                                "service: " + condition.trim());
+                        }
+                    }
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio virtual service retries: " +
+                                                        retryField.getKey().toString());
+            }
+        }
+        return retry;
+    }
+
+    /**
+     * Process fault injection of http annotation to a model.
+     *
+     * @param faultFields The fault field.
+     * @return A istio http fault injection model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private IstioHttpFaultInjection processFaultAnnotation(BLangRecordLiteral faultFields)
+            throws KubernetesPluginException {
+        IstioHttpFaultInjection fault = new IstioHttpFaultInjection();
+        for (BLangRecordLiteral.BLangRecordKeyValueField faultField : convertRecordFields(faultFields.getFields())) {
+            switch (HttpFaultConfig.valueOf(faultField.getKey().toString())) {
+                case abort:
+                    IstioHttpFaultInjection.Abort abort = new IstioHttpFaultInjection.Abort();
+                    for (BLangRecordLiteral.BLangRecordKeyValueField abortField :
+                            convertRecordFields(((BLangRecordLiteral) faultField.getValue()).getFields())) {
+                        switch (abortField.getKey().toString()) {
+                            case "percent":
+                                abort.setPercent(getPercentValue("fault abort percent", abortField.getValue()));
+                                break;
+                            case "httpStatus":
+                                abort.setHttpStatus(getIntValue(abortField.getValue()));
+                                if (abort.getHttpStatus() < 200 || abort.getHttpStatus() > 599) {
+                                    throw new KubernetesPluginException("invalid fault abort httpStatus found for " +
+                                                                        "istio virtual service: " +
+                                                                        abort.getHttpStatus());
+                                }
+                                break;
+                            default:
+                                throw new KubernetesPluginException("unknown field found for istio virtual service " +
+                                                                    "fault abort: " + abortField.getKey().toString());
+                        }
+                    }
+                    fault.setAbort(abort);
+                    break;
+                case delay:
+                    IstioHttpFaultInjection.Delay delay = new IstioHttpFaultInjection.Delay();
+                    for (BLangRecordLiteral.BLangRecordKeyValueField delayField :
+                            convertRecordFields(((BLangRecordLiteral) faultField.getValue()).getFields())) {
+                        switch (delayField.getKey().toString()) {
+                            case "percent":
+                                delay.setPercent(getPercentValue("fault delay percent", delayField.getValue()));
+                                break;
+                            case "fixedDelay":
+                                delay.setFixedDelay(getStringValue(delayField.getValue()));
+                                getDurationMillis("fixedDelay", delay.getFixedDelay());
+                                break;
+                            default:
+                                throw new KubernetesPluginException("unknown field found for istio virtual service " +
+                                                                    "fault delay: " + delayField.getKey().toString());
+                        }
+                    }
+                    fault.setDelay(delay);
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown field found for istio virtual service fault: " +
+                                                        faultField.getKey().toString());
+            }
+        }
+        return fault;
+    }
+
+    private int getPercentValue(String fieldName, BLangExpression expr) throws KubernetesPluginException {
+        int value = getIntValue(expr);
+        if (value < 0 || value > 100) {
+            throw new KubernetesPluginException(fieldName + " of istio virtual service should be between 0 and 100: "
+                                                + value);
+        }
+        return value;
+    }
+
     /**
      * Process routes of http annotation to a model.
      *
@@ -253,7 +410,22 @@ public class IstioVirtualServiceAnnotationProcessor extends AbstractAnnotationPr
     private enum HttpRouteConfig {
         route,
         timeout,
-        appendHeaders
+        appendHeaders,
+        retries,
+        mirror,
+        mirrorPercent,
+        fault
+    }
+
+    private enum HttpRetryConfig {
+        attempts,
+        perTryTimeout,
+        retryOn
+    }
+
+    private enum HttpFaultConfig {
+        abort,
+        delay
     }
     
     private enum VSConfig {
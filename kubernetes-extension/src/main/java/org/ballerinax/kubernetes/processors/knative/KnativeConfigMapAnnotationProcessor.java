@@ -36,11 +36,11 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.BALLERINA_CONF_FILE_NAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.BALLERINA_CONF_MOUNT_PATH;
@@ -79,7 +79,7 @@ public class KnativeConfigMapAnnotationProcessor extends AbstractAnnotationProce
 
     private void processConfigMaps(IdentifierNode nodeID, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
-        Set<ConfigMapModel> configMapModels = new HashSet<>();
+        Set<ConfigMapModel> configMapModels = new LinkedHashSet<>();
         List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
             convertRecordFields(((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getFields());
         for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : keyValues) {
@@ -160,7 +160,7 @@ public class KnativeConfigMapAnnotationProcessor extends AbstractAnnotationProce
     }
 
     private Map<String, String> getDataForConfigMap(List<BLangExpression> data) throws KubernetesPluginException {
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         for (BLangExpression bLangExpression : data) {
             Path dataFilePath = Paths.get(((BLangLiteral) bLangExpression).getValue().toString());
             if (!dataFilePath.isAbsolute()) {
@@ -185,7 +185,7 @@ public class KnativeConfigMapAnnotationProcessor extends AbstractAnnotationProce
                     .normalize();
         }
         String content = new String(KnativeUtils.readFileContent(dataFilePath), StandardCharsets.UTF_8);
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         dataMap.put(BALLERINA_CONF_FILE_NAME, content);
         configMapModel.setData(dataMap);
         configMapModel.setBallerinaConf(configFilePath);
@@ -35,11 +35,11 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
 import static org.ballerinax.kubernetes.KubernetesConstants.SECRET_POSTFIX;
@@ -73,7 +73,7 @@ public class KnativeSecretAnnotationProcesser extends AbstractAnnotationProcesso
 
     private void processSecret(IdentifierNode nodeID, AnnotationAttachmentNode attachmentNode) throws
             KubernetesPluginException {
-        Set<SecretModel> secrets = new HashSet<>();
+        Set<SecretModel> secrets = new LinkedHashSet<>();
         List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
             convertRecordFields(((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getFields());
         for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : keyValues) {
@@ -119,7 +119,7 @@ public class KnativeSecretAnnotationProcesser extends AbstractAnnotationProcesso
     }
 
     private Map<String, String> getDataForSecret(List<BLangExpression> data) throws KubernetesPluginException {
-        Map<String, String> dataMap = new HashMap<>();
+        Map<String, String> dataMap = new TreeMap<>();
         for (BLangExpression bLangExpression : data) {
             Path dataFilePath = Paths.get(getStringValue(bLangExpression));
             String key = String.valueOf(dataFilePath.getFileName());
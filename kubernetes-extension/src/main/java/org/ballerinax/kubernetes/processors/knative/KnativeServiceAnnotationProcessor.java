@@ -23,6 +23,7 @@ import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.knative.AutoscalingModel;
 import org.ballerinax.kubernetes.models.knative.KnativeContext;
 import org.ballerinax.kubernetes.models.knative.PodTolerationModel;
 import org.ballerinax.kubernetes.models.knative.ProbeModel;
@@ -39,13 +40,17 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangTypeInit;
 
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_CERT_PATH;
 import static org.ballerinax.kubernetes.KubernetesConstants.DOCKER_HOST;
+import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_CONCURRENCY_METRIC;
+import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_RPS_METRIC;
 import static org.ballerinax.kubernetes.KubernetesConstants.KNATIVE_SVC_POSTFIX;
 import static org.ballerinax.kubernetes.KubernetesConstants.MAIN_FUNCTION_NAME;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.convertRecordFields;
@@ -58,11 +63,14 @@ import static org.ballerinax.kubernetes.utils.KnativeUtils.getMap;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getStringValue;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.getValidName;
 import static org.ballerinax.kubernetes.utils.KnativeUtils.isBlank;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getAppCdsModel;
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.getBuildCacheModel;
 
 /**
  * Deployment Annotation processor.
  */
 public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcessor {
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(?:(\\d+)h)?(?:(\\d+)m)?(?:(\\d+)s)?");
 
     @Override
     public void processAnnotation(FunctionNode functionNode, AnnotationAttachmentNode attachmentNode) throws
@@ -216,6 +224,18 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
                 case timeoutSeconds:
                     serviceModel.setTimeoutSeconds(getIntValue(keyValue.getValue()));
                     break;
+                case appCds:
+                    serviceModel.setAppCds(getAppCdsModel(keyValue.getValue()));
+                    break;
+                case buildCache:
+                    serviceModel.setBuildCache(getBuildCacheModel(keyValue.getValue()));
+                    break;
+                case daemonless:
+                    serviceModel.setDaemonless(getBooleanValue(keyValue.getValue()));
+                    break;
+                case autoscaling:
+                    serviceModel.setAutoscaling(parseAutoscalingConfiguration(keyValue.getValue()));
+                    break;
                 case port:
                     serviceModel.setPort(getIntValue(keyValue.getValue()));
                     break;
@@ -224,6 +244,14 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
             }
         }
 
+        AutoscalingModel autoscalingModel = serviceModel.getAutoscaling();
+        if (null != autoscalingModel && serviceModel.getContainerConcurrency() > 0 &&
+                !KNATIVE_RPS_METRIC.equals(autoscalingModel.getMetric()) &&
+                autoscalingModel.getTarget() > serviceModel.getContainerConcurrency()) {
+            throw new KubernetesPluginException("autoscaling target '" + autoscalingModel.getTarget() + "' exceeds " +
+                    "the containerConcurrency '" + serviceModel.getContainerConcurrency() + "'");
+        }
+
         String dockerHost = System.getenv(DOCKER_HOST);
         if (!isBlank(dockerHost)) {
             serviceModel.setDockerHost(dockerHost);
@@ -280,6 +308,110 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
         return podTolerationModels;
     }
 
+    /**
+     * Parse autoscaling configuration from a record.
+     *
+     * @param autoscalingValue Autoscaling configuration record.
+     * @return Parsed autoscaling model.
+     * @throws KubernetesPluginException When an unknown field or an invalid value is found.
+     */
+    private AutoscalingModel parseAutoscalingConfiguration(BLangExpression autoscalingValue)
+            throws KubernetesPluginException {
+        AutoscalingModel autoscalingModel = new AutoscalingModel();
+        List<BLangRecordLiteral.BLangRecordKeyValueField> autoscalingFields =
+                convertRecordFields(((BLangRecordLiteral) autoscalingValue).getFields());
+        for (BLangRecordLiteral.BLangRecordKeyValueField autoscalingField : autoscalingFields) {
+            AutoscalingConfiguration autoscalingFieldName =
+                    AutoscalingConfiguration.valueOf(autoscalingField.getKey().toString());
+            switch (autoscalingFieldName) {
+                case target:
+                    int target = getIntValue(autoscalingField.getValue());
+                    if (target < 1) {
+                        throw new KubernetesPluginException("autoscaling target should be at least 1: " + target);
+                    }
+                    autoscalingModel.setTarget(target);
+                    break;
+                case minScale:
+                    int minScale = getIntValue(autoscalingField.getValue());
+                    if (minScale < 0) {
+                        throw new KubernetesPluginException("autoscaling minScale cannot be negative: " + minScale);
+                    }
+                    autoscalingModel.setMinScale(minScale);
+                    break;
+                case maxScale:
+                    int maxScale = getIntValue(autoscalingField.getValue());
+                    if (maxScale < 0) {
+                        throw new KubernetesPluginException("autoscaling maxScale cannot be negative: " + maxScale);
+                    }
+                    autoscalingModel.setMaxScale(maxScale);
+                    break;
+                case metric:
+                    String metric = getStringValue(autoscalingField.getValue());
+                    if (!KNATIVE_CONCURRENCY_METRIC.equals(metric) && !KNATIVE_RPS_METRIC.equals(metric)) {
+                        throw new KubernetesPluginException("autoscaling metric should be '" +
+                                KNATIVE_CONCURRENCY_METRIC + "' or '" + KNATIVE_RPS_METRIC + "': " + metric);
+                    }
+                    autoscalingModel.setMetric(metric);
+                    break;
+                case window:
+                    String window = getStringValue(autoscalingField.getValue());
+                    long windowSeconds = getDurationSeconds("window", window);
+                    if (windowSeconds < 6 || windowSeconds > 3600) {
+                        throw new KubernetesPluginException("autoscaling window should be between 6s and 1h: " +
+                                window);
+                    }
+                    autoscalingModel.setWindow(window);
+                    break;
+                case panicWindowPercentage:
+                    int panicWindowPercentage = getIntValue(autoscalingField.getValue());
+                    if (panicWindowPercentage < 1 || panicWindowPercentage > 100) {
+                        throw new KubernetesPluginException("autoscaling panicWindowPercentage should be between 1 " +
+                                "and 100: " + panicWindowPercentage);
+                    }
+                    autoscalingModel.setPanicWindowPercentage(panicWindowPercentage);
+                    break;
+                case scaleToZeroPodRetentionPeriod:
+                    String retentionPeriod = getStringValue(autoscalingField.getValue());
+                    getDurationSeconds("scaleToZeroPodRetentionPeriod", retentionPeriod);
+                    autoscalingModel.setScaleToZeroPodRetentionPeriod(retentionPeriod);
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown autoscaling field found: " +
+                            autoscalingField.getKey().toString());
+            }
+        }
+        if (autoscalingModel.getMinScale() > 0 && autoscalingModel.getMaxScale() > 0 &&
+                autoscalingModel.getMinScale() > autoscalingModel.getMaxScale()) {
+            throw new KubernetesPluginException("autoscaling minScale '" + autoscalingModel.getMinScale() +
+                    "' exceeds the maxScale '" + autoscalingModel.getMaxScale() + "'");
+        }
+        return autoscalingModel;
+    }
+
+    /**
+     * Get the seconds of a duration such as "1m30s".
+     *
+     * @param field    Name of the field of the duration.
+     * @param duration The duration.
+     * @return Seconds of the duration.
+     * @throws KubernetesPluginException When the duration is invalid.
+     */
+    private long getDurationSeconds(String field, String duration) throws KubernetesPluginException {
+        Matcher matcher = DURATION_PATTERN.matcher(duration);
+        if (duration.isEmpty() || !matcher.matches()) {
+            throw new KubernetesPluginException("autoscaling " + field + " should be a duration such as '60s' or " +
+                    "'1m30s': " + duration);
+        }
+        long seconds = 0;
+        int[] multipliers = {3600, 60, 1};
+        for (int i = 0; i < multipliers.length; i++) {
+            if (null != matcher.group(i + 1)) {
+                seconds += Long.parseLong(matcher.group(i + 1)) * multipliers[i];
+            }
+        }
+        return seconds;
+    }
+
     /**
      * Parse probe configuration from a record.
      *
@@ -309,6 +441,18 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
                         case periodSeconds:
                             probeModel.setPeriodSeconds(getIntValue(probeField.getValue()));
                             break;
+                        case timeoutSeconds:
+                            probeModel.setTimeoutSeconds(getIntValue(probeField.getValue()));
+                            break;
+                        case successThreshold:
+                            probeModel.setSuccessThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case failureThreshold:
+                            probeModel.setFailureThreshold(getIntValue(probeField.getValue()));
+                            break;
+                        case httpGet:
+                            parseHttpGetConfiguration(probeModel, probeField.getValue());
+                            break;
                         default:
                             throw new KubernetesPluginException("unknown probe field found: " +
                                     probeField.getKey().toString());
@@ -320,8 +464,39 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
         return null;
     }
 
+    /**
+     * Parse http get action of a probe.
+     *
+     * @param probeModel   Probe model.
+     * @param httpGetValue Http get configuration record.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    private void parseHttpGetConfiguration(ProbeModel probeModel, BLangExpression httpGetValue)
+            throws KubernetesPluginException {
+        for (BLangRecordLiteral.BLangRecordKeyValueField httpGetField :
+                convertRecordFields(((BLangRecordLiteral) httpGetValue).getFields())) {
+            switch (httpGetField.getKey().toString()) {
+                case "path":
+                    probeModel.setPath(getStringValue(httpGetField.getValue()));
+                    break;
+                case "port":
+                    probeModel.setPort(getIntValue(httpGetField.getValue()));
+                    break;
+                case "scheme":
+                    probeModel.setScheme(getStringValue(httpGetField.getValue()));
+                    break;
+                case "headers":
+                    probeModel.setHttpHeaders(getMap(httpGetField.getValue()));
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown probe httpGet field found: " +
+                            httpGetField.getKey().toString());
+            }
+        }
+    }
+
     private Set<String> getDependsOn(BLangRecordLiteral.BLangRecordKeyValueField keyValue) {
-        Set<String> dependsOnList = new HashSet<>();
+        Set<String> dependsOnList = new LinkedHashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
         for (BLangExpression bLangExpression : configAnnotation) {
             dependsOnList.add(bLangExpression.toString());
@@ -370,13 +545,31 @@ public class KnativeServiceAnnotationProcessor extends AbstractAnnotationProcess
         dependsOn,
         imagePullSecrets,
         containerConcurrency,
-        timeoutSeconds
+        timeoutSeconds,
+        appCds,
+        buildCache,
+        daemonless,
+        autoscaling
+    }
+
+    private enum AutoscalingConfiguration {
+        target,
+        minScale,
+        maxScale,
+        metric,
+        window,
+        panicWindowPercentage,
+        scaleToZeroPodRetentionPeriod
     }
 
     private enum ProbeConfiguration {
         port,
         initialDelaySeconds,
-        periodSeconds
+        periodSeconds,
+        timeoutSeconds,
+        successThreshold,
+        failureThreshold,
+        httpGet
     }
 
     private enum PodTolerationConfiguration {
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.AppCdsModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Trains an AppCDS archive while the docker image is built.
+ * <p>
+ * The application is run once with the command of the image to record the classes loaded until it has started, the
+ * recorded classes are dumped to an archive and the command of the image is changed to map the archive. The training
+ * script then runs the application without and with the archive and prints the startup times to the build output.
+ * <p>
+ * Dumping the archive from a class list and mapping it with {@code -XX:SharedArchiveFile} requires Java 11 or later,
+ * hence the Java version of the base image is derived from its name and tag.
+ */
+public class AppCdsArchive {
+    public static final String TRAINING_SCRIPT = "appcds-training.sh";
+    public static final String ARCHIVE_PATH = "/home/ballerina/app.jsa";
+    public static final String STARTUP_TIME_PREFIX = "AppCDS startup time:";
+    private static final String TRAINING_SCRIPT_PATH = "/home/ballerina/" + TRAINING_SCRIPT;
+    private static final int MIN_JAVA_VERSION = 11;
+    private static final Pattern TAG_JAVA_VERSION = Pattern.compile("^(?:openjdk|jdk|jre)?-?(?:1\\.)?(\\d+)");
+    private static final Pattern NAME_JAVA_VERSION = Pattern.compile("(?:jdk|jre|java)-?(?:1\\.)?(\\d+)");
+    private static final String FROM_INSTRUCTION = "FROM ";
+    private static final String CMD_INSTRUCTION = "CMD ";
+    private static final String USER_INSTRUCTION = "USER ";
+    private static final String JAVA_COMMAND = "java ";
+
+    private AppCdsArchive() {
+    }
+
+    /**
+     * Train the archive before the command of a Dockerfile is run and map the archive in the command.
+     *
+     * @param dockerfile  Content of the Dockerfile.
+     * @param appCdsModel AppCDS configuration of the image.
+     * @return Content of the Dockerfile.
+     * @throws KubernetesPluginException If the Dockerfile does not have a shell form CMD running java or the base
+     *                                   image does not have Java 11 or later.
+     */
+    public static String addToDockerfile(String dockerfile, AppCdsModel appCdsModel)
+            throws KubernetesPluginException {
+        List<String> lines = new ArrayList<>(Arrays.asList(dockerfile.split("\n", -1)));
+        int cmdIndex = -1;
+        String user = null;
+        String baseImage = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.startsWith(FROM_INSTRUCTION)) {
+                baseImage = line.substring(FROM_INSTRUCTION.length()).trim().split("\\s+")[0];
+            } else if (line.startsWith(CMD_INSTRUCTION)) {
+                cmdIndex = i;
+            } else if (line.startsWith(USER_INSTRUCTION) && cmdIndex < 0) {
+                user = line.substring(USER_INSTRUCTION.length()).trim();
+            }
+        }
+        if (null == baseImage) {
+            throw new KubernetesPluginException("unable to train the AppCDS archive: Dockerfile does not have a FROM");
+        }
+        int javaVersion = getJavaVersion(baseImage);
+        if (javaVersion < MIN_JAVA_VERSION) {
+            throw new KubernetesPluginException("unable to train the AppCDS archive: base image should have Java " +
+                    MIN_JAVA_VERSION + " or later with the Java version in its name or tag: " + baseImage);
+        }
+        if (cmdIndex < 0) {
+            throw new KubernetesPluginException("unable to train the AppCDS archive: Dockerfile does not have a CMD");
+        }
+        String command = lines.get(cmdIndex).trim().substring(CMD_INSTRUCTION.length()).trim();
+        if (!command.startsWith(JAVA_COMMAND)) {
+            throw new KubernetesPluginException("unable to train the AppCDS archive: Dockerfile CMD does not run " +
+                    "java: " + command);
+        }
+        String javaArguments = command.substring(JAVA_COMMAND.length()).trim();
+
+        List<String> instructions = new ArrayList<>();
+        if (null != user) {
+            // The archive is written to the home directory by root and only read by the user running the image.
+            instructions.add(USER_INSTRUCTION + "root");
+        }
+        instructions.add("COPY " + TRAINING_SCRIPT + " " + TRAINING_SCRIPT_PATH);
+        instructions.add("RUN sh " + TRAINING_SCRIPT_PATH + " " + ARCHIVE_PATH + " " +
+                appCdsModel.getTrainingTimeoutSeconds() + " " + javaArguments);
+        if (null != user) {
+            instructions.add(USER_INSTRUCTION + user);
+        }
+        instructions.add(CMD_INSTRUCTION + JAVA_COMMAND + "-XX:SharedArchiveFile=" + ARCHIVE_PATH + " " +
+                javaArguments);
+        lines.remove(cmdIndex);
+        lines.addAll(cmdIndex, instructions);
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Get the Java version of an image from its tag, such as {@code openjdk:11-jre-slim}, or else from its name, such
+     * as {@code ballerina/jre11:v1}.
+     *
+     * @param image Image name with an optional tag and digest.
+     * @return Java version or -1 if it cannot be derived.
+     */
+    static int getJavaVersion(String image) {
+        String name = image.split("@")[0];
+        String tag = "";
+        int tagIndex = name.lastIndexOf(':');
+        if (tagIndex > name.lastIndexOf('/')) {
+            tag = name.substring(tagIndex + 1);
+            name = name.substring(0, tagIndex);
+        }
+        Matcher tagMatcher = TAG_JAVA_VERSION.matcher(tag);
+        if (tagMatcher.find()) {
+            return Integer.parseInt(tagMatcher.group(1));
+        }
+        Matcher nameMatcher = NAME_JAVA_VERSION.matcher(name.substring(name.lastIndexOf('/') + 1));
+        return nameMatcher.find() ? Integer.parseInt(nameMatcher.group(1)) : -1;
+    }
+
+    /**
+     * Get the script training the archive. The script is run with the path of the archive, the timeout of a run
+     * of the application in seconds and the arguments of the java command of the image.
+     *
+     * @return Content of the script.
+     */
+    public static String getTrainingScript() {
+        return "#!/bin/sh\n" +
+                "# Records the classes loaded while the application starts, dumps them to an AppCDS archive and\n" +
+                "# reports the startup time of the application without and with the archive.\n" +
+                "archive=$1\n" +
+                "timeout=$2\n" +
+                "shift 2\n" +
+                "classlist=\"$archive.classlist\"\n" +
+                "\n" +
+                "now() {\n" +
+                "    nanos=$(date +%s%N)\n" +
+                "    case \"$nanos\" in\n" +
+                "        *N) echo $(( $(date +%s) * 1000 )) ;;\n" +
+                "        *) echo $(( nanos / 1000000 )) ;;\n" +
+                "    esac\n" +
+                "}\n" +
+                "\n" +
+                "# Run the application until it has started, exits or the timeout elapses and print the elapsed\n" +
+                "# milliseconds.\n" +
+                "run() {\n" +
+                "    log=$(mktemp)\n" +
+                "    begin=$(now)\n" +
+                "    deadline=$(( begin + timeout * 1000 ))\n" +
+                "    java \"$@\" > \"$log\" 2>&1 &\n" +
+                "    pid=$!\n" +
+                "    while kill -0 \"$pid\" 2> /dev/null && ! grep -q \"started\" \"$log\" && " +
+                "[ \"$(now)\" -lt \"$deadline\" ]; do\n" +
+                "        sleep 0.05\n" +
+                "    done\n" +
+                "    end=$(now)\n" +
+                "    kill \"$pid\" 2> /dev/null\n" +
+                "    wait \"$pid\" 2> /dev/null\n" +
+                "    rm -f \"$log\"\n" +
+                "    echo $(( end - begin ))\n" +
+                "}\n" +
+                "\n" +
+                "run -Xshare:off -XX:DumpLoadedClassList=\"$classlist\" \"$@\" > /dev/null\n" +
+                "java -Xshare:dump -XX:SharedClassListFile=\"$classlist\" -XX:SharedArchiveFile=\"$archive\" " +
+                "\"$@\" > /dev/null || exit 1\n" +
+                "rm -f \"$classlist\"\n" +
+                "without=$(run \"$@\")\n" +
+                "with=$(run -XX:SharedArchiveFile=\"$archive\" \"$@\")\n" +
+                "echo \"" + STARTUP_TIME_PREFIX + " ${without}ms without archive, ${with}ms with archive\"\n";
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
+
+/**
+ * Content hashes of the generated artifacts of a module along with the version of the plugin which generated them.
+ * Used to write only the artifacts which have changed since the previous build.
+ */
+public class ArtifactManifest {
+    public static final String MANIFEST_FILE_NAME = ".artifacts.sha256";
+    private static final String VERSION_PREFIX = "# plugin-version: ";
+    private static final String HASH_SEPARATOR = "  ";
+
+    private final String pluginVersion;
+    private final Map<String, String> hashes;
+
+    private ArtifactManifest(String pluginVersion, Map<String, String> hashes) {
+        this.pluginVersion = pluginVersion;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Create the manifest of all files in a directory.
+     *
+     * @param directory     The directory.
+     * @param pluginVersion Version of the plugin generating the files.
+     * @return The manifest.
+     * @throws KubernetesPluginException If the files cannot be read.
+     */
+    public static ArtifactManifest create(Path directory, String pluginVersion) throws KubernetesPluginException {
+        Map<String, String> hashes = new TreeMap<>();
+        for (Path file : listFiles(directory)) {
+            hashes.put(toRelativePath(directory, file), hash(file));
+        }
+        return new ArtifactManifest(pluginVersion, hashes);
+    }
+
+    /**
+     * Load the manifest written to a directory by a previous build.
+     *
+     * @param directory The directory.
+     * @return The manifest or null if the directory has no readable manifest.
+     */
+    public static ArtifactManifest load(Path directory) {
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.isRegularFile(manifestPath)) {
+            return null;
+        }
+        try {
+            String pluginVersion = null;
+            Map<String, String> hashes = new TreeMap<>();
+            for (String line : Files.readAllLines(manifestPath, StandardCharsets.UTF_8)) {
+                if (line.startsWith(VERSION_PREFIX)) {
+                    pluginVersion = line.substring(VERSION_PREFIX.length());
+                } else if (line.contains(HASH_SEPARATOR)) {
+                    int separatorIndex = line.indexOf(HASH_SEPARATOR);
+                    hashes.put(line.substring(separatorIndex + HASH_SEPARATOR.length()),
+                            line.substring(0, separatorIndex));
+                }
+            }
+            return new ArtifactManifest(pluginVersion, hashes);
+        } catch (IOException e) {
+            printDebug("unable to read artifact manifest " + manifestPath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Move the artifacts generated to a staging directory into the output directory. Files with the same content as
+     * the previous build are left untouched so that they keep their modification time. Files listed in the manifest of
+     * the previous build which are no longer generated are removed. Other files in the output directory are kept.
+     *
+     * @param stagingDirectory Directory containing the newly generated artifacts.
+     * @param outputDirectory  Artifact output directory.
+     * @param pluginVersion    Version of the plugin generating the artifacts.
+     * @return Number of files written to the output directory.
+     * @throws KubernetesPluginException If an error occurs while moving the files.
+     */
+    public static int synchronize(Path stagingDirectory, Path outputDirectory, String pluginVersion)
+            throws KubernetesPluginException {
+        ArtifactManifest previous = load(outputDirectory);
+        ArtifactManifest current = create(stagingDirectory, pluginVersion);
+        boolean sameVersion = previous != null && Objects.equals(previous.pluginVersion, pluginVersion);
+        int written = 0;
+        try {
+            for (Map.Entry<String, String> artifact : current.hashes.entrySet()) {
+                Path target = outputDirectory.resolve(artifact.getKey());
+                if (sameVersion && Files.isRegularFile(target) && artifact.getValue().equals(hash(target))) {
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                move(stagingDirectory.resolve(artifact.getKey()), target);
+                written++;
+            }
+
+            // Remove stale artifacts. Only the files generated by the previous build are known to be artifacts.
+            List<String> staleArtifacts = new ArrayList<>();
+            if (previous != null) {
+                staleArtifacts.addAll(previous.hashes.keySet());
+            }
+            staleArtifacts.removeAll(current.hashes.keySet());
+            staleArtifacts.remove(MANIFEST_FILE_NAME);
+            for (String staleArtifact : staleArtifacts) {
+                Path staleFile = outputDirectory.resolve(staleArtifact).normalize();
+                if (staleFile.startsWith(outputDirectory.normalize())) {
+                    Files.deleteIfExists(staleFile);
+                    deleteEmptyParentDirectories(outputDirectory, staleFile);
+                }
+            }
+
+            if (previous == null || !sameVersion || !previous.hashes.equals(current.hashes)) {
+                current.write(outputDirectory);
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while writing artifacts to " + outputDirectory, e);
+        }
+        return written;
+    }
+
+    private void write(Path directory) throws IOException {
+        StringBuilder content = new StringBuilder(VERSION_PREFIX).append(pluginVersion).append("\n");
+        hashes.forEach((path, hash) -> content.append(hash).append(HASH_SEPARATOR).append(path).append("\n"));
+        Files.createDirectories(directory);
+        Files.write(directory.resolve(MANIFEST_FILE_NAME), content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static List<Path> listFiles(Path directory) throws KubernetesPluginException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> !MANIFEST_FILE_NAME.equals(file.getFileName().toString()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to list artifacts in " + directory, e);
+        }
+    }
+
+    /**
+     * Delete the directories of a removed artifact which became empty, up to the output directory.
+     *
+     * @param directory Artifact output directory.
+     * @param file      The removed artifact.
+     * @throws IOException If a directory cannot be deleted.
+     */
+    private static void deleteEmptyParentDirectories(Path directory, Path file) throws IOException {
+        Path parent = file.getParent();
+        while (parent != null && !parent.equals(directory.normalize()) && Files.isDirectory(parent)) {
+            try (Stream<Path> children = Files.list(parent)) {
+                if (children.findAny().isPresent()) {
+                    return;
+                }
+            }
+            Files.delete(parent);
+            parent = parent.getParent();
+        }
+    }
+
+    private static String toRelativePath(Path directory, Path file) {
+        return directory.relativize(file).toString().replace('\\', '/');
+    }
+
+    /**
+     * Get the SHA-256 hash of a file.
+     *
+     * @param file The file.
+     * @return Hex encoded hash.
+     * @throws KubernetesPluginException If the file cannot be read.
+     */
+    public static String hash(Path file) throws KubernetesPluginException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new KubernetesPluginException("unable to hash file " + file, e);
+        }
+    }
+}
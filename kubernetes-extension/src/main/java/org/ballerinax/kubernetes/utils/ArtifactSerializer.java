@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ReplicationController;
+import io.fabric8.kubernetes.client.internal.serializationmixins.ObjectMetaMixIn;
+import io.fabric8.kubernetes.client.internal.serializationmixins.ReplicationControllerMixIn;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Serializes kubernetes resources to YAML without their runtime state.
+ * <p>
+ * Produces the same output as {@code SerializationUtils.dumpWithoutRuntimeStateAsYaml} using a single writer which
+ * is created once and shared by all the artifact handlers. The writer is immutable and safe to use from handlers
+ * running concurrently.
+ */
+public class ArtifactSerializer {
+    private static final ObjectWriter YAML_WRITER = createYamlWriter();
+
+    private ArtifactSerializer() {
+    }
+
+    private static ObjectWriter createYamlWriter() {
+        YAMLFactory yamlFactory = new YAMLFactory();
+        // The target is owned by the caller, hence it should not be closed after writing a resource.
+        yamlFactory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        ObjectMapper mapper = new ObjectMapper(yamlFactory);
+        mapper.addMixIn(ObjectMeta.class, ObjectMetaMixIn.class);
+        mapper.addMixIn(ReplicationController.class, ReplicationControllerMixIn.class);
+        return mapper.writer();
+    }
+
+    /**
+     * Serialize a resource to YAML.
+     *
+     * @param resource The resource.
+     * @return YAML document.
+     * @throws JsonProcessingException If the resource cannot be serialized.
+     */
+    public static String toYaml(HasMetadata resource) throws JsonProcessingException {
+        return YAML_WRITER.writeValueAsString(resource);
+    }
+
+    /**
+     * Serialize a resource as a YAML document directly to a writer.
+     *
+     * @param writer   The writer.
+     * @param resource The resource.
+     * @throws IOException If the resource cannot be serialized or written.
+     */
+    public static void writeYaml(Writer writer, HasMetadata resource) throws IOException {
+        YAML_WRITER.writeValue(writer, resource);
+    }
+}
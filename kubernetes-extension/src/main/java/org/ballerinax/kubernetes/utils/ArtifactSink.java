@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.StringBuilderWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Collects the content of the generated artifact files.
+ * <p>
+ * While buffering, content written to a file is kept in memory and the files are replaced together when the sink is
+ * flushed. All the files are first written to a temporary directory and then moved to their targets, and the previous
+ * content of the targets is restored if a file cannot be moved, hence a failed build never leaves a partially written
+ * artifact or a mix of old and new artifacts. When not buffering, content is appended to the file directly.
+ * <p>
+ * Buffered content is ordered by the write order of the thread which wrote it rather than by the time it was written,
+ * hence artifact handlers running concurrently produce the same files as when running one after the other.
+ */
+public class ArtifactSink {
+    private static final String STAGING_DIRECTORY_PREFIX = ".artifacts-";
+    private static final String BACKUP_DIRECTORY = "backup";
+    private static final int DEFAULT_WRITE_ORDER = Integer.MAX_VALUE;
+    private final Map<Path, SortedMap<Integer, StringBuilder>> artifacts = new LinkedHashMap<>();
+    private final ThreadLocal<Integer> writeOrder = ThreadLocal.withInitial(() -> DEFAULT_WRITE_ORDER);
+    private boolean buffering = false;
+
+    /**
+     * Start collecting the written content in memory.
+     */
+    public synchronized void buffer() {
+        this.buffering = true;
+    }
+
+    /**
+     * Set the write order of the current thread. Buffered content of a file written with a lower order comes first.
+     * Content written without a write order comes after the content written with one.
+     *
+     * @param order The write order.
+     */
+    public void setWriteOrder(int order) {
+        writeOrder.set(order);
+    }
+
+    /**
+     * Clear the write order of the current thread.
+     */
+    public void clearWriteOrder() {
+        writeOrder.remove();
+    }
+
+    /**
+     * Append content to a file.
+     *
+     * @param file    The file.
+     * @param content Content to append.
+     * @throws IOException If an error occurs when writing to the file
+     */
+    public void write(Path file, String content) throws IOException {
+        append(file, content);
+    }
+
+    /**
+     * Append content to a file. The content is rendered by the calling thread before it is appended, hence concurrent
+     * writers only wait for each other while appending the rendered content. The content of a call is never
+     * interleaved with the content of another call.
+     *
+     * @param file          The file.
+     * @param contentWriter Writes the content to append.
+     * @throws IOException If an error occurs when writing to the file
+     */
+    public void write(Path file, ContentWriter contentWriter) throws IOException {
+        StringBuilderWriter content = new StringBuilderWriter();
+        contentWriter.writeTo(content);
+        append(file, content.getBuilder());
+    }
+
+    private synchronized void append(Path file, CharSequence content) throws IOException {
+        if (buffering) {
+            artifacts.computeIfAbsent(file.toAbsolutePath(), path -> new TreeMap<>())
+                    .computeIfAbsent(writeOrder.get(), order -> new StringBuilder())
+                    .append(content);
+            return;
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            writer.append(content);
+        }
+    }
+
+    /**
+     * Get the content of the files in a directory including the content which is not flushed yet. The buffered
+     * content of a file replaces its content on disk, as it does when flushed.
+     *
+     * @param directory The directory.
+     * @return Content of the files in the directory by file name.
+     * @throws IOException If an error occurs when reading the files
+     */
+    public synchronized Map<String, String> getArtifacts(Path directory) throws IOException {
+        Path absoluteDirectory = directory.toAbsolutePath();
+        Map<String, String> content = new LinkedHashMap<>();
+        if (Files.isDirectory(absoluteDirectory)) {
+            try (Stream<Path> files = Files.list(absoluteDirectory)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                    content.put(file.getFileName().toString(),
+                            new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        for (Map.Entry<Path, SortedMap<Integer, StringBuilder>> artifact : artifacts.entrySet()) {
+            if (absoluteDirectory.equals(artifact.getKey().getParent())) {
+                content.put(artifact.getKey().getFileName().toString(), getContent(artifact.getValue()));
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Replace the files with the buffered content and stop buffering. Either all the files are replaced or none.
+     *
+     * @throws IOException If an error occurs when writing to a file
+     */
+    public synchronized void flush() throws IOException {
+        try {
+            if (artifacts.isEmpty()) {
+                return;
+            }
+            Path commonDirectory = getCommonDirectory(artifacts.keySet());
+            if (null == commonDirectory) {
+                throw new IOException("artifacts are not in a common directory");
+            }
+            Files.createDirectories(commonDirectory);
+            Path stagingDirectory = Files.createTempDirectory(commonDirectory, STAGING_DIRECTORY_PREFIX);
+            try {
+                // Write all the files before replacing any of them.
+                Map<Path, Path> stagedFiles = new LinkedHashMap<>();
+                for (Map.Entry<Path, SortedMap<Integer, StringBuilder>> artifact : artifacts.entrySet()) {
+                    Path stagedFile = stagingDirectory.resolve(String.valueOf(stagedFiles.size()));
+                    Files.write(stagedFile, getContent(artifact.getValue()).getBytes(StandardCharsets.UTF_8));
+                    stagedFiles.put(artifact.getKey(), stagedFile);
+                }
+                replace(stagedFiles, stagingDirectory.resolve(BACKUP_DIRECTORY));
+            } finally {
+                FileUtils.deleteQuietly(stagingDirectory.toFile());
+            }
+        } finally {
+            discard();
+        }
+    }
+
+    /**
+     * Move staged files to their targets. If a file cannot be moved, the targets which are already replaced are
+     * restored from a backup of their previous content.
+     *
+     * @param stagedFiles     Staged file by target file.
+     * @param backupDirectory Directory to keep the previous content of the targets.
+     * @throws IOException If a file cannot be moved.
+     */
+    private static void replace(Map<Path, Path> stagedFiles, Path backupDirectory) throws IOException {
+        Map<Path, Path> backups = new LinkedHashMap<>();
+        List<Path> replaced = new ArrayList<>();
+        try {
+            Files.createDirectories(backupDirectory);
+            for (Path target : stagedFiles.keySet()) {
+                if (Files.exists(target)) {
+                    Path backup = backupDirectory.resolve(String.valueOf(backups.size()));
+                    Files.copy(target, backup, StandardCopyOption.COPY_ATTRIBUTES);
+                    backups.put(target, backup);
+                }
+            }
+            for (Map.Entry<Path, Path> stagedFile : stagedFiles.entrySet()) {
+                Files.createDirectories(stagedFile.getKey().getParent());
+                move(stagedFile.getValue(), stagedFile.getKey());
+                replaced.add(stagedFile.getKey());
+            }
+        } catch (IOException e) {
+            for (Path target : replaced) {
+                try {
+                    if (backups.containsKey(target)) {
+                        move(backups.get(target), target);
+                    } else {
+                        Files.deleteIfExists(target);
+                    }
+                } catch (IOException restoreError) {
+                    e.addSuppressed(restoreError);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Get the deepest directory containing all the files.
+     *
+     * @param files The files.
+     * @return The directory or null if the files do not have a common directory.
+     */
+    private static Path getCommonDirectory(Iterable<Path> files) {
+        Path commonDirectory = null;
+        for (Path file : files) {
+            Path directory = file.getParent();
+            if (null == commonDirectory) {
+                commonDirectory = directory;
+            }
+            while (null != commonDirectory && !directory.startsWith(commonDirectory)) {
+                commonDirectory = commonDirectory.getParent();
+            }
+        }
+        return commonDirectory;
+    }
+
+    /**
+     * Drop the buffered content and stop buffering.
+     */
+    public synchronized void discard() {
+        artifacts.clear();
+        buffering = false;
+    }
+
+    private static String getContent(SortedMap<Integer, StringBuilder> buffers) {
+        StringBuilder content = new StringBuilder();
+        for (StringBuilder buffer : buffers.values()) {
+            content.append(buffer);
+        }
+        return content.toString();
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
+}
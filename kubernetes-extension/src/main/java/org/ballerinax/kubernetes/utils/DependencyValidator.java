@@ -1,96 +1,116 @@
 package org.ballerinax.kubernetes.utils;
 
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
  * This class checks for cyclic dependencies between Deployments.
+ * <p>
+ * The dependencies of all the deployments are added to a single graph which is validated once with a depth first
+ * search. The search visits each deployment and dependency once, reports the path of the first cycle found and
+ * orders the deployments so that every deployment comes after the deployments it depends on.
  */
 public class DependencyValidator {
 
-    private Map<String, Node> nodesMap = new HashMap<>();
+    private final Map<String, Set<String>> dependencyGraph = new TreeMap<>();
 
     /**
-     * Get a node from the Map if it already exists, else create it and put it in the map.
+     * Add the dependencies of a deployment to the graph.
+     *
+     * @param deployment   Name of the deployment.
+     * @param dependencies Names of the deployments it depends on.
      */
-    private Node getOrCreateNode(String nodeName) {
-        Node currentNode;
-        if (!nodesMap.containsKey(nodeName)) {
-            currentNode = new Node(nodeName);
-            nodesMap.put(nodeName, currentNode);
-        } else {
-            currentNode = nodesMap.get(nodeName);
+    public void addDependencies(String deployment, Collection<String> dependencies) {
+        getOrCreateDependencies(deployment).addAll(dependencies);
+        for (String dependency : dependencies) {
+            getOrCreateDependencies(dependency);
         }
-        return currentNode;
     }
 
-    public boolean validateDependency(String... dependencyChain) {
-
-        String nodeName = dependencyChain[0];
-
-        Node node = getOrCreateNode(nodeName);
-
-        for (int i = 1; i < dependencyChain.length; i++) {
-            if (!node.addChild(getOrCreateNode(dependencyChain[i]))) {
-                return false;
-            }
-        }
-        return true;
+    private Set<String> getOrCreateDependencies(String deployment) {
+        return dependencyGraph.computeIfAbsent(deployment, key -> new TreeSet<>());
     }
 
-    private static class Node implements Comparable<Node> {
-        Set<Node> children = new HashSet<>();
-        String dependencies;
-
-        Node(String dependencies) {
-            this.dependencies = dependencies;
-        }
-
-        boolean addChild(Node n) {
-            //if we add a child, all the children of the that node cannot be this node, otherwise we create a cycle.
-            if (n.allDescendants().contains(this)) {
-                return false;
-            } else {
-                this.children.add(n);
-                return true;
+    /**
+     * Validate that the graph does not contain a cycle and get the order in which the deployments should be rolled
+     * out. Deployments are ordered after their dependencies and by name otherwise, so the order is the same for the
+     * same graph.
+     *
+     * @return Names of the deployments, dependencies first.
+     * @throws KubernetesPluginException If the graph contains a cycle.
+     */
+    public List<String> getDeploymentOrder() throws KubernetesPluginException {
+        List<String> order = new ArrayList<>(dependencyGraph.size());
+        Map<String, VisitState> states = new HashMap<>();
+        Deque<String> path = new ArrayDeque<>();
+        Deque<Iterator<String>> pendingDependencies = new ArrayDeque<>();
+        for (String root : dependencyGraph.keySet()) {
+            if (states.containsKey(root)) {
+                continue;
             }
-        }
-
-        Set<Node> allDescendants() {
-            Set<Node> all = new TreeSet<>();
-
-            for (Node c : children) {
-                all.add(c);
-                all.addAll(c.allDescendants());
+            states.put(root, VisitState.IN_PROGRESS);
+            path.push(root);
+            pendingDependencies.push(dependencyGraph.get(root).iterator());
+            while (!path.isEmpty()) {
+                Iterator<String> dependencies = pendingDependencies.peek();
+                if (!dependencies.hasNext()) {
+                    String deployment = path.pop();
+                    pendingDependencies.pop();
+                    states.put(deployment, VisitState.DONE);
+                    order.add(deployment);
+                    continue;
+                }
+                String dependency = dependencies.next();
+                VisitState state = states.get(dependency);
+                if (VisitState.IN_PROGRESS == state) {
+                    throw new KubernetesPluginException("@kubernetes:Deployment{} contains cyclic dependencies: " +
+                            getCycle(path, dependency));
+                }
+                if (null == state) {
+                    states.put(dependency, VisitState.IN_PROGRESS);
+                    path.push(dependency);
+                    pendingDependencies.push(dependencyGraph.get(dependency).iterator());
+                }
             }
-            return all;
         }
+        return order;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+    /**
+     * Get the cycle ending at a deployment which is on the current path of the search.
+     *
+     * @param path       Path of the search, the last visited deployment first.
+     * @param deployment Deployment which closes the cycle.
+     * @return The cycle such as "a -> b -> a".
+     */
+    private String getCycle(Deque<String> path, String deployment) {
+        List<String> cycle = new ArrayList<>();
+        Iterator<String> fromRoot = path.descendingIterator();
+        boolean inCycle = false;
+        while (fromRoot.hasNext()) {
+            String visited = fromRoot.next();
+            inCycle |= visited.equals(deployment);
+            if (inCycle) {
+                cycle.add(visited);
             }
-            Node node = (Node) o;
-            return dependencies != null ? dependencies.equals(node.dependencies) : node.dependencies == null;
-
-        }
-
-        @Override
-        public int hashCode() {
-            return dependencies != null ? dependencies.hashCode() : 0;
         }
+        cycle.add(deployment);
+        return String.join(" -> ", cycle);
+    }
 
-
-        @Override
-        public int compareTo(Node o) {
-            return dependencies.compareTo(o.dependencies);
-        }
+    private enum VisitState {
+        IN_PROGRESS,
+        DONE
     }
 }
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.docker.generator.DockerArtifactHandler;
+import org.ballerinax.docker.generator.exceptions.DockerGenException;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.AppCdsModel;
+import org.ballerinax.kubernetes.models.DockerBuildCacheModel;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
+
+/**
+ * Generates docker artifacts and customizes the generated Dockerfile before the image is built.
+ * <p>
+ * The docker generator builds the image from the Dockerfile it generates, hence the artifacts are generated without
+ * building the image. The modification times of the generated files are fixed so that regenerated files with the same
+ * content produce the same image layers. An image which is not customized is then built and pushed by the docker
+ * generator, and a customized image with a {@link DockerImageBuilder}, or with an {@link OciImageBuilder} when the
+ * image is built without a docker daemon.
+ */
+public class DockerArtifactCustomizer {
+    private static final String DOCKERFILE = "Dockerfile";
+    private final DockerModel dockerModel;
+    private final String logAppender;
+    private DockerImageLayers layers;
+    private AppCdsModel appCds;
+    private DockerBuildCacheModel buildCache;
+    private boolean daemonless;
+
+    /**
+     * Create a customizer of the docker artifacts of a docker model.
+     *
+     * @param dockerModel The docker model.
+     * @param logAppender Prefix of the lines printed to the build output.
+     */
+    public DockerArtifactCustomizer(DockerModel dockerModel, String logAppender) {
+        this.dockerModel = dockerModel;
+        this.logAppender = logAppender;
+    }
+
+    /**
+     * Copy the dependency jars of the image as layers.
+     *
+     * @param layers Layers of the dependency jars.
+     */
+    public void setLayers(DockerImageLayers layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * Train an AppCDS archive while building the image.
+     *
+     * @param appCds AppCDS configuration of the image.
+     */
+    public void setAppCds(AppCdsModel appCds) {
+        this.appCds = appCds;
+    }
+
+    /**
+     * Skip building and pushing the image when the docker context has not changed since the previous build.
+     *
+     * @param buildCache Build cache configuration of the image.
+     */
+    public void setBuildCache(DockerBuildCacheModel buildCache) {
+        this.buildCache = buildCache;
+    }
+
+    /**
+     * Build the image as an OCI image layout without a docker daemon.
+     *
+     * @param daemonless true to build the image without a docker daemon.
+     */
+    public void setDaemonless(boolean daemonless) {
+        this.daemonless = daemonless;
+    }
+
+    public boolean isDaemonless() {
+        return daemonless;
+    }
+
+    /**
+     * Check if the image is customized, in which case the image is built by the customizer instead of the docker
+     * generator.
+     *
+     * @return true if layers, an AppCDS archive, the build cache or a daemonless build is used.
+     */
+    public boolean isCustomized() {
+        return null != layers || null != appCds || null != buildCache || daemonless;
+    }
+
+    /**
+     * Generate the docker artifacts, customize the Dockerfile and build and push the image.
+     *
+     * @param out         Build output.
+     * @param jarFilePath Path of the executable jar.
+     * @param outputDir   Docker artifact output directory.
+     * @throws KubernetesPluginException If the artifacts cannot be generated or the image cannot be built.
+     */
+    public void createArtifacts(PrintStream out, Path jarFilePath, Path outputDir) throws KubernetesPluginException {
+        generateArtifacts(out, jarFilePath, outputDir);
+        if (!dockerModel.isBuildImage()) {
+            return;
+        }
+        if (!isCustomized()) {
+            buildGeneratedImage(out, outputDir);
+            return;
+        }
+        if (daemonless) {
+            buildImage(out, null, outputDir);
+            return;
+        }
+        try (DockerImageBuilder dockerImageBuilder = new DockerImageBuilder(dockerModel)) {
+            buildImage(out, dockerImageBuilder, outputDir);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while closing docker client: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Generate the docker artifacts and customize the Dockerfile without building the image.
+     *
+     * @param out         Build output.
+     * @param jarFilePath Path of the executable jar.
+     * @param outputDir   Docker artifact output directory.
+     * @throws KubernetesPluginException If the artifacts cannot be generated.
+     */
+    public void generateArtifacts(PrintStream out, Path jarFilePath, Path outputDir)
+            throws KubernetesPluginException {
+        if (null != layers && dockerModel.isUberJar()) {
+            throw new KubernetesPluginException("layeredImage is only supported when uberJar is false.");
+        }
+        if (null != appCds && daemonless) {
+            throw new KubernetesPluginException("appCds is not supported when daemonless is true as the archive " +
+                    "is trained by running the image.");
+        }
+        boolean buildImage = dockerModel.isBuildImage();
+        boolean push = dockerModel.isPush();
+        dockerModel.setBuildImage(false);
+        dockerModel.setPush(false);
+        try {
+            new DockerArtifactHandler(dockerModel).createArtifacts(out, logAppender, jarFilePath, outputDir);
+        } catch (DockerGenException e) {
+            throw new KubernetesPluginException(e.getMessage(), e);
+        } finally {
+            dockerModel.setBuildImage(buildImage);
+            dockerModel.setPush(push);
+        }
+
+        Path dockerfile = outputDir.resolve(DOCKERFILE);
+        try {
+            String content = new String(Files.readAllBytes(dockerfile), StandardCharsets.UTF_8);
+            if (null != layers) {
+                content = layers.layerDockerfile(content, dockerModel.getJarFileName());
+            }
+            if (null != appCds) {
+                content = AppCdsArchive.addToDockerfile(content, appCds);
+                Files.write(outputDir.resolve(AppCdsArchive.TRAINING_SCRIPT),
+                        AppCdsArchive.getTrainingScript().getBytes(StandardCharsets.UTF_8));
+            }
+            Files.write(dockerfile, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while customizing Dockerfile: " + e.getMessage(), e);
+        }
+        // The layers of the image contain the modification times of the files.
+        KubernetesUtils.setArtifactModificationTimes(outputDir);
+    }
+
+    /**
+     * Build and push the image from the generated docker artifacts.
+     *
+     * @param out                Build output.
+     * @param dockerImageBuilder Builder connected to the docker host of the image. Not used when the image is built
+     *                           without a docker daemon.
+     * @param outputDir          Docker artifact output directory.
+     * @throws KubernetesPluginException If the image cannot be built or pushed.
+     */
+    public void buildImage(PrintStream out, DockerImageBuilder dockerImageBuilder, Path outputDir)
+            throws KubernetesPluginException {
+        if (daemonless) {
+            buildDaemonlessImage(out, outputDir);
+            return;
+        }
+        String imageName = DockerImageBuilder.getImageName(dockerModel);
+        DockerBuildCache previousBuild = null;
+        String contentHash = null;
+        if (null != buildCache) {
+            previousBuild = DockerBuildCache.load(outputDir);
+            contentHash = hashContext(dockerImageBuilder, outputDir);
+        }
+        DockerBuildCache currentBuild;
+        if (null != previousBuild && null != contentHash && previousBuild.matches(contentHash) &&
+                dockerImageBuilder.exists(previousBuild.getImageId())) {
+            currentBuild = previousBuild;
+            dockerImageBuilder.tag(currentBuild.getImageId(), dockerModel, dockerModel.getTag());
+            out.println();
+            out.print(logAppender + " - image up to date " + imageName);
+        } else {
+            String imageId = dockerImageBuilder.build(dockerModel, outputDir, line -> {
+                if (line.startsWith(AppCdsArchive.STARTUP_TIME_PREFIX)) {
+                    out.println();
+                    out.print(logAppender + " - " + line.trim());
+                }
+            });
+            if (null != buildCache && null == contentHash) {
+                // The base image is pulled by the build, hence its ID is known once the image is built.
+                contentHash = hashContext(dockerImageBuilder, outputDir);
+            }
+            currentBuild = new DockerBuildCache(contentHash, imageId);
+            out.println();
+            out.print(logAppender + " - image built " + imageName);
+        }
+        List<String> tags = new ArrayList<>();
+        tags.add(dockerModel.getTag());
+        if (null != buildCache && buildCache.isContentHashTag()) {
+            String contentHashTag = DockerBuildCache.getContentHashTag(contentHash);
+            dockerImageBuilder.tag(currentBuild.getImageId(), dockerModel, contentHashTag);
+            tags.add(contentHashTag);
+        }
+        if (dockerModel.isPush()) {
+            for (String tag : tags) {
+                String taggedImageName = dockerModel.getName() + ":" + tag;
+                out.println();
+                String pushedDigest = null == buildCache ? null : currentBuild.getPushedDigest(taggedImageName);
+                if (null != pushedDigest && pushedDigest.equals(getRegistryDigest(tag))) {
+                    out.print(logAppender + " - image already pushed " + taggedImageName);
+                    continue;
+                }
+                dockerImageBuilder.push(dockerModel, tag);
+                String digest = dockerImageBuilder.getRepoDigest(currentBuild.getImageId(), dockerModel.getName());
+                if (null != digest) {
+                    currentBuild.addPushed(taggedImageName, digest);
+                }
+                out.print(logAppender + " - image pushed " + taggedImageName);
+            }
+        }
+        if (null != buildCache) {
+            currentBuild.write(outputDir);
+        }
+    }
+
+    /**
+     * Build and push the image which is not customized with the docker generator.
+     *
+     * @param out       Build output.
+     * @param outputDir Docker artifact output directory.
+     * @throws KubernetesPluginException If the image cannot be built or pushed.
+     */
+    private void buildGeneratedImage(PrintStream out, Path outputDir) throws KubernetesPluginException {
+        String imageName = DockerImageBuilder.getImageName(dockerModel);
+        DockerArtifactHandler dockerArtifactHandler = new DockerArtifactHandler(dockerModel);
+        try {
+            dockerArtifactHandler.buildImage(dockerModel, outputDir);
+            out.println();
+            out.print(logAppender + " - image built " + imageName);
+            if (dockerModel.isPush()) {
+                dockerArtifactHandler.pushImage(dockerModel);
+                out.println();
+                out.print(logAppender + " - image pushed " + imageName);
+            }
+        } catch (DockerGenException e) {
+            throw new KubernetesPluginException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Hash the docker context along with the ID of the base image.
+     *
+     * @param dockerImageBuilder Builder connected to the docker host of the image.
+     * @param outputDir          Docker artifact output directory.
+     * @return The content hash or null if the base image has not been pulled yet.
+     * @throws KubernetesPluginException If the docker context cannot be hashed.
+     */
+    private String hashContext(DockerImageBuilder dockerImageBuilder, Path outputDir)
+            throws KubernetesPluginException {
+        String baseImageId = dockerImageBuilder.getImageId(dockerModel.getBaseImage());
+        return null == baseImageId ? null : DockerBuildCache.hashContext(outputDir, dockerModel.getBaseImage(),
+                baseImageId);
+    }
+
+    /**
+     * Get the digest of a tag of the image in its registry.
+     *
+     * @param tag The tag.
+     * @return The digest or null if the registry does not have the tag or cannot be queried.
+     */
+    private String getRegistryDigest(String tag) {
+        try {
+            return new OciRegistryClient(new DockerImageName(dockerModel.getName()), dockerModel.getUsername(),
+                    dockerModel.getPassword()).getManifestDigest(tag);
+        } catch (KubernetesPluginException | IllegalArgumentException e) {
+            printDebug("unable to check " + dockerModel.getName() + ":" + tag + " in its registry: " +
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Build the image as an OCI image layout next to the docker artifact output directory and push it to its registry.
+     *
+     * @param out       Build output.
+     * @param outputDir Docker artifact output directory.
+     * @throws KubernetesPluginException If the image cannot be built or pushed.
+     */
+    private void buildDaemonlessImage(PrintStream out, Path outputDir) throws KubernetesPluginException {
+        String imageName = DockerImageBuilder.getImageName(dockerModel);
+        OciImageBuilder ociImageBuilder = new OciImageBuilder(dockerModel, OciImageBuilder.getDefaultCacheDirectory());
+        OciImageBuilder.Image image = ociImageBuilder.build(outputDir);
+        out.println();
+        out.print(logAppender + " - image built " + imageName + " " + image.getDigest());
+        if (dockerModel.isPush()) {
+            int uploadedBlobs = ociImageBuilder.push(image);
+            out.println();
+            out.print(logAppender + " - image pushed " + imageName + " (" + uploadedBlobs + " of " +
+                    image.getBlobs().size() + " blobs uploaded)");
+        }
+    }
+
+    public DockerModel getDockerModel() {
+        return dockerModel;
+    }
+}
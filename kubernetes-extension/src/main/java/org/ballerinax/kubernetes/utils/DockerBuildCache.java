@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.printDebug;
+
+/**
+ * Content hash of the docker context of an image along with the ID of the image built from it and the image names
+ * and manifest digests it was pushed as. Used to skip building and pushing an image when its inputs have not changed
+ * since the previous build.
+ * <p>
+ * The hash covers every file of the docker context, which holds the Dockerfile, the jars and the files copied to the
+ * image, and the name and ID of the base image. The entry is written next to the docker context, so that it is not
+ * sent to the docker daemon with the context.
+ */
+public class DockerBuildCache {
+    public static final String CACHE_FILE_SUFFIX = "-build-cache";
+    private static final String CONTENT_HASH_PREFIX = "# content-hash: ";
+    private static final String IMAGE_ID_PREFIX = "# image-id: ";
+    private static final String PUSHED_PREFIX = "pushed ";
+    private static final int CONTENT_HASH_TAG_LENGTH = 12;
+
+    private final String contentHash;
+    private final String imageId;
+    private final Map<String, String> pushedImages = new TreeMap<>();
+
+    /**
+     * Create the cache entry of a built image.
+     *
+     * @param contentHash Content hash of the docker context.
+     * @param imageId     ID of the image built from the docker context.
+     */
+    public DockerBuildCache(String contentHash, String imageId) {
+        this.contentHash = contentHash;
+        this.imageId = imageId;
+    }
+
+    /**
+     * Get the path of the cache entry of a docker context. The entry is a hidden file next to the context.
+     *
+     * @param dockerDir The docker context.
+     * @return Path of the cache entry.
+     */
+    public static Path getCachePath(Path dockerDir) {
+        Path context = dockerDir.toAbsolutePath();
+        return context.resolveSibling("." + context.getFileName() + CACHE_FILE_SUFFIX);
+    }
+
+    /**
+     * Get the content hash of a docker context. The ID of the base image is part of the hash so that an image is
+     * rebuilt when its tag is pulled with a new image.
+     *
+     * @param dockerDir   The docker context.
+     * @param baseImage   Name of the base image.
+     * @param baseImageId ID of the base image on the docker host or null if it has not been pulled.
+     * @return Hex encoded hash.
+     * @throws KubernetesPluginException If the files cannot be read.
+     */
+    public static String hashContext(Path dockerDir, String baseImage, String baseImageId)
+            throws KubernetesPluginException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(dockerDir)) {
+            files = paths.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to list docker artifacts in " + dockerDir, e);
+        }
+        StringBuilder content = new StringBuilder("base-image ").append(baseImage).append(" ")
+                .append(null == baseImageId ? "unknown" : baseImageId).append("\n");
+        for (Path file : files) {
+            content.append(ArtifactManifest.hash(file)).append("  ")
+                    .append(dockerDir.relativize(file).toString().replace('\\', '/')).append("\n");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest(content.toString().getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new KubernetesPluginException("unable to hash docker artifacts in " + dockerDir, e);
+        }
+    }
+
+    /**
+     * Get the tag of an image derived from the content hash of its docker context.
+     *
+     * @param contentHash Content hash of the docker context.
+     * @return The tag.
+     */
+    public static String getContentHashTag(String contentHash) {
+        return contentHash.substring(0, CONTENT_HASH_TAG_LENGTH);
+    }
+
+    /**
+     * Load the cache entry written for a docker context by a previous build.
+     *
+     * @param dockerDir The docker context.
+     * @return The cache entry or null if the docker context has no readable entry.
+     */
+    public static DockerBuildCache load(Path dockerDir) {
+        Path cachePath = getCachePath(dockerDir);
+        if (!Files.isRegularFile(cachePath)) {
+            return null;
+        }
+        try {
+            String contentHash = null;
+            String imageId = null;
+            Map<String, String> pushedImages = new TreeMap<>();
+            for (String line : Files.readAllLines(cachePath, StandardCharsets.UTF_8)) {
+                if (line.startsWith(CONTENT_HASH_PREFIX)) {
+                    contentHash = line.substring(CONTENT_HASH_PREFIX.length());
+                } else if (line.startsWith(IMAGE_ID_PREFIX)) {
+                    imageId = line.substring(IMAGE_ID_PREFIX.length());
+                } else if (line.startsWith(PUSHED_PREFIX)) {
+                    String[] pushed = line.substring(PUSHED_PREFIX.length()).split(" ");
+                    if (pushed.length == 2) {
+                        pushedImages.put(pushed[0], pushed[1]);
+                    }
+                }
+            }
+            if (null == contentHash || null == imageId) {
+                return null;
+            }
+            DockerBuildCache cache = new DockerBuildCache(contentHash, imageId);
+            cache.pushedImages.putAll(pushedImages);
+            return cache;
+        } catch (IOException e) {
+            printDebug("unable to read docker build cache " + cachePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write the cache entry of a docker context.
+     *
+     * @param dockerDir The docker context.
+     * @throws KubernetesPluginException If the entry cannot be written.
+     */
+    public void write(Path dockerDir) throws KubernetesPluginException {
+        StringBuilder content = new StringBuilder(CONTENT_HASH_PREFIX).append(contentHash).append("\n")
+                .append(IMAGE_ID_PREFIX).append(imageId).append("\n");
+        pushedImages.forEach((imageName, digest) -> content.append(PUSHED_PREFIX).append(imageName).append(" ")
+                .append(digest).append("\n"));
+        try {
+            Files.write(getCachePath(dockerDir), content.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to write docker build cache to " + dockerDir, e);
+        }
+    }
+
+    /**
+     * Check if the image was built from a docker context with the given content hash.
+     *
+     * @param contentHash Content hash of the docker context.
+     * @return true if the content hash matches.
+     */
+    public boolean matches(String contentHash) {
+        return this.contentHash.equals(contentHash);
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getImageId() {
+        return imageId;
+    }
+
+    /**
+     * Get the manifest digest the image was pushed with under a name. The registry may have been changed since, hence
+     * the digest should be compared with the digest of the tag in the registry before the push is skipped.
+     *
+     * @param imageName Image name with the tag.
+     * @return The digest or null if the image was not pushed with the name.
+     */
+    public String getPushedDigest(String imageName) {
+        return pushedImages.get(imageName);
+    }
+
+    /**
+     * Record that the image was pushed with a name.
+     *
+     * @param imageName Image name with the tag.
+     * @param digest    Digest of the pushed manifest.
+     */
+    public void addPushed(String imageName, String digest) {
+        pushedImages.put(imageName, digest);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds and pushes the docker images of the modules of a project concurrently.
+ * <p>
+ * The images are submitted as the modules finish generating their artifacts and at most the configured number of
+ * images are built at a time. Images built on the same docker host share a single docker client. The build output
+ * of an image is printed once the image is built so that the output of concurrent builds is not interleaved.
+ */
+public class DockerImageBuildQueue implements Closeable {
+    private final int parallelism;
+    private final PrintStream out;
+    private final ExecutorService executor;
+    private final Map<String, DockerImageBuilder> dockerImageBuilders = new HashMap<>();
+    private final List<ImageBuild> imageBuilds = new ArrayList<>();
+    private final long startTime = System.nanoTime();
+
+    /**
+     * Create a queue.
+     *
+     * @param parallelism Maximum number of images built at a time.
+     * @param out         Build output.
+     */
+    public DockerImageBuildQueue(int parallelism, PrintStream out) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism should be at least 1: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.out = out;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "docker-image-build-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue the build of an image whose docker artifacts are generated.
+     *
+     * @param module     Name of the module of the image.
+     * @param customizer Customizer which generated the docker artifacts.
+     * @param dockerDir  Docker artifact output directory.
+     */
+    public synchronized void submit(String module, DockerArtifactCustomizer customizer, Path dockerDir) {
+        DockerModel dockerModel = customizer.getDockerModel();
+        // Images built without a docker daemon do not need a docker client.
+        DockerImageBuilder dockerImageBuilder = customizer.isDaemonless() ? null :
+                dockerImageBuilders.computeIfAbsent(getDockerHostKey(dockerModel),
+                        key -> new DockerImageBuilder(dockerModel, parallelism));
+        ImageBuild imageBuild = new ImageBuild(module, DockerImageBuilder.getImageName(dockerModel));
+        imageBuild.future = executor.submit(() -> {
+            imageBuild.buildStartTime = System.nanoTime();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (PrintStream imageOut = new PrintStream(buffer, true, StandardCharsets.UTF_8.name())) {
+                customizer.buildImage(imageOut, dockerImageBuilder, dockerDir);
+            } finally {
+                imageBuild.buildEndTime = System.nanoTime();
+                out.print(buffer.toString(StandardCharsets.UTF_8.name()));
+            }
+            return null;
+        });
+        imageBuilds.add(imageBuild);
+    }
+
+    /**
+     * Wait for all the queued images to be built and pushed.
+     *
+     * @return The builds in the order they were submitted.
+     */
+    public synchronized List<ImageBuild> await() {
+        for (ImageBuild imageBuild : imageBuilds) {
+            try {
+                imageBuild.future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                imageBuild.error = cause instanceof KubernetesPluginException ? (KubernetesPluginException) cause :
+                        new KubernetesPluginException("unable to build docker image " + imageBuild.imageName +
+                                ": " + cause.getMessage(), cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                imageBuild.error = new KubernetesPluginException("interrupted while building docker image " +
+                        imageBuild.imageName, e);
+            }
+        }
+        return new ArrayList<>(imageBuilds);
+    }
+
+    /**
+     * Get a summary with the time taken by each image, the slowest image first.
+     *
+     * @param imageBuilds The completed builds.
+     * @return The summary.
+     */
+    public String getSummary(List<ImageBuild> imageBuilds) {
+        StringBuilder summary = new StringBuilder()
+                .append(imageBuilds.size()).append(" docker image(s) built in ")
+                .append(toMillis(System.nanoTime() - startTime)).append("ms with up to ")
+                .append(parallelism).append(" concurrent build(s)");
+        imageBuilds.stream()
+                .sorted(Comparator.comparingLong(ImageBuild::getBuildTime).reversed())
+                .forEach(imageBuild -> summary.append("\n\t").append(imageBuild.imageName)
+                        .append(" (module [").append(imageBuild.module).append("]) ")
+                        .append(null == imageBuild.error ? "built" : "failed").append(" in ")
+                        .append(toMillis(imageBuild.getBuildTime())).append("ms after waiting ")
+                        .append(toMillis(imageBuild.getWaitTime())).append("ms"));
+        return summary.toString();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        executor.shutdownNow();
+        IOException closeError = null;
+        for (DockerImageBuilder dockerImageBuilder : dockerImageBuilders.values()) {
+            try {
+                dockerImageBuilder.close();
+            } catch (IOException e) {
+                closeError = e;
+            }
+        }
+        dockerImageBuilders.clear();
+        if (null != closeError) {
+            throw closeError;
+        }
+    }
+
+    private static String getDockerHostKey(DockerModel dockerModel) {
+        return dockerModel.getDockerHost() + "|" + dockerModel.getDockerCertPath() + "|" +
+                dockerModel.getDockerConfig();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Build of an image in the queue.
+     */
+    public static class ImageBuild {
+        private final String module;
+        private final String imageName;
+        private final long submitTime = System.nanoTime();
+        private volatile long buildStartTime;
+        private volatile long buildEndTime;
+        private Future<Void> future;
+        private KubernetesPluginException error;
+
+        private ImageBuild(String module, String imageName) {
+            this.module = module;
+            this.imageName = imageName;
+        }
+
+        public String getModule() {
+            return module;
+        }
+
+        public String getImageName() {
+            return imageName;
+        }
+
+        /**
+         * Get the error which failed the build.
+         *
+         * @return The error or null if the image was built.
+         */
+        public KubernetesPluginException getError() {
+            return error;
+        }
+
+        /**
+         * Get the time the image waited in the queue before its build started.
+         *
+         * @return Duration in nanoseconds.
+         */
+        public long getWaitTime() {
+            return buildStartTime == 0 ? 0 : buildStartTime - submitTime;
+        }
+
+        /**
+         * Get the time taken to build and push the image.
+         *
+         * @return Duration in nanoseconds.
+         */
+        public long getBuildTime() {
+            return buildEndTime == 0 ? 0 : buildEndTime - buildStartTime;
+        }
+    }
+}
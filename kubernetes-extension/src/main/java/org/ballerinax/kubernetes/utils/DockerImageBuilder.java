@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.PushImageCmd;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.AuthConfig;
+import com.github.dockerjava.api.model.BuildResponseItem;
+import com.github.dockerjava.api.model.PushResponseItem;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.command.BuildImageResultCallback;
+import com.github.dockerjava.core.command.PushImageResultCallback;
+import com.github.dockerjava.jaxrs.JerseyDockerCmdExecFactory;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+
+/**
+ * Builds and pushes docker images from a generated docker context with a docker client.
+ */
+public class DockerImageBuilder implements Closeable {
+    private final DockerClient dockerClient;
+
+    /**
+     * Create a builder connecting to the docker host of a docker model.
+     *
+     * @param dockerModel The docker model.
+     */
+    public DockerImageBuilder(DockerModel dockerModel) {
+        this.dockerClient = DockerClientBuilder.getInstance(getClientConfig(dockerModel)).build();
+    }
+
+    /**
+     * Create a builder connecting to the docker host of a docker model which can be shared by concurrent builds.
+     *
+     * @param dockerModel    The docker model.
+     * @param maxConnections Maximum number of concurrent connections to the docker host.
+     */
+    public DockerImageBuilder(DockerModel dockerModel, int maxConnections) {
+        this.dockerClient = DockerClientBuilder.getInstance(getClientConfig(dockerModel))
+                .withDockerCmdExecFactory(new JerseyDockerCmdExecFactory()
+                        .withMaxTotalConnections(maxConnections)
+                        .withMaxPerRouteConnections(maxConnections))
+                .build();
+    }
+
+    private static DockerClientConfig getClientConfig(DockerModel dockerModel) {
+        DefaultDockerClientConfig.Builder config = DefaultDockerClientConfig.createDefaultConfigBuilder();
+        if (!isBlank(dockerModel.getDockerHost())) {
+            config.withDockerHost(dockerModel.getDockerHost());
+        }
+        if (!isBlank(dockerModel.getDockerCertPath())) {
+            config.withDockerTlsVerify(true);
+            config.withDockerCertPath(dockerModel.getDockerCertPath());
+        }
+        if (!isBlank(dockerModel.getDockerConfig())) {
+            config.withDockerConfig(dockerModel.getDockerConfig());
+        }
+        return config.build();
+    }
+
+    /**
+     * Build the image of a docker model.
+     *
+     * @param dockerModel The docker model.
+     * @param dockerDir   The docker context containing the Dockerfile.
+     * @param output      Consumer of the lines of the build output.
+     * @return ID of the image.
+     * @throws KubernetesPluginException If the image cannot be built.
+     */
+    public String build(DockerModel dockerModel, Path dockerDir, Consumer<String> output)
+            throws KubernetesPluginException {
+        String imageName = getImageName(dockerModel);
+        try {
+            return dockerClient.buildImageCmd(dockerDir.toFile())
+                    .withTags(Collections.singleton(imageName))
+                    .exec(new BuildImageResultCallback() {
+                        @Override
+                        public void onNext(BuildResponseItem item) {
+                            if (null != item.getStream()) {
+                                for (String line : item.getStream().split("\n")) {
+                                    output.accept(line);
+                                }
+                            }
+                            super.onNext(item);
+                        }
+                    })
+                    .awaitImageId();
+        } catch (DockerException | DockerClientException e) {
+            throw new KubernetesPluginException("unable to build docker image " + imageName + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check if an image exists on the docker host.
+     *
+     * @param imageId ID of the image.
+     * @return true if the image exists.
+     * @throws KubernetesPluginException If the docker host cannot be queried.
+     */
+    public boolean exists(String imageId) throws KubernetesPluginException {
+        try {
+            dockerClient.inspectImageCmd(imageId).exec();
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        } catch (DockerException | DockerClientException e) {
+            throw new KubernetesPluginException("unable to inspect docker image " + imageId + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the ID of an image on the docker host.
+     *
+     * @param imageName Name of the image with the tag.
+     * @return ID of the image or null if the image is not on the docker host.
+     * @throws KubernetesPluginException If the docker host cannot be queried.
+     */
+    public String getImageId(String imageName) throws KubernetesPluginException {
+        try {
+            return dockerClient.inspectImageCmd(imageName).exec().getId();
+        } catch (NotFoundException e) {
+            return null;
+        } catch (DockerException | DockerClientException e) {
+            throw new KubernetesPluginException("unable to inspect docker image " + imageName + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the digest of the manifest an image was pushed with to a repository.
+     *
+     * @param imageId    ID of the image.
+     * @param repository Name of the image without the tag.
+     * @return The digest or null if the image was not pushed to the repository.
+     * @throws KubernetesPluginException If the docker host cannot be queried.
+     */
+    public String getRepoDigest(String imageId, String repository) throws KubernetesPluginException {
+        try {
+            List<String> repoDigests = dockerClient.inspectImageCmd(imageId).exec().getRepoDigests();
+            if (null != repoDigests) {
+                for (String repoDigest : repoDigests) {
+                    if (repoDigest.startsWith(repository + "@")) {
+                        return repoDigest.substring(repository.length() + 1);
+                    }
+                }
+            }
+            return null;
+        } catch (DockerException | DockerClientException e) {
+            throw new KubernetesPluginException("unable to inspect docker image " + imageId + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Tag an image with the name of a docker model.
+     *
+     * @param imageId     ID of the image.
+     * @param dockerModel The docker model.
+     * @param tag         The tag.
+     * @throws KubernetesPluginException If the image cannot be tagged.
+     */
+    public void tag(String imageId, DockerModel dockerModel, String tag) throws KubernetesPluginException {
+        try {
+            dockerClient.tagImageCmd(imageId, dockerModel.getName(), tag).withForce().exec();
+        } catch (DockerException | DockerClientException e) {
+            throw new KubernetesPluginException("unable to tag docker image " + dockerModel.getName() + ":" + tag +
+                    ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Push the image of a docker model.
+     *
+     * @param dockerModel The docker model.
+     * @throws KubernetesPluginException If the image cannot be pushed.
+     */
+    public void push(DockerModel dockerModel) throws KubernetesPluginException {
+        push(dockerModel, dockerModel.getTag());
+    }
+
+    /**
+     * Push a tag of the image of a docker model.
+     *
+     * @param dockerModel The docker model.
+     * @param tag         The tag.
+     * @throws KubernetesPluginException If the image cannot be pushed.
+     */
+    public void push(DockerModel dockerModel, String tag) throws KubernetesPluginException {
+        String imageName = dockerModel.getName() + ":" + tag;
+        try {
+            PushImageCmd pushImageCmd = dockerClient.pushImageCmd(dockerModel.getName())
+                    .withTag(tag);
+            if (!isBlank(dockerModel.getUsername())) {
+                pushImageCmd.withAuthConfig(new AuthConfig()
+                        .withUsername(dockerModel.getUsername())
+                        .withPassword(dockerModel.getPassword()));
+            }
+            // The registry reports push failures as error items of the progress stream.
+            AtomicReference<String> pushError = new AtomicReference<>();
+            pushImageCmd.exec(new PushImageResultCallback() {
+                @Override
+                public void onNext(PushResponseItem item) {
+                    if (item.isErrorIndicated()) {
+                        pushError.compareAndSet(null, null == item.getErrorDetail() ? item.toString() :
+                                item.getErrorDetail().getMessage());
+                    }
+                    super.onNext(item);
+                }
+            }).awaitCompletion();
+            if (null != pushError.get()) {
+                throw new KubernetesPluginException("unable to push docker image " + imageName + ": " +
+                        pushError.get());
+            }
+        } catch (DockerException | DockerClientException e) {
+            throw new KubernetesPluginException("unable to push docker image " + imageName + ": " +
+                    e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesPluginException("interrupted while pushing docker image " + imageName, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        dockerClient.close();
+    }
+
+    /**
+     * Get the name of the image of a docker model.
+     *
+     * @param dockerModel The docker model.
+     * @return Image name with the tag.
+     */
+    public static String getImageName(DockerModel dockerModel) {
+        return dockerModel.getName() + ":" + dockerModel.getTag();
+    }
+}
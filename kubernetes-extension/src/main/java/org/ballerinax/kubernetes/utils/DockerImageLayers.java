@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Orders the jars of a thin jar docker image into layers which change at different rates.
+ * <p>
+ * Jars of the Ballerina runtime change only when the distribution is updated, third-party jars change when a
+ * dependency is updated and the jars of the modules of the project change with every code change. Each layer is
+ * copied with a single COPY instruction, from the most stable layer to the least stable layer, and the executable
+ * module jar is copied last. Hence a code change only invalidates the last layers of the image.
+ */
+public class DockerImageLayers {
+    private static final String COPY_INSTRUCTION = "COPY ";
+    private static final String RUNTIME_JAR_PREFIX = "ballerina-";
+    private final Path ballerinaHome;
+    private final Path projectRoot;
+    private final Map<Layer, SortedSet<String>> layers = new EnumMap<>(Layer.class);
+
+    /**
+     * Layers of a thin jar docker image in the order they are copied to the image.
+     */
+    public enum Layer {
+        RUNTIME,
+        THIRD_PARTY,
+        MODULE
+    }
+
+    /**
+     * Create the layers of an image.
+     *
+     * @param ballerinaHome Home of the Ballerina distribution. Can be null.
+     * @param projectRoot   Root of the Ballerina project. Can be null when a single file is built.
+     */
+    public DockerImageLayers(Path ballerinaHome, Path projectRoot) {
+        this.ballerinaHome = null == ballerinaHome ? null : ballerinaHome.toAbsolutePath().normalize();
+        this.projectRoot = null == projectRoot ? null : projectRoot.toAbsolutePath().normalize();
+        for (Layer layer : Layer.values()) {
+            layers.put(layer, new TreeSet<>());
+        }
+    }
+
+    /**
+     * Add dependency jars to their layers.
+     *
+     * @param jarPaths Paths of the dependency jars.
+     */
+    public void addAll(Collection<Path> jarPaths) {
+        for (Path jarPath : jarPaths) {
+            layers.get(getLayer(jarPath)).add(jarPath.getFileName().toString());
+        }
+    }
+
+    /**
+     * Get the layer of a dependency jar.
+     *
+     * @param jarPath Path of the jar.
+     * @return The layer.
+     */
+    public Layer getLayer(Path jarPath) {
+        Path path = jarPath.toAbsolutePath().normalize();
+        if ((null != ballerinaHome && path.startsWith(ballerinaHome)) ||
+                path.getFileName().toString().startsWith(RUNTIME_JAR_PREFIX)) {
+            return Layer.RUNTIME;
+        }
+        if (null != projectRoot && path.startsWith(projectRoot)) {
+            return Layer.MODULE;
+        }
+        return Layer.THIRD_PARTY;
+    }
+
+    /**
+     * Get the file names of the jars in a layer in the order they are copied.
+     *
+     * @param layer The layer.
+     * @return Sorted file names of the jars.
+     */
+    public SortedSet<String> getJarNames(Layer layer) {
+        return layers.get(layer);
+    }
+
+    /**
+     * Replace the instructions copying the jars in a Dockerfile with an instruction per layer. The instructions are
+     * placed where the first jar was copied and the executable jar is copied after the layers.
+     *
+     * @param dockerfile        Content of the Dockerfile.
+     * @param executableJarName File name of the executable jar.
+     * @return Content of the layered Dockerfile.
+     */
+    public String layerDockerfile(String dockerfile, String executableJarName) {
+        List<String> lines = new ArrayList<>(Arrays.asList(dockerfile.split("\n", -1)));
+        int insertAt = -1;
+        String jarsDirectory = null;
+        String executableJarCopy = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (!line.startsWith(COPY_INSTRUCTION)) {
+                continue;
+            }
+            String[] arguments = line.substring(COPY_INSTRUCTION.length()).trim().split("\\s+");
+            if (arguments.length != 2) {
+                continue;
+            }
+            if (arguments[0].equals(executableJarName)) {
+                executableJarCopy = lines.get(i);
+            } else if (isDependencyJar(arguments[0])) {
+                jarsDirectory = arguments[1].endsWith("/") ? arguments[1] : arguments[1] + "/";
+            } else {
+                continue;
+            }
+            lines.remove(i);
+            if (insertAt < 0) {
+                insertAt = i;
+            }
+            i--;
+        }
+        if (insertAt < 0) {
+            return dockerfile;
+        }
+        List<String> copyInstructions = new ArrayList<>();
+        if (null != jarsDirectory) {
+            for (Layer layer : Layer.values()) {
+                SortedSet<String> jarNames = layers.get(layer);
+                if (!jarNames.isEmpty()) {
+                    copyInstructions.add(COPY_INSTRUCTION + String.join(" ", jarNames) + " " + jarsDirectory);
+                }
+            }
+        }
+        if (null != executableJarCopy) {
+            copyInstructions.add(executableJarCopy);
+        }
+        lines.addAll(insertAt, copyInstructions);
+        return String.join("\n", lines);
+    }
+
+    private boolean isDependencyJar(String fileName) {
+        for (SortedSet<String> jarNames : layers.values()) {
+            if (jarNames.contains(fileName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the time spent in each phase of generating the artifacts of a module.
+ * <p>
+ * A phase can be timed more than once, for example once per annotation, in which case the durations are added up.
+ * Phases can overlap as handlers run concurrently and a handler includes the serialization of its resources, hence
+ * the durations of the phases do not add up to the total time.
+ */
+public class GenerationReport {
+    public static final String ANNOTATION_PHASE_PREFIX = "annotation:";
+    public static final String HANDLER_PHASE_PREFIX = "handler:";
+    public static final String MODEL_POPULATION_PHASE = "modelPopulation";
+    public static final String DEPENDENCY_VALIDATION_PHASE = "dependencyValidation";
+    public static final String SERIALIZATION_PHASE = "serialization";
+    public static final String WRITE_PHASE = "write";
+    public static final String SYNCHRONIZE_PHASE = "synchronize";
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final long startTime = System.nanoTime();
+
+    /**
+     * Start timing a phase. The duration is recorded when the returned timer is stopped.
+     *
+     * @param phase Name of the phase.
+     * @return Timer of the phase.
+     */
+    public PhaseTimer startPhase(String phase) {
+        return new PhaseTimer(phase, System.nanoTime());
+    }
+
+    /**
+     * Add a duration to a phase.
+     *
+     * @param phase    Name of the phase.
+     * @param duration Duration in nanoseconds.
+     */
+    public synchronized void record(String phase, long duration) {
+        Phase current = phases.computeIfAbsent(phase, Phase::new);
+        current.count++;
+        current.duration += duration;
+    }
+
+    /**
+     * Get the number of times a phase was timed.
+     *
+     * @param phase Name of the phase.
+     * @return Number of times the phase was timed.
+     */
+    public synchronized int getCount(String phase) {
+        Phase current = phases.get(phase);
+        return current == null ? 0 : current.count;
+    }
+
+    /**
+     * Get the total duration of a phase.
+     *
+     * @param phase Name of the phase.
+     * @return Duration in nanoseconds.
+     */
+    public synchronized long getDuration(String phase) {
+        Phase current = phases.get(phase);
+        return current == null ? 0 : current.duration;
+    }
+
+    /**
+     * Get the time elapsed since the report was created.
+     *
+     * @return Duration in nanoseconds.
+     */
+    public long getElapsedTime() {
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Get a single line summary with the total time and the slowest phases.
+     *
+     * @param module Name of the module.
+     * @return The summary.
+     */
+    public synchronized String getSummary(String module) {
+        String slowest = phases.values().stream()
+                .sorted(Comparator.comparingLong((Phase phase) -> phase.duration).reversed())
+                .limit(3)
+                .map(phase -> phase.name + " " + toMillis(phase.duration) + "ms")
+                .collect(Collectors.joining(", "));
+        return "module [" + module + "] kubernetes artifacts generated in " + toMillis(getElapsedTime()) + "ms" +
+                (slowest.isEmpty() ? "" : " (" + slowest + ")");
+    }
+
+    /**
+     * Serialize the report to JSON.
+     *
+     * @param module        Name of the module.
+     * @param pluginVersion Version of the plugin.
+     * @return The report as JSON.
+     * @throws IOException If the report cannot be serialized
+     */
+    public synchronized String toJson(String module, String pluginVersion) throws IOException {
+        List<Map<String, Object>> phaseList = new ArrayList<>();
+        for (Phase phase : phases.values()) {
+            Map<String, Object> phaseEntry = new LinkedHashMap<>();
+            phaseEntry.put("name", phase.name);
+            phaseEntry.put("count", phase.count);
+            phaseEntry.put("durationMillis", toFractionalMillis(phase.duration));
+            phaseList.add(phaseEntry);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("module", module);
+        report.put("pluginVersion", pluginVersion);
+        report.put("totalMillis", toFractionalMillis(getElapsedTime()));
+        report.put("phases", phaseList);
+        return JSON_MAPPER.writeValueAsString(report);
+    }
+
+    /**
+     * Write the report to a file.
+     *
+     * @param file          The file.
+     * @param module        Name of the module.
+     * @param pluginVersion Version of the plugin.
+     * @throws IOException If the report cannot be written
+     */
+    public void write(Path file, String module, String pluginVersion) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, toJson(module, pluginVersion).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static double toFractionalMillis(long nanos) {
+        // Keep microsecond precision as processing a single annotation takes less than a millisecond.
+        return TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0;
+    }
+
+    private static class Phase {
+        private final String name;
+        private int count;
+        private long duration;
+
+        Phase(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Times a phase until it is stopped.
+     */
+    public class PhaseTimer {
+        private final String phase;
+        private final long start;
+
+        private PhaseTimer(String phase, long start) {
+            this.phase = phase;
+            this.start = start;
+        }
+
+        /**
+         * Record the time elapsed since the phase was started.
+         */
+        public void stop() {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+}
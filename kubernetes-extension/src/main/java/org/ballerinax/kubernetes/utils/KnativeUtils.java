@@ -24,6 +24,7 @@ import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.EnvVarSource;
 import io.fabric8.kubernetes.api.model.EnvVarSourceBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelector;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelectorBuilder;
 import io.fabric8.kubernetes.api.model.ResourceFieldSelector;
@@ -51,15 +52,13 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -94,7 +93,8 @@ public class KnativeUtils {
     }
 
     /**
-     * Write content to a File. Create the required directories if they don't not exists.
+     * Write content to a File through the artifact sink of the module. Content is appended if the file already has
+     * content.
      *
      * @param outputDir  Artifact output path.
      * @param context    Context of the file
@@ -105,20 +105,21 @@ public class KnativeUtils {
         KnativeDataHolder dataHolder = KnativeContext.getInstance().getDataHolder();
         // Priority given for job, then deployment.
         Path artifactFileName = outputDir.resolve(extractJarName(dataHolder.getUberJarPath()) + YAML);
+        dataHolder.getArtifactSink().write(artifactFileName, context);
+    }
 
-        File newFile = artifactFileName.toFile();
-        // append if file exists
-        if (newFile.exists()) {
-            Files.write(artifactFileName, context.getBytes(StandardCharsets.UTF_8),
-                    StandardOpenOption.APPEND);
-            return;
-        }
-        //create required directories
-        if (newFile.getParentFile().mkdirs()) {
-            Files.write(artifactFileName, context.getBytes(StandardCharsets.UTF_8));
-            return;
-        }
-        Files.write(artifactFileName, context.getBytes(StandardCharsets.UTF_8));
+    /**
+     * Serialize a resource to YAML and stream it to a File through the artifact sink of the module.
+     *
+     * @param resource       The resource.
+     * @param outputFileName target file path
+     * @throws IOException If an error occurs when serializing or writing to a file
+     */
+    public static void writeToFile(HasMetadata resource, String outputFileName) throws IOException {
+        KnativeDataHolder dataHolder = KnativeContext.getInstance().getDataHolder();
+        Path artifactFileName = dataHolder.getK8sArtifactOutputPath().resolve(KNATIVE)
+                .resolve(extractJarName(dataHolder.getUberJarPath()) + YAML);
+        dataHolder.getArtifactSink().write(artifactFileName, writer -> ArtifactSerializer.writeYaml(writer, resource));
     }
 
     /**
@@ -477,7 +478,7 @@ public class KnativeUtils {
      */
     public static Set<String> getImagePullSecrets(BLangRecordLiteral.BLangRecordKeyValueField keyValue) throws
             KubernetesPluginException {
-        Set<String> imagePullSecrets = new HashSet<>();
+        Set<String> imagePullSecrets = new LinkedHashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
         for (BLangExpression bLangExpression : configAnnotation) {
             imagePullSecrets.add(getStringValue(bLangExpression));
@@ -494,7 +495,7 @@ public class KnativeUtils {
      */
     public static Set<CopyFileModel> getExternalFileMap(BLangRecordLiteral.BLangRecordKeyValueField keyValue) throws
             KubernetesPluginException {
-        Set<CopyFileModel> externalFiles = new HashSet<>();
+        Set<CopyFileModel> externalFiles = new LinkedHashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
         for (BLangExpression bLangExpression : configAnnotation) {
             List<BLangRecordLiteral.BLangRecordKeyValueField> annotationValues =
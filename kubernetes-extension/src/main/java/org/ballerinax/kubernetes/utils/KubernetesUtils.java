@@ -24,13 +24,18 @@ import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.EnvVarSource;
 import io.fabric8.kubernetes.api.model.EnvVarSourceBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelector;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import io.fabric8.kubernetes.api.model.ResourceFieldSelector;
 import io.fabric8.kubernetes.api.model.ResourceFieldSelectorBuilder;
 import io.fabric8.kubernetes.api.model.SecretKeySelector;
 import io.fabric8.kubernetes.api.model.SecretKeySelectorBuilder;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.StringBuilderWriter;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
@@ -38,10 +43,13 @@ import org.ballerinalang.model.tree.expressions.ExpressionNode;
 import org.ballerinax.docker.generator.models.CopyFileModel;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.AppCdsModel;
 import org.ballerinax.kubernetes.models.DeploymentBuildExtension;
 import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.DockerBuildCacheModel;
 import org.ballerinax.kubernetes.models.EnvVarValueModel;
 import org.ballerinax.kubernetes.models.JobModel;
+import org.ballerinax.kubernetes.models.JvmModel;
 import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.openshift.OpenShiftBuildExtensionModel;
@@ -59,24 +67,32 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+import static org.ballerinax.kubernetes.KubernetesConstants.JAVA_TOOL_OPTIONS;
+import static org.ballerinax.kubernetes.KubernetesConstants.JVM_MIN_NON_HEAP_MEMORY;
+import static org.ballerinax.kubernetes.KubernetesConstants.JVM_MIN_ZGC_JAVA_VERSION;
 import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
 
 /**
@@ -84,9 +100,19 @@ import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
  */
 public class KubernetesUtils {
 
+    /**
+     * Modification time of the files of generated docker contexts. 1980 is the earliest time zip archives support.
+     */
+    public static final FileTime ARTIFACT_MODIFICATION_TIME = FileTime.from(Instant.parse("1980-01-01T00:00:00Z"));
+
+    // URL paths which are called from the generated shell commands are limited to characters which have no special
+    // meaning within double quotes.
+    private static final Pattern URL_PATH_PATTERN = Pattern.compile("/[A-Za-z0-9._~%/?=&+,;:@-]*");
     private static final boolean DEBUG_ENABLED = "true".equals(System.getenv(KubernetesConstants.ENABLE_DEBUG_LOGS));
     private static final PrintStream ERR = System.err;
     private static final PrintStream OUT = System.out;
+    private static final Pattern DURATION_PATTERN =
+            Pattern.compile("(?:(\\d+)h)?(?:(\\d+)m(?!s))?(?:(\\d+)s)?(?:(\\d+)ms)?");
 
     /**
      * Write content to a File. Create the required directories if they don't not exists.
@@ -97,11 +123,12 @@ public class KubernetesUtils {
      */
     public static void writeToFile(String context, String outputFileName) throws IOException {
         KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
-        writeToFile(dataHolder.getK8sArtifactOutputPath(), context, outputFileName);
+        writeToFile(dataHolder.getK8sArtifactStagingPath(), context, outputFileName);
     }
     
     /**
-     * Write content to a File. Create the required directories if they don't not exists.
+     * Write content to a File through the artifact sink of the module. Content is appended if the file already has
+     * content.
      *
      * @param outputDir  Artifact output path.
      * @param context    Context of the file
@@ -110,29 +137,53 @@ public class KubernetesUtils {
      */
     public static void writeToFile(Path outputDir, String context, String fileSuffix) throws IOException {
         KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
-        Path artifactFileName = outputDir.resolve(extractJarName(dataHolder.getUberJarPath()) + fileSuffix);
+        dataHolder.getArtifactSink().write(getArtifactFile(dataHolder, outputDir, fileSuffix), context);
+    }
+
+    /**
+     * Serialize a resource to YAML and write it to a File.
+     *
+     * @param resource       The resource.
+     * @param outputFileName target file path
+     * @throws IOException If an error occurs when serializing or writing to a file
+     */
+    public static void writeToFile(HasMetadata resource, String outputFileName) throws IOException {
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+        writeToFile(dataHolder.getK8sArtifactStagingPath(), resource, outputFileName);
+    }
+
+    /**
+     * Serialize a resource to YAML and write it to a File through the artifact sink of the module. The resource is
+     * serialized before it is handed to the sink so that concurrent handlers serialize their resources in parallel.
+     *
+     * @param outputDir  Artifact output path.
+     * @param resource   The resource.
+     * @param fileSuffix Suffix for artifact.
+     * @throws IOException If an error occurs when serializing or writing to a file
+     */
+    public static void writeToFile(Path outputDir, HasMetadata resource, String fileSuffix) throws IOException {
+        KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
+        GenerationReport report = dataHolder.getGenerationReport();
+        StringBuilderWriter yaml = new StringBuilderWriter();
+        GenerationReport.PhaseTimer timer = report.startPhase(GenerationReport.SERIALIZATION_PHASE);
+        try {
+            ArtifactSerializer.writeYaml(yaml, resource);
+        } finally {
+            timer.stop();
+        }
+        dataHolder.getArtifactSink().write(getArtifactFile(dataHolder, outputDir, fileSuffix), yaml.toString());
+    }
+
+    private static Path getArtifactFile(KubernetesDataHolder dataHolder, Path outputDir, String fileSuffix) {
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
         JobModel jobModel = dataHolder.getJobModel();
         // Priority given for job, then deployment.
         if (jobModel != null && jobModel.isSingleYAML()) {
-            artifactFileName = outputDir.resolve(extractJarName(dataHolder.getUberJarPath()) + YAML);
+            return outputDir.resolve(extractJarName(dataHolder.getUberJarPath()) + YAML);
         } else if (jobModel == null && deploymentModel != null && deploymentModel.isSingleYAML()) {
-            artifactFileName = outputDir.resolve(extractJarName(dataHolder.getUberJarPath()) + YAML);
-
+            return outputDir.resolve(extractJarName(dataHolder.getUberJarPath()) + YAML);
         }
-        File newFile = artifactFileName.toFile();
-        // append if file exists
-        if (newFile.exists()) {
-            Files.write(artifactFileName, context.getBytes(StandardCharsets.UTF_8),
-                    StandardOpenOption.APPEND);
-            return;
-        }
-        //create required directories
-        if (newFile.getParentFile().mkdirs()) {
-            Files.write(artifactFileName, context.getBytes(StandardCharsets.UTF_8));
-            return;
-        }
-        Files.write(artifactFileName, context.getBytes(StandardCharsets.UTF_8));
+        return outputDir.resolve(extractJarName(dataHolder.getUberJarPath()) + fileSuffix);
     }
 
     /**
@@ -251,6 +302,26 @@ public class KubernetesUtils {
 
     }
 
+    /**
+     * Set the modification time of a directory and its content to {@link #ARTIFACT_MODIFICATION_TIME} so that images
+     * and archives created from regenerated files with the same content are the same.
+     *
+     * @param path path to directory
+     * @throws KubernetesPluginException if an error occurs while setting the modification times
+     */
+    public static void setArtifactModificationTimes(Path path) throws KubernetesPluginException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.collect(Collectors.toList())) {
+                Files.setLastModifiedTime(file, ARTIFACT_MODIFICATION_TIME);
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to set modification times of directory: " + path, e);
+        }
+    }
+
     /* Checks if a String is empty ("") or null.
      *
      * @param str the String to check, may be null
@@ -398,6 +469,29 @@ public class KubernetesUtils {
         return name.toLowerCase(Locale.getDefault()).replace("_", "-").replace(".", "-");
     }
 
+    /**
+     * Parse a duration such as "1m30s" or "250ms" to milliseconds.
+     *
+     * @param field    Name of the field of the duration.
+     * @param duration The duration.
+     * @return Milliseconds of the duration.
+     * @throws KubernetesPluginException When the duration is invalid.
+     */
+    public static long getDurationMillis(String field, String duration) throws KubernetesPluginException {
+        Matcher matcher = DURATION_PATTERN.matcher(duration);
+        if (duration.isEmpty() || !matcher.matches()) {
+            throw new KubernetesPluginException(field + " should be a duration such as '2s' or '250ms': " + duration);
+        }
+        long millis = 0;
+        long[] multipliers = {3_600_000, 60_000, 1000, 1};
+        for (int i = 0; i < multipliers.length; i++) {
+            if (null != matcher.group(i + 1)) {
+                millis += Long.parseLong(matcher.group(i + 1)) * multipliers[i];
+            }
+        }
+        return millis;
+    }
+
     /**
      * Parse build extension of @kubernetes:Deployment annotation.
      *
@@ -506,6 +600,300 @@ public class KubernetesUtils {
         return envVarMap;
     }
 
+    /**
+     * Get the compute resource requirements of a container.
+     *
+     * @param resourcesValue Value of the resources field of the annotation.
+     * @return Resource requirements of the container.
+     * @throws KubernetesPluginException When a quantity is invalid or a request exceeds its limit.
+     */
+    public static ResourceRequirements getResourceRequirements(BLangExpression resourcesValue)
+            throws KubernetesPluginException {
+        Map<String, Quantity> requests = new LinkedHashMap<>();
+        Map<String, Quantity> limits = new LinkedHashMap<>();
+        for (BLangRecordLiteral.BLangRecordKeyValueField resourcesField :
+                convertRecordFields(((BLangRecordLiteral) resourcesValue).getFields())) {
+            switch (resourcesField.getKey().toString()) {
+                case "requests":
+                    requests = getResourceQuantities(resourcesField.getValue());
+                    break;
+                case "limits":
+                    limits = getResourceQuantities(resourcesField.getValue());
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown resources field found: " +
+                            resourcesField.getKey().toString());
+            }
+        }
+        for (Map.Entry<String, Quantity> request : requests.entrySet()) {
+            Quantity limit = limits.get(request.getKey());
+            if (limit != null &&
+                    Quantity.getAmountInBytes(request.getValue()).compareTo(Quantity.getAmountInBytes(limit)) > 0) {
+                throw new KubernetesPluginException(request.getKey() + " request '" +
+                        toQuantityString(request.getValue()) + "' exceeds the limit '" + toQuantityString(limit) + "'");
+            }
+        }
+        return new ResourceRequirementsBuilder()
+                .withRequests(requests.isEmpty() ? null : requests)
+                .withLimits(limits.isEmpty() ? null : limits)
+                .build();
+    }
+
+    private static String toQuantityString(Quantity quantity) {
+        return quantity.getAmount() + (null == quantity.getFormat() ? "" : quantity.getFormat());
+    }
+
+    private static Map<String, Quantity> getResourceQuantities(BLangExpression quantitiesValue)
+            throws KubernetesPluginException {
+        Map<String, Quantity> quantities = new LinkedHashMap<>();
+        for (BLangRecordLiteral.BLangRecordKeyValueField quantityField :
+                convertRecordFields(((BLangRecordLiteral) quantitiesValue).getFields())) {
+            String resourceName;
+            switch (quantityField.getKey().toString()) {
+                case "cpu":
+                    resourceName = "cpu";
+                    break;
+                case "memory":
+                    resourceName = "memory";
+                    break;
+                case "ephemeralStorage":
+                    resourceName = "ephemeral-storage";
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown resource found: " +
+                            quantityField.getKey().toString());
+            }
+            quantities.put(resourceName, getQuantity(resourceName, quantityField.getValue()));
+        }
+        return quantities;
+    }
+
+    /**
+     * Get a kubernetes quantity.
+     *
+     * @param name  Name of the quantity used in the error message.
+     * @param value Ballerina string value of the quantity.
+     * @return Quantity.
+     * @throws KubernetesPluginException When the quantity is invalid.
+     */
+    public static Quantity getQuantity(String name, BLangExpression value) throws KubernetesPluginException {
+        String amount = getStringValue(value);
+        try {
+            // Parsing validates the format of the quantity.
+            Quantity.getAmountInBytes(Quantity.parse(amount));
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new KubernetesPluginException("invalid " + name + " quantity '" + amount + "'");
+        }
+        return new Quantity(amount);
+    }
+
+    /**
+     * Get the JVM configuration of a container.
+     *
+     * @param jvmValue Value of the jvm field of the annotation.
+     * @return JVM configuration of the container.
+     * @throws KubernetesPluginException When a value of the configuration is invalid.
+     */
+    public static JvmModel getJvmModel(BLangExpression jvmValue) throws KubernetesPluginException {
+        JvmModel jvmModel = new JvmModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField jvmField :
+                convertRecordFields(((BLangRecordLiteral) jvmValue).getFields())) {
+            String key = jvmField.getKey().toString();
+            switch (key) {
+                case "maxRAMPercentage":
+                    jvmModel.setMaxRAMPercentage(getPercentage(key, jvmField.getValue()));
+                    break;
+                case "initialRAMPercentage":
+                    jvmModel.setInitialRAMPercentage(getPercentage(key, jvmField.getValue()));
+                    break;
+                case "gc":
+                    jvmModel.setGc(getStringValue(jvmField.getValue()));
+                    break;
+                case "activeProcessorCount":
+                    int activeProcessorCount = getIntValue(jvmField.getValue());
+                    if (activeProcessorCount < 1) {
+                        throw new KubernetesPluginException("jvm activeProcessorCount should be at least 1: " +
+                                activeProcessorCount);
+                    }
+                    jvmModel.setActiveProcessorCount(activeProcessorCount);
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown jvm field found: " + key);
+            }
+        }
+        if (jvmModel.getInitialRAMPercentage() > 0 && jvmModel.getMaxRAMPercentage() > 0 &&
+                jvmModel.getInitialRAMPercentage() > jvmModel.getMaxRAMPercentage()) {
+            throw new KubernetesPluginException("jvm initialRAMPercentage '" + jvmModel.getInitialRAMPercentage() +
+                    "' exceeds the maxRAMPercentage '" + jvmModel.getMaxRAMPercentage() + "'");
+        }
+        return jvmModel;
+    }
+
+    /**
+     * Get the AppCDS configuration of an image.
+     *
+     * @param appCdsValue Value of the appCds field of the annotation.
+     * @return AppCDS configuration of the image.
+     * @throws KubernetesPluginException When a value of the configuration is invalid.
+     */
+    public static AppCdsModel getAppCdsModel(BLangExpression appCdsValue) throws KubernetesPluginException {
+        AppCdsModel appCdsModel = new AppCdsModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField appCdsField :
+                convertRecordFields(((BLangRecordLiteral) appCdsValue).getFields())) {
+            String key = appCdsField.getKey().toString();
+            if ("trainingTimeoutSeconds".equals(key)) {
+                int trainingTimeoutSeconds = getIntValue(appCdsField.getValue());
+                if (trainingTimeoutSeconds < 1) {
+                    throw new KubernetesPluginException("appCds trainingTimeoutSeconds should be at least 1: " +
+                            trainingTimeoutSeconds);
+                }
+                appCdsModel.setTrainingTimeoutSeconds(trainingTimeoutSeconds);
+            } else {
+                throw new KubernetesPluginException("unknown appCds field found: " + key);
+            }
+        }
+        return appCdsModel;
+    }
+
+    /**
+     * Get the build cache configuration of a docker image.
+     *
+     * @param buildCacheValue Value of the buildCache field.
+     * @return The build cache model.
+     * @throws KubernetesPluginException When an unknown field is found.
+     */
+    public static DockerBuildCacheModel getBuildCacheModel(BLangExpression buildCacheValue)
+            throws KubernetesPluginException {
+        DockerBuildCacheModel buildCacheModel = new DockerBuildCacheModel();
+        for (BLangRecordLiteral.BLangRecordKeyValueField buildCacheField :
+                convertRecordFields(((BLangRecordLiteral) buildCacheValue).getFields())) {
+            String key = buildCacheField.getKey().toString();
+            if ("contentHashTag".equals(key)) {
+                buildCacheModel.setContentHashTag(getBooleanValue(buildCacheField.getValue()));
+            } else {
+                throw new KubernetesPluginException("unknown buildCache field found: " + key);
+            }
+        }
+        return buildCacheModel;
+    }
+
+    private static int getPercentage(String key, BLangExpression value) throws KubernetesPluginException {
+        int percentage = getIntValue(value);
+        if (percentage < 1 || percentage > 100) {
+            throw new KubernetesPluginException("jvm " + key + " should be between 1 and 100: " + percentage);
+        }
+        return percentage;
+    }
+
+    /**
+     * Validate a URL path which is called from a generated shell command.
+     *
+     * @param field Name of the field for the error message.
+     * @param path  URL path.
+     * @throws KubernetesPluginException If the path does not start with '/' or contains unsupported characters.
+     */
+    public static void validateUrlPath(String field, String path) throws KubernetesPluginException {
+        if (!URL_PATH_PATTERN.matcher(path).matches()) {
+            throw new KubernetesPluginException(field + " should start with '/' and contain only letters, digits " +
+                    "and the characters '._~%/?=&+,;:@-': " + path);
+        }
+    }
+
+    /**
+     * Get the JVM options of a container. Heap sizes are percentages of the memory limit of the container, hence the
+     * memory limit is required when a heap size is set and the heap should leave enough memory for the metaspace,
+     * thread stacks and other native memory of the JVM. ZGC is only available from Java 11, hence the Java version of
+     * the base image is derived from its name and tag when ZGC is used.
+     *
+     * @param jvmModel  JVM configuration of the container.
+     * @param resources Resource requirements of the container.
+     * @param baseImage Base image of the container.
+     * @return JVM options separated by spaces.
+     * @throws KubernetesPluginException When the configuration does not fit the resource limits or the base image.
+     */
+    public static String getJvmOptions(JvmModel jvmModel, ResourceRequirements resources, String baseImage)
+            throws KubernetesPluginException {
+        Map<String, Quantity> limits = null == resources || null == resources.getLimits() ? new LinkedHashMap<>() :
+                resources.getLimits();
+        List<String> options = new ArrayList<>();
+        if (jvmModel.getMaxRAMPercentage() > 0 || jvmModel.getInitialRAMPercentage() > 0) {
+            Quantity memoryLimit = limits.get("memory");
+            if (null == memoryLimit) {
+                throw new KubernetesPluginException("a memory limit is required in 'resources' to size the jvm heap " +
+                        "as a percentage of the container memory");
+            }
+            if (jvmModel.getMaxRAMPercentage() > 0) {
+                long memory = Quantity.getAmountInBytes(memoryLimit).longValue();
+                long nonHeapMemory = memory - memory * jvmModel.getMaxRAMPercentage() / 100;
+                if (nonHeapMemory < JVM_MIN_NON_HEAP_MEMORY) {
+                    throw new KubernetesPluginException("jvm maxRAMPercentage '" + jvmModel.getMaxRAMPercentage() +
+                            "' of the memory limit '" + toQuantityString(memoryLimit) + "' leaves less than " +
+                            (JVM_MIN_NON_HEAP_MEMORY / (1024 * 1024)) + "Mi for non-heap memory");
+                }
+                options.add("-XX:MaxRAMPercentage=" + jvmModel.getMaxRAMPercentage() + ".0");
+            }
+            if (jvmModel.getInitialRAMPercentage() > 0) {
+                options.add("-XX:InitialRAMPercentage=" + jvmModel.getInitialRAMPercentage() + ".0");
+            }
+        }
+        if (!isBlank(jvmModel.getGc())) {
+            switch (jvmModel.getGc()) {
+                case "G1":
+                    options.add("-XX:+UseG1GC");
+                    break;
+                case "Z":
+                    if (null == baseImage || AppCdsArchive.getJavaVersion(baseImage) < JVM_MIN_ZGC_JAVA_VERSION) {
+                        throw new KubernetesPluginException("jvm gc 'Z' requires a base image with Java " +
+                                JVM_MIN_ZGC_JAVA_VERSION + " or later with the Java version in its name or tag: " +
+                                baseImage);
+                    }
+                    // ZGC is experimental in JDK 11.
+                    options.add("-XX:+UnlockExperimentalVMOptions");
+                    options.add("-XX:+UseZGC");
+                    break;
+                case "Parallel":
+                    options.add("-XX:+UseParallelGC");
+                    break;
+                case "Serial":
+                    options.add("-XX:+UseSerialGC");
+                    break;
+                default:
+                    throw new KubernetesPluginException("unknown jvm gc found: " + jvmModel.getGc());
+            }
+        }
+        if (jvmModel.getActiveProcessorCount() > 0) {
+            Quantity cpuLimit = limits.get("cpu");
+            if (null != cpuLimit && BigDecimal.valueOf(jvmModel.getActiveProcessorCount())
+                    .compareTo(Quantity.getAmountInBytes(cpuLimit).setScale(0, RoundingMode.CEILING)) > 0) {
+                throw new KubernetesPluginException("jvm activeProcessorCount '" +
+                        jvmModel.getActiveProcessorCount() + "' exceeds the cpu limit '" + toQuantityString(cpuLimit) +
+                        "'");
+            }
+            options.add("-XX:ActiveProcessorCount=" + jvmModel.getActiveProcessorCount());
+        }
+        return String.join(" ", options);
+    }
+
+    /**
+     * Add the JVM options of a container as the JAVA_TOOL_OPTIONS environment variable, which the JVM reads regardless
+     * of the command of the container.
+     *
+     * @param envMap     Environment variables of the container.
+     * @param jvmOptions JVM options.
+     * @return Environment variables including the JVM options.
+     * @throws KubernetesPluginException When JAVA_TOOL_OPTIONS is already set.
+     */
+    public static Map<String, EnvVarValueModel> addJvmOptions(Map<String, EnvVarValueModel> envMap,
+                                                              String jvmOptions) throws KubernetesPluginException {
+        Map<String, EnvVarValueModel> env = null == envMap ? new LinkedHashMap<>() : envMap;
+        if (env.containsKey(JAVA_TOOL_OPTIONS)) {
+            throw new KubernetesPluginException("environment variable '" + JAVA_TOOL_OPTIONS + "' cannot be set " +
+                    "along with the 'jvm' configuration");
+        }
+        env.put(JAVA_TOOL_OPTIONS, new EnvVarValueModel(jvmOptions));
+        return env;
+    }
+
     /**
      * Get Image pull secrets.
      *
@@ -514,7 +902,7 @@ public class KubernetesUtils {
      */
     public static Set<String> getImagePullSecrets(BLangRecordLiteral.BLangRecordKeyValueField keyValue) throws
             KubernetesPluginException {
-        Set<String> imagePullSecrets = new HashSet<>();
+        Set<String> imagePullSecrets = new LinkedHashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
         for (BLangExpression bLangExpression : configAnnotation) {
             imagePullSecrets.add(getStringValue(bLangExpression));
@@ -532,7 +920,7 @@ public class KubernetesUtils {
      */
     public static Set<CopyFileModel> getExternalFileMap(BLangRecordLiteral.BLangRecordKeyValueField keyValue) throws
             KubernetesPluginException {
-        Set<CopyFileModel> externalFiles = new HashSet<>();
+        Set<CopyFileModel> externalFiles = new LinkedHashSet<>();
         List<BLangExpression> configAnnotation = ((BLangListConstructorExpr) keyValue.valueExpr).exprs;
         for (BLangExpression bLangExpression : configAnnotation) {
             List<BLangRecordLiteral.BLangRecordKeyValueField> annotationValues =
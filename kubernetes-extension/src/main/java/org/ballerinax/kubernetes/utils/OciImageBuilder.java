@@ -0,0 +1,699 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the image of a docker model without a docker daemon.
+ * <p>
+ * The instructions of the generated Dockerfile are applied to the configuration and layers of the base image, which
+ * are pulled from its registry. Each COPY instruction adds a reproducible {@link OciLayer}, hence the digests of the
+ * image only change when the copied files change. The image is written as an OCI image layout and as an archive of
+ * the layout next to the docker context, such as {@code docker-oci} and {@code docker-oci-image.tar} for the context
+ * {@code docker}, so that the docker context only holds the inputs of the image. The image can be pushed to the
+ * registry of the image.
+ * <p>
+ * Commands cannot be run without a container runtime. The RUN instruction which the docker generator adds to create
+ * the user of the image is skipped and the image runs as the user {@value #NON_ROOT_USER} instead. Any other RUN
+ * instruction fails the build.
+ */
+public class OciImageBuilder {
+    public static final String LAYOUT_DIRECTORY_SUFFIX = "-oci";
+    public static final String IMAGE_ARCHIVE_SUFFIX = "-oci-image.tar";
+    public static final String NON_ROOT_USER = "10001";
+    private static final String CONFIG_MEDIA_TYPE = "application/vnd.oci.image.config.v1+json";
+    private static final String DOCKER_LAYER_MEDIA_TYPE = "application/vnd.docker.image.rootfs.diff.tar.gzip";
+    private static final String REF_NAME_ANNOTATION = "org.opencontainers.image.ref.name";
+    private static final String CREATED = "1970-01-01T00:00:00Z";
+    private static final String SCRATCH = "scratch";
+    private static final String OS = "linux";
+    private static final String ARCHITECTURE = "amd64";
+    private static final String DOCKERFILE = "Dockerfile";
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private final DockerModel dockerModel;
+    private final Path blobCache;
+
+    /**
+     * Create a builder of the image of a docker model.
+     *
+     * @param dockerModel    The docker model.
+     * @param cacheDirectory Directory to keep the pulled blobs of base images in.
+     */
+    public OciImageBuilder(DockerModel dockerModel, Path cacheDirectory) {
+        this.dockerModel = dockerModel;
+        this.blobCache = cacheDirectory.resolve("blobs").resolve("sha256");
+    }
+
+    /**
+     * Get the directory shared by builds to keep the pulled blobs of base images in.
+     *
+     * @return The directory.
+     */
+    public static Path getDefaultCacheDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", "kubernetes", "oci-cache");
+    }
+
+    /**
+     * Get the directory the OCI image layout of a docker context is written to.
+     *
+     * @param dockerDir The docker context.
+     * @return The directory next to the docker context.
+     */
+    public static Path getLayoutDirectory(Path dockerDir) {
+        Path context = dockerDir.toAbsolutePath();
+        return context.resolveSibling(context.getFileName() + LAYOUT_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Get the archive the OCI image layout of a docker context is written to.
+     *
+     * @param dockerDir The docker context.
+     * @return The archive next to the docker context.
+     */
+    public static Path getImageArchive(Path dockerDir) {
+        Path context = dockerDir.toAbsolutePath();
+        return context.resolveSibling(context.getFileName() + IMAGE_ARCHIVE_SUFFIX);
+    }
+
+    /**
+     * Build the image from the Dockerfile and the files of a docker context.
+     *
+     * @param dockerDir The docker context.
+     * @return The built image.
+     * @throws KubernetesPluginException If the image cannot be built.
+     */
+    public Image build(Path dockerDir) throws KubernetesPluginException {
+        List<Instruction> instructions;
+        try {
+            instructions = parseDockerfile(new String(Files.readAllBytes(dockerDir.resolve(DOCKERFILE)),
+                    StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to read Dockerfile: " + e.getMessage(), e);
+        }
+        if (instructions.isEmpty() || !"FROM".equals(instructions.get(0).keyword)) {
+            throw new KubernetesPluginException("Dockerfile should start with a FROM instruction");
+        }
+        Path layoutDir = getLayoutDirectory(dockerDir);
+        KubernetesUtils.deleteDirectory(layoutDir);
+        Path blobsDir = layoutDir.resolve("blobs").resolve("sha256");
+
+        ObjectNode config;
+        List<OciLayer.Blob> layers = new ArrayList<>();
+        String baseImage = instructions.get(0).arguments;
+        if (SCRATCH.equals(baseImage)) {
+            config = JSON_MAPPER.createObjectNode();
+            config.put("architecture", ARCHITECTURE);
+            config.put("os", OS);
+            config.putObject("config");
+            config.putObject("rootfs").put("type", "layers").putArray("diff_ids");
+        } else {
+            config = pullBaseImage(baseImage, blobsDir, layers);
+        }
+        config.put("created", CREATED);
+        ObjectNode containerConfig = config.hasNonNull("config") ? (ObjectNode) config.get("config") :
+                config.putObject("config");
+        ArrayNode diffIds = config.with("rootfs").withArray("diff_ids");
+        ArrayNode history = config.withArray("history");
+
+        String workingDir = containerConfig.hasNonNull("WorkingDir") ?
+                containerConfig.get("WorkingDir").asText() : "/";
+        Set<String> directories = new TreeSet<>();
+        List<String> pendingDirectories = new ArrayList<>();
+        boolean userCreationSkipped = false;
+        for (Instruction instruction : instructions.subList(1, instructions.size())) {
+            switch (instruction.keyword) {
+                case "WORKDIR":
+                    workingDir = resolvePath(workingDir, instruction.arguments);
+                    containerConfig.put("WorkingDir", workingDir);
+                    addDirectory(directories, workingDir);
+                    pendingDirectories.add(workingDir);
+                    break;
+                case "ENV":
+                    setVariables(containerConfig.withArray("Env"), instruction);
+                    break;
+                case "LABEL":
+                    ObjectNode labels = containerConfig.hasNonNull("Labels") ?
+                            (ObjectNode) containerConfig.get("Labels") : containerConfig.putObject("Labels");
+                    List<String[]> labelValues = parseKeyValues(instruction);
+                    for (String[] label : labelValues) {
+                        labels.put(label[0], label[1]);
+                    }
+                    break;
+                case "EXPOSE":
+                    ObjectNode exposedPorts = containerConfig.hasNonNull("ExposedPorts") ?
+                            (ObjectNode) containerConfig.get("ExposedPorts") :
+                            containerConfig.putObject("ExposedPorts");
+                    for (String port : splitWords(instruction.arguments)) {
+                        exposedPorts.putObject(port.contains("/") ? port : port + "/tcp");
+                    }
+                    break;
+                case "USER":
+                    String user = instruction.arguments;
+                    if (userCreationSkipped && !user.matches("\\d+(:\\d+)?")) {
+                        user = NON_ROOT_USER;
+                    }
+                    containerConfig.put("User", user);
+                    break;
+                case "CMD":
+                    containerConfig.set("Cmd", toCommand(instruction));
+                    break;
+                case "ENTRYPOINT":
+                    containerConfig.set("Entrypoint", toCommand(instruction));
+                    containerConfig.remove("Cmd");
+                    break;
+                case "RUN":
+                    if (!isUserCreation(instruction.arguments)) {
+                        throw new KubernetesPluginException("RUN instructions are not supported by daemonless " +
+                                "builds: " + instruction);
+                    }
+                    userCreationSkipped = true;
+                    break;
+                case "COPY":
+                    OciLayer layer = new OciLayer();
+                    pendingDirectories.forEach(layer::addDirectory);
+                    pendingDirectories.clear();
+                    addCopiedFiles(layer, dockerDir, workingDir, instruction, directories);
+                    addLayer(layer.write(blobsDir), instruction.toString(), layers, diffIds, history);
+                    break;
+                case "MAINTAINER":
+                    break;
+                default:
+                    throw new KubernetesPluginException(instruction.keyword + " instructions are not supported " +
+                            "by daemonless builds");
+            }
+        }
+        if (!pendingDirectories.isEmpty()) {
+            OciLayer layer = new OciLayer();
+            pendingDirectories.forEach(layer::addDirectory);
+            addLayer(layer.write(blobsDir), "WORKDIR " + workingDir, layers, diffIds, history);
+        }
+
+        try {
+            OciLayer.Blob configBlob = writeBlob(blobsDir, CONFIG_MEDIA_TYPE, JSON_MAPPER.writeValueAsBytes(config));
+            ObjectNode manifest = JSON_MAPPER.createObjectNode();
+            manifest.put("schemaVersion", 2);
+            manifest.put("mediaType", OciRegistryClient.OCI_MANIFEST);
+            manifest.set("config", toDescriptor(configBlob));
+            ArrayNode layerDescriptors = manifest.putArray("layers");
+            for (OciLayer.Blob layer : layers) {
+                layerDescriptors.add(toDescriptor(layer));
+            }
+            byte[] manifestContent = JSON_MAPPER.writeValueAsBytes(manifest);
+            OciLayer.Blob manifestBlob = writeBlob(blobsDir, OciRegistryClient.OCI_MANIFEST, manifestContent);
+
+            ObjectNode index = JSON_MAPPER.createObjectNode();
+            index.put("schemaVersion", 2);
+            index.put("mediaType", OciRegistryClient.OCI_INDEX);
+            ObjectNode manifestDescriptor = toDescriptor(manifestBlob);
+            manifestDescriptor.putObject("annotations").put(REF_NAME_ANNOTATION, dockerModel.getTag());
+            index.putArray("manifests").add(manifestDescriptor);
+            Files.write(layoutDir.resolve("index.json"), JSON_MAPPER.writeValueAsBytes(index));
+            Files.write(layoutDir.resolve("oci-layout"),
+                    "{\"imageLayoutVersion\":\"1.0.0\"}".getBytes(StandardCharsets.UTF_8));
+            writeArchive(layoutDir, getImageArchive(dockerDir));
+            List<OciLayer.Blob> blobs = new ArrayList<>(layers);
+            blobs.add(configBlob);
+            return new Image(layoutDir, manifestBlob.getDigest(), manifestContent, blobs);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to write image layout: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Push an image to the registry of the docker model. Blobs which the repository already has are not uploaded.
+     *
+     * @param image The built image.
+     * @return Number of blobs uploaded.
+     * @throws KubernetesPluginException If the image cannot be pushed.
+     */
+    public int push(Image image) throws KubernetesPluginException {
+        OciRegistryClient client = new OciRegistryClient(new DockerImageName(dockerModel.getName()),
+                dockerModel.getUsername(), dockerModel.getPassword());
+        Path blobsDir = image.layoutDir.resolve("blobs").resolve("sha256");
+        int uploaded = 0;
+        for (OciLayer.Blob blob : image.blobs) {
+            if (!client.hasBlob(blob.getDigest())) {
+                client.pushBlob(blob.getDigest(), blobsDir.resolve(getHash(blob.getDigest())));
+                uploaded++;
+            }
+        }
+        client.pushManifest(dockerModel.getTag(), OciRegistryClient.OCI_MANIFEST, image.manifest);
+        return uploaded;
+    }
+
+    /**
+     * Pull the configuration and layers of the base image for this platform.
+     *
+     * @param baseImage Name of the base image.
+     * @param blobsDir  Blobs directory of the image layout.
+     * @param layers    List to add the layers of the base image to.
+     * @return The configuration of the base image.
+     * @throws KubernetesPluginException If the base image cannot be pulled.
+     */
+    private ObjectNode pullBaseImage(String baseImage, Path blobsDir, List<OciLayer.Blob> layers)
+            throws KubernetesPluginException {
+        DockerImageName baseImageName = new DockerImageName(baseImage);
+        DockerImageName imageName = new DockerImageName(dockerModel.getName());
+        // Credentials of the registry of the image are only sent to the same registry.
+        boolean sameRegistry = baseImageName.hasRegistry() && baseImageName.getRegistry()
+                .equals(imageName.getRegistry());
+        OciRegistryClient client = new OciRegistryClient(baseImageName,
+                sameRegistry ? dockerModel.getUsername() : null, sameRegistry ? dockerModel.getPassword() : null);
+        OciRegistryClient.Manifest manifest = client.pullManifest(null != baseImageName.getDigest() ?
+                baseImageName.getDigest() : baseImageName.getTag());
+        if (manifest.isIndex()) {
+            String platformDigest = null;
+            for (JsonNode platformManifest : manifest.getJson().path("manifests")) {
+                JsonNode platform = platformManifest.path("platform");
+                if (OS.equals(platform.path("os").asText()) &&
+                        ARCHITECTURE.equals(platform.path("architecture").asText())) {
+                    platformDigest = platformManifest.path("digest").asText();
+                    break;
+                }
+            }
+            if (null == platformDigest) {
+                throw new KubernetesPluginException("base image " + baseImage + " has no " + OS + "/" +
+                        ARCHITECTURE + " image");
+            }
+            manifest = client.pullManifest(platformDigest);
+        }
+
+        JsonNode configDescriptor = manifest.getJson().path("config");
+        Path configFile = pullBlob(client, configDescriptor.path("digest").asText(), blobsDir);
+        for (JsonNode layer : manifest.getJson().path("layers")) {
+            String mediaType = layer.path("mediaType").asText();
+            String digest = layer.path("digest").asText();
+            pullBlob(client, digest, blobsDir);
+            layers.add(new OciLayer.Blob(DOCKER_LAYER_MEDIA_TYPE.equals(mediaType) ? OciLayer.MEDIA_TYPE : mediaType,
+                    digest, layer.path("size").asLong(), null));
+        }
+        try {
+            JsonNode config = JSON_MAPPER.readTree(configFile.toFile());
+            if (!config.isObject()) {
+                throw new KubernetesPluginException("invalid configuration of base image " + baseImage);
+            }
+            return (ObjectNode) config;
+        } catch (IOException e) {
+            throw new KubernetesPluginException("invalid configuration of base image " + baseImage + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Pull a blob to the cache unless it is cached and add it to the blobs of the image layout.
+     *
+     * @param client   Client of the repository of the blob.
+     * @param digest   Digest of the blob.
+     * @param blobsDir Blobs directory of the image layout.
+     * @return The blob in the image layout.
+     * @throws KubernetesPluginException If the blob cannot be pulled.
+     */
+    private Path pullBlob(OciRegistryClient client, String digest, Path blobsDir) throws KubernetesPluginException {
+        String hash = getHash(digest);
+        Path cachedBlob = blobCache.resolve(hash);
+        if (!Files.isRegularFile(cachedBlob)) {
+            client.pullBlob(digest, cachedBlob);
+        }
+        Path blob = blobsDir.resolve(hash);
+        try {
+            Files.createDirectories(blobsDir);
+            try {
+                Files.createLink(blob, cachedBlob);
+            } catch (FileAlreadyExistsException e) {
+                return blob;
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(cachedBlob, blob);
+            }
+            return blob;
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to copy blob " + digest + " to image layout: " +
+                    e.getMessage(), e);
+        }
+    }
+
+    private static void addLayer(OciLayer.Blob layer, String createdBy, List<OciLayer.Blob> layers,
+                                 ArrayNode diffIds, ArrayNode history) {
+        layers.add(layer);
+        diffIds.add(layer.getDiffId());
+        history.addObject().put("created", CREATED).put("created_by", createdBy);
+    }
+
+    /**
+     * Add the files of a COPY instruction to a layer.
+     *
+     * @param layer       The layer.
+     * @param dockerDir   The docker context.
+     * @param workingDir  Working directory of the instruction.
+     * @param instruction The COPY instruction.
+     * @param directories Directories known to exist in the image. Copied directories are added to it.
+     * @throws KubernetesPluginException If a source does not exist or is outside of the docker context.
+     */
+    private static void addCopiedFiles(OciLayer layer, Path dockerDir, String workingDir, Instruction instruction,
+                                       Set<String> directories) throws KubernetesPluginException {
+        List<String> arguments = instruction.arguments.startsWith("[") ? parseJsonArray(instruction) :
+                splitWords(instruction.arguments);
+        if (arguments.size() < 2) {
+            throw new KubernetesPluginException("COPY instruction should have a source and a destination: " +
+                    instruction);
+        }
+        if (arguments.get(0).startsWith("--")) {
+            throw new KubernetesPluginException("COPY options are not supported by daemonless builds: " +
+                    instruction);
+        }
+        String destination = arguments.get(arguments.size() - 1);
+        String destinationPath = resolvePath(workingDir, destination);
+        List<String> sources = arguments.subList(0, arguments.size() - 1);
+        boolean intoDirectory = sources.size() > 1 || destination.endsWith("/") ||
+                directories.contains(destinationPath);
+        Path context = dockerDir.toAbsolutePath().normalize();
+        for (String source : sources) {
+            Path sourcePath = context.resolve(source).normalize();
+            if (!sourcePath.startsWith(context) || !Files.exists(sourcePath)) {
+                throw new KubernetesPluginException("COPY source not found in docker context: " + source);
+            }
+            if (Files.isDirectory(sourcePath)) {
+                addDirectory(directories, destinationPath);
+                layer.addDirectory(destinationPath);
+                List<Path> files;
+                try (Stream<Path> paths = Files.walk(sourcePath)) {
+                    files = paths.filter(path -> !path.equals(sourcePath)).sorted().collect(Collectors.toList());
+                } catch (IOException e) {
+                    throw new KubernetesPluginException("unable to list COPY source " + source, e);
+                }
+                for (Path file : files) {
+                    String imagePath = destinationPath + "/" +
+                            sourcePath.relativize(file).toString().replace('\\', '/');
+                    if (Files.isDirectory(file)) {
+                        addDirectory(directories, imagePath);
+                        layer.addDirectory(imagePath);
+                    } else {
+                        layer.addFile(imagePath, file);
+                    }
+                }
+            } else if (intoDirectory) {
+                addDirectory(directories, destinationPath);
+                layer.addFile(destinationPath + "/" + sourcePath.getFileName(), sourcePath);
+            } else {
+                layer.addFile(destinationPath, sourcePath);
+            }
+        }
+    }
+
+    private static void addDirectory(Set<String> directories, String path) {
+        String directory = path;
+        while (!directory.isEmpty() && !"/".equals(directory)) {
+            directories.add(directory);
+            directory = directory.substring(0, Math.max(directory.lastIndexOf('/'), 0));
+        }
+    }
+
+    private static String resolvePath(String workingDir, String path) {
+        String resolved = path.startsWith("/") ? path : workingDir + "/" + path;
+        return "/" + Paths.get(resolved).normalize().toString().replace('\\', '/').replaceAll("^/+|/+$", "");
+    }
+
+    private static boolean isUserCreation(String command) {
+        return command.contains("adduser") || command.contains("useradd");
+    }
+
+    private static void setVariables(ArrayNode env, Instruction instruction) throws KubernetesPluginException {
+        for (String[] variable : parseKeyValues(instruction)) {
+            Iterator<JsonNode> iterator = env.elements();
+            while (iterator.hasNext()) {
+                if (iterator.next().asText().startsWith(variable[0] + "=")) {
+                    iterator.remove();
+                }
+            }
+            env.add(variable[0] + "=" + variable[1]);
+        }
+    }
+
+    /**
+     * Parse the key value pairs of an ENV or LABEL instruction, which are either a single key and value separated by
+     * a space or pairs separated by an equal sign.
+     *
+     * @param instruction The instruction.
+     * @return The pairs.
+     * @throws KubernetesPluginException If the arguments are not valid.
+     */
+    private static List<String[]> parseKeyValues(Instruction instruction) throws KubernetesPluginException {
+        List<String[]> pairs = new ArrayList<>();
+        List<String> words = splitWords(instruction.arguments);
+        if (words.isEmpty()) {
+            throw new KubernetesPluginException("missing arguments: " + instruction);
+        }
+        if (!words.get(0).contains("=")) {
+            String key = words.get(0);
+            String value = instruction.arguments.trim().substring(key.length()).trim();
+            pairs.add(new String[]{key, unquote(value)});
+            return pairs;
+        }
+        for (String word : words) {
+            int separatorIndex = word.indexOf('=');
+            if (separatorIndex <= 0) {
+                throw new KubernetesPluginException("invalid key value pair '" + word + "': " + instruction);
+            }
+            pairs.add(new String[]{word.substring(0, separatorIndex), word.substring(separatorIndex + 1)});
+        }
+        return pairs;
+    }
+
+    private static String unquote(String value) {
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"") ?
+                value.substring(1, value.length() - 1) : value;
+    }
+
+    /**
+     * Split arguments into words separated by whitespace. Quotes group words and are removed.
+     *
+     * @param arguments The arguments.
+     * @return The words.
+     */
+    private static List<String> splitWords(String arguments) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        boolean inWord = false;
+        char quote = 0;
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (c == '\\' && i + 1 < arguments.length()) {
+                word.append(arguments.charAt(++i));
+                inWord = true;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    word.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inWord = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inWord) {
+                    words.add(word.toString());
+                    word.setLength(0);
+                    inWord = false;
+                }
+            } else {
+                word.append(c);
+                inWord = true;
+            }
+        }
+        if (inWord) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    private static ArrayNode toCommand(Instruction instruction) throws KubernetesPluginException {
+        ArrayNode command = JSON_MAPPER.createArrayNode();
+        if (instruction.arguments.startsWith("[")) {
+            parseJsonArray(instruction).forEach(command::add);
+        } else {
+            command.add("/bin/sh").add("-c").add(instruction.arguments);
+        }
+        return command;
+    }
+
+    private static List<String> parseJsonArray(Instruction instruction) throws KubernetesPluginException {
+        try {
+            JsonNode array = JSON_MAPPER.readTree(instruction.arguments);
+            List<String> values = new ArrayList<>();
+            for (JsonNode value : array) {
+                values.add(value.asText());
+            }
+            return values;
+        } catch (IOException e) {
+            throw new KubernetesPluginException("invalid JSON array: " + instruction, e);
+        }
+    }
+
+    /**
+     * Parse the instructions of a Dockerfile. Comments and empty lines are skipped and lines ending with a backslash
+     * are joined with the next line.
+     *
+     * @param dockerfile Content of the Dockerfile.
+     * @return The instructions.
+     * @throws KubernetesPluginException If an instruction has no arguments.
+     */
+    static List<Instruction> parseDockerfile(String dockerfile) throws KubernetesPluginException {
+        List<Instruction> instructions = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String physicalLine : dockerfile.split("\r?\n")) {
+            String trimmed = physicalLine.trim();
+            if (line.length() == 0 && (trimmed.isEmpty() || trimmed.startsWith("#"))) {
+                continue;
+            }
+            if (trimmed.endsWith("\\")) {
+                line.append(trimmed, 0, trimmed.length() - 1).append(' ');
+                continue;
+            }
+            line.append(trimmed);
+            String logicalLine = line.toString().trim();
+            line.setLength(0);
+            int separatorIndex = logicalLine.indexOf(' ');
+            if (separatorIndex < 0) {
+                throw new KubernetesPluginException("missing arguments in Dockerfile instruction: " + logicalLine);
+            }
+            instructions.add(new Instruction(logicalLine.substring(0, separatorIndex).toUpperCase(),
+                    logicalLine.substring(separatorIndex + 1).trim()));
+        }
+        return instructions;
+    }
+
+    private static OciLayer.Blob writeBlob(Path blobsDir, String mediaType, byte[] content) throws IOException {
+        try {
+            String digest = "sha256:" + OciLayer.toHex(MessageDigest.getInstance("SHA-256").digest(content));
+            Files.createDirectories(blobsDir);
+            Files.write(blobsDir.resolve(getHash(digest)), content);
+            return new OciLayer.Blob(mediaType, digest, content.length, null);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static ObjectNode toDescriptor(OciLayer.Blob blob) {
+        ObjectNode descriptor = JSON_MAPPER.createObjectNode();
+        descriptor.put("mediaType", blob.getMediaType());
+        descriptor.put("digest", blob.getDigest());
+        descriptor.put("size", blob.getSize());
+        return descriptor;
+    }
+
+    private static void writeArchive(Path layoutDir, Path archive) throws KubernetesPluginException, IOException {
+        OciLayer layout = new OciLayer();
+        try (Stream<Path> paths = Files.walk(layoutDir)) {
+            for (Path file : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                layout.addFile(layoutDir.relativize(file).toString().replace('\\', '/'), file);
+            }
+        }
+        layout.writeArchive(archive);
+    }
+
+    private static String getHash(String digest) {
+        return digest.substring(digest.indexOf(':') + 1);
+    }
+
+    /**
+     * An instruction of a Dockerfile.
+     */
+    static class Instruction {
+        private final String keyword;
+        private final String arguments;
+
+        Instruction(String keyword, String arguments) {
+            this.keyword = keyword;
+            this.arguments = arguments;
+        }
+
+        String getKeyword() {
+            return keyword;
+        }
+
+        String getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public String toString() {
+            return keyword + " " + arguments;
+        }
+    }
+
+    /**
+     * An image written to an image layout.
+     */
+    public static class Image {
+        private final Path layoutDir;
+        private final String digest;
+        private final byte[] manifest;
+        private final List<OciLayer.Blob> blobs;
+
+        Image(Path layoutDir, String digest, byte[] manifest, List<OciLayer.Blob> blobs) {
+            this.layoutDir = layoutDir;
+            this.digest = digest;
+            this.manifest = manifest;
+            this.blobs = blobs;
+        }
+
+        public Path getLayoutDir() {
+            return layoutDir;
+        }
+
+        /**
+         * Get the digest of the manifest of the image.
+         *
+         * @return The digest.
+         */
+        public String getDigest() {
+            return digest;
+        }
+
+        public byte[] getManifest() {
+            return manifest;
+        }
+
+        public List<OciLayer.Blob> getBlobs() {
+            return blobs;
+        }
+    }
+}
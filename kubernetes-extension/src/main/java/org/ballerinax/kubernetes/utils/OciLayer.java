@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A layer of an OCI image written as a gzip compressed tar archive.
+ * <p>
+ * The archive is reproducible: the entries are written in the order of their paths, every entry is owned by root and
+ * has a fixed modification time and mode, and the parent directories of the files are added as entries. Hence the
+ * digest of the layer only depends on the paths and the content of its files.
+ */
+public class OciLayer {
+    public static final String MEDIA_TYPE = "application/vnd.oci.image.layer.v1.tar+gzip";
+    private static final long MODIFICATION_TIME_SECONDS = 1L;
+    private static final int BLOCK_SIZE = 512;
+    private static final int NAME_LENGTH = 100;
+    private static final int PREFIX_LENGTH = 155;
+    private static final int FILE_MODE = 0644;
+    private static final int EXECUTABLE_MODE = 0755;
+    private static final int DIRECTORY_MODE = 0755;
+
+    // Path of each entry in the image mapped to the source file. Directories have no source file.
+    private final SortedMap<String, Path> entries = new TreeMap<>();
+
+    /**
+     * Add a file to the layer.
+     *
+     * @param imagePath Absolute path of the file in the image.
+     * @param source    The file to copy to the image.
+     */
+    public void addFile(String imagePath, Path source) {
+        String entryName = toEntryName(imagePath);
+        addParentDirectories(entryName);
+        entries.put(entryName, source);
+    }
+
+    /**
+     * Add a directory to the layer.
+     *
+     * @param imagePath Absolute path of the directory in the image.
+     */
+    public void addDirectory(String imagePath) {
+        String entryName = toEntryName(imagePath);
+        if (entryName.isEmpty()) {
+            return;
+        }
+        addParentDirectories(entryName);
+        entries.putIfAbsent(entryName + "/", null);
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    private void addParentDirectories(String entryName) {
+        int separatorIndex = entryName.indexOf('/');
+        while (separatorIndex > 0) {
+            entries.putIfAbsent(entryName.substring(0, separatorIndex + 1), null);
+            separatorIndex = entryName.indexOf('/', separatorIndex + 1);
+        }
+    }
+
+    private static String toEntryName(String imagePath) {
+        String entryName = imagePath.replace('\\', '/').replaceAll("/+", "/");
+        while (entryName.startsWith("/")) {
+            entryName = entryName.substring(1);
+        }
+        while (entryName.endsWith("/")) {
+            entryName = entryName.substring(0, entryName.length() - 1);
+        }
+        return entryName;
+    }
+
+    /**
+     * Write the layer to the blobs directory of an image layout.
+     *
+     * @param blobsDirectory The directory containing the blobs by their SHA-256 digest.
+     * @return The written blob.
+     * @throws KubernetesPluginException If the layer cannot be written.
+     */
+    public Blob write(Path blobsDirectory) throws KubernetesPluginException {
+        try {
+            Files.createDirectories(blobsDirectory);
+            Path tempFile = Files.createTempFile(blobsDirectory, ".layer-", ".tmp");
+            try {
+                MessageDigest diffIdDigest = MessageDigest.getInstance("SHA-256");
+                MessageDigest blobDigest = MessageDigest.getInstance("SHA-256");
+                try (OutputStream fileOut = Files.newOutputStream(tempFile);
+                     DigestOutputStream blobOut = new DigestOutputStream(fileOut, blobDigest);
+                     GZIPOutputStream gzipOut = new GZIPOutputStream(blobOut);
+                     DigestOutputStream tarOut = new DigestOutputStream(gzipOut, diffIdDigest)) {
+                    writeTar(tarOut);
+                }
+                String digest = "sha256:" + toHex(blobDigest.digest());
+                String diffId = "sha256:" + toHex(diffIdDigest.digest());
+                long size = Files.size(tempFile);
+                Files.move(tempFile, blobsDirectory.resolve(digest.substring("sha256:".length())),
+                        StandardCopyOption.REPLACE_EXISTING);
+                return new Blob(MEDIA_TYPE, digest, size, diffId);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new KubernetesPluginException("unable to write image layer: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write the entries as an uncompressed tar archive, such as an archive of an image layout.
+     *
+     * @param archive The archive file.
+     * @throws KubernetesPluginException If the archive cannot be written.
+     */
+    public void writeArchive(Path archive) throws KubernetesPluginException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(archive))) {
+            writeTar(out);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to write archive " + archive + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void writeTar(OutputStream out) throws IOException, KubernetesPluginException {
+        for (SortedMap.Entry<String, Path> entry : entries.entrySet()) {
+            Path source = entry.getValue();
+            if (null == source) {
+                out.write(createHeader(entry.getKey(), DIRECTORY_MODE, 0, '5'));
+                continue;
+            }
+            long size = Files.size(source);
+            out.write(createHeader(entry.getKey(), Files.isExecutable(source) ? EXECUTABLE_MODE : FILE_MODE, size,
+                    '0'));
+            long copied;
+            try (InputStream in = Files.newInputStream(source)) {
+                copied = in.transferTo(out);
+            }
+            if (copied != size) {
+                throw new KubernetesPluginException("file changed while writing image layer: " + source);
+            }
+            int padding = (int) ((BLOCK_SIZE - size % BLOCK_SIZE) % BLOCK_SIZE);
+            out.write(new byte[padding]);
+        }
+        // The end of the archive is marked with two empty blocks.
+        out.write(new byte[BLOCK_SIZE * 2]);
+    }
+
+    /**
+     * Create a ustar header of an entry.
+     *
+     * @param entryName Name of the entry. Directories end with a slash.
+     * @param mode      Permissions of the entry.
+     * @param size      Size of the file.
+     * @param type      Type flag of the entry.
+     * @return The header block.
+     * @throws KubernetesPluginException If the name is too long for a ustar header.
+     */
+    static byte[] createHeader(String entryName, int mode, long size, char type) throws KubernetesPluginException {
+        byte[] header = new byte[BLOCK_SIZE];
+        byte[] name = entryName.getBytes(StandardCharsets.UTF_8);
+        byte[] prefix = new byte[0];
+        if (name.length > NAME_LENGTH) {
+            // Split the name at a slash into the prefix and the name fields.
+            int splitIndex = entryName.indexOf('/');
+            while (splitIndex > 0 && entryName.substring(splitIndex + 1).getBytes(StandardCharsets.UTF_8).length >
+                    NAME_LENGTH) {
+                splitIndex = entryName.indexOf('/', splitIndex + 1);
+            }
+            if (splitIndex <= 0 || splitIndex == entryName.length() - 1) {
+                throw new KubernetesPluginException("path is too long for an image layer: " + entryName);
+            }
+            prefix = entryName.substring(0, splitIndex).getBytes(StandardCharsets.UTF_8);
+            name = entryName.substring(splitIndex + 1).getBytes(StandardCharsets.UTF_8);
+            if (prefix.length > PREFIX_LENGTH) {
+                throw new KubernetesPluginException("path is too long for an image layer: " + entryName);
+            }
+        }
+        System.arraycopy(name, 0, header, 0, name.length);
+        writeOctal(header, 100, 8, mode);
+        writeOctal(header, 108, 8, 0);
+        writeOctal(header, 116, 8, 0);
+        writeOctal(header, 124, 12, size);
+        writeOctal(header, 136, 12, MODIFICATION_TIME_SECONDS);
+        header[156] = (byte) type;
+        System.arraycopy("ustar\u000000".getBytes(StandardCharsets.US_ASCII), 0, header, 257, 8);
+        System.arraycopy("root".getBytes(StandardCharsets.US_ASCII), 0, header, 265, 4);
+        System.arraycopy("root".getBytes(StandardCharsets.US_ASCII), 0, header, 297, 4);
+        System.arraycopy(prefix, 0, header, 345, prefix.length);
+
+        // The checksum is calculated with the checksum field filled with spaces.
+        Arrays.fill(header, 148, 156, (byte) ' ');
+        long checksum = 0;
+        for (byte b : header) {
+            checksum += b & 0xff;
+        }
+        writeOctal(header, 148, 7, checksum);
+        header[155] = ' ';
+        return header;
+    }
+
+    private static void writeOctal(byte[] header, int offset, int length, long value) {
+        String octal = String.format("%0" + (length - 1) + "o", value);
+        byte[] bytes = octal.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, header, offset, length - 1);
+        header[offset + length - 1] = 0;
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * A content addressed blob of an image.
+     */
+    public static class Blob {
+        private final String mediaType;
+        private final String digest;
+        private final long size;
+        private final String diffId;
+
+        public Blob(String mediaType, String digest, long size, String diffId) {
+            this.mediaType = mediaType;
+            this.digest = digest;
+            this.size = size;
+            this.diffId = diffId;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Get the digest of the uncompressed content of a layer.
+         *
+         * @return The digest or null if the blob is not a layer.
+         */
+        public String getDiffId() {
+            return diffId;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.ballerinax.kubernetes.utils.KubernetesUtils.isBlank;
+
+/**
+ * Client of the repository of an image in a registry implementing the OCI distribution API. Pulls and pushes
+ * manifests and blobs without a docker daemon.
+ * <p>
+ * Requests are sent anonymously until the registry challenges them. Bearer tokens are then requested from the
+ * token service named in the challenge, with the credentials of the client if it has any.
+ */
+public class OciRegistryClient {
+    public static final String OCI_MANIFEST = "application/vnd.oci.image.manifest.v1+json";
+    public static final String OCI_INDEX = "application/vnd.oci.image.index.v1+json";
+    public static final String DOCKER_MANIFEST = "application/vnd.docker.distribution.manifest.v2+json";
+    public static final String DOCKER_MANIFEST_LIST = "application/vnd.docker.distribution.manifest.list.v2+json";
+    private static final String DOCKER_HUB_REGISTRY = "registry-1.docker.io";
+    private static final String DOCKER_HUB_OFFICIAL_REPOSITORY_PREFIX = "library/";
+    private static final Pattern CHALLENGE_PARAMETER = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    private final HttpClient httpClient;
+    private final String registryUrl;
+    private final String repository;
+    private final String username;
+    private final String password;
+    private volatile String authorization;
+
+    /**
+     * Create a client of the repository of an image.
+     *
+     * @param imageName Name of the image.
+     * @param username  Username of the registry. Can be null.
+     * @param password  Password of the registry. Can be null.
+     */
+    public OciRegistryClient(DockerImageName imageName, String username, String password) {
+        this(getRegistryUrl(imageName), getRepository(imageName), username, password);
+    }
+
+    /**
+     * Create a client of a repository.
+     *
+     * @param registryUrl Base URL of the registry, such as https://registry-1.docker.io.
+     * @param repository  Name of the repository.
+     * @param username    Username of the registry. Can be null.
+     * @param password    Password of the registry. Can be null.
+     */
+    public OciRegistryClient(String registryUrl, String repository, String username, String password) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.registryUrl = registryUrl;
+        this.repository = repository;
+        this.username = username;
+        this.password = password;
+    }
+
+    private static String getRegistryUrl(DockerImageName imageName) {
+        String registry = imageName.hasRegistry() ? imageName.getRegistry() : DOCKER_HUB_REGISTRY;
+        if ("docker.io".equals(registry) || "index.docker.io".equals(registry)) {
+            registry = DOCKER_HUB_REGISTRY;
+        }
+        // Like the docker daemon, registries on the local host are accessed without TLS.
+        boolean local = registry.startsWith("localhost:") || registry.equals("localhost") ||
+                registry.startsWith("127.0.0.1");
+        return (local ? "http://" : "https://") + registry;
+    }
+
+    private static String getRepository(DockerImageName imageName) {
+        String repository = imageName.getRepository();
+        boolean dockerHub = !imageName.hasRegistry() || "docker.io".equals(imageName.getRegistry()) ||
+                "index.docker.io".equals(imageName.getRegistry());
+        return dockerHub && !repository.contains("/") ? DOCKER_HUB_OFFICIAL_REPOSITORY_PREFIX + repository :
+                repository;
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    /**
+     * Pull a manifest or an index.
+     *
+     * @param reference Tag or digest of the manifest.
+     * @return The manifest.
+     * @throws KubernetesPluginException If the manifest cannot be pulled.
+     */
+    public Manifest pullManifest(String reference) throws KubernetesPluginException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(getUri("/manifests/" + reference))
+                .header("Accept", String.join(", ", OCI_MANIFEST, OCI_INDEX, DOCKER_MANIFEST, DOCKER_MANIFEST_LIST))
+                .GET();
+        HttpResponse<InputStream> response = send(request);
+        byte[] content = readBody(response);
+        if (response.statusCode() != 200) {
+            throw new KubernetesPluginException("unable to pull manifest " + repository + ":" + reference + ": " +
+                    describe(response.statusCode(), content));
+        }
+        String mediaType = response.headers().firstValue("Content-Type").orElse(null);
+        try {
+            JsonNode json = JSON_MAPPER.readTree(content);
+            if (json.hasNonNull("mediaType")) {
+                mediaType = json.get("mediaType").asText();
+            }
+            return new Manifest(mediaType, content, json);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("invalid manifest " + repository + ":" + reference + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the digest of a manifest or an index without pulling it.
+     *
+     * @param reference Tag or digest of the manifest.
+     * @return The digest or null if the repository does not have the manifest.
+     * @throws KubernetesPluginException If the registry cannot be queried.
+     */
+    public String getManifestDigest(String reference) throws KubernetesPluginException {
+        HttpResponse<InputStream> response = send(HttpRequest.newBuilder(getUri("/manifests/" + reference))
+                .header("Accept", String.join(", ", OCI_MANIFEST, OCI_INDEX, DOCKER_MANIFEST, DOCKER_MANIFEST_LIST))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody()));
+        byte[] content = readBody(response);
+        if (response.statusCode() == 200) {
+            return response.headers().firstValue("Docker-Content-Digest").orElse(null);
+        }
+        if (response.statusCode() == 404) {
+            return null;
+        }
+        throw new KubernetesPluginException("unable to check manifest " + repository + ":" + reference + ": " +
+                describe(response.statusCode(), content));
+    }
+
+    /**
+     * Pull a blob to a file. The content of the blob is verified against its digest.
+     *
+     * @param digest Digest of the blob.
+     * @param target The file.
+     * @throws KubernetesPluginException If the blob cannot be pulled.
+     */
+    public void pullBlob(String digest, Path target) throws KubernetesPluginException {
+        HttpResponse<InputStream> response = send(HttpRequest.newBuilder(getUri("/blobs/" + digest)).GET());
+        // Blobs are usually served from a storage service which does not accept the credentials of the registry.
+        for (int redirects = 0; isRedirect(response.statusCode()) && redirects < 5; redirects++) {
+            readBody(response);
+            URI location = response.uri().resolve(response.headers().firstValue("Location").orElseThrow(() ->
+                    new KubernetesPluginException("redirect without a location while pulling blob " + digest)));
+            response = sendUnauthenticated(HttpRequest.newBuilder(location).GET());
+        }
+        if (response.statusCode() != 200) {
+            throw new KubernetesPluginException("unable to pull blob " + digest + " of " + repository + ": " +
+                    describe(response.statusCode(), readBody(response)));
+        }
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            Path tempFile = Files.createTempFile(target.toAbsolutePath().getParent(), ".blob-", ".tmp");
+            try {
+                MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                try (InputStream in = response.body();
+                     OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), messageDigest)) {
+                    in.transferTo(out);
+                }
+                String actualDigest = "sha256:" + OciLayer.toHex(messageDigest.digest());
+                if (!actualDigest.equals(digest)) {
+                    throw new KubernetesPluginException("digest of blob " + digest + " of " + repository +
+                            " does not match its content: " + actualDigest);
+                }
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new KubernetesPluginException("unable to pull blob " + digest + " of " + repository + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check if the repository has a blob.
+     *
+     * @param digest Digest of the blob.
+     * @return true if the repository has the blob.
+     * @throws KubernetesPluginException If the registry cannot be queried.
+     */
+    public boolean hasBlob(String digest) throws KubernetesPluginException {
+        HttpResponse<InputStream> response = send(HttpRequest.newBuilder(getUri("/blobs/" + digest))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody()));
+        byte[] content = readBody(response);
+        if (response.statusCode() == 200 || isRedirect(response.statusCode())) {
+            return true;
+        }
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        throw new KubernetesPluginException("unable to check blob " + digest + " of " + repository + ": " +
+                describe(response.statusCode(), content));
+    }
+
+    /**
+     * Push a blob with a single upload.
+     *
+     * @param digest Digest of the blob.
+     * @param file   The content of the blob.
+     * @throws KubernetesPluginException If the blob cannot be pushed.
+     */
+    public void pushBlob(String digest, Path file) throws KubernetesPluginException {
+        HttpResponse<InputStream> response = send(HttpRequest.newBuilder(getUri("/blobs/uploads/"))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        byte[] content = readBody(response);
+        String location = response.headers().firstValue("Location").orElse(null);
+        if (response.statusCode() != 202 || null == location) {
+            throw new KubernetesPluginException("unable to start upload of blob " + digest + " to " + repository +
+                    ": " + describe(response.statusCode(), content));
+        }
+        URI uploadUri = response.uri().resolve(location + (location.contains("?") ? "&" : "?") + "digest=" +
+                URLEncoder.encode(digest, StandardCharsets.UTF_8));
+        try {
+            response = send(HttpRequest.newBuilder(uploadUri)
+                    .header("Content-Type", "application/octet-stream")
+                    .PUT(HttpRequest.BodyPublishers.ofFile(file)));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to read blob " + file + ": " + e.getMessage(), e);
+        }
+        content = readBody(response);
+        if (response.statusCode() != 201) {
+            throw new KubernetesPluginException("unable to upload blob " + digest + " to " + repository + ": " +
+                    describe(response.statusCode(), content));
+        }
+    }
+
+    /**
+     * Push a manifest.
+     *
+     * @param tag       Tag of the manifest.
+     * @param mediaType Media type of the manifest.
+     * @param content   The manifest.
+     * @throws KubernetesPluginException If the manifest cannot be pushed.
+     */
+    public void pushManifest(String tag, String mediaType, byte[] content) throws KubernetesPluginException {
+        HttpResponse<InputStream> response = send(HttpRequest.newBuilder(getUri("/manifests/" + tag))
+                .header("Content-Type", mediaType)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content)));
+        byte[] responseContent = readBody(response);
+        if (response.statusCode() != 201) {
+            throw new KubernetesPluginException("unable to push manifest " + repository + ":" + tag + ": " +
+                    describe(response.statusCode(), responseContent));
+        }
+    }
+
+    private URI getUri(String path) {
+        return URI.create(registryUrl + "/v2/" + repository + path);
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest.Builder request) throws KubernetesPluginException {
+        if (null != authorization) {
+            request.setHeader("Authorization", authorization);
+        }
+        HttpResponse<InputStream> response = sendUnauthenticated(request);
+        if (response.statusCode() == 401) {
+            readBody(response);
+            authenticate(response.headers().firstValue("WWW-Authenticate").orElse(""));
+            response = sendUnauthenticated(request.setHeader("Authorization", authorization));
+        }
+        return response;
+    }
+
+    private HttpResponse<InputStream> sendUnauthenticated(HttpRequest.Builder request)
+            throws KubernetesPluginException {
+        HttpRequest httpRequest = request.timeout(TIMEOUT).build();
+        try {
+            return httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to connect to registry " + registryUrl + ": " +
+                    e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesPluginException("interrupted while connecting to registry " + registryUrl, e);
+        }
+    }
+
+    /**
+     * Get the authorization for the challenge of a registry.
+     *
+     * @param challenge Value of the WWW-Authenticate header.
+     * @throws KubernetesPluginException If the registry cannot be authenticated with.
+     */
+    private void authenticate(String challenge) throws KubernetesPluginException {
+        String basicAuthorization = isBlank(username) ? null : "Basic " + Base64.getEncoder().encodeToString(
+                (username + ":" + (null == password ? "" : password)).getBytes(StandardCharsets.UTF_8));
+        if (challenge.regionMatches(true, 0, "Basic", 0, "Basic".length()) && null != basicAuthorization) {
+            authorization = basicAuthorization;
+            return;
+        }
+        if (!challenge.regionMatches(true, 0, "Bearer", 0, "Bearer".length())) {
+            throw new KubernetesPluginException("unable to authenticate with registry " + registryUrl +
+                    (isBlank(username) ? ": username and password are required" : ": " + challenge));
+        }
+        Map<String, String> parameters = new LinkedHashMap<>();
+        Matcher matcher = CHALLENGE_PARAMETER.matcher(challenge);
+        while (matcher.find()) {
+            parameters.put(matcher.group(1), matcher.group(2));
+        }
+        String realm = parameters.remove("realm");
+        if (isBlank(realm)) {
+            throw new KubernetesPluginException("registry " + registryUrl + " did not name a token service");
+        }
+        StringBuilder tokenUri = new StringBuilder(realm);
+        String separator = realm.contains("?") ? "&" : "?";
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            tokenUri.append(separator).append(parameter.getKey()).append("=")
+                    .append(URLEncoder.encode(parameter.getValue(), StandardCharsets.UTF_8));
+            separator = "&";
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(tokenUri.toString())).GET();
+        if (null != basicAuthorization) {
+            request.header("Authorization", basicAuthorization);
+        }
+        HttpResponse<InputStream> response = sendUnauthenticated(request);
+        byte[] content = readBody(response);
+        if (response.statusCode() != 200) {
+            throw new KubernetesPluginException("unable to get token for " + repository + " from " + realm + ": " +
+                    describe(response.statusCode(), content));
+        }
+        try {
+            JsonNode json = JSON_MAPPER.readTree(content);
+            JsonNode token = json.hasNonNull("token") ? json.get("token") : json.get("access_token");
+            if (null == token) {
+                throw new KubernetesPluginException("token service " + realm + " did not return a token");
+            }
+            authorization = "Bearer " + token.asText();
+        } catch (IOException e) {
+            throw new KubernetesPluginException("invalid token response from " + realm + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isRedirect(int statusCode) {
+        return statusCode == 301 || statusCode == 302 || statusCode == 303 || statusCode == 307 ||
+                statusCode == 308;
+    }
+
+    private static byte[] readBody(HttpResponse<InputStream> response) throws KubernetesPluginException {
+        try (InputStream body = response.body()) {
+            return body.readAllBytes();
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to read response from " + response.uri() + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    private static String describe(int statusCode, byte[] content) {
+        String body = new String(content, StandardCharsets.UTF_8).trim();
+        return "status " + statusCode + (body.isEmpty() ? "" : " " + body);
+    }
+
+    /**
+     * A manifest or an index pulled from a registry.
+     */
+    public static class Manifest {
+        private final String mediaType;
+        private final byte[] content;
+        private final JsonNode json;
+
+        Manifest(String mediaType, byte[] content, JsonNode json) {
+            this.mediaType = mediaType;
+            this.content = content;
+            this.json = json;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public JsonNode getJson() {
+            return json;
+        }
+
+        /**
+         * Check if the manifest is an index of the manifests of an image for several platforms.
+         *
+         * @return true if the manifest is an index.
+         */
+        public boolean isIndex() {
+            return OCI_INDEX.equals(mediaType) || DOCKER_MANIFEST_LIST.equals(mediaType);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.utils.ArtifactSink;
+import org.ballerinax.kubernetes.utils.GenerationReport;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test execution order of artifact handlers.
+ */
+public class ArtifactHandlerExecutorTests {
+
+    @Test
+    public void testSequentialExecution() throws KubernetesPluginException {
+        List<String> executed = new ArrayList<>();
+        new ArtifactHandlerExecutor()
+                .addHandler("service", () -> executed.add("service"))
+                .addHandler("secret", () -> executed.add("secret"))
+                .addHandler("deployment", () -> executed.add("deployment"), "service", "secret")
+                .executeSequentially();
+        Assert.assertEquals(executed, Arrays.asList("service", "secret", "deployment"));
+    }
+
+    @Test
+    public void testConcurrentExecution() throws KubernetesPluginException {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        new ArtifactHandlerExecutor()
+                .addHandler("service", () -> {
+                    sleep();
+                    executed.add("service");
+                })
+                .addHandler("secret", () -> executed.add("secret"))
+                .addHandler("configMap", () -> executed.add("configMap"), "secret")
+                .addHandler("deployment", () -> executed.add("deployment"), "service", "configMap")
+                .addHandler("docker", () -> executed.add("docker"), "deployment")
+                .addHandler("helm", () -> executed.add("helm"), "deployment")
+                .executeConcurrently(4);
+        Assert.assertEquals(executed.size(), 6);
+        Assert.assertTrue(executed.indexOf("secret") < executed.indexOf("configMap"));
+        Assert.assertTrue(executed.indexOf("service") < executed.indexOf("deployment"));
+        Assert.assertTrue(executed.indexOf("configMap") < executed.indexOf("deployment"));
+        Assert.assertTrue(executed.indexOf("deployment") < executed.indexOf("docker"));
+        Assert.assertTrue(executed.indexOf("deployment") < executed.indexOf("helm"));
+    }
+
+    @Test
+    public void testConcurrentExecutionFailure() {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        try {
+            new ArtifactHandlerExecutor()
+                    .addHandler("service", () -> {
+                        throw new KubernetesPluginException("service failed");
+                    })
+                    .addHandler("secret", () -> executed.add("secret"))
+                    .addHandler("deployment", () -> executed.add("deployment"), "service", "secret")
+                    .executeConcurrently(2);
+            Assert.fail("Handler failure not propagated");
+        } catch (KubernetesPluginException e) {
+            Assert.assertEquals(e.getMessage(), "service failed");
+        }
+        Assert.assertFalse(executed.contains("deployment"));
+    }
+
+    @Test
+    public void testHandlerTimings() throws KubernetesPluginException {
+        GenerationReport report = new GenerationReport();
+        new ArtifactHandlerExecutor(report)
+                .addHandler("service", this::sleep)
+                .addHandler("deployment", () -> { }, "service")
+                .executeConcurrently(2);
+        Assert.assertEquals(report.getCount(GenerationReport.HANDLER_PHASE_PREFIX + "service"), 1);
+        Assert.assertEquals(report.getCount(GenerationReport.HANDLER_PHASE_PREFIX + "deployment"), 1);
+        Assert.assertTrue(report.getDuration(GenerationReport.HANDLER_PHASE_PREFIX + "service") >=
+                TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testConcurrentWritesOrderedByRegistration() throws Exception {
+        Path outputDir = Files.createTempDirectory("artifact-handler-executor-");
+        Path artifact = outputDir.resolve("hello.yaml");
+        ArtifactSink artifactSink = new ArtifactSink();
+        artifactSink.buffer();
+        try {
+            // The service completes last but its content comes first as it is registered first.
+            new ArtifactHandlerExecutor(null, artifactSink)
+                    .addHandler("service", () -> {
+                        sleep();
+                        write(artifactSink, artifact, "kind: Service\n");
+                    })
+                    .addHandler("secret", () -> write(artifactSink, artifact, "kind: Secret\n"))
+                    .addHandler("configMap", () -> write(artifactSink, artifact, "kind: ConfigMap\n"))
+                    .executeConcurrently(3);
+            artifactSink.write(artifact, "kind: Route\n");
+            Assert.assertEquals(artifactSink.getArtifacts(outputDir).get("hello.yaml"),
+                    "kind: Service\nkind: Secret\nkind: ConfigMap\nkind: Route\n");
+        } finally {
+            artifactSink.discard();
+            KubernetesUtils.deleteDirectory(outputDir);
+        }
+    }
+
+    @Test
+    public void testBufferedHandlerOutput() {
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        PrintStream consoleOut = new PrintStream(console, true);
+        PrintStream handlerOut = new PrintStream(new ArtifactHandlerOutput(consoleOut), true);
+        ArtifactHandlerOutput.startBuffering();
+        handlerOut.println();
+        handlerOut.print("\t@kubernetes:Service \t\t\t - complete 1/1\r");
+        Assert.assertEquals(console.size(), 0);
+        ArtifactHandlerOutput.printBuffered(consoleOut);
+        Assert.assertEquals(console.toString(),
+                System.lineSeparator() + "\t@kubernetes:Service \t\t\t - complete 1/1\r");
+
+        // Output is no longer buffered.
+        handlerOut.print("done");
+        Assert.assertTrue(console.toString().endsWith("done"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownDependency() {
+        new ArtifactHandlerExecutor().addHandler("deployment", () -> { }, "service");
+    }
+
+    private static void write(ArtifactSink artifactSink, Path file, String content)
+            throws KubernetesPluginException {
+        try {
+            artifactSink.write(file, content);
+        } catch (IOException e) {
+            throw new KubernetesPluginException(e.getMessage(), e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
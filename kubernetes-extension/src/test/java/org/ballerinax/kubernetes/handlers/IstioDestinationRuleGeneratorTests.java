@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRule;
+import me.snowdrop.istio.api.networking.v1alpha3.SimpleLbPolicy;
+import org.apache.commons.io.FileUtils;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.istio.IstioDestinationRuleHandler;
+import org.ballerinax.kubernetes.handlers.istio.IstioVirtualServiceHandler;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.istio.IstioConnectionPool;
+import org.ballerinax.kubernetes.models.istio.IstioDestination;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationRuleModel;
+import org.ballerinax.kubernetes.models.istio.IstioDestinationWeight;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
+import org.ballerinax.kubernetes.models.istio.IstioLoadBalancer;
+import org.ballerinax.kubernetes.models.istio.IstioOutlierDetection;
+import org.ballerinax.kubernetes.models.istio.IstioSubset;
+import org.ballerinax.kubernetes.models.istio.IstioTrafficPolicy;
+import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
+import org.ballerinax.kubernetes.utils.Utils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_DESTINATION_RULE_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+
+/**
+ * Unit test cases for istio destination rule models.
+ */
+public class IstioDestinationRuleGeneratorTests extends HandlerTestSuite {
+
+    @AfterMethod
+    public void clearModels() throws IOException {
+        dataHolder.getIstioDestinationRuleModels().clear();
+        dataHolder.getIstioVirtualServiceModels().clear();
+        dataHolder.getbListenerToK8sServiceMap().remove("reviewsEP");
+        Files.deleteIfExists(getDestinationRuleYaml().toPath());
+    }
+
+    @Test
+    public void testTrafficPolicy() throws IOException, KubernetesPluginException {
+        IstioConnectionPool connectionPool = new IstioConnectionPool();
+        connectionPool.setMaxConnections(100);
+        connectionPool.setConnectTimeout(3);
+        connectionPool.setHttp2MaxRequests(1000);
+        connectionPool.setMaxRequestsPerConnection(10);
+        IstioOutlierDetection outlierDetection = new IstioOutlierDetection();
+        outlierDetection.setConsecutiveErrors(5);
+        outlierDetection.setInterval(10);
+        outlierDetection.setBaseEjectionTime(30);
+        outlierDetection.setMaxEjectionPercent(50);
+        IstioLoadBalancer loadBalancer = new IstioLoadBalancer();
+        loadBalancer.setSimple("LEAST_CONN");
+        IstioTrafficPolicy trafficPolicy = new IstioTrafficPolicy();
+        trafficPolicy.setConnectionPool(connectionPool);
+        trafficPolicy.setOutlierDetection(outlierDetection);
+        trafficPolicy.setLoadBalancer(loadBalancer);
+
+        IstioDestinationRuleModel drModel = new IstioDestinationRuleModel();
+        drModel.setName("reviews-dr");
+        drModel.setHost("reviews");
+        drModel.setTrafficPolicy(trafficPolicy);
+        drModel.setSubsets(createSubsets("v1", "v2"));
+        dataHolder.addIstioDestinationRuleModel("reviews", drModel);
+
+        new IstioDestinationRuleHandler().createArtifacts();
+        File drYaml = getDestinationRuleYaml();
+        DestinationRule destinationRule = Utils.loadYaml(drYaml);
+
+        Assert.assertEquals(destinationRule.getMetadata().getName(), "reviews-dr");
+        Assert.assertEquals(destinationRule.getSpec().getHost(), "reviews");
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getTcp()
+                .getMaxConnections().intValue(), 100);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getTcp()
+                .getConnectTimeout().getSeconds().longValue(), 3L);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp()
+                .getHttp2MaxRequests().intValue(), 1000);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp()
+                .getMaxRequestsPerConnection().intValue(), 10);
+        Assert.assertNull(destinationRule.getSpec().getTrafficPolicy().getConnectionPool().getHttp()
+                .getHttp1MaxPendingRequests());
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                .getConsecutiveErrors().intValue(), 5);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                .getBaseEjectionTime().getSeconds().longValue(), 30L);
+        Assert.assertEquals(destinationRule.getSpec().getTrafficPolicy().getOutlierDetection()
+                .getMaxEjectionPercent().intValue(), 50);
+        SimpleLbPolicy lbPolicy =
+                (SimpleLbPolicy) destinationRule.getSpec().getTrafficPolicy().getLoadBalancer().getLbPolicy();
+        Assert.assertEquals(lbPolicy.getSimple().name(), "LEAST_CONN");
+        Assert.assertEquals(destinationRule.getSpec().getSubsets().size(), 2);
+        Assert.assertEquals(destinationRule.getSpec().getSubsets().get(1).getName(), "v2");
+        Assert.assertEquals(destinationRule.getSpec().getSubsets().get(1).getLabels().get("version"), "v2");
+    }
+
+    @Test
+    public void testConsistentHash() throws IOException, KubernetesPluginException {
+        IstioLoadBalancer loadBalancer = new IstioLoadBalancer();
+        loadBalancer.setHttpHeaderName("x-user");
+        loadBalancer.setMinimumRingSize(1024);
+        IstioTrafficPolicy trafficPolicy = new IstioTrafficPolicy();
+        trafficPolicy.setLoadBalancer(loadBalancer);
+        List<IstioSubset> subsets = createSubsets("v1");
+        subsets.get(0).setTrafficPolicy(trafficPolicy);
+
+        IstioDestinationRuleModel drModel = new IstioDestinationRuleModel();
+        drModel.setName("reviews-dr");
+        drModel.setHost("reviews");
+        drModel.setSubsets(subsets);
+        dataHolder.addIstioDestinationRuleModel("reviews", drModel);
+
+        new IstioDestinationRuleHandler().createArtifacts();
+        File drYaml = getDestinationRuleYaml();
+        Map<String, Object> destinationRule =
+                new Yaml().load(FileUtils.readFileToString(drYaml, StandardCharsets.UTF_8));
+        Map<String, Object> spec = (Map<String, Object>) destinationRule.get("spec");
+        Map<String, Object> subset = ((List<Map<String, Object>>) spec.get("subsets")).get(0);
+        Map<String, Object> subsetLoadBalancer =
+                (Map<String, Object>) ((Map<String, Object>) subset.get("trafficPolicy")).get("loadBalancer");
+        Map<String, Object> consistentHash = (Map<String, Object>) subsetLoadBalancer.get("consistentHash");
+        Assert.assertEquals(consistentHash.get("httpHeaderName"), "x-user");
+        Assert.assertEquals(consistentHash.get("minimumRingSize"), 1024);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "unable to resolve subset 'v3' of destination 'reviews'.*reviews-dr")
+    public void testUndefinedSubset() throws KubernetesPluginException {
+        IstioDestinationRuleModel drModel = new IstioDestinationRuleModel();
+        drModel.setName("reviews-dr");
+        drModel.setHost("reviews.default.svc.cluster.local");
+        drModel.setSubsets(createSubsets("v1", "v2"));
+        dataHolder.addIstioDestinationRuleModel("reviews", drModel);
+
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("reviews");
+        serviceModel.setPort(9090);
+        dataHolder.addBListenerToK8sServiceMap("reviewsEP", serviceModel);
+        IstioDestination destination = new IstioDestination();
+        destination.setSubset("v3");
+        IstioDestinationWeight destinationWeight = new IstioDestinationWeight();
+        destinationWeight.setDestination(destination);
+        IstioHttpRoute httpRoute = new IstioHttpRoute();
+        httpRoute.setRoute(Collections.singletonList(destinationWeight));
+        IstioVirtualServiceModel vsModel = new IstioVirtualServiceModel();
+        vsModel.setName("reviews-vs");
+        vsModel.setHosts(Collections.singletonList("*"));
+        vsModel.setHttp(new LinkedList<>(Collections.singletonList(httpRoute)));
+        dataHolder.addIstioVirtualServiceModel("reviewsEP", vsModel);
+
+        new IstioVirtualServiceHandler().createArtifacts();
+    }
+
+    private File getDestinationRuleYaml() {
+        return dataHolder.getK8sArtifactOutputPath().resolve("hello" + ISTIO_DESTINATION_RULE_FILE_POSTFIX + YAML)
+                .toFile();
+    }
+
+    private List<IstioSubset> createSubsets(String... versions) {
+        List<IstioSubset> subsets = new LinkedList<>();
+        for (String version : versions) {
+            IstioSubset subset = new IstioSubset();
+            subset.setName(version);
+            subset.setLabels(Collections.singletonMap("version", version));
+            subsets.add(subset);
+        }
+        return subsets;
+    }
+}
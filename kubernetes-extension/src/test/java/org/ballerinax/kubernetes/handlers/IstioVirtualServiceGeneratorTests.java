@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import org.apache.commons.io.FileUtils;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.istio.IstioVirtualServiceHandler;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.istio.IstioDestination;
+import org.ballerinax.kubernetes.models.istio.IstioHttpFaultInjection;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRetry;
+import org.ballerinax.kubernetes.models.istio.IstioHttpRoute;
+import org.ballerinax.kubernetes.models.istio.IstioVirtualServiceModel;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+
+/**
+ * Unit test cases for istio virtual service models.
+ */
+public class IstioVirtualServiceGeneratorTests extends HandlerTestSuite {
+
+    @AfterMethod
+    public void clearModels() throws IOException {
+        dataHolder.getIstioVirtualServiceModels().clear();
+        dataHolder.getbListenerToK8sServiceMap().remove("ratingsEP");
+        Files.deleteIfExists(getVirtualServiceYaml().toPath());
+    }
+
+    @Test
+    public void testRetriesMirrorAndFault() throws IOException, KubernetesPluginException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("ratings");
+        serviceModel.setPort(9090);
+        dataHolder.addBListenerToK8sServiceMap("ratingsEP", serviceModel);
+
+        IstioHttpRetry retry = new IstioHttpRetry();
+        retry.setAttempts(3);
+        retry.setPerTryTimeout("250ms");
+        retry.setRetryOn("5xx,connect-failure");
+        IstioDestination mirror = new IstioDestination();
+        mirror.setHost("ratings-canary");
+        IstioHttpFaultInjection.Abort abort = new IstioHttpFaultInjection.Abort();
+        abort.setPercent(10);
+        abort.setHttpStatus(503);
+        IstioHttpFaultInjection.Delay delay = new IstioHttpFaultInjection.Delay();
+        delay.setFixedDelay("1m30s");
+        IstioHttpFaultInjection fault = new IstioHttpFaultInjection();
+        fault.setAbort(abort);
+        fault.setDelay(delay);
+        IstioHttpRoute httpRoute = new IstioHttpRoute();
+        httpRoute.setTimeout(2);
+        httpRoute.setRetries(retry);
+        httpRoute.setMirror(mirror);
+        httpRoute.setMirrorPercent(20);
+        httpRoute.setFault(fault);
+        IstioVirtualServiceModel vsModel = new IstioVirtualServiceModel();
+        vsModel.setName("ratings-vs");
+        vsModel.setHosts(Collections.singletonList("ratings"));
+        vsModel.setGateways(Collections.singletonList("mesh"));
+        vsModel.setHttp(new LinkedList<>(Collections.singletonList(httpRoute)));
+        dataHolder.addIstioVirtualServiceModel("ratingsEP", vsModel);
+
+        new IstioVirtualServiceHandler().createArtifacts();
+        assertGeneratedYAML(getVirtualServiceYaml());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertGeneratedYAML(File yamlFile) throws IOException {
+        Map<String, Object> virtualService =
+                new Yaml().load(FileUtils.readFileToString(yamlFile, StandardCharsets.UTF_8));
+        Map<String, Object> spec = (Map<String, Object>) virtualService.get("spec");
+        Map<String, Object> http = ((List<Map<String, Object>>) spec.get("http")).get(0);
+        Assert.assertEquals(http.get("timeout"), "2s");
+
+        Map<String, Object> retries = (Map<String, Object>) http.get("retries");
+        Assert.assertEquals(retries.get("attempts"), 3);
+        Assert.assertEquals(retries.get("perTryTimeout"), "0.250s");
+        Assert.assertEquals(retries.get("retryOn"), "5xx,connect-failure");
+
+        Map<String, Object> mirrorDestination = (Map<String, Object>) http.get("mirror");
+        Assert.assertEquals(mirrorDestination.get("host"), "ratings-canary");
+        Assert.assertEquals(((Map<String, Object>) http.get("mirrorPercentage")).get("value"), 20.0);
+        Assert.assertNotNull(http.get("route"));
+
+        Map<String, Map<String, Object>> faultInjection = (Map<String, Map<String, Object>>) http.get("fault");
+        Assert.assertEquals(faultInjection.get("abort").get("httpStatus"), 503);
+        Assert.assertEquals(((Map<String, Object>) faultInjection.get("abort").get("percentage")).get("value"),
+                10.0);
+        Assert.assertEquals(faultInjection.get("delay").get("fixedDelay"), "90s");
+        Assert.assertNull(faultInjection.get("delay").get("percentage"));
+    }
+
+    private File getVirtualServiceYaml() {
+        return dataHolder.getK8sArtifactOutputPath().resolve("hello" + ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX + YAML)
+                .toFile();
+    }
+}
@@ -18,20 +18,41 @@
 
 package org.ballerinax.kubernetes.handlers;
 
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DependencyWaitModel;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.EnvVarValueModel;
+import org.ballerinax.kubernetes.models.JvmModel;
+import org.ballerinax.kubernetes.models.KubernetesContext;
 import org.ballerinax.kubernetes.models.ProbeModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.models.ShutdownModel;
 import org.ballerinax.kubernetes.utils.Utils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -60,19 +81,63 @@ public class KubernetesDeploymentGeneratorTests extends HandlerTestSuite {
         ProbeModel probeModel = new ProbeModel();
         probeModel.setPort(9090);
         deploymentModel.setLivenessProbe(probeModel);
+        ProbeModel readinessProbe = new ProbeModel();
+        readinessProbe.setPort(9091);
+        readinessProbe.setPath("/health");
+        readinessProbe.setHttpHeaders(Collections.singletonMap("X-Probe", "readiness"));
+        readinessProbe.setTimeoutSeconds(2);
+        readinessProbe.setFailureThreshold(3);
+        deploymentModel.setReadinessProbe(readinessProbe);
+        ProbeModel startupProbe = new ProbeModel();
+        startupProbe.setPort(9091);
+        startupProbe.setPath("/health");
+        deploymentModel.setStartupProbe(startupProbe);
         deploymentModel.setSingleYAML(false);
         Map<String, EnvVarValueModel> env = new HashMap<>();
         EnvVarValueModel testEnvVar = new EnvVarValueModel("ENV");
         env.put("ENV_VAR", testEnvVar);
         deploymentModel.setEnv(env);
         deploymentModel.setReplicas(replicas);
+        deploymentModel.setResources(new ResourceRequirementsBuilder()
+                .addToRequests("cpu", new Quantity("250m"))
+                .addToRequests("memory", new Quantity("256Mi"))
+                .addToLimits("cpu", new Quantity("500m"))
+                .addToLimits("memory", new Quantity("512Mi"))
+                .addToLimits("ephemeral-storage", new Quantity("1Gi"))
+                .build());
+        JvmModel jvmModel = new JvmModel();
+        jvmModel.setMaxRAMPercentage(75);
+        jvmModel.setGc("G1");
+        jvmModel.setActiveProcessorCount(1);
+        deploymentModel.setJvm(jvmModel);
+        deploymentModel.setAffinity(new AffinityBuilder()
+                .withNewNodeAffinity()
+                .withNewRequiredDuringSchedulingIgnoredDuringExecution()
+                .addNewNodeSelectorTerm()
+                .addNewMatchExpression().withKey("kubernetes.io/os").withOperator("In").withValues("linux")
+                .endMatchExpression()
+                .endNodeSelectorTerm()
+                .endRequiredDuringSchedulingIgnoredDuringExecution()
+                .endNodeAffinity()
+                .withNewPodAntiAffinity()
+                .addNewPreferredDuringSchedulingIgnoredDuringExecution()
+                .withWeight(100)
+                .withNewPodAffinityTerm().withTopologyKey("topology.kubernetes.io/zone").endPodAffinityTerm()
+                .endPreferredDuringSchedulingIgnoredDuringExecution()
+                .endPodAntiAffinity()
+                .build());
+        deploymentModel.addTopologySpreadConstraint(new TopologySpreadConstraintBuilder()
+                .withMaxSkew(1)
+                .withTopologyKey(KubernetesConstants.KUBERNETES_HOSTNAME_TOPOLOGY_KEY)
+                .withWhenUnsatisfiable(KubernetesConstants.SCHEDULE_ANYWAY)
+                .build());
         dataHolder.setDeploymentModel(deploymentModel);
         try {
             new DeploymentHandler().createArtifacts();
             File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             testGeneratedYAML(tempFile);
-            tempFile.deleteOnExit();
+            Assert.assertTrue(tempFile.delete());
         } catch (IOException e) {
             Assert.fail("Unable to write to file");
         } catch (KubernetesPluginException e) {
@@ -80,6 +145,252 @@ public class KubernetesDeploymentGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test
+    public void testDependencyWait() throws IOException, KubernetesPluginException {
+        PackageID orderModule = new PackageID(Names.ANON_ORG, new Name("order_pkg"), Names.DEFAULT_VERSION);
+        KubernetesContext.getInstance().addDataHolder(orderModule, Paths.get("build"));
+        KubernetesContext.getInstance().setCurrentPackage(module);
+        ServiceModel orderService = new ServiceModel();
+        orderService.setName("order-svc");
+        orderService.setPort(9090);
+        orderService.setProtocol("http");
+        KubernetesContext.getInstance().getDataHolder(orderModule).addBListenerToK8sServiceMap("orderEP",
+                orderService);
+        ServiceModel paymentService = new ServiceModel();
+        paymentService.setName("payment-svc");
+        paymentService.setPort(9443);
+        paymentService.setProtocol("https");
+        KubernetesContext.getInstance().getDataHolder(orderModule).addBListenerToK8sServiceMap("paymentEP",
+                paymentService);
+
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setDependsOn(new HashSet<>(Arrays.asList("order_pkg:paymentEP", "order_pkg:orderEP")));
+        DependencyWaitModel dependencyWait = new DependencyWaitModel();
+        dependencyWait.setMode("http");
+        dependencyWait.setPath("/health");
+        dependencyWait.setTimeoutSeconds(120);
+        deploymentModel.setDependencyWait(dependencyWait);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+        File yamlFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Deployment deployment = Utils.loadYaml(yamlFile);
+        Assert.assertTrue(yamlFile.delete());
+
+        List<Container> initContainers = deployment.getSpec().getTemplate().getSpec().getInitContainers();
+        Assert.assertEquals(initContainers.size(), 1, "Dependencies should be awaited in a single init container.");
+        Assert.assertEquals(initContainers.get(0).getName(), KubernetesConstants.DEPENDENCY_WAIT_CONTAINER_NAME);
+        String script = initContainers.get(0).getCommand().get(2);
+        Assert.assertTrue(script.contains("wget -q -T 2 -O /dev/null \"$3://$1:$2/health\""));
+        Assert.assertTrue(script.contains("deadline=$(($(date +%s) + 120))"));
+        Assert.assertTrue(script.indexOf("wait_for order-svc 9090 http &") <
+                script.indexOf("wait_for payment-svc 9443 https &"));
+    }
+
+    @Test
+    public void testDependencyWaitOfModules() throws IOException, KubernetesPluginException {
+        // The dependencies of the drink store of sample13, which are deployed from other modules.
+        for (String drink : new String[]{"cool", "hot"}) {
+            PackageID drinkModule = new PackageID(Names.ANON_ORG, new Name(drink + "_drink"), Names.DEFAULT_VERSION);
+            KubernetesContext.getInstance().addDataHolder(drinkModule, Paths.get("build"));
+            ServiceModel drinkService = new ServiceModel();
+            drinkService.setName(drink + "drink-backend");
+            drinkService.setPort(9090);
+            KubernetesContext.getInstance().getDataHolder(drinkModule).addBListenerToK8sServiceMap(drink +
+                    "DrinkEP", drinkService);
+        }
+        KubernetesContext.getInstance().setCurrentPackage(module);
+
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setDependsOn(new HashSet<>(Arrays.asList("hot_drink:hotDrinkEP", "cool_drink:coolDrinkEP")));
+        DependencyWaitModel dependencyWait = new DependencyWaitModel();
+        dependencyWait.setTimeoutSeconds(300);
+        deploymentModel.setDependencyWait(dependencyWait);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+        File yamlFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Deployment deployment = Utils.loadYaml(yamlFile);
+        Assert.assertTrue(yamlFile.delete());
+
+        List<Container> initContainers = deployment.getSpec().getTemplate().getSpec().getInitContainers();
+        Assert.assertEquals(initContainers.size(), 1, "Dependencies should be awaited in a single init container.");
+        Assert.assertEquals(initContainers.get(0).getName(), KubernetesConstants.DEPENDENCY_WAIT_CONTAINER_NAME);
+        Assert.assertEquals(initContainers.get(0).getImage(), "busybox:1.31");
+        String script = initContainers.get(0).getCommand().get(2);
+        Assert.assertTrue(script.contains("nc -z -w 2 \"$1\" \"$2\""));
+        Assert.assertTrue(script.contains("deadline=$(($(date +%s) + 300))"));
+        Assert.assertTrue(script.indexOf("wait_for cooldrink-backend 9090 http &") <
+                script.indexOf("wait_for hotdrink-backend 9090 http &"));
+        Assert.assertTrue(script.endsWith("for pid in $pids; do wait $pid || exit 1; done\n"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "'path' of 'dependencyWait' should start with '/' and contain only .*: " +
+                    "/health\\$\\(id\\)")
+    public void testDependencyWaitPathWithShellCharacters() throws KubernetesPluginException {
+        PackageID backendModule = new PackageID(Names.ANON_ORG, new Name("backend_pkg"), Names.DEFAULT_VERSION);
+        KubernetesContext.getInstance().addDataHolder(backendModule, Paths.get("build"));
+        KubernetesContext.getInstance().setCurrentPackage(module);
+        ServiceModel backendService = new ServiceModel();
+        backendService.setName("backend-svc");
+        backendService.setPort(9091);
+        KubernetesContext.getInstance().getDataHolder(backendModule).addBListenerToK8sServiceMap("backendEP",
+                backendService);
+
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setDependsOn(new HashSet<>(Collections.singletonList("backend_pkg:backendEP")));
+        DependencyWaitModel dependencyWait = new DependencyWaitModel();
+        dependencyWait.setMode("http");
+        dependencyWait.setPath("/health$(id)");
+        deploymentModel.setDependencyWait(dependencyWait);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+    }
+
+    @Test
+    public void testModuleOfDependentListener() throws KubernetesPluginException {
+        PackageID inventoryModule = new PackageID(Names.ANON_ORG, new Name("inventory_pkg"), Names.DEFAULT_VERSION);
+        KubernetesContext.getInstance().addDataHolder(inventoryModule, Paths.get("build"));
+        KubernetesContext.getInstance().setCurrentPackage(module);
+        ServiceModel inventoryService = new ServiceModel();
+        inventoryService.setName("inventory-svc");
+        KubernetesContext.getInstance().getDataHolder(inventoryModule).addBListenerToK8sServiceMap("inventoryEP",
+                inventoryService);
+
+        Assert.assertEquals(KubernetesContext.getInstance().getModuleNameFromListener("inventory_pkg:inventoryEP"),
+                "inventory_pkg");
+        try {
+            KubernetesContext.getInstance().getModuleNameFromListener("inventory_pkg:stockEP");
+            Assert.fail("A listener without a service should not be resolved.");
+        } catch (KubernetesPluginException e) {
+            Assert.assertEquals(e.getMessage(), "dependent listener inventory_pkg:stockEP is not annotated with " +
+                    "@kubernetes:Service{}");
+        }
+        try {
+            KubernetesContext.getInstance().getModuleNameFromListener("shipping_pkg:shippingEP");
+            Assert.fail("A listener of an unknown module should not be resolved.");
+        } catch (KubernetesPluginException e) {
+            Assert.assertEquals(e.getMessage(), "dependent listener shipping_pkg:shippingEP not found.");
+        }
+    }
+
+    @Test
+    public void testGracefulShutdown() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setPorts(new HashSet<>(Collections.singletonList(9090)));
+        ProbeModel readinessProbe = new ProbeModel();
+        readinessProbe.setPeriodSeconds(5);
+        deploymentModel.setReadinessProbe(readinessProbe);
+        ShutdownModel shutdownModel = new ShutdownModel();
+        shutdownModel.setPreStopPath("/drain");
+        deploymentModel.setShutdown(shutdownModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+        File yamlFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Deployment deployment = Utils.loadYaml(yamlFile);
+        Assert.assertTrue(yamlFile.delete());
+
+        // The drain delay waits for the readiness probe to fail three times.
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getTerminationGracePeriodSeconds()
+                .longValue(), 45L);
+        Container container = deployment.getSpec().getTemplate().getSpec().getContainers().get(0);
+        List<String> preStop = container.getLifecycle().getPreStop().getExec().getCommand();
+        Assert.assertEquals(preStop.get(0), "sh");
+        Assert.assertTrue(preStop.get(2).startsWith("wget -q -T 2 -O /dev/null \"http://localhost:9090/drain\""));
+        Assert.assertTrue(preStop.get(2).endsWith("; sleep 15"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "'terminationGracePeriodSeconds' of 'shutdown' should be greater .*")
+    public void testShutdownGracePeriodWithinDrainDelay() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        ShutdownModel shutdownModel = new ShutdownModel();
+        shutdownModel.setDrainDelaySeconds(20);
+        shutdownModel.setTerminationGracePeriodSeconds(10);
+        deploymentModel.setShutdown(shutdownModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "a memory limit is required in 'resources' to size the jvm heap .*")
+    public void testJvmHeapWithoutMemoryLimit() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        JvmModel jvmModel = new JvmModel();
+        jvmModel.setMaxRAMPercentage(75);
+        deploymentModel.setJvm(jvmModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".* of the memory limit '256Mi' leaves less than 64Mi for non-heap .*")
+    public void testJvmHeapExceedingMemoryLimit() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setResources(new ResourceRequirementsBuilder()
+                .addToLimits("memory", new Quantity("256Mi"))
+                .build());
+        JvmModel jvmModel = new JvmModel();
+        jvmModel.setMaxRAMPercentage(90);
+        deploymentModel.setJvm(jvmModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "jvm activeProcessorCount '2' exceeds the cpu limit '500m'")
+    public void testJvmActiveProcessorCountExceedingCpuLimit() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        deploymentModel.setResources(new ResourceRequirementsBuilder()
+                .addToLimits("cpu", new Quantity("500m"))
+                .build());
+        JvmModel jvmModel = new JvmModel();
+        jvmModel.setActiveProcessorCount(2);
+        deploymentModel.setJvm(jvmModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "jvm gc 'Z' requires a base image with Java 11 or later .*: " +
+                    "openjdk:8-jre-alpine")
+    public void testJvmZgcOnDefaultBaseImage() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setImage(imageName);
+        // The default base image of the docker generator.
+        deploymentModel.setBaseImage("openjdk:8-jre-alpine");
+        JvmModel jvmModel = new JvmModel();
+        jvmModel.setGc("Z");
+        deploymentModel.setJvm(jvmModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new DeploymentHandler().createArtifacts();
+    }
+
     private void testGeneratedYAML(File yamlFile) throws IOException {
         Deployment deployment = Utils.loadYaml(yamlFile);
         Assert.assertEquals(deploymentName, deployment.getMetadata().getName());
@@ -94,6 +405,41 @@ public class KubernetesDeploymentGeneratorTests extends HandlerTestSuite {
         Assert.assertEquals(3, container.getPorts().size());
         Assert.assertEquals(5, container.getLivenessProbe().getPeriodSeconds().intValue());
         Assert.assertEquals(10, container.getLivenessProbe().getInitialDelaySeconds().intValue());
-        Assert.assertEquals(1, container.getEnv().size());
+        Assert.assertEquals(9090, container.getLivenessProbe().getTcpSocket().getPort().getIntVal().intValue());
+        Assert.assertNull(container.getLivenessProbe().getTimeoutSeconds());
+        Assert.assertNull(container.getReadinessProbe().getTcpSocket());
+        Assert.assertEquals(container.getReadinessProbe().getHttpGet().getPath(), "/health");
+        Assert.assertEquals(container.getReadinessProbe().getHttpGet().getPort().getIntVal().intValue(), 9091);
+        Assert.assertEquals(container.getReadinessProbe().getHttpGet().getHttpHeaders().get(0).getName(), "X-Probe");
+        Assert.assertEquals(container.getReadinessProbe().getTimeoutSeconds().intValue(), 2);
+        Assert.assertEquals(container.getReadinessProbe().getFailureThreshold().intValue(), 3);
+        Assert.assertEquals(container.getStartupProbe().getHttpGet().getPath(), "/health");
+        Assert.assertEquals(container.getStartupProbe().getPeriodSeconds().intValue(), 5);
+        Assert.assertEquals(container.getStartupProbe().getFailureThreshold().intValue(), 30);
+        Assert.assertEquals(2, container.getEnv().size());
+        EnvVar jvmOptions = container.getEnv().stream()
+                .filter(envVar -> KubernetesConstants.JAVA_TOOL_OPTIONS.equals(envVar.getName()))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Assert.assertEquals(jvmOptions.getValue(), "-XX:MaxRAMPercentage=75.0 -XX:+UseG1GC -XX:ActiveProcessorCount=1");
+        Assert.assertEquals(container.getResources().getRequests().get("cpu"), Quantity.parse("250m"));
+        Assert.assertEquals(container.getResources().getRequests().get("memory"), Quantity.parse("256Mi"));
+        Assert.assertEquals(container.getResources().getLimits().get("cpu"), Quantity.parse("500m"));
+        Assert.assertEquals(container.getResources().getLimits().get("memory"), Quantity.parse("512Mi"));
+        Assert.assertEquals(container.getResources().getLimits().get("ephemeral-storage"), Quantity.parse("1Gi"));
+
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        Assert.assertEquals(podSpec.getAffinity().getNodeAffinity().getRequiredDuringSchedulingIgnoredDuringExecution()
+                .getNodeSelectorTerms().get(0).getMatchExpressions().get(0).getKey(), "kubernetes.io/os");
+        WeightedPodAffinityTerm antiAffinityTerm = podSpec.getAffinity().getPodAntiAffinity()
+                .getPreferredDuringSchedulingIgnoredDuringExecution().get(0);
+        Assert.assertEquals(antiAffinityTerm.getWeight().intValue(), 100);
+        Assert.assertEquals(antiAffinityTerm.getPodAffinityTerm().getLabelSelector().getMatchLabels()
+                .get(KubernetesConstants.KUBERNETES_SELECTOR_KEY), selector);
+        Assert.assertEquals(podSpec.getTopologySpreadConstraints().size(), 1);
+        TopologySpreadConstraint spreadConstraint = podSpec.getTopologySpreadConstraints().get(0);
+        Assert.assertEquals(spreadConstraint.getTopologyKey(), "kubernetes.io/hostname");
+        Assert.assertEquals(spreadConstraint.getLabelSelector().getMatchLabels()
+                .get(KubernetesConstants.KUBERNETES_SELECTOR_KEY), selector);
     }
 }
@@ -19,12 +19,16 @@
 package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.MetricSpecBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.EnvVarValueModel;
 import org.ballerinax.kubernetes.models.PodAutoscalerModel;
 import org.ballerinax.kubernetes.models.ProbeModel;
+import org.ballerinax.kubernetes.models.ScalingRulesModel;
 import org.ballerinax.kubernetes.utils.Utils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -32,6 +36,7 @@ import org.testng.annotations.Test;
 import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +49,7 @@ public class KubernetesHPAGeneratorTests extends HandlerTestSuite {
     private final String deploymentName = "MyDeployment";
     private final String selector = "hello";
     private final int cpuPercentage = 90;
+    private final int memoryPercentage = 80;
     private final int maxReplicas = 10;
     private final int minReplicas = 2;
 
@@ -65,10 +71,29 @@ public class KubernetesHPAGeneratorTests extends HandlerTestSuite {
         EnvVarValueModel testEnvVar = new EnvVarValueModel("ENV");
         env.put("ENV_VAR", testEnvVar);
         deploymentModel.setEnv(env);
+        deploymentModel.setResources(new ResourceRequirementsBuilder()
+                .addToLimits("memory", new Quantity("512Mi"))
+                .build());
 
         PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
         podAutoscalerModel.setName(hpaName);
         podAutoscalerModel.setCpuPercentage(cpuPercentage);
+        podAutoscalerModel.setMemoryPercentage(memoryPercentage);
+        podAutoscalerModel.addMetric(new MetricSpecBuilder()
+                .withType("Pods")
+                .withNewPods()
+                .withNewMetric().withName("http_requests_per_second").endMetric()
+                .withNewTarget().withType("AverageValue").withAverageValue(new Quantity("100")).endTarget()
+                .endPods()
+                .build());
+        ScalingRulesModel scaleDown = new ScalingRulesModel();
+        scaleDown.setStabilizationWindowSeconds(300);
+        ScalingRulesModel.ScalingPolicyModel scaleDownPolicy = new ScalingRulesModel.ScalingPolicyModel();
+        scaleDownPolicy.setType("Percent");
+        scaleDownPolicy.setValue(10);
+        scaleDownPolicy.setPeriodSeconds(60);
+        scaleDown.getPolicies().add(scaleDownPolicy);
+        podAutoscalerModel.setScaleDown(scaleDown);
         podAutoscalerModel.setMaxReplicas(maxReplicas);
         podAutoscalerModel.setMinReplicas(minReplicas);
         podAutoscalerModel.setDeployment(deploymentName);
@@ -89,6 +114,21 @@ public class KubernetesHPAGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "memory utilization of @kubernetes:HPA\\{\\} requires a memory .*")
+    public void testMemoryUtilizationWithoutMemoryRequest() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.setSingleYAML(false);
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setName(hpaName);
+        podAutoscalerModel.setMemoryPercentage(memoryPercentage);
+        deploymentModel.setPodAutoscalerModel(podAutoscalerModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        new HPAHandler().createArtifacts();
+    }
+
+    @SuppressWarnings("unchecked")
     private void assertGeneratedYAML(File yamlFile) throws IOException {
         HorizontalPodAutoscaler podAutoscaler = Utils.loadYaml(yamlFile);
         Assert.assertEquals(podAutoscaler.getMetadata().getName(), hpaName);
@@ -96,9 +136,23 @@ public class KubernetesHPAGeneratorTests extends HandlerTestSuite {
                 .KUBERNETES_SELECTOR_KEY), selector);
         Assert.assertEquals(podAutoscaler.getSpec().getMaxReplicas().intValue(), maxReplicas);
         Assert.assertEquals(podAutoscaler.getSpec().getMinReplicas().intValue(), minReplicas);
-        Assert.assertEquals(podAutoscaler.getSpec().getMetrics().size(), 1);
+        Assert.assertEquals(podAutoscaler.getSpec().getMetrics().size(), 3);
         Assert.assertEquals(podAutoscaler.getSpec().getMetrics().get(0).getResource().getTarget()
                 .getAverageUtilization().intValue(), cpuPercentage);
+        Assert.assertEquals(podAutoscaler.getSpec().getMetrics().get(1).getResource().getName(), "memory");
+        Assert.assertEquals(podAutoscaler.getSpec().getMetrics().get(1).getResource().getTarget()
+                .getAverageUtilization().intValue(), memoryPercentage);
+        Assert.assertEquals(podAutoscaler.getSpec().getMetrics().get(2).getPods().getMetric().getName(),
+                "http_requests_per_second");
+        Map<String, Object> behavior = (Map<String, Object>) podAutoscaler.getSpec().getAdditionalProperties()
+                .get("behavior");
+        Map<String, Object> scaleDown = (Map<String, Object>) behavior.get("scaleDown");
+        Assert.assertNull(behavior.get("scaleUp"));
+        Assert.assertEquals(scaleDown.get("stabilizationWindowSeconds"), 300);
+        Map<String, Object> policy = ((List<Map<String, Object>>) scaleDown.get("policies")).get(0);
+        Assert.assertEquals(policy.get("type"), "Percent");
+        Assert.assertEquals(policy.get("value"), 10);
+        Assert.assertEquals(policy.get("periodSeconds"), 60);
         Assert.assertEquals(podAutoscaler.getSpec().getScaleTargetRef().getName(), deploymentName);
     }
 }
@@ -19,11 +19,14 @@
 package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
 import io.fabric8.kubernetes.api.model.batch.Job;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.EnvVarValueModel;
 import org.ballerinax.kubernetes.models.JobModel;
+import org.ballerinax.kubernetes.models.JvmModel;
 import org.ballerinax.kubernetes.utils.Utils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -57,6 +60,16 @@ public class KubernetesJobGeneratorTests extends HandlerTestSuite {
         EnvVarValueModel testEnvVar = new EnvVarValueModel("ENV");
         env.put("ENV_VAR", testEnvVar);
         jobModel.setEnv(env);
+        jobModel.setResources(new ResourceRequirementsBuilder()
+                .addToLimits("cpu", new Quantity("1"))
+                .addToLimits("memory", new Quantity("1Gi"))
+                .build());
+        jobModel.setUberJar(true);
+        JvmModel jvmModel = new JvmModel();
+        jvmModel.setMaxRAMPercentage(80);
+        jvmModel.setInitialRAMPercentage(50);
+        jvmModel.setGc("Parallel");
+        jobModel.setJvm(jvmModel);
         dataHolder.setJobModel(jobModel);
 
         try {
@@ -64,6 +77,7 @@ public class KubernetesJobGeneratorTests extends HandlerTestSuite {
             File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_job.yaml").toFile();
             Assert.assertTrue(tempFile.exists());
             assertGeneratedYAML(tempFile);
+            Assert.assertNull(dataHolder.getDockerModel().getCmd());
             tempFile.deleteOnExit();
         } catch (IOException e) {
             Assert.fail("Unable to write to file");
@@ -79,6 +93,12 @@ public class KubernetesJobGeneratorTests extends HandlerTestSuite {
         Container container = job.getSpec().getTemplate().getSpec().getContainers().get(0);
         Assert.assertEquals(imageName, container.getImage());
         Assert.assertEquals(imagePullPolicy, container.getImagePullPolicy());
-        Assert.assertEquals(1, container.getEnv().size());
+        Assert.assertEquals(2, container.getEnv().size());
+        Assert.assertTrue(container.getEnv().stream().anyMatch(envVar -> "JAVA_TOOL_OPTIONS".equals(envVar.getName())
+                && "-XX:MaxRAMPercentage=80.0 -XX:InitialRAMPercentage=50.0 -XX:+UseParallelGC"
+                .equals(envVar.getValue())));
+        Assert.assertNull(container.getResources().getRequests());
+        Assert.assertEquals(container.getResources().getLimits().get("cpu"), Quantity.parse("1"));
+        Assert.assertEquals(container.getResources().getLimits().get("memory"), Quantity.parse("1Gi"));
     }
 }
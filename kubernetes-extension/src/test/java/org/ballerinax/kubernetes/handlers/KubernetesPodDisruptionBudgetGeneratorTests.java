@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.handlers;
+
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.policy.PodDisruptionBudget;
+import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.PodDisruptionBudgetModel;
+import org.ballerinax.kubernetes.utils.Utils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.ballerinax.kubernetes.KubernetesConstants.PDB_FILE_POSTFIX;
+import static org.ballerinax.kubernetes.KubernetesConstants.YAML;
+
+/**
+ * Test kubernetes pod disruption budget generation.
+ */
+public class KubernetesPodDisruptionBudgetGeneratorTests extends HandlerTestSuite {
+    private final String selector = "hello";
+
+    @AfterMethod
+    public void cleanUp() {
+        dataHolder.setPodDisruptionBudgetModel(null);
+    }
+
+    @Test
+    public void testDefaultFromReplicas() throws IOException, KubernetesPluginException {
+        dataHolder.setDeploymentModel(createDeploymentModel(3));
+        dataHolder.setPodDisruptionBudgetModel(new PodDisruptionBudgetModel());
+        PodDisruptionBudget podDisruptionBudget = generate();
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getName(), "hello-pdb");
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getLabels()
+                .get(KubernetesConstants.KUBERNETES_SELECTOR_KEY), selector);
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMinAvailable().getIntVal().intValue(), 2);
+        Assert.assertNull(podDisruptionBudget.getSpec().getMaxUnavailable());
+        Assert.assertEquals(podDisruptionBudget.getSpec().getSelector().getMatchLabels()
+                .get(KubernetesConstants.KUBERNETES_SELECTOR_KEY), selector);
+    }
+
+    @Test
+    public void testDefaultFromAutoscaler() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = createDeploymentModel(1);
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setMinReplicas(4);
+        podAutoscalerModel.setMaxReplicas(8);
+        deploymentModel.setPodAutoscalerModel(podAutoscalerModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setPodDisruptionBudgetModel(new PodDisruptionBudgetModel());
+        PodDisruptionBudget podDisruptionBudget = generate();
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMinAvailable().getIntVal().intValue(), 3);
+    }
+
+    @Test
+    public void testDefaultForSingleReplica() throws IOException, KubernetesPluginException {
+        dataHolder.setDeploymentModel(createDeploymentModel(1));
+        dataHolder.setPodDisruptionBudgetModel(new PodDisruptionBudgetModel());
+        PodDisruptionBudget podDisruptionBudget = generate();
+        Assert.assertNull(podDisruptionBudget.getSpec().getMinAvailable());
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMaxUnavailable().getIntVal().intValue(), 1);
+    }
+
+    @Test
+    public void testPercentage() throws IOException, KubernetesPluginException {
+        dataHolder.setDeploymentModel(createDeploymentModel(3));
+        PodDisruptionBudgetModel podDisruptionBudgetModel = new PodDisruptionBudgetModel();
+        podDisruptionBudgetModel.setName("MyPDB");
+        podDisruptionBudgetModel.setMaxUnavailable(new IntOrString("25%"));
+        dataHolder.setPodDisruptionBudgetModel(podDisruptionBudgetModel);
+        PodDisruptionBudget podDisruptionBudget = generate();
+        Assert.assertEquals(podDisruptionBudget.getMetadata().getName(), "MyPDB");
+        Assert.assertNull(podDisruptionBudget.getSpec().getMinAvailable());
+        Assert.assertEquals(podDisruptionBudget.getSpec().getMaxUnavailable().getStrVal(), "25%");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "'minAvailable' of @kubernetes:PodDisruptionBudget\\{\\} should be " +
+                                              "less than the minimum number of replicas: 2.*")
+    public void testMinAvailableBlocksEviction() throws KubernetesPluginException {
+        dataHolder.setDeploymentModel(createDeploymentModel(2));
+        PodDisruptionBudgetModel podDisruptionBudgetModel = new PodDisruptionBudgetModel();
+        podDisruptionBudgetModel.setMinAvailable(new IntOrString(2));
+        dataHolder.setPodDisruptionBudgetModel(podDisruptionBudgetModel);
+        new PodDisruptionBudgetHandler().createArtifacts();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "only one of 'minAvailable' or 'maxUnavailable' can be set .*")
+    public void testMinAvailableAndMaxUnavailable() throws KubernetesPluginException {
+        dataHolder.setDeploymentModel(createDeploymentModel(3));
+        PodDisruptionBudgetModel podDisruptionBudgetModel = new PodDisruptionBudgetModel();
+        podDisruptionBudgetModel.setMinAvailable(new IntOrString(1));
+        podDisruptionBudgetModel.setMaxUnavailable(new IntOrString(1));
+        dataHolder.setPodDisruptionBudgetModel(podDisruptionBudgetModel);
+        new PodDisruptionBudgetHandler().createArtifacts();
+    }
+
+    private DeploymentModel createDeploymentModel(int replicas) {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.setReplicas(replicas);
+        deploymentModel.setSingleYAML(false);
+        return deploymentModel;
+    }
+
+    private PodDisruptionBudget generate() throws IOException, KubernetesPluginException {
+        new PodDisruptionBudgetHandler().createArtifacts();
+        File yamlFile = dataHolder.getK8sArtifactOutputPath().resolve(selector + PDB_FILE_POSTFIX + YAML).toFile();
+        Assert.assertTrue(yamlFile.exists(), "Generated file not found.");
+        PodDisruptionBudget podDisruptionBudget = Utils.loadYaml(yamlFile);
+        Assert.assertTrue(yamlFile.delete());
+        return podDisruptionBudget;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.AppCdsModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test training an AppCDS archive in the Dockerfile.
+ */
+public class AppCdsArchiveTests {
+
+    @Test
+    public void testAddToDockerfile() throws KubernetesPluginException {
+        String dockerfile = "FROM openjdk:11-jre-slim\n" +
+                "WORKDIR /home/ballerina\n" +
+                "COPY hello.jar /home/ballerina\n" +
+                "CMD java -cp \"hello.jar:jars/*\" '$_init'\n";
+        AppCdsModel appCdsModel = new AppCdsModel();
+        appCdsModel.setTrainingTimeoutSeconds(20);
+        Assert.assertEquals(AppCdsArchive.addToDockerfile(dockerfile, appCdsModel), "FROM openjdk:11-jre-slim\n" +
+                "WORKDIR /home/ballerina\n" +
+                "COPY hello.jar /home/ballerina\n" +
+                "COPY appcds-training.sh /home/ballerina/appcds-training.sh\n" +
+                "RUN sh /home/ballerina/appcds-training.sh /home/ballerina/app.jsa 20 -cp \"hello.jar:jars/*\" " +
+                "'$_init'\n" +
+                "CMD java -XX:SharedArchiveFile=/home/ballerina/app.jsa -cp \"hello.jar:jars/*\" '$_init'\n");
+    }
+
+    @Test
+    public void testAddToDockerfileWithUser() throws KubernetesPluginException {
+        String dockerfile = "FROM openjdk:11-jre-slim\n" +
+                "USER ballerina\n" +
+                "WORKDIR /home/ballerina\n" +
+                "COPY hello.jar /home/ballerina\n" +
+                "CMD java -jar hello.jar\n";
+        Assert.assertEquals(AppCdsArchive.addToDockerfile(dockerfile, new AppCdsModel()),
+                "FROM openjdk:11-jre-slim\n" +
+                        "USER ballerina\n" +
+                        "WORKDIR /home/ballerina\n" +
+                        "COPY hello.jar /home/ballerina\n" +
+                        "USER root\n" +
+                        "COPY appcds-training.sh /home/ballerina/appcds-training.sh\n" +
+                        "RUN sh /home/ballerina/appcds-training.sh /home/ballerina/app.jsa 30 -jar hello.jar\n" +
+                        "USER ballerina\n" +
+                        "CMD java -XX:SharedArchiveFile=/home/ballerina/app.jsa -jar hello.jar\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*Dockerfile CMD does not run java: \\[\"java\", \"-jar\", .*")
+    public void testExecFormCmd() throws KubernetesPluginException {
+        AppCdsArchive.addToDockerfile("FROM openjdk:11-jre-slim\nCMD [\"java\", \"-jar\", \"hello.jar\"]\n",
+                new AppCdsModel());
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*Dockerfile does not have a CMD")
+    public void testWithoutCmd() throws KubernetesPluginException {
+        AppCdsArchive.addToDockerfile("FROM openjdk:11-jre-slim\nENTRYPOINT java -jar hello.jar\n",
+                new AppCdsModel());
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*base image should have Java 11 or later.*: openjdk:8-jre-alpine")
+    public void testJava8BaseImage() throws KubernetesPluginException {
+        AppCdsArchive.addToDockerfile("FROM openjdk:8-jre-alpine\nCMD java -jar hello.jar\n", new AppCdsModel());
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*base image should have Java 11 or later.*: example/app-base:latest")
+    public void testUnknownBaseImage() throws KubernetesPluginException {
+        AppCdsArchive.addToDockerfile("FROM example/app-base:latest\nCMD java -jar hello.jar\n", new AppCdsModel());
+    }
+
+    @Test
+    public void testJavaVersionOfBaseImage() {
+        Assert.assertEquals(AppCdsArchive.getJavaVersion("openjdk:11-jre-slim"), 11);
+        Assert.assertEquals(AppCdsArchive.getJavaVersion("openjdk:8u212-jre-alpine"), 8);
+        Assert.assertEquals(AppCdsArchive.getJavaVersion("openjdk:1.8.0"), 8);
+        Assert.assertEquals(AppCdsArchive.getJavaVersion("eclipse-temurin:17-jre"), 17);
+        Assert.assertEquals(AppCdsArchive.getJavaVersion("ballerina/jre11:v1"), 11);
+        Assert.assertEquals(AppCdsArchive.getJavaVersion("localhost:5000/adoptopenjdk/openjdk11:jre"), 11);
+        Assert.assertEquals(AppCdsArchive.getJavaVersion("openjdk@sha256:0123abcd"), -1);
+    }
+
+    @Test
+    public void testTrainingScript() {
+        String script = AppCdsArchive.getTrainingScript();
+        Assert.assertTrue(script.startsWith("#!/bin/sh\n"));
+        Assert.assertTrue(script.contains("-XX:DumpLoadedClassList=\"$classlist\""));
+        Assert.assertTrue(script.contains("java -Xshare:dump -XX:SharedClassListFile=\"$classlist\" " +
+                "-XX:SharedArchiveFile=\"$archive\""));
+        Assert.assertTrue(script.endsWith("echo \"AppCDS startup time: ${without}ms without archive, " +
+                "${with}ms with archive\"\n"));
+    }
+}
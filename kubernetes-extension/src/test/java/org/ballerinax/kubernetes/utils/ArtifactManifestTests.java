@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Test incremental writing of generated artifacts.
+ */
+public class ArtifactManifestTests {
+    private static final FileTime PREVIOUS_BUILD_TIME = FileTime.fromMillis(1000L);
+    private Path outputDir;
+    private Path stagingDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        Path tempDir = Files.createTempDirectory("artifact-manifest-");
+        outputDir = tempDir.resolve("kubernetes");
+        stagingDir = tempDir.resolve("staging");
+    }
+
+    @AfterMethod
+    public void tearDown() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(outputDir.getParent());
+    }
+
+    @Test
+    public void testUnchangedArtifactsAreNotRewritten() throws IOException, KubernetesPluginException {
+        stage("hello_deployment.yaml", "kind: Deployment");
+        stage("hello_svc.yaml", "kind: Service");
+        stage("hello/Chart.yaml", "name: hello");
+        Assert.assertEquals(ArtifactManifest.synchronize(stagingDir, outputDir, "1.0.0"), 3);
+        Assert.assertTrue(Files.exists(outputDir.resolve(ArtifactManifest.MANIFEST_FILE_NAME)));
+        markAsPreviousBuild("hello_deployment.yaml", "hello_svc.yaml", "hello/Chart.yaml");
+
+        stage("hello_deployment.yaml", "kind: Deployment");
+        stage("hello_svc.yaml", "kind: Service\nspec: {}");
+        stage("hello/Chart.yaml", "name: hello");
+        Assert.assertEquals(ArtifactManifest.synchronize(stagingDir, outputDir, "1.0.0"), 1);
+        Assert.assertEquals(Files.getLastModifiedTime(outputDir.resolve("hello_deployment.yaml")),
+                PREVIOUS_BUILD_TIME);
+        Assert.assertEquals(Files.getLastModifiedTime(outputDir.resolve("hello/Chart.yaml")), PREVIOUS_BUILD_TIME);
+        Assert.assertNotEquals(Files.getLastModifiedTime(outputDir.resolve("hello_svc.yaml")), PREVIOUS_BUILD_TIME);
+        Assert.assertEquals(read("hello_svc.yaml"), "kind: Service\nspec: {}");
+    }
+
+    @Test
+    public void testStaleArtifactsAreRemoved() throws IOException, KubernetesPluginException {
+        stage("hello_deployment.yaml", "kind: Deployment");
+        stage("hello_ingress.yaml", "kind: Ingress");
+        stage("hello/templates/hello_ingress.yaml", "kind: Ingress");
+        ArtifactManifest.synchronize(stagingDir, outputDir, "1.0.0");
+
+        stage("hello_deployment.yaml", "kind: Deployment");
+        ArtifactManifest.synchronize(stagingDir, outputDir, "1.0.0");
+        Assert.assertTrue(Files.exists(outputDir.resolve("hello_deployment.yaml")));
+        Assert.assertFalse(Files.exists(outputDir.resolve("hello_ingress.yaml")));
+        Assert.assertFalse(Files.exists(outputDir.resolve("hello")));
+    }
+
+    @Test
+    public void testFilesNotInPreviousManifestAreKept() throws IOException, KubernetesPluginException {
+        Files.createDirectories(outputDir.resolve("custom"));
+        Files.write(outputDir.resolve("custom/namespace.yaml"), "kind: Namespace".getBytes(StandardCharsets.UTF_8));
+        stage("hello_deployment.yaml", "kind: Deployment");
+        ArtifactManifest.synchronize(stagingDir, outputDir, "1.0.0");
+        Assert.assertTrue(Files.exists(outputDir.resolve("hello_deployment.yaml")));
+        Assert.assertEquals(read("custom/namespace.yaml"), "kind: Namespace");
+
+        stage("hello_svc.yaml", "kind: Service");
+        ArtifactManifest.synchronize(stagingDir, outputDir, "1.0.0");
+        Assert.assertFalse(Files.exists(outputDir.resolve("hello_deployment.yaml")));
+        Assert.assertEquals(read("custom/namespace.yaml"), "kind: Namespace");
+    }
+
+    @Test
+    public void testPluginUpgradeRewritesArtifacts() throws IOException, KubernetesPluginException {
+        stage("hello_deployment.yaml", "kind: Deployment");
+        ArtifactManifest.synchronize(stagingDir, outputDir, "1.0.0");
+        markAsPreviousBuild("hello_deployment.yaml");
+
+        stage("hello_deployment.yaml", "kind: Deployment");
+        Assert.assertEquals(ArtifactManifest.synchronize(stagingDir, outputDir, "1.1.0"), 1);
+        Assert.assertNotEquals(Files.getLastModifiedTime(outputDir.resolve("hello_deployment.yaml")),
+                PREVIOUS_BUILD_TIME);
+    }
+
+    private void stage(String path, String content) throws IOException {
+        Path file = stagingDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(String path) throws IOException {
+        return new String(Files.readAllBytes(outputDir.resolve(path)), StandardCharsets.UTF_8);
+    }
+
+    private void markAsPreviousBuild(String... paths) throws IOException {
+        for (String path : paths) {
+            Files.setLastModifiedTime(outputDir.resolve(path), PREVIOUS_BUILD_TIME);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import org.apache.commons.io.output.StringBuilderWriter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Test serializing resources with the shared serializer.
+ */
+public class ArtifactSerializerTests {
+
+    @DataProvider(name = "resources")
+    public Object[][] resources() {
+        return new Object[][]{
+                {new DeploymentBuilder()
+                        .withNewMetadata().withName("hello-deployment").withNamespace("default")
+                        .withGeneration(2L).withResourceVersion("1").endMetadata()
+                        .withNewSpec().withReplicas(2).endSpec()
+                        .build()},
+                {new ServiceBuilder()
+                        .withNewMetadata().withName("hello-svc").addToLabels("app", "hello").endMetadata()
+                        .withNewSpec().withType("NodePort").endSpec()
+                        .build()},
+                {new ConfigMapBuilder()
+                        .withNewMetadata().withName("hello-config-map").endMetadata()
+                        .addToData("ballerina.conf", "[hello]\nkey = \"value\"\n")
+                        .build()}
+        };
+    }
+
+    @Test(dataProvider = "resources")
+    public void testSameOutputAsSerializationUtils(HasMetadata resource) throws IOException {
+        String expected = SerializationUtils.dumpWithoutRuntimeStateAsYaml(resource);
+        Assert.assertEquals(ArtifactSerializer.toYaml(resource), expected);
+
+        StringBuilder buffer = new StringBuilder();
+        try (Writer writer = new StringBuilderWriter(buffer)) {
+            ArtifactSerializer.writeYaml(writer, resource);
+            ArtifactSerializer.writeYaml(writer, resource);
+        }
+        Assert.assertEquals(buffer.toString(), expected + expected);
+        Assert.assertFalse(expected.contains("resourceVersion"));
+    }
+
+    @Test
+    public void testDocumentsCanBeLoaded() throws IOException {
+        ConfigMap configMap = new ConfigMapBuilder()
+                .withNewMetadata().withName("hello-config-map").endMetadata()
+                .addToData("ballerina.conf", "[hello]\nkey = \"value\"\n")
+                .build();
+        ConfigMap loaded = SerializationUtils.getMapper().readValue(ArtifactSerializer.toYaml(configMap),
+                ConfigMap.class);
+        Assert.assertEquals(loaded, configMap);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Test buffering of generated artifacts.
+ */
+public class ArtifactSinkTests {
+    private Path outputDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        outputDir = Files.createTempDirectory("artifact-sink-").resolve("kubernetes");
+    }
+
+    @AfterMethod
+    public void tearDown() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(outputDir.getParent());
+    }
+
+    @Test
+    public void testBufferedArtifactsWrittenOnFlush() throws IOException {
+        ArtifactSink artifactSink = new ArtifactSink();
+        artifactSink.buffer();
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Service\n");
+        artifactSink.write(outputDir.resolve("hello.yaml"), "---\nkind: Deployment\n");
+        artifactSink.write(outputDir.resolve("hello/Chart.yaml"), "name: hello\n");
+        Assert.assertFalse(Files.exists(outputDir));
+
+        Map<String, String> artifacts = artifactSink.getArtifacts(outputDir);
+        Assert.assertEquals(artifacts.size(), 1);
+        Assert.assertEquals(artifacts.get("hello.yaml"), "kind: Service\n---\nkind: Deployment\n");
+
+        artifactSink.flush();
+        Assert.assertEquals(read("hello.yaml"), "kind: Service\n---\nkind: Deployment\n");
+        Assert.assertEquals(read("hello/Chart.yaml"), "name: hello\n");
+        try (Stream<Path> files = Files.list(outputDir)) {
+            Assert.assertEquals(files.count(), 2L, "temporary files are not removed");
+        }
+
+        // Writes after flushing are appended to the file.
+        artifactSink.write(outputDir.resolve("hello.yaml"), "---\nkind: Secret\n");
+        Assert.assertEquals(read("hello.yaml"), "kind: Service\n---\nkind: Deployment\n---\nkind: Secret\n");
+    }
+
+    @Test
+    public void testBufferedArtifactsOrderedByWriteOrder() throws IOException {
+        ArtifactSink artifactSink = new ArtifactSink();
+        artifactSink.buffer();
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Route\n");
+        artifactSink.setWriteOrder(1);
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Deployment\n");
+        artifactSink.setWriteOrder(0);
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Service\n");
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Secret\n");
+        artifactSink.clearWriteOrder();
+
+        String expected = "kind: Service\nkind: Secret\nkind: Deployment\nkind: Route\n";
+        Assert.assertEquals(artifactSink.getArtifacts(outputDir).get("hello.yaml"), expected);
+        artifactSink.flush();
+        Assert.assertEquals(read("hello.yaml"), expected);
+    }
+
+    @Test
+    public void testFlushReplacesExistingArtifacts() throws IOException {
+        Files.createDirectories(outputDir);
+        Files.write(outputDir.resolve("hello.yaml"), "kind: Ingress\n".getBytes(StandardCharsets.UTF_8));
+        ArtifactSink artifactSink = new ArtifactSink();
+        artifactSink.buffer();
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Service\n");
+        Assert.assertEquals(artifactSink.getArtifacts(outputDir).get("hello.yaml"), "kind: Service\n");
+        artifactSink.flush();
+        Assert.assertEquals(read("hello.yaml"), "kind: Service\n");
+    }
+
+    @Test
+    public void testFailedFlushKeepsPreviousArtifacts() throws IOException {
+        Files.createDirectories(outputDir.resolve("hello_svc.yaml"));
+        Files.write(outputDir.resolve("hello_svc.yaml/keep"), new byte[0]);
+        Files.write(outputDir.resolve("hello.yaml"), "kind: Ingress\n".getBytes(StandardCharsets.UTF_8));
+        ArtifactSink artifactSink = new ArtifactSink();
+        artifactSink.buffer();
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Deployment\n");
+        artifactSink.write(outputDir.resolve("hello_secret.yaml"), "kind: Secret\n");
+        // A non empty directory cannot be replaced with a file.
+        artifactSink.write(outputDir.resolve("hello_svc.yaml"), "kind: Service\n");
+        try {
+            artifactSink.flush();
+            Assert.fail("flush should fail");
+        } catch (IOException e) {
+            Assert.assertEquals(read("hello.yaml"), "kind: Ingress\n");
+            Assert.assertFalse(Files.exists(outputDir.resolve("hello_secret.yaml")));
+            Assert.assertTrue(Files.isDirectory(outputDir.resolve("hello_svc.yaml")));
+        }
+        try (Stream<Path> files = Files.list(outputDir)) {
+            Assert.assertEquals(files.count(), 2L, "temporary files are not removed");
+        }
+    }
+
+    @Test
+    public void testContentRenderedOutsideLock() throws Exception {
+        ArtifactSink artifactSink = new ArtifactSink();
+        artifactSink.buffer();
+        // Both writers have to be rendering at the same time for either of them to complete.
+        CountDownLatch rendering = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Boolean>> writes = new ArrayList<>();
+            for (String kind : new String[]{"Service", "Deployment"}) {
+                writes.add(executor.submit(() -> {
+                    AtomicBoolean concurrent = new AtomicBoolean();
+                    artifactSink.write(outputDir.resolve("hello.yaml"), writer -> {
+                        rendering.countDown();
+                        try {
+                            concurrent.set(rendering.await(5, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        writer.write("kind: " + kind + "\n");
+                    });
+                    return concurrent.get();
+                }));
+            }
+            for (Future<Boolean> write : writes) {
+                Assert.assertTrue(write.get(), "content was not rendered concurrently");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(artifactSink.getArtifacts(outputDir).get("hello.yaml").split("\n").length, 2);
+    }
+
+    @Test
+    public void testDiscardedArtifactsNotWritten() throws IOException {
+        ArtifactSink artifactSink = new ArtifactSink();
+        artifactSink.buffer();
+        artifactSink.write(outputDir.resolve("hello.yaml"), "kind: Service\n");
+        artifactSink.discard();
+        artifactSink.flush();
+        Assert.assertFalse(Files.exists(outputDir.resolve("hello.yaml")));
+    }
+
+    private String read(String path) throws IOException {
+        return new String(Files.readAllBytes(outputDir.resolve(path)), StandardCharsets.UTF_8);
+    }
+}
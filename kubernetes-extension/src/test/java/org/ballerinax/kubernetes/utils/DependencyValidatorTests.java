@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test validating the dependencies between deployments.
+ */
+public class DependencyValidatorTests {
+
+    @Test
+    public void testDeploymentOrder() throws KubernetesPluginException {
+        DependencyValidator dependencyValidator = new DependencyValidator();
+        dependencyValidator.addDependencies("frontend", Arrays.asList("orders", "users"));
+        dependencyValidator.addDependencies("orders", Arrays.asList("database", "users"));
+        dependencyValidator.addDependencies("users", Collections.singletonList("database"));
+        dependencyValidator.addDependencies("reports", Collections.emptyList());
+        Assert.assertEquals(dependencyValidator.getDeploymentOrder(),
+                Arrays.asList("database", "users", "orders", "frontend", "reports"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*cyclic dependencies: orders -> users -> payments -> orders")
+    public void testCycle() throws KubernetesPluginException {
+        DependencyValidator dependencyValidator = new DependencyValidator();
+        dependencyValidator.addDependencies("frontend", Collections.singletonList("orders"));
+        dependencyValidator.addDependencies("orders", Collections.singletonList("users"));
+        dependencyValidator.addDependencies("users", Collections.singletonList("payments"));
+        dependencyValidator.addDependencies("payments", Collections.singletonList("orders"));
+        dependencyValidator.getDeploymentOrder();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*cyclic dependencies: orders -> orders")
+    public void testSelfDependency() throws KubernetesPluginException {
+        DependencyValidator dependencyValidator = new DependencyValidator();
+        dependencyValidator.addDependencies("orders", Collections.singletonList("orders"));
+        dependencyValidator.getDeploymentOrder();
+    }
+
+    @Test
+    public void testLongChain() throws KubernetesPluginException {
+        DependencyValidator dependencyValidator = new DependencyValidator();
+        for (int i = 0; i < 10000; i++) {
+            dependencyValidator.addDependencies(String.format("deployment-%05d", i),
+                    Collections.singletonList(String.format("deployment-%05d", i + 1)));
+        }
+        Assert.assertEquals(dependencyValidator.getDeploymentOrder().get(0), "deployment-10000");
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.models.DockerBuildCacheModel;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Test the content hash and the entries of the docker build cache.
+ */
+public class DockerBuildCacheTests {
+    private static final String BASE_IMAGE = "openjdk:11-jre-slim";
+    private static final String BASE_IMAGE_ID = "sha256:5678";
+    private Path dockerDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        dockerDir = Files.createTempDirectory("docker-build-cache-");
+        write("Dockerfile", "FROM " + BASE_IMAGE + "\nCOPY hello.jar /home/ballerina\n");
+        write("hello.jar", "hello");
+        write("jars/ballerina-runtime.jar", "runtime");
+        write("conf/ballerina.conf", "[hello]\nkey = \"value\"\n");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException, KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(dockerDir);
+        Files.deleteIfExists(DockerBuildCache.getCachePath(dockerDir));
+    }
+
+    @Test
+    public void testContentHashChangesWithInputs() throws IOException, KubernetesPluginException {
+        String contentHash = DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, BASE_IMAGE_ID);
+        Assert.assertEquals(contentHash.length(), 64);
+        Assert.assertEquals(DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, BASE_IMAGE_ID), contentHash);
+        Assert.assertNotEquals(DockerBuildCache.hashContext(dockerDir, "openjdk:11-jre", BASE_IMAGE_ID), contentHash);
+        Assert.assertNotEquals(DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, "sha256:9012"), contentHash,
+                "The hash should change when a new image is pulled for the tag of the base image.");
+        Assert.assertNotEquals(DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, null), contentHash);
+
+        write("hello.jar", "hello world");
+        String changedJarHash = DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, BASE_IMAGE_ID);
+        Assert.assertNotEquals(changedJarHash, contentHash);
+
+        write("conf/ballerina.conf", "[hello]\nkey = \"other\"\n");
+        Assert.assertNotEquals(DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, BASE_IMAGE_ID), changedJarHash);
+    }
+
+    @Test
+    public void testEntryIsWrittenOutsideContext() throws KubernetesPluginException {
+        String contentHash = DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, BASE_IMAGE_ID);
+        new DockerBuildCache(contentHash, "sha256:1234").write(dockerDir);
+        Path cachePath = DockerBuildCache.getCachePath(dockerDir);
+        Assert.assertTrue(Files.exists(cachePath));
+        Assert.assertEquals(cachePath.getParent(), dockerDir.toAbsolutePath().getParent());
+        Assert.assertEquals(cachePath.getFileName().toString(), "." + dockerDir.getFileName() + "-build-cache");
+        Assert.assertEquals(DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, BASE_IMAGE_ID), contentHash);
+    }
+
+    @Test
+    public void testEntryCanBeLoaded() throws KubernetesPluginException {
+        Assert.assertNull(DockerBuildCache.load(dockerDir));
+        String contentHash = DockerBuildCache.hashContext(dockerDir, BASE_IMAGE, BASE_IMAGE_ID);
+        DockerBuildCache cache = new DockerBuildCache(contentHash, "sha256:1234");
+        cache.addPushed("example/hello:latest", "sha256:aaaa");
+        cache.addPushed("example/hello:" + DockerBuildCache.getContentHashTag(contentHash), "sha256:aaaa");
+        cache.write(dockerDir);
+
+        DockerBuildCache loaded = DockerBuildCache.load(dockerDir);
+        Assert.assertNotNull(loaded);
+        Assert.assertTrue(loaded.matches(contentHash));
+        Assert.assertEquals(loaded.getImageId(), "sha256:1234");
+        Assert.assertEquals(loaded.getPushedDigest("example/hello:latest"), "sha256:aaaa");
+        Assert.assertEquals(loaded.getPushedDigest("example/hello:" + contentHash.substring(0, 12)), "sha256:aaaa");
+        Assert.assertNull(loaded.getPushedDigest("example/hello:v1"));
+    }
+
+    @Test
+    public void testIncompleteEntryIsIgnored() throws IOException {
+        Files.write(DockerBuildCache.getCachePath(dockerDir),
+                "# content-hash: 1234\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(DockerBuildCache.load(dockerDir));
+    }
+
+    @Test
+    public void testSecondBuildFromColdCacheIsCached() throws KubernetesPluginException {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName("hello");
+        dockerModel.setTag("latest");
+        dockerModel.setBaseImage(BASE_IMAGE);
+        DockerArtifactCustomizer customizer = new DockerArtifactCustomizer(dockerModel, "");
+        customizer.setBuildCache(new DockerBuildCacheModel());
+        ColdDockerImageBuilder dockerImageBuilder = new ColdDockerImageBuilder(dockerModel);
+
+        customizer.buildImage(new PrintStream(new ByteArrayOutputStream()), dockerImageBuilder, dockerDir);
+        ByteArrayOutputStream secondOut = new ByteArrayOutputStream();
+        customizer.buildImage(new PrintStream(secondOut), dockerImageBuilder, dockerDir);
+
+        Assert.assertEquals(dockerImageBuilder.builds, 1, "The base image pulled by the first build should be " +
+                "part of the cached content hash.");
+        Assert.assertTrue(secondOut.toString().contains("image up to date"));
+    }
+
+    /**
+     * Builder of a docker host which has not pulled the base image until the first build.
+     */
+    private static class ColdDockerImageBuilder extends DockerImageBuilder {
+        private static final String IMAGE_ID = "sha256:1234";
+        private int builds;
+
+        ColdDockerImageBuilder(DockerModel dockerModel) {
+            super(dockerModel);
+        }
+
+        @Override
+        public String build(DockerModel dockerModel, Path dockerDir, Consumer<String> output) {
+            builds++;
+            return IMAGE_ID;
+        }
+
+        @Override
+        public boolean exists(String imageId) {
+            return builds > 0 && IMAGE_ID.equals(imageId);
+        }
+
+        @Override
+        public String getImageId(String imageName) {
+            return builds > 0 && BASE_IMAGE.equals(imageName) ? BASE_IMAGE_ID : null;
+        }
+
+        @Override
+        public void tag(String imageId, DockerModel dockerModel, String tag) {
+        }
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = dockerDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test building docker images concurrently with the build queue.
+ */
+public class DockerImageBuildQueueTests {
+    private static final Path DOCKER_DIR = Paths.get("target", "docker");
+
+    @Test
+    public void testImagesAreBuiltConcurrently() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8.name());
+             DockerImageBuildQueue queue = new DockerImageBuildQueue(2, out)) {
+            for (int i = 0; i < 4; i++) {
+                queue.submit("module" + i, new DockerArtifactCustomizer(getDockerModel("image" + i), "") {
+                    @Override
+                    public void buildImage(PrintStream imageOut, DockerImageBuilder dockerImageBuilder,
+                                           Path outputDir) throws KubernetesPluginException {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        started.countDown();
+                        try {
+                            // Both workers should be busy before either build completes.
+                            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            throw new KubernetesPluginException("interrupted", e);
+                        } finally {
+                            running.decrementAndGet();
+                        }
+                        imageOut.println();
+                        imageOut.print("built " + getDockerModel().getName());
+                    }
+                }, DOCKER_DIR);
+            }
+            List<DockerImageBuildQueue.ImageBuild> imageBuilds = queue.await();
+            Assert.assertEquals(imageBuilds.size(), 4);
+            for (int i = 0; i < 4; i++) {
+                Assert.assertEquals(imageBuilds.get(i).getModule(), "module" + i);
+                Assert.assertEquals(imageBuilds.get(i).getImageName(), "image" + i + ":latest");
+                Assert.assertNull(imageBuilds.get(i).getError());
+            }
+            String summary = queue.getSummary(imageBuilds);
+            Assert.assertTrue(summary.startsWith("4 docker image(s) built in "));
+            Assert.assertTrue(summary.contains("up to 2 concurrent build(s)"));
+            Assert.assertTrue(summary.contains("image3:latest (module [module3]) built in "));
+        }
+        Assert.assertEquals(maxRunning.get(), 2);
+        String output = buffer.toString(StandardCharsets.UTF_8.name());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(output.contains("\nbuilt image" + i), output);
+        }
+    }
+
+    @Test
+    public void testFailedBuildIsReported() throws IOException {
+        try (DockerImageBuildQueue queue = new DockerImageBuildQueue(1, new PrintStream(new ByteArrayOutputStream(),
+                true, StandardCharsets.UTF_8.name()))) {
+            queue.submit("hello", new DockerArtifactCustomizer(getDockerModel("hello"), "") {
+                @Override
+                public void buildImage(PrintStream imageOut, DockerImageBuilder dockerImageBuilder, Path outputDir)
+                        throws KubernetesPluginException {
+                    throw new KubernetesPluginException("unable to build docker image hello:latest");
+                }
+            }, DOCKER_DIR);
+            queue.submit("world", new DockerArtifactCustomizer(getDockerModel("world"), "") {
+                @Override
+                public void buildImage(PrintStream imageOut, DockerImageBuilder dockerImageBuilder, Path outputDir) {
+                    throw new IllegalStateException("docker host not reachable");
+                }
+            }, DOCKER_DIR);
+            List<DockerImageBuildQueue.ImageBuild> imageBuilds = queue.await();
+            Assert.assertEquals(imageBuilds.get(0).getError().getMessage(),
+                    "unable to build docker image hello:latest");
+            Assert.assertEquals(imageBuilds.get(1).getError().getMessage(),
+                    "unable to build docker image world:latest: docker host not reachable");
+            Assert.assertTrue(queue.getSummary(imageBuilds).contains("hello:latest (module [hello]) failed in "));
+        }
+    }
+
+    private static DockerModel getDockerModel(String name) {
+        DockerModel dockerModel = new DockerModel();
+        dockerModel.setName(name);
+        dockerModel.setTag("latest");
+        return dockerModel;
+    }
+}
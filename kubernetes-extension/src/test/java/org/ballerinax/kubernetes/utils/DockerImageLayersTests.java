@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.kubernetes.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Test splitting the jars of a thin jar docker image into layers.
+ */
+public class DockerImageLayersTests {
+    private static final Path BALLERINA_HOME = Paths.get("/usr/lib/ballerina/distributions/jballerina-1.2.0");
+    private static final Path PROJECT_ROOT = Paths.get("/home/user/hello_project");
+
+    @Test
+    public void testLayers() {
+        DockerImageLayers layers = new DockerImageLayers(BALLERINA_HOME, PROJECT_ROOT);
+        layers.addAll(Arrays.asList(
+                PROJECT_ROOT.resolve("target/caches/jar_cache/hello/util/0.1.0/hello-util-0.1.0.jar"),
+                Paths.get("/home/user/.m2/repository/mysql/mysql-connector-java-8.0.20.jar"),
+                BALLERINA_HOME.resolve("bre/lib/netty-codec-4.1.39.jar"),
+                Paths.get("/home/user/.ballerina/jar_cache/ballerina/http/ballerina-http-1.2.0.jar"),
+                BALLERINA_HOME.resolve("bre/lib/ballerina-runtime-1.2.0.jar"),
+                Paths.get("/home/user/.ballerina/jar_cache/wso2/kafka/wso2-kafka-2.0.0.jar")));
+
+        Assert.assertEquals(layers.getJarNames(DockerImageLayers.Layer.RUNTIME).toString(),
+                "[ballerina-http-1.2.0.jar, ballerina-runtime-1.2.0.jar, netty-codec-4.1.39.jar]");
+        Assert.assertEquals(layers.getJarNames(DockerImageLayers.Layer.THIRD_PARTY).toString(),
+                "[mysql-connector-java-8.0.20.jar, wso2-kafka-2.0.0.jar]");
+        Assert.assertEquals(layers.getJarNames(DockerImageLayers.Layer.MODULE).toString(),
+                "[hello-util-0.1.0.jar]");
+    }
+
+    @Test
+    public void testLayerDockerfile() {
+        DockerImageLayers layers = new DockerImageLayers(BALLERINA_HOME, PROJECT_ROOT);
+        layers.addAll(Arrays.asList(
+                PROJECT_ROOT.resolve("target/caches/jar_cache/hello/util/0.1.0/hello-util-0.1.0.jar"),
+                BALLERINA_HOME.resolve("bre/lib/ballerina-runtime-1.2.0.jar"),
+                Paths.get("/home/user/.m2/repository/mysql/mysql-connector-java-8.0.20.jar"),
+                BALLERINA_HOME.resolve("bre/lib/ballerina-lang-1.2.0.jar")));
+        String dockerfile = "# Auto Generated Dockerfile\n" +
+                "FROM openjdk:11-jre-slim\n" +
+                "\n" +
+                "WORKDIR /home/ballerina\n" +
+                "\n" +
+                "COPY hello.jar /home/ballerina\n" +
+                "COPY mysql-connector-java-8.0.20.jar /home/ballerina/jars/ \n" +
+                "COPY ballerina-runtime-1.2.0.jar /home/ballerina/jars/ \n" +
+                "COPY hello-util-0.1.0.jar /home/ballerina/jars/ \n" +
+                "COPY ballerina-lang-1.2.0.jar /home/ballerina/jars/ \n" +
+                "COPY ballerina.conf /home/ballerina/conf/\n" +
+                "\n" +
+                "CMD java -cp \"hello.jar:jars/*\" '$_init'\n";
+        Assert.assertEquals(layers.layerDockerfile(dockerfile, "hello.jar"), "# Auto Generated Dockerfile\n" +
+                "FROM openjdk:11-jre-slim\n" +
+                "\n" +
+                "WORKDIR /home/ballerina\n" +
+                "\n" +
+                "COPY ballerina-lang-1.2.0.jar ballerina-runtime-1.2.0.jar /home/ballerina/jars/\n" +
+                "COPY mysql-connector-java-8.0.20.jar /home/ballerina/jars/\n" +
+                "COPY hello-util-0.1.0.jar /home/ballerina/jars/\n" +
+                "COPY hello.jar /home/ballerina\n" +
+                "COPY ballerina.conf /home/ballerina/conf/\n" +
+                "\n" +
+                "CMD java -cp \"hello.jar:jars/*\" '$_init'\n");
+    }
+
+    @Test
+    public void testDockerfileWithoutDependencies() {
+        DockerImageLayers layers = new DockerImageLayers(BALLERINA_HOME, PROJECT_ROOT);
+        String dockerfile = "FROM openjdk:11-jre-slim\nCOPY hello.jar /home/ballerina\nCMD java -jar hello.jar\n";
+        Assert.assertEquals(layers.layerDockerfile(dockerfile, "hello.jar"), dockerfile);
+        Assert.assertEquals(layers.layerDockerfile(dockerfile, "other.jar"), dockerfile);
+    }
+}
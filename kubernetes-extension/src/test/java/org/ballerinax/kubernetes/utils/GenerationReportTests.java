@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test recording and writing the generation report.
+ */
+public class GenerationReportTests {
+
+    @Test
+    public void testRecordPhases() {
+        GenerationReport report = new GenerationReport();
+        report.record("annotation:Deployment", TimeUnit.MILLISECONDS.toNanos(2));
+        report.record("annotation:Deployment", TimeUnit.MILLISECONDS.toNanos(3));
+        GenerationReport.PhaseTimer timer = report.startPhase("write");
+        Assert.assertEquals(report.getCount("write"), 0);
+        timer.stop();
+        Assert.assertEquals(report.getCount("annotation:Deployment"), 2);
+        Assert.assertEquals(report.getDuration("annotation:Deployment"), TimeUnit.MILLISECONDS.toNanos(5));
+        Assert.assertEquals(report.getCount("write"), 1);
+        Assert.assertEquals(report.getCount("handler:docker"), 0);
+        Assert.assertEquals(report.getDuration("handler:docker"), 0);
+    }
+
+    @Test
+    public void testWriteReport() throws IOException {
+        GenerationReport report = new GenerationReport();
+        report.record("handler:service", TimeUnit.MICROSECONDS.toNanos(1500));
+        report.record("handler:docker", TimeUnit.MILLISECONDS.toNanos(20));
+        Path reportFile = Files.createTempDirectory("report-").resolve("report").resolve("generation-report.json");
+        report.write(reportFile, "hello", "1.0.0");
+
+        JsonNode json = new ObjectMapper().readTree(reportFile.toFile());
+        Assert.assertEquals(json.get("module").asText(), "hello");
+        Assert.assertEquals(json.get("pluginVersion").asText(), "1.0.0");
+        Assert.assertTrue(json.get("totalMillis").isNumber());
+        Assert.assertEquals(json.get("phases").size(), 2);
+        Assert.assertEquals(json.get("phases").get(0).get("name").asText(), "handler:service");
+        Assert.assertEquals(json.get("phases").get(0).get("count").asInt(), 1);
+        Assert.assertEquals(json.get("phases").get(0).get("durationMillis").asDouble(), 1.5);
+
+        String summary = report.getSummary("hello");
+        Assert.assertTrue(summary.startsWith("module [hello] kubernetes artifacts generated in "));
+        Assert.assertTrue(summary.endsWith("(handler:docker 20ms, handler:service 1ms)"));
+    }
+}
@@ -173,6 +173,21 @@ public class KubernetesUtilsTest {
         FileUtils.deleteQuietly(destinationDir.toFile());
     }
     
+    @Test
+    public void setArtifactModificationTimesTest() throws IOException, KubernetesPluginException {
+        Path dockerDir = Files.createTempDirectory("modification-time-test-");
+        Path file = Files.createFile(Files.createDirectory(dockerDir.resolve("conf")).resolve("ballerina.conf"));
+        KubernetesUtils.setArtifactModificationTimes(dockerDir);
+    
+        // assert
+        Assert.assertEquals(Files.getLastModifiedTime(dockerDir), KubernetesUtils.ARTIFACT_MODIFICATION_TIME);
+        Assert.assertEquals(Files.getLastModifiedTime(file.getParent()), KubernetesUtils.ARTIFACT_MODIFICATION_TIME);
+        Assert.assertEquals(Files.getLastModifiedTime(file), KubernetesUtils.ARTIFACT_MODIFICATION_TIME);
+    
+        // clean up
+        FileUtils.deleteQuietly(dockerDir.toFile());
+    }
+    
     private void setEnv(Map<String, String> newenv) throws Exception {
         try {
             Class<?> processEnvironmentClass = Class.forName("java.lang.ProcessEnvironment");
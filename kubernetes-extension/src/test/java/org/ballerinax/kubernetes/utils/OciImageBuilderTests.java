@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Test building OCI images from generated docker artifacts without a docker daemon.
+ */
+public class OciImageBuilderTests {
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final String DOCKERFILE = "# Auto Generated Dockerfile\n" +
+            "FROM scratch\n" +
+            "LABEL maintainer=\"dev@ballerina.io\"\n" +
+            "\n" +
+            "RUN addgroup troupe \\\n" +
+            "    && adduser -S -s /bin/bash -g 'ballerina' -G troupe -D ballerina\n" +
+            "\n" +
+            "WORKDIR /home/ballerina\n" +
+            "\n" +
+            "COPY hello.jar /home/ballerina\n" +
+            "COPY jars/ /home/ballerina/jars/\n" +
+            "ENV JAVA_OPTS \"-Xmx256m\"\n" +
+            "EXPOSE  9090\n" +
+            "USER ballerina\n" +
+            "\n" +
+            "CMD java -jar hello.jar\n";
+    private Path dockerDir;
+    private Path cacheDir;
+    private DockerModel dockerModel;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        dockerDir = Files.createTempDirectory("oci-image-builder-");
+        cacheDir = Files.createTempDirectory("oci-cache-");
+        write("Dockerfile", DOCKERFILE);
+        write("hello.jar", "hello");
+        write("jars/ballerina-runtime.jar", "runtime");
+        dockerModel = new DockerModel();
+        dockerModel.setName("example/hello");
+        dockerModel.setTag("v1");
+    }
+
+    @AfterMethod
+    public void tearDown() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(dockerDir);
+        KubernetesUtils.deleteDirectory(OciImageBuilder.getLayoutDirectory(dockerDir));
+        KubernetesUtils.deleteDirectory(OciImageBuilder.getImageArchive(dockerDir));
+        KubernetesUtils.deleteDirectory(cacheDir);
+    }
+
+    @Test
+    public void testImageLayout() throws IOException, KubernetesPluginException {
+        OciImageBuilder.Image image = new OciImageBuilder(dockerModel, cacheDir).build(dockerDir);
+        Path layoutDir = OciImageBuilder.getLayoutDirectory(dockerDir);
+        Assert.assertEquals(image.getLayoutDir(), layoutDir);
+        Assert.assertTrue(Files.isRegularFile(layoutDir.resolve("oci-layout")));
+        Assert.assertTrue(Files.isRegularFile(OciImageBuilder.getImageArchive(dockerDir)));
+        try (Stream<Path> contextFiles = Files.list(dockerDir)) {
+            Assert.assertEquals(contextFiles.count(), 3);
+        }
+
+        JsonNode index = JSON_MAPPER.readTree(layoutDir.resolve("index.json").toFile());
+        JsonNode manifestDescriptor = index.path("manifests").get(0);
+        Assert.assertEquals(manifestDescriptor.path("digest").asText(), image.getDigest());
+        Assert.assertEquals(manifestDescriptor.path("annotations").path("org.opencontainers.image.ref.name")
+                .asText(), "v1");
+
+        JsonNode manifest = readBlob(image.getDigest());
+        // One layer for each COPY instruction.
+        Assert.assertEquals(manifest.path("layers").size(), 2);
+        JsonNode config = readBlob(manifest.path("config").path("digest").asText());
+        JsonNode containerConfig = config.path("config");
+        Assert.assertEquals(containerConfig.path("WorkingDir").asText(), "/home/ballerina");
+        Assert.assertEquals(containerConfig.path("User").asText(), OciImageBuilder.NON_ROOT_USER);
+        Assert.assertEquals(containerConfig.path("Env").get(0).asText(), "JAVA_OPTS=-Xmx256m");
+        Assert.assertTrue(containerConfig.path("ExposedPorts").has("9090/tcp"));
+        Assert.assertEquals(containerConfig.path("Labels").path("maintainer").asText(), "dev@ballerina.io");
+        Assert.assertEquals(containerConfig.path("Cmd").toString(), "[\"/bin/sh\",\"-c\",\"java -jar hello.jar\"]");
+        Assert.assertEquals(config.path("rootfs").path("diff_ids").size(), 2);
+        Assert.assertEquals(config.path("created").asText(), "1970-01-01T00:00:00Z");
+    }
+
+    @Test
+    public void testImageIsReproducible() throws IOException, KubernetesPluginException {
+        OciImageBuilder builder = new OciImageBuilder(dockerModel, cacheDir);
+        OciImageBuilder.Image image = builder.build(dockerDir);
+        byte[] archive = Files.readAllBytes(OciImageBuilder.getImageArchive(dockerDir));
+        Assert.assertEquals(builder.build(dockerDir).getDigest(), image.getDigest());
+        Assert.assertEquals(Files.readAllBytes(OciImageBuilder.getImageArchive(dockerDir)), archive);
+
+        write("hello.jar", "hello world");
+        OciImageBuilder.Image changedImage = builder.build(dockerDir);
+        Assert.assertNotEquals(changedImage.getDigest(), image.getDigest());
+        // Only the layer of the changed jar differs.
+        JsonNode layers = readBlob(changedImage.getDigest()).path("layers");
+        JsonNode previousLayers = JSON_MAPPER.readTree(image.getManifest()).path("layers");
+        Assert.assertNotEquals(layers.get(0).path("digest"), previousLayers.get(0).path("digest"));
+        Assert.assertEquals(layers.get(1).path("digest"), previousLayers.get(1).path("digest"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "RUN instructions are not supported.*")
+    public void testRunIsNotSupported() throws IOException, KubernetesPluginException {
+        write("Dockerfile", "FROM scratch\nRUN apt-get update\n");
+        new OciImageBuilder(dockerModel, cacheDir).build(dockerDir);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "COPY source not found in docker context: \\.\\./hello\\.jar")
+    public void testCopyOutsideOfContext() throws IOException, KubernetesPluginException {
+        write("Dockerfile", "FROM scratch\nCOPY ../hello.jar /home/ballerina/\n");
+        new OciImageBuilder(dockerModel, cacheDir).build(dockerDir);
+    }
+
+    @Test
+    public void testParseDockerfile() throws KubernetesPluginException {
+        List<OciImageBuilder.Instruction> instructions = OciImageBuilder.parseDockerfile(DOCKERFILE);
+        Assert.assertEquals(instructions.size(), 10);
+        Assert.assertEquals(instructions.get(2).getKeyword(), "RUN");
+        Assert.assertTrue(instructions.get(2).getArguments().contains("&& adduser"));
+        Assert.assertEquals(instructions.get(7).getArguments(), "9090");
+    }
+
+    @Test
+    public void testPush() throws IOException, KubernetesPluginException {
+        Map<String, byte[]> uploads = new ConcurrentHashMap<>();
+        HttpServer registry = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        registry.createContext("/v2/", exchange -> handleRegistryRequest(exchange, uploads));
+        registry.start();
+        try {
+            dockerModel.setName("127.0.0.1:" + registry.getAddress().getPort() + "/example/hello");
+            OciImageBuilder builder = new OciImageBuilder(dockerModel, cacheDir);
+            OciImageBuilder.Image image = builder.build(dockerDir);
+            Assert.assertEquals(builder.push(image), 3);
+            Assert.assertEquals(uploads.get("/v2/example/hello/manifests/v1"), image.getManifest());
+            for (OciLayer.Blob blob : image.getBlobs()) {
+                Assert.assertTrue(uploads.containsKey("/v2/example/hello/blobs/" + blob.getDigest()));
+            }
+            // Blobs which the registry has are not uploaded again.
+            Assert.assertEquals(builder.push(image), 0);
+
+            OciRegistryClient client = new OciRegistryClient(new DockerImageName(dockerModel.getName()), null, null);
+            Assert.assertEquals(client.getManifestDigest("v1"), image.getDigest());
+            Assert.assertNull(client.getManifestDigest("v2"));
+        } finally {
+            registry.stop(0);
+        }
+    }
+
+    /**
+     * Handle the requests of a registry which accepts single uploads of blobs and manifests.
+     */
+    private static void handleRegistryRequest(HttpExchange exchange, Map<String, byte[]> uploads)
+            throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        int status;
+        switch (exchange.getRequestMethod()) {
+            case "HEAD":
+                status = uploads.containsKey(path) ? 200 : 404;
+                if (200 == status && path.contains("/manifests/")) {
+                    try {
+                        exchange.getResponseHeaders().add("Docker-Content-Digest", "sha256:" +
+                                OciLayer.toHex(MessageDigest.getInstance("SHA-256").digest(uploads.get(path))));
+                    } catch (NoSuchAlgorithmException e) {
+                        throw new IOException(e);
+                    }
+                }
+                break;
+            case "POST":
+                exchange.getResponseHeaders().add("Location", "/v2/example/hello/blobs/uploads/1");
+                status = 202;
+                break;
+            case "PUT":
+                if (path.endsWith("/blobs/uploads/1")) {
+                    uploads.put("/v2/example/hello/blobs/" + query.substring("digest=".length()), body);
+                } else {
+                    uploads.put(path, body);
+                }
+                status = 201;
+                break;
+            default:
+                status = 405;
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private JsonNode readBlob(String digest) throws IOException {
+        return JSON_MAPPER.readTree(OciImageBuilder.getLayoutDirectory(dockerDir).resolve("blobs")
+                .resolve("sha256").resolve(digest.substring("sha256:".length())).toFile());
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = dockerDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
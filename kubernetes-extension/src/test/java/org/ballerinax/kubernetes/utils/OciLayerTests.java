@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes.utils;
+
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Test the reproducibility and the entries of OCI image layers.
+ */
+public class OciLayerTests {
+    private Path sourceDir;
+    private Path blobsDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        sourceDir = Files.createTempDirectory("oci-layer-");
+        blobsDir = sourceDir.resolve("blobs");
+        write("hello.jar", "hello");
+        write("jars/ballerina-runtime.jar", "runtime");
+    }
+
+    @AfterMethod
+    public void tearDown() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(sourceDir);
+    }
+
+    @Test
+    public void testDigestIgnoresTimestampsAndOrder() throws IOException, KubernetesPluginException {
+        OciLayer layer = new OciLayer();
+        layer.addFile("/home/ballerina/hello.jar", sourceDir.resolve("hello.jar"));
+        layer.addFile("/home/ballerina/jars/ballerina-runtime.jar", sourceDir.resolve("jars/ballerina-runtime.jar"));
+        OciLayer.Blob blob = layer.write(blobsDir);
+        Assert.assertEquals(blob.getMediaType(), OciLayer.MEDIA_TYPE);
+        Assert.assertTrue(blob.getDigest().startsWith("sha256:"));
+        Assert.assertEquals(Files.size(blobsDir.resolve(blob.getDigest().substring(7))), blob.getSize());
+
+        Files.setLastModifiedTime(sourceDir.resolve("hello.jar"), FileTime.fromMillis(0));
+        OciLayer reordered = new OciLayer();
+        reordered.addFile("/home/ballerina/jars/ballerina-runtime.jar",
+                sourceDir.resolve("jars/ballerina-runtime.jar"));
+        reordered.addFile("/home/ballerina/hello.jar", sourceDir.resolve("hello.jar"));
+        OciLayer.Blob reorderedBlob = reordered.write(blobsDir);
+        Assert.assertEquals(reorderedBlob.getDigest(), blob.getDigest());
+        Assert.assertEquals(reorderedBlob.getDiffId(), blob.getDiffId());
+
+        write("hello.jar", "hello world");
+        Assert.assertNotEquals(reordered.write(blobsDir).getDigest(), blob.getDigest());
+    }
+
+    @Test
+    public void testEntries() throws IOException, KubernetesPluginException {
+        OciLayer layer = new OciLayer();
+        layer.addFile("/home/ballerina/hello.jar", sourceDir.resolve("hello.jar"));
+        layer.addDirectory("/tmp");
+        OciLayer.Blob blob = layer.write(blobsDir);
+
+        byte[] archive;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(blobsDir.resolve(
+                blob.getDigest().substring(7))))) {
+            archive = in.readAllBytes();
+        }
+        Assert.assertEquals(listEntries(archive),
+                List.of("home/", "home/ballerina/", "home/ballerina/hello.jar", "tmp/"));
+        // The file content follows the header of the file.
+        Assert.assertEquals(new String(archive, 3 * 512, 5, StandardCharsets.UTF_8), "hello");
+    }
+
+    @Test
+    public void testHeader() throws KubernetesPluginException {
+        byte[] header = OciLayer.createHeader("home/ballerina/hello.jar", 0644, 5, '0');
+        Assert.assertEquals(header.length, 512);
+        Assert.assertEquals(readString(header, 0, 100), "home/ballerina/hello.jar");
+        Assert.assertEquals(readString(header, 100, 8), "0000644");
+        Assert.assertEquals(readString(header, 124, 12), "00000000005");
+        Assert.assertEquals(readString(header, 136, 12), "00000000001");
+        Assert.assertEquals(readString(header, 257, 6), "ustar");
+        Assert.assertEquals(readString(header, 265, 32), "root");
+
+        long checksum = 0;
+        for (int i = 0; i < header.length; i++) {
+            checksum += i >= 148 && i < 156 ? ' ' : header[i] & 0xff;
+        }
+        Assert.assertEquals(Long.parseLong(readString(header, 148, 7), 8), checksum);
+    }
+
+    @Test
+    public void testLongPathIsSplit() throws IOException, KubernetesPluginException {
+        String directory = "home/ballerina/" + "a".repeat(60) + "/" + "b".repeat(60);
+        OciLayer layer = new OciLayer();
+        layer.addFile("/" + directory + "/hello.jar", sourceDir.resolve("hello.jar"));
+        Path archive = sourceDir.resolve("layer.tar");
+        layer.writeArchive(archive);
+        Assert.assertTrue(listEntries(Files.readAllBytes(archive)).contains(directory + "/hello.jar"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testTooLongPath() throws KubernetesPluginException {
+        OciLayer.createHeader("a".repeat(120), 0644, 0, '0');
+    }
+
+    /**
+     * List the names of the entries of an uncompressed tar archive.
+     */
+    private static List<String> listEntries(byte[] archive) {
+        List<String> names = new ArrayList<>();
+        int offset = 0;
+        while (offset + 512 <= archive.length && archive[offset] != 0) {
+            String name = readString(archive, offset, 100);
+            String prefix = readString(archive, offset + 345, 155);
+            names.add(prefix.isEmpty() ? name : prefix + "/" + name);
+            long size = Long.parseLong(readString(archive, offset + 124, 12), 8);
+            offset += 512 + (int) ((size + 511) / 512 * 512);
+        }
+        return names;
+    }
+
+    private static String readString(byte[] bytes, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && bytes[end] != 0) {
+            end++;
+        }
+        return new String(bytes, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = sourceDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -27,7 +27,10 @@ http:Client weatherEP = new("http://api.openweathermap.org");
 
 @kubernetes:Deployment {
     livenessProbe: true,
-    dependsOn: ["cool_drink:coolDrinkEP", "hot_drink:hotDrinkEP"]
+    dependsOn: ["cool_drink:coolDrinkEP", "hot_drink:hotDrinkEP"],
+    dependencyWait: {
+        timeoutSeconds: 300
+    }
 }
 @http:ServiceConfig {
     basePath: "/store"
@@ -2,7 +2,13 @@ import ballerina/http;
 import ballerina/knative;
 import ballerina/log;
 
-@knative:Service {}
+@knative:Service {
+    autoscaling: {
+        minScale: 1,
+        maxScale: 5,
+        target: 50
+    }
+}
 @http:ServiceConfig {
     basePath: "/helloWorld"
 }